@@ -0,0 +1,99 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2023 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle.benchmark;
+
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.puppycrawl.tools.checkstyle.Checker;
+import com.puppycrawl.tools.checkstyle.ConfigurationLoader;
+import com.puppycrawl.tools.checkstyle.PropertiesExpander;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.FileText;
+
+/**
+ * Benchmark of full audits of the corpus with the configurations bundled
+ * with the distribution, including file set checks, filters and tree walking.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuditBenchmark {
+
+    /** Name of the bundled configuration resource. */
+    @Param({"/sun_checks.xml", "/google_checks.xml"})
+    private String configuration;
+
+    /** Contents of the corpus files. */
+    private List<FileText> fileTexts;
+
+    /** Configured checker. */
+    private Checker checker;
+
+    /**
+     * Loads the corpus and configures the checker.
+     *
+     * @throws CheckstyleException if the configuration cannot be loaded
+     */
+    @Setup(Level.Trial)
+    public void configureChecker() throws CheckstyleException {
+        fileTexts = BenchmarkCorpus.getTexts();
+        checker = new Checker();
+        checker.setModuleClassLoader(Checker.class.getClassLoader());
+        checker.configure(ConfigurationLoader.loadConfiguration(configuration,
+            new PropertiesExpander(new Properties())));
+    }
+
+    /** Releases resources of the checker. */
+    @TearDown(Level.Trial)
+    public void destroyChecker() {
+        checker.destroy();
+    }
+
+    /**
+     * Measures the audit of the whole corpus.
+     *
+     * @return number of violations found
+     * @throws CheckstyleException if the audit fails
+     */
+    @Benchmark
+    public int process() throws CheckstyleException {
+        return checker.processFileTexts(fileTexts);
+    }
+
+}
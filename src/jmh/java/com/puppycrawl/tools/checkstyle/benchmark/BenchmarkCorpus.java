@@ -0,0 +1,236 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2023 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.puppycrawl.tools.checkstyle.api.FileText;
+
+/**
+ * Fixed input corpus shared by all benchmarks. The corpus is generated in memory,
+ * so it does not go stale with the sources of checkstyle and results stay comparable
+ * across commits. Files grow in size, the largest one has about 2000 lines, and
+ * cover javadoc, deep nesting, lambdas, generics, inner classes and the most
+ * common token types. Benchmarks audit the generated {@link FileText}s directly,
+ * so no disk reads are measured unless a benchmark asks for them.
+ * The import control file is resolved against the {@code checkstyle.benchmark.basedir}
+ * system property, which defaults to the working directory.
+ */
+public final class BenchmarkCorpus {
+
+    /** Number of generated files. */
+    private static final int FILE_COUNT = 8;
+
+    /** Package of the generated files. */
+    private static final String PACKAGE = "com.puppycrawl.tools.checkstyle.benchmark.corpus";
+
+    /** Import control file matching the package of the generated files. */
+    private static final String IMPORT_CONTROL =
+        "src/jmh/resources/com/puppycrawl/tools/checkstyle/benchmark/import-control.xml";
+
+    /** Prevent instantiation. */
+    private BenchmarkCorpus() {
+    }
+
+    /**
+     * Generates the contents of all files of the corpus.
+     *
+     * @return list of file texts
+     */
+    public static List<FileText> getTexts() {
+        final List<FileText> texts = new ArrayList<>();
+        for (int index = 0; index < FILE_COUNT; index++) {
+            final String name = "Generated" + index;
+            texts.add(new FileText(new File(name + ".java"),
+                generateClass(name, 5 + 5 * index), StandardCharsets.UTF_8));
+        }
+        return texts;
+    }
+
+    /**
+     * Writes the files of the corpus to a directory, for benchmarks of reading files.
+     *
+     * @param directory the directory to write to
+     * @return written files
+     * @throws IOException if a file cannot be written
+     */
+    public static List<File> writeFiles(File directory) throws IOException {
+        final List<File> files = new ArrayList<>();
+        for (FileText text : getTexts()) {
+            final File file = new File(directory, text.getFile().getName());
+            Files.writeString(file.toPath(), text.getFullText(), StandardCharsets.UTF_8);
+            files.add(file);
+        }
+        return files;
+    }
+
+    /**
+     * Returns the import control file matching the package of the corpus.
+     *
+     * @return import control file
+     */
+    public static File getImportControlFile() {
+        return new File(System.getProperty("checkstyle.benchmark.basedir", "."),
+            IMPORT_CONTROL);
+    }
+
+    /**
+     * Generates the source of a class.
+     *
+     * @param name name of the class
+     * @param members number of generated methods
+     * @return source of the class
+     */
+    private static String generateClass(String name, int members) {
+        final StringBuilder source = new StringBuilder(members * 1024);
+        source.append("/*\n * Generated benchmark source.\n */\n")
+            .append("package ").append(PACKAGE).append(";\n\n")
+            .append("import java.io.File;\n")
+            .append("import java.io.FileInputStream;\n")
+            .append("import java.util.ArrayList;\n")
+            .append("import java.util.HashMap;\n")
+            .append("import java.util.List;\n")
+            .append("import java.util.Map;\n")
+            .append("import java.util.function.Function;\n\n")
+            .append("/**\n * Generated class with ").append(members).append(" members.\n")
+            .append(" *\n * @param <T> type of the values\n */\n")
+            .append("public class ").append(name).append("<T extends Comparable<T>> {\n\n")
+            .append("    /** Limit of the values. */\n")
+            .append("    private static final int LIMIT = 1000;\n\n")
+            .append("    /** Values by key. */\n")
+            .append("    private final Map<String, List<T>> values = new HashMap<>();\n\n")
+            .append("    /** Number of computations. */\n")
+            .append("    private int count;\n\n")
+            .append("    /** Source of the values. */\n")
+            .append("    private File source;\n");
+        for (int member = 0; member < members; member++) {
+            appendCompute(source, member);
+            if (member % 3 == 0) {
+                appendMap(source, member);
+            }
+            if (member % 5 == 0) {
+                appendHolder(source, member);
+            }
+        }
+        source.append("\n    /** States of the computation. */\n")
+            .append("    private enum State {\n")
+            .append("        /** Not started. */\n        NEW,\n")
+            .append("        /** Running. */\n        RUNNING,\n")
+            .append("        /** Finished. */\n        DONE\n")
+            .append("    }\n\n}\n");
+        return source.toString();
+    }
+
+    /**
+     * Appends a method with nested control flow, which hides a field.
+     *
+     * @param source the source to append to
+     * @param member index of the member
+     */
+    private static void appendCompute(StringBuilder source, int member) {
+        source.append("\n    /**\n     * Computes value ").append(member).append(".\n")
+            .append("     *\n     * @param input the input\n")
+            .append("     * @param count the number of steps\n")
+            .append("     * @return the result\n")
+            .append("     * @throws IllegalStateException if the input is negative\n     */\n")
+            .append("    public int compute").append(member).append("(int input, int count) {\n")
+            .append("        if (input < 0) {\n")
+            .append("            throw new IllegalStateException(\"negative input \" + input);\n")
+            .append("        }\n")
+            .append("        int result = 0;\n")
+            .append("        // accumulate the steps\n")
+            .append("        for (int index = 0; index < count; index++) {\n")
+            .append("            switch (index % 3) {\n")
+            .append("                case 0:\n")
+            .append("                    result += index * 31;\n")
+            .append("                    break;\n")
+            .append("                case 1:\n")
+            .append("                    result -= input;\n")
+            .append("                    break;\n")
+            .append("                default:\n")
+            .append("                    result ^= 0x5f;\n")
+            .append("            }\n")
+            .append("        }\n")
+            .append("        while (result > LIMIT && this.count < 10) {\n")
+            .append("            result = result / 2 + 7L > 0 ? result / 2 : -result;\n")
+            .append("            this.count++;\n")
+            .append("        }\n")
+            .append("        try {\n")
+            .append("            result = Math.addExact(result, input);\n")
+            .append("        }\n")
+            .append("        catch (ArithmeticException ex) {\n")
+            .append("            result = Integer.MAX_VALUE; /* saturate */\n")
+            .append("        }\n")
+            .append("        return result;\n")
+            .append("    }\n");
+    }
+
+    /**
+     * Appends a generic method using a lambda.
+     *
+     * @param source the source to append to
+     * @param member index of the member
+     */
+    private static void appendMap(StringBuilder source, int member) {
+        source.append("\n    /**\n     * Maps the values of key ").append(member).append(".\n")
+            .append("     *\n     * @param function the mapping\n")
+            .append("     * @param <R> the result type\n")
+            .append("     * @return mapped values\n     */\n")
+            .append("    public <R> List<R> map").append(member)
+            .append("(Function<T, R> function) {\n")
+            .append("        final List<R> result = new ArrayList<>();\n")
+            .append("        values.getOrDefault(\"key").append(member)
+            .append("\", List.of()).forEach(value -> {\n")
+            .append("            if (value != null) {\n")
+            .append("                result.add(function.apply(value));\n")
+            .append("            }\n")
+            .append("        });\n")
+            .append("        return result;\n")
+            .append("    }\n");
+    }
+
+    /**
+     * Appends a nested class.
+     *
+     * @param source the source to append to
+     * @param member index of the member
+     */
+    private static void appendHolder(StringBuilder source, int member) {
+        source.append("\n    /** Holder of text ").append(member).append(". */\n")
+            .append("    private static final class Holder").append(member).append(" {\n\n")
+            .append("        /** The text. */\n")
+            .append("        private final String text;\n\n")
+            .append("        Holder").append(member).append("(String text) {\n")
+            .append("            this.text = text;\n")
+            .append("        }\n\n")
+            .append("        @Override\n")
+            .append("        public String toString() {\n")
+            .append("            return \"Holder").append(member)
+            .append("[\" + text + \"]\";\n")
+            .append("        }\n\n")
+            .append("    }\n");
+    }
+
+}
@@ -0,0 +1,124 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2023 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.puppycrawl.tools.checkstyle.Checker;
+import com.puppycrawl.tools.checkstyle.DefaultConfiguration;
+import com.puppycrawl.tools.checkstyle.TreeWalker;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.FileText;
+
+/**
+ * Microbenchmarks of single checks. Every check runs alone under a
+ * {@link TreeWalker} with its default properties, so the difference to the
+ * {@code UpperEll} check, which only looks at literals, is mostly the cost of
+ * the check itself rather than of parsing.
+ * Any check can be measured with the JMH {@code -p check=Name} option.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CheckBenchmark {
+
+    /** Name of the check to run. */
+    @Param({
+        "UpperEll",
+        "Indentation",
+        "HiddenField",
+        "RequireThis",
+        "FinalLocalVariable",
+        "NPathComplexity",
+        "CyclomaticComplexity",
+        "MagicNumber",
+        "WhitespaceAround",
+        "JavadocMethod",
+        "JavadocStyle",
+        "ImportControl",
+    })
+    private String check;
+
+    /** Contents of the corpus files. */
+    private List<FileText> fileTexts;
+
+    /** Configured checker. */
+    private Checker checker;
+
+    /**
+     * Loads the corpus and configures a checker running just the check.
+     *
+     * @throws CheckstyleException if the check cannot be configured
+     */
+    @Setup(Level.Trial)
+    public void configureChecker() throws CheckstyleException {
+        fileTexts = BenchmarkCorpus.getTexts();
+        final DefaultConfiguration treeWalkerConfig =
+            new DefaultConfiguration(TreeWalker.class.getName());
+        final DefaultConfiguration checkConfig = new DefaultConfiguration(check);
+        if ("ImportControl".equals(check)) {
+            checkConfig.addProperty("file",
+                BenchmarkCorpus.getImportControlFile().getPath());
+        }
+        treeWalkerConfig.addChild(checkConfig);
+        final DefaultConfiguration checkerConfig = new DefaultConfiguration("root");
+        checkerConfig.addChild(treeWalkerConfig);
+
+        checker = new Checker();
+        checker.setModuleClassLoader(Checker.class.getClassLoader());
+        checker.configure(checkerConfig);
+    }
+
+    /** Releases resources of the checker. */
+    @TearDown(Level.Trial)
+    public void destroyChecker() {
+        checker.destroy();
+    }
+
+    /**
+     * Measures the audit of the whole corpus.
+     *
+     * @return number of violations found
+     * @throws CheckstyleException if the audit fails
+     */
+    @Benchmark
+    public int process() throws CheckstyleException {
+        return checker.processFileTexts(fileTexts);
+    }
+
+}
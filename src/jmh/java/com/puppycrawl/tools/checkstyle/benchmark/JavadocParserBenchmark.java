@@ -0,0 +1,119 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2023 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle.benchmark;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.puppycrawl.tools.checkstyle.JavaParser;
+import com.puppycrawl.tools.checkstyle.JavadocDetailNodeParser;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.FileContents;
+import com.puppycrawl.tools.checkstyle.api.FileText;
+import com.puppycrawl.tools.checkstyle.api.TokenTypes;
+import com.puppycrawl.tools.checkstyle.utils.JavadocUtil;
+
+/**
+ * Benchmark of parsing all javadoc comments of the corpus into javadoc trees.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JavadocParserBenchmark {
+
+    /** Block comments of the corpus which are javadoc comments. */
+    private final List<DetailAST> javadocComments = new ArrayList<>();
+
+    /**
+     * Parses the corpus and collects its javadoc comments.
+     *
+     * @throws CheckstyleException if a file cannot be parsed
+     */
+    @Setup(Level.Trial)
+    public void collectJavadocComments() throws CheckstyleException {
+        for (FileText text : BenchmarkCorpus.getTexts()) {
+            final DetailAST root = JavaParser.appendHiddenCommentNodes(
+                JavaParser.parse(new FileContents(text)));
+            final Deque<DetailAST> stack = new ArrayDeque<>();
+            stack.push(root);
+            while (!stack.isEmpty()) {
+                final DetailAST node = stack.pop();
+                if (node.getType() == TokenTypes.BLOCK_COMMENT_BEGIN
+                        && JavadocUtil.isJavadocComment(node)) {
+                    javadocComments.add(node);
+                }
+                if (node.getNextSibling() != null) {
+                    stack.push(node.getNextSibling());
+                }
+                if (node.getFirstChild() != null) {
+                    stack.push(node.getFirstChild());
+                }
+            }
+        }
+    }
+
+    /**
+     * Measures parsing of every javadoc comment of the corpus with a new parser
+     * for every comment.
+     *
+     * @param blackhole consumer of the results
+     */
+    @Benchmark
+    public void parseJavadocAsDetailNode(Blackhole blackhole) {
+        for (DetailAST comment : javadocComments) {
+            blackhole.consume(new JavadocDetailNodeParser().parseJavadocAsDetailNode(comment));
+        }
+    }
+
+    /**
+     * Measures parsing of every javadoc comment of the corpus with a single parser,
+     * the way javadoc checks do it.
+     *
+     * @param blackhole consumer of the results
+     */
+    @Benchmark
+    public void parseJavadocAsDetailNodeReusingParser(Blackhole blackhole) {
+        final JavadocDetailNodeParser parser = new JavadocDetailNodeParser();
+        for (DetailAST comment : javadocComments) {
+            blackhole.consume(parser.parseJavadocAsDetailNode(comment));
+        }
+    }
+
+}
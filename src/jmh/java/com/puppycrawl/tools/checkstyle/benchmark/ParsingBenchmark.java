@@ -0,0 +1,155 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2023 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.puppycrawl.tools.checkstyle.JavaParser;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.FileContents;
+import com.puppycrawl.tools.checkstyle.api.FileText;
+
+/**
+ * Benchmarks of loading the corpus and building its abstract syntax trees.
+ * Every operation processes the whole corpus. Only {@link #loadFileText(Blackhole)}
+ * reads files, which are written to a temporary directory for the trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParsingBenchmark {
+
+    /** Temporary directory with the files of the corpus. */
+    private File directory;
+
+    /** Files of the corpus. */
+    private List<File> files;
+
+    /** Contents of the corpus files. */
+    private List<FileContents> contents;
+
+    /** Trees without comment nodes, rebuilt before every invocation. */
+    private List<DetailAST> trees;
+
+    /**
+     * Generates the corpus and writes its files.
+     *
+     * @throws IOException if a file cannot be written
+     */
+    @Setup(Level.Trial)
+    public void loadCorpus() throws IOException {
+        directory = Files.createTempDirectory("checkstyle-benchmark").toFile();
+        files = BenchmarkCorpus.writeFiles(directory);
+        contents = new ArrayList<>();
+        for (FileText text : BenchmarkCorpus.getTexts()) {
+            contents.add(new FileContents(text));
+        }
+    }
+
+    /**
+     * Deletes the files of the corpus.
+     *
+     * @throws IOException if a file cannot be deleted
+     */
+    @TearDown(Level.Trial)
+    public void deleteCorpus() throws IOException {
+        for (File file : files) {
+            Files.delete(file.toPath());
+        }
+        Files.delete(directory.toPath());
+    }
+
+    /**
+     * Parses fresh trees for {@link #appendHiddenCommentNodes(Blackhole)},
+     * which modifies the trees it is given.
+     *
+     * @throws CheckstyleException if a file cannot be parsed
+     */
+    @Setup(Level.Invocation)
+    public void parseTrees() throws CheckstyleException {
+        trees = new ArrayList<>();
+        for (FileContents fileContents : contents) {
+            trees.add(JavaParser.parse(fileContents));
+        }
+    }
+
+    /**
+     * Measures reading and decoding of the corpus files.
+     *
+     * @param blackhole consumer of the results
+     * @throws IOException if a file cannot be read
+     */
+    @Benchmark
+    public void loadFileText(Blackhole blackhole) throws IOException {
+        for (File file : files) {
+            blackhole.consume(new FileText(file, StandardCharsets.UTF_8.name()));
+        }
+    }
+
+    /**
+     * Measures parsing of the corpus without comments.
+     *
+     * @param blackhole consumer of the results
+     * @throws CheckstyleException if a file cannot be parsed
+     */
+    @Benchmark
+    public void parse(Blackhole blackhole) throws CheckstyleException {
+        for (FileContents fileContents : contents) {
+            blackhole.consume(JavaParser.parse(fileContents));
+        }
+    }
+
+    /**
+     * Measures adding of comment nodes to already parsed trees.
+     *
+     * @param blackhole consumer of the results
+     */
+    @Benchmark
+    public void appendHiddenCommentNodes(Blackhole blackhole) {
+        for (DetailAST tree : trees) {
+            blackhole.consume(JavaParser.appendHiddenCommentNodes(tree));
+        }
+    }
+
+}
@@ -0,0 +1,139 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2023 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+package com.puppycrawl.tools.checkstyle.benchmark;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.puppycrawl.tools.checkstyle.Checker;
+import com.puppycrawl.tools.checkstyle.DefaultConfiguration;
+import com.puppycrawl.tools.checkstyle.TreeWalker;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.FileText;
+import com.puppycrawl.tools.checkstyle.checks.SuppressWarningsHolder;
+import com.puppycrawl.tools.checkstyle.checks.naming.MemberNameCheck;
+import com.puppycrawl.tools.checkstyle.checks.naming.MethodNameCheck;
+import com.puppycrawl.tools.checkstyle.checks.naming.ParameterNameCheck;
+import com.puppycrawl.tools.checkstyle.filters.SuppressWarningsFilter;
+
+/**
+ * Benchmark of the audit of a generated file where most members are annotated
+ * with {@code SuppressWarnings}, so that every violation is looked up among
+ * many suppression regions by {@link SuppressWarningsFilter}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SuppressWarningsFilterBenchmark {
+
+    /** Number of annotated members of the generated file. */
+    @Param({"100", "1000", "10000"})
+    private int members;
+
+    /** Contents of the generated file. */
+    private List<FileText> fileTexts;
+
+    /** Configured checker. */
+    private Checker checker;
+
+    /**
+     * Generates the file and configures the checker.
+     *
+     * @throws CheckstyleException if the checker cannot be configured
+     */
+    @Setup(Level.Trial)
+    public void configureChecker() throws CheckstyleException {
+        fileTexts = List.of(new FileText(new File("Suppressed.java"), generateLines()));
+
+        final DefaultConfiguration treeWalker =
+            new DefaultConfiguration(TreeWalker.class.getName());
+        treeWalker.addChild(new DefaultConfiguration(SuppressWarningsHolder.class.getName()));
+        treeWalker.addChild(new DefaultConfiguration(MemberNameCheck.class.getName()));
+        treeWalker.addChild(new DefaultConfiguration(MethodNameCheck.class.getName()));
+        treeWalker.addChild(new DefaultConfiguration(ParameterNameCheck.class.getName()));
+        final DefaultConfiguration root = new DefaultConfiguration("Checker");
+        root.addChild(treeWalker);
+        root.addChild(new DefaultConfiguration(SuppressWarningsFilter.class.getName()));
+
+        checker = new Checker();
+        checker.setModuleClassLoader(Checker.class.getClassLoader());
+        checker.configure(root);
+    }
+
+    /** Releases resources of the checker. */
+    @TearDown(Level.Trial)
+    public void destroyChecker() {
+        checker.destroy();
+    }
+
+    /**
+     * Measures the audit of the generated file.
+     *
+     * @return number of violations found
+     * @throws CheckstyleException if the audit fails
+     */
+    @Benchmark
+    public int process() throws CheckstyleException {
+        return checker.processFileTexts(fileTexts);
+    }
+
+    /**
+     * Generates a class whose members all violate naming checks, with every
+     * member but one in ten suppressed by annotation.
+     *
+     * @return lines of the generated class
+     */
+    private List<String> generateLines() {
+        final List<String> lines = new ArrayList<>();
+        lines.add("public class Suppressed {");
+        for (int index = 0; index < members; index++) {
+            if (index % 10 != 0) {
+                lines.add("    @SuppressWarnings({\"membername\", \"checkstyle:methodname\"})");
+            }
+            lines.add("    private int Field" + index + ";");
+            if (index % 10 != 0) {
+                lines.add("    @SuppressWarnings(\"all\")");
+            }
+            lines.add("    public void Method" + index + "(int Parameter) {");
+            lines.add("    }");
+        }
+        lines.add("}");
+        return lines;
+    }
+
+}
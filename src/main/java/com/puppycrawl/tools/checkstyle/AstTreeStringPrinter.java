@@ -21,7 +21,8 @@ package com.puppycrawl.tools.checkstyle;
 
 import java.io.File;
 import java.io.IOException;
-import java.util.regex.Pattern;
+import java.io.PrintWriter;
+import java.io.StringWriter;
 
 import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
 import com.puppycrawl.tools.checkstyle.api.DetailAST;
@@ -36,16 +37,15 @@ import com.puppycrawl.tools.checkstyle.utils.TokenUtil;
  */
 public final class AstTreeStringPrinter {
 
-    /** Newline pattern. */
-    private static final Pattern NEWLINE = Pattern.compile("\n");
-    /** Return pattern. */
-    private static final Pattern RETURN = Pattern.compile("\r");
-    /** Tab pattern. */
-    private static final Pattern TAB = Pattern.compile("\t");
-
     /** OS specific line separator. */
     private static final String LINE_SEPARATOR = System.lineSeparator();
 
+    /** Indentation below a node without next sibling. */
+    private static final String LAST_CHILD_INDENTATION = "    ";
+
+    /** Indentation below a node with a next sibling, continuing its branch. */
+    private static final String CHILD_INDENTATION = "|   ";
+
     /** Prevent instances. */
     private AstTreeStringPrinter() {
         // no code
@@ -65,6 +65,21 @@ public final class AstTreeStringPrinter {
         return printTree(JavaParser.parseFile(file, options));
     }
 
+    /**
+     * Parse a file and print the parse tree to the writer node by node,
+     * without building the whole tree in String form.
+     *
+     * @param file the file to print.
+     * @param options {@link JavaParser.Options} to control the inclusion of comment nodes.
+     * @param out the writer to print to.
+     * @throws IOException if the file could not be read.
+     * @throws CheckstyleException if the file is not a Java source.
+     */
+    public static void printFileAst(File file, JavaParser.Options options, PrintWriter out)
+            throws IOException, CheckstyleException {
+        printTree(JavaParser.parseFile(file, options), null, out);
+    }
+
     /**
      * Prints full AST (java + comments + javadoc) of the java file.
      *
@@ -75,51 +90,68 @@ public final class AstTreeStringPrinter {
      */
     public static String printJavaAndJavadocTree(File file)
             throws IOException, CheckstyleException {
+        final StringWriter writer = new StringWriter(1024);
+        printJavaAndJavadocTree(file, new PrintWriter(writer));
+        return writer.toString();
+    }
+
+    /**
+     * Prints full AST (java + comments + javadoc) of the java file to the writer
+     * node by node, without building the whole tree in String form.
+     *
+     * @param file java file
+     * @param out the writer to print to.
+     * @throws IOException Failed to open a file
+     * @throws CheckstyleException error while parsing the file
+     */
+    public static void printJavaAndJavadocTree(File file, PrintWriter out)
+            throws IOException, CheckstyleException {
         final DetailAST tree = JavaParser.parseFile(file, JavaParser.Options.WITH_COMMENTS);
-        return printJavaAndJavadocTree(tree);
+        printJavaAndJavadocTree(tree, null, out);
     }
 
     /**
      * Prints full tree (java + comments + javadoc) of the DetailAST.
      *
-     * @param ast root DetailAST
-     * @return Full tree
+     * @param ast the first node to print, followed by its siblings
+     * @param indentation indentation of the nodes without their branch,
+     *     {@code null} if the nodes have no parent
+     * @param out the writer to print to
      */
-    private static String printJavaAndJavadocTree(DetailAST ast) {
-        final StringBuilder messageBuilder = new StringBuilder(1024);
+    private static void printJavaAndJavadocTree(DetailAST ast, String indentation,
+            PrintWriter out) {
         DetailAST node = ast;
         while (node != null) {
-            messageBuilder.append(getIndentation(node))
-                .append(getNodeInfo(node))
-                .append(LINE_SEPARATOR);
+            printNode(node, indentation, out);
             if (node.getType() == TokenTypes.COMMENT_CONTENT
                     && JavadocUtil.isJavadocComment(node.getParent())) {
-                final String javadocTree = parseAndPrintJavadocTree(node);
-                messageBuilder.append(javadocTree);
+                parseAndPrintJavadocTree(node, indentation, out);
             }
             else {
-                messageBuilder.append(printJavaAndJavadocTree(node.getFirstChild()));
+                printJavaAndJavadocTree(node.getFirstChild(),
+                        getChildIndentation(node, indentation), out);
             }
             node = node.getNextSibling();
         }
-        return messageBuilder.toString();
     }
 
     /**
      * Parses block comment as javadoc and prints its tree.
      *
      * @param node block comment begin
-     * @return string javadoc tree
+     * @param indentation indentation of the node without its branch
+     * @param out the writer to print to
      */
-    private static String parseAndPrintJavadocTree(DetailAST node) {
+    private static void parseAndPrintJavadocTree(DetailAST node, String indentation,
+            PrintWriter out) {
         final DetailAST javadocBlock = node.getParent();
         final DetailNode tree = DetailNodeTreeStringPrinter.parseJavadocAsDetailNode(javadocBlock);
 
-        String baseIndentation = getIndentation(node);
+        String baseIndentation = indentation + getBranch(node);
         baseIndentation = baseIndentation.substring(0, baseIndentation.length() - 2);
         final String rootPrefix = baseIndentation + "   `--";
         final String prefix = baseIndentation + "       ";
-        return DetailNodeTreeStringPrinter.printTree(tree, rootPrefix, prefix);
+        DetailNodeTreeStringPrinter.printTree(tree, rootPrefix, prefix, out);
     }
 
     /**
@@ -163,16 +195,85 @@ public final class AstTreeStringPrinter {
      * @return string AST.
      */
     private static String printTree(DetailAST ast) {
-        final StringBuilder messageBuilder = new StringBuilder(1024);
+        final StringWriter writer = new StringWriter(1024);
+        printTree(ast, null, new PrintWriter(writer));
+        return writer.toString();
+    }
+
+    /**
+     * Print AST. The indentation of children is built once from the indentation
+     * of their parent, instead of walking up to the root for every node.
+     *
+     * @param ast the first node to print, followed by its siblings
+     * @param indentation indentation of the nodes without their branch,
+     *     {@code null} if the nodes have no parent
+     * @param out the writer to print to
+     */
+    private static void printTree(DetailAST ast, String indentation, PrintWriter out) {
         DetailAST node = ast;
         while (node != null) {
-            messageBuilder.append(getIndentation(node))
-                    .append(getNodeInfo(node))
-                    .append(LINE_SEPARATOR)
-                    .append(printTree(node.getFirstChild()));
+            printNode(node, indentation, out);
+            printTree(node.getFirstChild(), getChildIndentation(node, indentation), out);
             node = node.getNextSibling();
         }
-        return messageBuilder.toString();
+    }
+
+    /**
+     * Print a single line of the tree for the node.
+     *
+     * @param node the node to print
+     * @param indentation indentation of the node without its branch,
+     *     {@code null} if the node has no parent
+     * @param out the writer to print to
+     */
+    private static void printNode(DetailAST node, String indentation, PrintWriter out) {
+        if (indentation != null) {
+            out.print(indentation);
+            out.print(getBranch(node));
+        }
+        out.print(getNodeInfo(node));
+        out.print(LINE_SEPARATOR);
+    }
+
+    /**
+     * Get indentation of the children of a node without their branch.
+     *
+     * @param node the parent node
+     * @param indentation indentation of the parent node without its branch,
+     *     {@code null} if the parent node has no parent
+     * @return the indentation of children
+     */
+    private static String getChildIndentation(DetailAST node, String indentation) {
+        final String result;
+        if (indentation == null) {
+            result = "";
+        }
+        else if (node.getNextSibling() == null) {
+            result = indentation + LAST_CHILD_INDENTATION;
+        }
+        else {
+            result = indentation + CHILD_INDENTATION;
+        }
+        return result;
+    }
+
+    /**
+     * Get the branch drawn before a node with a parent.
+     *
+     * @param node the node
+     * @return the branch of the node
+     */
+    private static String getBranch(DetailAST node) {
+        final String result;
+        // only ASCII symbols must be used due to
+        // problems with running tests on Windows
+        if (node.getNextSibling() == null) {
+            result = "`--";
+        }
+        else {
+            result = "|--";
+        }
+        return result;
     }
 
     /**
@@ -184,7 +285,7 @@ public final class AstTreeStringPrinter {
      */
     private static String getNodeInfo(DetailAST node) {
         return TokenUtil.getTokenName(node.getType())
-                + " -> " + escapeAllControlChars(node.getText())
+                + " -> " + JavadocUtil.escapeAllControlChars(node.getText())
                 + " [" + node.getLineNo() + ':' + node.getColumnNo() + ']';
     }
 
@@ -195,43 +296,23 @@ public final class AstTreeStringPrinter {
      * @return the indentation in String format.
      */
     private static String getIndentation(DetailAST ast) {
-        final boolean isLastChild = ast.getNextSibling() == null;
         DetailAST node = ast;
         final StringBuilder indentation = new StringBuilder(1024);
         while (node.getParent() != null) {
             node = node.getParent();
             if (node.getParent() == null) {
-                if (isLastChild) {
-                    // only ASCII symbols must be used due to
-                    // problems with running tests on Windows
-                    indentation.append("`--");
-                }
-                else {
-                    indentation.append("|--");
-                }
+                indentation.append(getBranch(ast));
             }
             else {
                 if (node.getNextSibling() == null) {
-                    indentation.insert(0, "    ");
+                    indentation.insert(0, LAST_CHILD_INDENTATION);
                 }
                 else {
-                    indentation.insert(0, "|   ");
+                    indentation.insert(0, CHILD_INDENTATION);
                 }
             }
         }
         return indentation.toString();
     }
 
-    /**
-     * Replace all control chars with escaped symbols.
-     *
-     * @param text the String to process.
-     * @return the processed String with all control chars escaped.
-     */
-    private static String escapeAllControlChars(String text) {
-        final String textWithoutNewlines = NEWLINE.matcher(text).replaceAll("\\\\n");
-        final String textWithoutReturns = RETURN.matcher(textWithoutNewlines).replaceAll("\\\\r");
-        return TAB.matcher(textWithoutReturns).replaceAll("\\\\t");
-    }
-
 }
@@ -0,0 +1,216 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2023 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import com.puppycrawl.tools.checkstyle.api.AuditEvent;
+import com.puppycrawl.tools.checkstyle.api.AuditListener;
+
+/**
+ * Listener passing audit events to other listeners on a dedicated thread.
+ * Events are put in a bounded queue, so the auditing thread only waits for
+ * listeners when the queue is full, and they are delivered in the order they
+ * were reported, keeping errors of a file between its {@code fileStarted} and
+ * {@code fileFinished} events. {@link #auditFinished(AuditEvent)} returns only
+ * after all events are delivered. A failure of a listener stops the delivery
+ * and is rethrown on the auditing thread by the next event.
+ */
+final class AsyncAuditListener implements AuditListener {
+
+    /** Task stopping the dispatching thread. */
+    private static final Runnable STOP = () -> {
+        // marker of the end of the queue
+    };
+
+    /** Message of the exception thrown if the auditing thread is interrupted. */
+    private static final String INTERRUPTED_MESSAGE =
+            "Interrupted while waiting for audit listeners";
+
+    /** Listeners to pass events to. */
+    private final List<AuditListener> listeners;
+
+    /** Notifications of listeners waiting to be delivered. */
+    private final BlockingQueue<Runnable> queue;
+
+    /** The thread delivering notifications. */
+    private final Thread thread;
+
+    /** The first failure of a listener, or {@code null}. */
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    /**
+     * Creates a new instance and starts its dispatching thread.
+     *
+     * @param listeners listeners to pass events to
+     * @param capacity maximum number of events waiting to be delivered
+     */
+    /* package */ AsyncAuditListener(List<AuditListener> listeners, int capacity) {
+        this.listeners = new ArrayList<>(listeners);
+        queue = new ArrayBlockingQueue<>(capacity);
+        thread = new Thread(this::dispatch, "checkstyle-audit-listeners");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void auditStarted(AuditEvent event) {
+        enqueue(listener -> listener.auditStarted(event));
+    }
+
+    @Override
+    public void auditFinished(AuditEvent event) {
+        enqueue(listener -> listener.auditFinished(event));
+        stop();
+        checkFailure();
+    }
+
+    @Override
+    public void fileStarted(AuditEvent event) {
+        enqueue(listener -> listener.fileStarted(event));
+    }
+
+    @Override
+    public void fileFinished(AuditEvent event) {
+        enqueue(listener -> listener.fileFinished(event));
+    }
+
+    @Override
+    public void addError(AuditEvent event) {
+        enqueue(listener -> listener.addError(event));
+    }
+
+    @Override
+    public void addException(AuditEvent event, Throwable throwable) {
+        enqueue(listener -> listener.addException(event, throwable));
+    }
+
+    /**
+     * Delivers the events waiting in the queue and stops the dispatching thread.
+     * Does nothing if the thread is already stopped.
+     *
+     * @throws IllegalStateException if the current thread is interrupted while waiting
+     */
+    public void stop() {
+        if (thread.isAlive()) {
+            put(STOP);
+            try {
+                thread.join();
+            }
+            catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(INTERRUPTED_MESSAGE, ex);
+            }
+        }
+    }
+
+    /**
+     * Puts the notification of all listeners in the queue.
+     *
+     * @param notification the notification to send to a listener
+     */
+    private void enqueue(Consumer<AuditListener> notification) {
+        checkFailure();
+        put(() -> {
+            for (AuditListener listener : listeners) {
+                notification.accept(listener);
+            }
+        });
+    }
+
+    /**
+     * Puts a task in the queue, waiting while the queue is full.
+     *
+     * @param task the task
+     * @throws IllegalStateException if the current thread is interrupted while waiting
+     */
+    private void put(Runnable task) {
+        try {
+            queue.put(task);
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(INTERRUPTED_MESSAGE, ex);
+        }
+    }
+
+    /**
+     * Rethrows the failure of a listener, if any.
+     *
+     * @throws IllegalStateException if a listener failed
+     */
+    private void checkFailure() {
+        final Throwable listenerFailure = failure.get();
+        if (listenerFailure != null) {
+            throw new IllegalStateException("Audit listener failed", listenerFailure);
+        }
+    }
+
+    /**
+     * Runs the tasks of the queue until it is stopped. Tasks following the
+     * failure of a listener are taken from the queue but not run, so the
+     * auditing thread never waits for a stopped delivery.
+     */
+    private void dispatch() {
+        boolean running = true;
+        while (running) {
+            final Runnable task = take();
+            if (task == STOP) {
+                running = false;
+            }
+            else if (failure.get() == null) {
+                try {
+                    task.run();
+                }
+                // -@cs[IllegalCatch] Failure of any listener has to be reported
+                // on the auditing thread, the dispatching thread keeps draining the queue
+                catch (RuntimeException | Error ex) {
+                    failure.compareAndSet(null, ex);
+                }
+            }
+        }
+    }
+
+    /**
+     * Takes the next task of the queue. The thread is not stopped when it is
+     * interrupted, as the auditing thread could wait for a free place in the
+     * queue, but the interruption is reported as a failure.
+     *
+     * @return the task
+     */
+    private Runnable take() {
+        Runnable task = null;
+        while (task == null) {
+            try {
+                task = queue.take();
+            }
+            catch (InterruptedException ex) {
+                failure.compareAndSet(null, ex);
+            }
+        }
+        return task;
+    }
+
+}
@@ -0,0 +1,418 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2023 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import com.puppycrawl.tools.checkstyle.api.AbstractViolationReporter;
+import com.puppycrawl.tools.checkstyle.api.AutomaticBean.OutputStreamOptions;
+
+/**
+ * Collects cumulative wall time and, where the JVM supports it, allocated bytes
+ * spent in every module of an audit and prints a sorted report when the audit
+ * is finished. Profiling is opt-in: {@link Checker} and {@link TreeWalker} only
+ * measure their modules when a profiler is set.
+ */
+public final class AuditProfiler {
+
+    /** Category of time spent to parse a file. */
+    public static final String PARSE = "parse";
+
+    /** Category of time spent in callbacks of a TreeWalker check. */
+    public static final String CHECK = "check";
+
+    /** Category of time spent in {@code FileSetCheck.process}. */
+    public static final String FILE_SET_CHECK = "fileSetCheck";
+
+    /** Category of time spent in filters. */
+    public static final String FILTER = "filter";
+
+    /** Category of time spent in audit listeners. */
+    public static final String LISTENER = "listener";
+
+    /** Value reported when allocated bytes can not be measured. */
+    private static final long UNSUPPORTED = -1;
+
+    /** Number of bytes in a kilobyte of the text report. */
+    private static final int BYTES_PER_KILOBYTE = 1024;
+
+    /** Format of a line of the text report. */
+    private static final String TEXT_LINE_FORMAT = "%-12s %12s %12s %14s  %s%n";
+
+    /** Measurements by category and module. */
+    private final Map<String, Map<Object, Measurement>> measurements =
+            new ConcurrentHashMap<>();
+
+    /** Format of the report. */
+    private final ReportFormat format;
+
+    /** Writer of the report. */
+    private final PrintWriter writer;
+
+    /** Close output stream after the report is written. */
+    private final boolean closeStream;
+
+    /** Bean to measure allocated bytes, {@code null} if not supported by the JVM. */
+    private final com.sun.management.ThreadMXBean allocationBean;
+
+    /**
+     * Creates a new {@code AuditProfiler} instance.
+     *
+     * @param outputStream the stream to write the report to
+     * @param outputStreamOptions if {@code CLOSE} stream should be closed after the report
+     * @param format format of the report
+     * @throws IllegalArgumentException if outputStreamOptions is null
+     */
+    public AuditProfiler(OutputStream outputStream, OutputStreamOptions outputStreamOptions,
+            ReportFormat format) {
+        if (outputStreamOptions == null) {
+            throw new IllegalArgumentException("Parameter outputStreamOptions can not be null");
+        }
+        writer = new PrintWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        closeStream = outputStreamOptions == OutputStreamOptions.CLOSE;
+        this.format = format;
+        allocationBean = getAllocationBean();
+    }
+
+    /**
+     * Returns the bean measuring allocated bytes per thread if the JVM supports it.
+     * Measuring allocations is enabled in the JVM only here, so it stays untouched
+     * unless a profiler is created.
+     *
+     * @return the bean or {@code null}
+     */
+    private static com.sun.management.ThreadMXBean getAllocationBean() {
+        final ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        com.sun.management.ThreadMXBean result = null;
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            final com.sun.management.ThreadMXBean allocationBean =
+                    (com.sun.management.ThreadMXBean) bean;
+            if (allocationBean.isThreadAllocatedMemorySupported()) {
+                allocationBean.setThreadAllocatedMemoryEnabled(true);
+                result = allocationBean;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the start time of a measurement.
+     *
+     * @return current value of the time source, in nanoseconds
+     */
+    public long getTime() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Returns the number of bytes allocated so far by the current thread.
+     *
+     * @return allocated bytes or {@code -1} if not supported by the JVM
+     */
+    public long getAllocatedBytes() {
+        final long result;
+        if (allocationBean == null) {
+            result = UNSUPPORTED;
+        }
+        else {
+            result = allocationBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return result;
+    }
+
+    /**
+     * Records a measurement started by {@link #getTime()} and
+     * {@link #getAllocatedBytes()}.
+     *
+     * @param category category of the measurement
+     * @param module module or file the time was spent in
+     * @param startTime time at the start of the measurement
+     * @param startAllocatedBytes allocated bytes at the start of the measurement
+     */
+    public void finish(String category, Object module, long startTime,
+            long startAllocatedBytes) {
+        final long time = getTime() - startTime;
+        long allocatedBytes = UNSUPPORTED;
+        if (startAllocatedBytes != UNSUPPORTED) {
+            allocatedBytes = getAllocatedBytes() - startAllocatedBytes;
+        }
+        add(category, module, time, allocatedBytes);
+    }
+
+    /**
+     * Adds a measured call to the measurements of the module.
+     *
+     * @param category category of the measurement
+     * @param module module or file the time was spent in
+     * @param time time of the call in nanoseconds
+     * @param allocatedBytes bytes allocated in the call or {@code -1}
+     */
+    private void add(String category, Object module, long time, long allocatedBytes) {
+        measurements.computeIfAbsent(category, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(module, key -> new Measurement(category, getName(key)))
+                .add(time, allocatedBytes);
+    }
+
+    /**
+     * Runs the action and records the time spent in it.
+     *
+     * @param category category of the measurement
+     * @param module module the action belongs to
+     * @param action the action to run
+     */
+    public void measure(String category, Object module, Runnable action) {
+        final long startTime = getTime();
+        final long startAllocatedBytes = getAllocatedBytes();
+        action.run();
+        finish(category, module, startTime, startAllocatedBytes);
+    }
+
+    /**
+     * Writes the report of all measurements sorted by total time, longest first.
+     */
+    public void writeReport() {
+        final List<Measurement> sorted = measurements.values().stream()
+                .flatMap(byModule -> byModule.values().stream())
+                .sorted(Comparator.comparingLong(Measurement::getTime).reversed()
+                        .thenComparing(Measurement::getCategory)
+                        .thenComparing(Measurement::getName))
+                .collect(Collectors.toList());
+        if (format == ReportFormat.JSON) {
+            writeJsonReport(sorted);
+        }
+        else {
+            writeTextReport(sorted);
+        }
+        if (closeStream) {
+            writer.close();
+        }
+        else {
+            writer.flush();
+        }
+    }
+
+    /**
+     * Writes the report as a table.
+     *
+     * @param sorted measurements to report
+     */
+    private void writeTextReport(List<Measurement> sorted) {
+        writer.format(Locale.ROOT, TEXT_LINE_FORMAT,
+                "Category", "Calls", "Time (ms)", "Allocated (KB)", "Module");
+        for (Measurement measurement : sorted) {
+            final String allocated;
+            if (measurement.getAllocatedBytes() == UNSUPPORTED) {
+                allocated = "n/a";
+            }
+            else {
+                allocated = String.valueOf(measurement.getAllocatedBytes() / BYTES_PER_KILOBYTE);
+            }
+            writer.format(Locale.ROOT, TEXT_LINE_FORMAT,
+                    measurement.getCategory(),
+                    measurement.getCalls(),
+                    TimeUnit.NANOSECONDS.toMillis(measurement.getTime()),
+                    allocated,
+                    measurement.getName());
+        }
+    }
+
+    /**
+     * Writes the report as a JSON document.
+     *
+     * @param sorted measurements to report
+     */
+    private void writeJsonReport(List<Measurement> sorted) {
+        writer.println("{\"measurements\": [");
+        for (int index = 0; index < sorted.size(); index++) {
+            final Measurement measurement = sorted.get(index);
+            writer.print("  {\"category\": \"" + measurement.getCategory()
+                    + "\", \"name\": \"" + SarifLogger.escape(measurement.getName())
+                    + "\", \"calls\": " + measurement.getCalls()
+                    + ", \"timeNanos\": " + measurement.getTime()
+                    + ", \"allocatedBytes\": " + measurement.getAllocatedBytes() + "}");
+            if (index < sorted.size() - 1) {
+                writer.print(',');
+            }
+            writer.println();
+        }
+        writer.println("]}");
+    }
+
+    /**
+     * Returns the name a module is reported with.
+     *
+     * @param module module or file name
+     * @return simple class name of the module followed by its id, if any
+     */
+    private static String getName(Object module) {
+        String result;
+        if (module instanceof String) {
+            result = (String) module;
+        }
+        else {
+            result = module.getClass().getSimpleName();
+            if (module instanceof AbstractViolationReporter) {
+                final String id = ((AbstractViolationReporter) module).getId();
+                if (id != null) {
+                    result += "[" + id + "]";
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Enumeration over the formats of the report.
+     */
+    public enum ReportFormat {
+
+        /** Human readable table. */
+        TEXT,
+
+        /** JSON document. */
+        JSON;
+
+        /**
+         * Returns the name in lowercase.
+         *
+         * @return the enum name in lowercase
+         */
+        @Override
+        public String toString() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+
+    }
+
+    /**
+     * Cumulative measurement of one module.
+     */
+    private static final class Measurement {
+
+        /** Category of the measurement. */
+        private final String category;
+
+        /** Name of the module. */
+        private final String name;
+
+        /** Number of measured calls. */
+        private final LongAdder calls = new LongAdder();
+
+        /** Total time in nanoseconds. */
+        private final LongAdder time = new LongAdder();
+
+        /** Total allocated bytes. */
+        private final LongAdder allocatedBytes = new LongAdder();
+
+        /** Whether allocated bytes were measured. */
+        private final AtomicBoolean allocationMeasured = new AtomicBoolean();
+
+        /**
+         * Creates a new instance.
+         *
+         * @param category category of the measurement
+         * @param name name of the module
+         */
+        private Measurement(String category, String name) {
+            this.category = category;
+            this.name = name;
+        }
+
+        /**
+         * Adds a single call.
+         *
+         * @param callTime time of the call in nanoseconds
+         * @param callAllocatedBytes bytes allocated in the call or {@code -1}
+         */
+        private void add(long callTime, long callAllocatedBytes) {
+            calls.increment();
+            time.add(callTime);
+            if (callAllocatedBytes != UNSUPPORTED) {
+                allocatedBytes.add(callAllocatedBytes);
+                allocationMeasured.set(true);
+            }
+        }
+
+        /**
+         * Returns category of the measurement.
+         *
+         * @return the category
+         */
+        private String getCategory() {
+            return category;
+        }
+
+        /**
+         * Returns name of the module.
+         *
+         * @return the name
+         */
+        private String getName() {
+            return name;
+        }
+
+        /**
+         * Returns number of measured calls.
+         *
+         * @return number of calls
+         */
+        private long getCalls() {
+            return calls.sum();
+        }
+
+        /**
+         * Returns total time.
+         *
+         * @return time in nanoseconds
+         */
+        private long getTime() {
+            return time.sum();
+        }
+
+        /**
+         * Returns total allocated bytes.
+         *
+         * @return allocated bytes or {@code -1} if not measured
+         */
+        private long getAllocatedBytes() {
+            long result = UNSUPPORTED;
+            if (allocationMeasured.get()) {
+                result = allocatedBytes.sum();
+            }
+            return result;
+        }
+
+    }
+
+}
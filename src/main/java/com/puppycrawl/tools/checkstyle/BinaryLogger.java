@@ -0,0 +1,412 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2023 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.puppycrawl.tools.checkstyle.api.AuditEvent;
+import com.puppycrawl.tools.checkstyle.api.AuditListener;
+import com.puppycrawl.tools.checkstyle.api.AutomaticBean;
+import com.puppycrawl.tools.checkstyle.api.Violation;
+
+/**
+ * Logger writing audit events in a compact binary report, meant for audits with
+ * very large numbers of events. The report can be converted to any other format
+ * with {@link BinaryReportConverter}.
+ *
+ * <p>
+ * The report starts with the {@link #MAGIC} number and the {@link #VERSION} of
+ * the format, followed by records, each one starting with its tag byte. Numbers
+ * are written as variable length integers. File names, source names, module ids,
+ * bundles, message keys and custom messages are interned: the first occurrence
+ * of a string is written as a {@link #TAG_STRING} record that assigns it the next
+ * id, starting from 1, and all records refer to strings by id, 0 standing for
+ * {@code null}. Message arguments are written with their type, separately from
+ * the interned strings, so messages are formatted only when the report is
+ * converted.
+ * </p>
+ */
+public class BinaryLogger
+    extends AutomaticBean
+    implements AuditListener {
+
+    /** Magic number at the start of a report. */
+    /* package */ static final int MAGIC = 0x43534252;
+
+    /** Version of the report format. */
+    /* package */ static final int VERSION = 1;
+
+    /** Tag of a string definition record. */
+    /* package */ static final int TAG_STRING = 1;
+
+    /** Tag of an audit started record. */
+    /* package */ static final int TAG_AUDIT_STARTED = 2;
+
+    /** Tag of an audit finished record. */
+    /* package */ static final int TAG_AUDIT_FINISHED = 3;
+
+    /** Tag of a file started record. */
+    /* package */ static final int TAG_FILE_STARTED = 4;
+
+    /** Tag of a file finished record. */
+    /* package */ static final int TAG_FILE_FINISHED = 5;
+
+    /** Tag of an error record. */
+    /* package */ static final int TAG_ERROR = 6;
+
+    /** Tag of an exception record. */
+    /* package */ static final int TAG_EXCEPTION = 7;
+
+    /** Type of a {@code null} argument. */
+    /* package */ static final int ARG_NULL = 0;
+
+    /** Type of an {@link Integer} argument. */
+    /* package */ static final int ARG_INTEGER = 1;
+
+    /** Type of a {@link Long} argument, also used for shorts and bytes. */
+    /* package */ static final int ARG_LONG = 2;
+
+    /** Type of a {@link Double} argument, also used for floats. */
+    /* package */ static final int ARG_DOUBLE = 3;
+
+    /** Type of an argument written as its string value. */
+    /* package */ static final int ARG_STRING = 4;
+
+    /** Type of a {@link BigInteger} argument, written as its decimal string. */
+    /* package */ static final int ARG_BIG_INTEGER = 5;
+
+    /** Type of a {@link BigDecimal} argument, written as its decimal string. */
+    /* package */ static final int ARG_BIG_DECIMAL = 6;
+
+    /** Mask of the low seven bits of a variable length integer byte. */
+    private static final int SEVEN_BITS = 0x7F;
+
+    /** Flag of a variable length integer byte followed by more bytes. */
+    private static final int CONTINUATION = 0x80;
+
+    /** Number of bits stored in a variable length integer byte. */
+    private static final int BITS_PER_BYTE = 7;
+
+    /** Size of the output buffer. */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /** Message of the exception thrown if the report cannot be written. */
+    private static final String WRITE_FAILED_MESSAGE = "Unable to write binary report";
+
+    /** Close output stream in auditFinished. */
+    private final boolean closeStream;
+
+    /** The output of the report. */
+    private final DataOutputStream output;
+
+    /** Ids of the strings already written to the report. */
+    private final Map<String, Integer> stringIds = new HashMap<>();
+
+    /**
+     * Creates a new {@code BinaryLogger} instance.
+     *
+     * @param outputStream the stream to write the report to.
+     * @param outputStreamOptions if {@code CLOSE} stream should be closed in auditFinished()
+     * @throws IllegalArgumentException if outputStreamOptions is null.
+     */
+    public BinaryLogger(OutputStream outputStream, OutputStreamOptions outputStreamOptions) {
+        if (outputStreamOptions == null) {
+            throw new IllegalArgumentException("Parameter outputStreamOptions can not be null");
+        }
+        output = new DataOutputStream(new BufferedOutputStream(outputStream, BUFFER_SIZE));
+        closeStream = outputStreamOptions == OutputStreamOptions.CLOSE;
+    }
+
+    @Override
+    protected void finishLocalSetup() {
+        // No code by default
+    }
+
+    @Override
+    public synchronized void auditStarted(AuditEvent event) {
+        try {
+            output.writeInt(MAGIC);
+            output.writeByte(VERSION);
+            output.writeByte(TAG_AUDIT_STARTED);
+        }
+        catch (IOException ex) {
+            throw new IllegalStateException(WRITE_FAILED_MESSAGE, ex);
+        }
+    }
+
+    @Override
+    public synchronized void auditFinished(AuditEvent event) {
+        try {
+            output.writeByte(TAG_AUDIT_FINISHED);
+            if (closeStream) {
+                output.close();
+            }
+            else {
+                output.flush();
+            }
+        }
+        catch (IOException ex) {
+            throw new IllegalStateException(WRITE_FAILED_MESSAGE, ex);
+        }
+    }
+
+    @Override
+    public synchronized void fileStarted(AuditEvent event) {
+        try {
+            final int fileId = intern(event.getFileName());
+            output.writeByte(TAG_FILE_STARTED);
+            writeVarInt(fileId);
+        }
+        catch (IOException ex) {
+            throw new IllegalStateException(WRITE_FAILED_MESSAGE, ex);
+        }
+    }
+
+    @Override
+    public synchronized void fileFinished(AuditEvent event) {
+        try {
+            final int fileId = intern(event.getFileName());
+            output.writeByte(TAG_FILE_FINISHED);
+            writeVarInt(fileId);
+        }
+        catch (IOException ex) {
+            throw new IllegalStateException(WRITE_FAILED_MESSAGE, ex);
+        }
+    }
+
+    @Override
+    public synchronized void addError(AuditEvent event) {
+        try {
+            final ViolationIds ids = internViolation(event);
+            output.writeByte(TAG_ERROR);
+            writeVarInt(ids.fileId);
+            writeViolation(event.getViolation(), ids);
+        }
+        catch (IOException ex) {
+            throw new IllegalStateException(WRITE_FAILED_MESSAGE, ex);
+        }
+    }
+
+    @Override
+    public synchronized void addException(AuditEvent event, Throwable throwable) {
+        final StringWriter stackTrace = new StringWriter();
+        throwable.printStackTrace(new PrintWriter(stackTrace));
+        try {
+            final ViolationIds ids = internViolation(event);
+            output.writeByte(TAG_EXCEPTION);
+            writeVarInt(ids.fileId);
+            final Violation violation = event.getViolation();
+            output.writeBoolean(violation != null);
+            if (violation != null) {
+                writeViolation(violation, ids);
+            }
+            writeString(stackTrace.toString());
+        }
+        catch (IOException ex) {
+            throw new IllegalStateException(WRITE_FAILED_MESSAGE, ex);
+        }
+    }
+
+    /**
+     * Interns the strings of an event, before its record is started.
+     *
+     * @param event the event.
+     * @return the ids of the strings.
+     * @throws IOException if the strings cannot be written.
+     */
+    private ViolationIds internViolation(AuditEvent event) throws IOException {
+        final ViolationIds ids = new ViolationIds();
+        ids.fileId = intern(event.getFileName());
+        final Violation violation = event.getViolation();
+        if (violation != null) {
+            ids.sourceNameId = intern(violation.getSourceName());
+            ids.moduleId = intern(violation.getModuleId());
+            ids.bundleId = intern(violation.getBundle());
+            ids.keyId = intern(violation.getKey());
+            ids.customMessageId = intern(violation.getCustomMessage());
+        }
+        return ids;
+    }
+
+    /**
+     * Writes the fields of a violation.
+     *
+     * @param violation the violation.
+     * @param ids the ids of the interned strings of the violation.
+     * @throws IOException if the violation cannot be written.
+     */
+    private void writeViolation(Violation violation, ViolationIds ids) throws IOException {
+        writeVarInt(violation.getLineNo());
+        writeVarInt(violation.getColumnNo());
+        writeVarInt(violation.getColumnCharIndex());
+        writeVarInt(violation.getTokenType());
+        output.writeByte(violation.getSeverityLevel().ordinal());
+        writeVarInt(ids.sourceNameId);
+        writeVarInt(ids.moduleId);
+        writeVarInt(ids.bundleId);
+        writeVarInt(ids.keyId);
+        writeVarInt(ids.customMessageId);
+        writeArgs(violation.getArgs());
+    }
+
+    /**
+     * Writes the arguments of a violation, preceded by their count plus one,
+     * or by 0 if there are no arguments.
+     *
+     * @param args the arguments, may be {@code null}.
+     * @throws IOException if the arguments cannot be written.
+     */
+    private void writeArgs(Object... args) throws IOException {
+        if (args == null) {
+            writeVarInt(0);
+        }
+        else {
+            writeVarInt(args.length + 1);
+            for (Object arg : args) {
+                writeArg(arg);
+            }
+        }
+    }
+
+    /**
+     * Writes an argument of a violation, preceded by its type.
+     *
+     * @param arg the argument, may be {@code null}.
+     * @throws IOException if the argument cannot be written.
+     */
+    private void writeArg(Object arg) throws IOException {
+        if (arg == null) {
+            output.writeByte(ARG_NULL);
+        }
+        else if (arg instanceof Integer) {
+            output.writeByte(ARG_INTEGER);
+            output.writeInt((Integer) arg);
+        }
+        else if (arg instanceof Long || arg instanceof Short || arg instanceof Byte) {
+            output.writeByte(ARG_LONG);
+            output.writeLong(((Number) arg).longValue());
+        }
+        else if (arg instanceof Double || arg instanceof Float) {
+            output.writeByte(ARG_DOUBLE);
+            output.writeDouble(((Number) arg).doubleValue());
+        }
+        else if (arg instanceof BigInteger) {
+            output.writeByte(ARG_BIG_INTEGER);
+            writeString(arg.toString());
+        }
+        else if (arg instanceof BigDecimal) {
+            output.writeByte(ARG_BIG_DECIMAL);
+            writeString(arg.toString());
+        }
+        else {
+            output.writeByte(ARG_STRING);
+            writeString(arg.toString());
+        }
+    }
+
+    /**
+     * Returns the id of a string, writing its definition if it is seen for the
+     * first time.
+     *
+     * @param value the string, may be {@code null}.
+     * @return the id of the string, 0 for {@code null}.
+     * @throws IOException if the definition cannot be written.
+     */
+    private int intern(String value) throws IOException {
+        int result = 0;
+        if (value != null) {
+            final Integer id = stringIds.get(value);
+            if (id == null) {
+                result = stringIds.size() + 1;
+                stringIds.put(value, result);
+                output.writeByte(TAG_STRING);
+                writeString(value);
+            }
+            else {
+                result = id;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Writes a string as its length in bytes followed by its UTF-8 bytes.
+     *
+     * @param value the string.
+     * @throws IOException if the string cannot be written.
+     */
+    private void writeString(String value) throws IOException {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(bytes.length);
+        output.write(bytes);
+    }
+
+    /**
+     * Writes a variable length integer, seven bits per byte starting from the
+     * lowest ones. Negative values take five bytes.
+     *
+     * @param value the value.
+     * @throws IOException if the value cannot be written.
+     */
+    private void writeVarInt(int value) throws IOException {
+        int remaining = value;
+        while ((remaining & ~SEVEN_BITS) != 0) {
+            output.writeByte(remaining & SEVEN_BITS | CONTINUATION);
+            remaining >>>= BITS_PER_BYTE;
+        }
+        output.writeByte(remaining);
+    }
+
+    /**
+     * Ids of the interned strings of an event.
+     */
+    private static final class ViolationIds {
+
+        /** Id of the file name. */
+        private int fileId;
+
+        /** Id of the source name. */
+        private int sourceNameId;
+
+        /** Id of the module id. */
+        private int moduleId;
+
+        /** Id of the bundle. */
+        private int bundleId;
+
+        /** Id of the message key. */
+        private int keyId;
+
+        /** Id of the custom message. */
+        private int customMessageId;
+
+    }
+
+}
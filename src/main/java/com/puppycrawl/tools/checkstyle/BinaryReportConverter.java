@@ -0,0 +1,390 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2023 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.puppycrawl.tools.checkstyle.api.AuditEvent;
+import com.puppycrawl.tools.checkstyle.api.AuditListener;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.SeverityLevel;
+import com.puppycrawl.tools.checkstyle.api.Violation;
+
+/**
+ * Converts a report written by {@link BinaryLogger} to any other format by
+ * replaying its events to the listener of that format, for example
+ * {@link XMLLogger} or {@link SarifLogger}. Messages are formatted from their
+ * keys and arguments during the conversion, so the classes of the checks that
+ * reported them have to be available to the class loader.
+ */
+public final class BinaryReportConverter {
+
+    /** Size of the input buffer. */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /** Mask of the low seven bits of a variable length integer byte. */
+    private static final int SEVEN_BITS = 0x7F;
+
+    /** Flag of a variable length integer byte followed by more bytes. */
+    private static final int CONTINUATION = 0x80;
+
+    /** Number of bits stored in a variable length integer byte. */
+    private static final int BITS_PER_BYTE = 7;
+
+    /** Severity levels by ordinal. */
+    private static final SeverityLevel[] SEVERITY_LEVELS = SeverityLevel.values();
+
+    /** The input of the report. */
+    private final DataInputStream input;
+
+    /** The listener to replay events to. */
+    private final AuditListener listener;
+
+    /** The class loader of the sources of violations. */
+    private final ClassLoader classLoader;
+
+    /** Strings of the report by id, the first one standing for {@code null}. */
+    private final List<String> strings = new ArrayList<>();
+
+    /** Loaded sources of violations by name. */
+    private final Map<String, Class<?>> sourceClasses = new HashMap<>();
+
+    /**
+     * Creates a new instance.
+     *
+     * @param report the report.
+     * @param listener the listener to replay events to.
+     * @param classLoader the class loader of the sources of violations.
+     */
+    private BinaryReportConverter(InputStream report, AuditListener listener,
+            ClassLoader classLoader) {
+        input = new DataInputStream(new BufferedInputStream(report, BUFFER_SIZE));
+        this.listener = listener;
+        this.classLoader = classLoader;
+        strings.add(null);
+    }
+
+    /**
+     * Replays the events of a report to a listener, loading the sources of
+     * violations with the class loader of Checkstyle.
+     *
+     * @param report the report, it is not closed.
+     * @param listener the listener to replay events to.
+     * @throws IOException if the report cannot be read.
+     * @throws CheckstyleException if the report is malformed.
+     */
+    public static void convert(InputStream report, AuditListener listener)
+            throws IOException, CheckstyleException {
+        convert(report, listener, BinaryReportConverter.class.getClassLoader());
+    }
+
+    /**
+     * Replays the events of a report to a listener.
+     *
+     * @param report the report, it is not closed.
+     * @param listener the listener to replay events to.
+     * @param classLoader the class loader of the sources of violations.
+     * @throws IOException if the report cannot be read.
+     * @throws CheckstyleException if the report is malformed.
+     */
+    public static void convert(InputStream report, AuditListener listener,
+            ClassLoader classLoader) throws IOException, CheckstyleException {
+        new BinaryReportConverter(report, listener, classLoader).replay();
+    }
+
+    /**
+     * Reads the header and replays all records of the report.
+     *
+     * @throws IOException if the report cannot be read.
+     * @throws CheckstyleException if the report is malformed.
+     */
+    private void replay() throws IOException, CheckstyleException {
+        if (input.readInt() != BinaryLogger.MAGIC) {
+            throw new CheckstyleException("Input is not a binary report");
+        }
+        final int version = input.readUnsignedByte();
+        if (version != BinaryLogger.VERSION) {
+            throw new CheckstyleException("Unsupported binary report version " + version);
+        }
+        int tag = input.read();
+        while (tag >= 0) {
+            replayRecord(tag);
+            tag = input.read();
+        }
+    }
+
+    /**
+     * Replays a record.
+     *
+     * @param tag the tag of the record.
+     * @throws IOException if the report cannot be read.
+     * @throws CheckstyleException if the record is malformed.
+     */
+    private void replayRecord(int tag) throws IOException, CheckstyleException {
+        switch (tag) {
+            case BinaryLogger.TAG_STRING:
+                strings.add(readString());
+                break;
+            case BinaryLogger.TAG_AUDIT_STARTED:
+                listener.auditStarted(new AuditEvent(this));
+                break;
+            case BinaryLogger.TAG_AUDIT_FINISHED:
+                listener.auditFinished(new AuditEvent(this));
+                break;
+            case BinaryLogger.TAG_FILE_STARTED:
+                listener.fileStarted(new AuditEvent(this, readStringId()));
+                break;
+            case BinaryLogger.TAG_FILE_FINISHED:
+                listener.fileFinished(new AuditEvent(this, readStringId()));
+                break;
+            case BinaryLogger.TAG_ERROR:
+                replayError();
+                break;
+            case BinaryLogger.TAG_EXCEPTION:
+                replayException();
+                break;
+            default:
+                throw new CheckstyleException("Invalid binary report record " + tag);
+        }
+    }
+
+    /**
+     * Replays an error record.
+     *
+     * @throws IOException if the report cannot be read.
+     * @throws CheckstyleException if the record is malformed.
+     */
+    private void replayError() throws IOException, CheckstyleException {
+        final String fileName = readStringId();
+        listener.addError(new AuditEvent(this, fileName, readViolation()));
+    }
+
+    /**
+     * Replays an exception record.
+     *
+     * @throws IOException if the report cannot be read.
+     * @throws CheckstyleException if the record is malformed.
+     */
+    private void replayException() throws IOException, CheckstyleException {
+        final String fileName = readStringId();
+        Violation violation = null;
+        if (input.readBoolean()) {
+            violation = readViolation();
+        }
+        final ReportedException exception = new ReportedException(readString());
+        listener.addException(new AuditEvent(this, fileName, violation), exception);
+    }
+
+    /**
+     * Reads the fields of a violation.
+     *
+     * @return the violation.
+     * @throws IOException if the report cannot be read.
+     * @throws CheckstyleException if the violation is malformed.
+     */
+    private Violation readViolation() throws IOException, CheckstyleException {
+        final int line = readVarInt();
+        final int column = readVarInt();
+        final int columnCharIndex = readVarInt();
+        final int tokenType = readVarInt();
+        final int severity = input.readUnsignedByte();
+        if (severity >= SEVERITY_LEVELS.length) {
+            throw new CheckstyleException("Invalid severity level " + severity);
+        }
+        final Class<?> sourceClass = getSourceClass(readStringId());
+        final String moduleId = readStringId();
+        final String bundle = readStringId();
+        final String key = readStringId();
+        final String customMessage = readStringId();
+        return new Violation(line, column, columnCharIndex, tokenType, bundle, key,
+            readArgs(), SEVERITY_LEVELS[severity], moduleId, sourceClass, customMessage);
+    }
+
+    /**
+     * Reads the arguments of a violation.
+     *
+     * @return the arguments or {@code null} if there are none.
+     * @throws IOException if the report cannot be read.
+     * @throws CheckstyleException if an argument is malformed.
+     */
+    private Object[] readArgs() throws IOException, CheckstyleException {
+        final int count = readVarInt();
+        Object[] result = null;
+        if (count > 0) {
+            result = new Object[count - 1];
+            for (int index = 0; index < result.length; index++) {
+                result[index] = readArg();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Reads an argument of a violation.
+     *
+     * @return the argument.
+     * @throws IOException if the report cannot be read.
+     * @throws CheckstyleException if the argument is malformed.
+     */
+    private Object readArg() throws IOException, CheckstyleException {
+        final int type = input.readUnsignedByte();
+        final Object result;
+        switch (type) {
+            case BinaryLogger.ARG_NULL:
+                result = null;
+                break;
+            case BinaryLogger.ARG_INTEGER:
+                result = input.readInt();
+                break;
+            case BinaryLogger.ARG_LONG:
+                result = input.readLong();
+                break;
+            case BinaryLogger.ARG_DOUBLE:
+                result = input.readDouble();
+                break;
+            case BinaryLogger.ARG_STRING:
+                result = readString();
+                break;
+            case BinaryLogger.ARG_BIG_INTEGER:
+                result = new BigInteger(readString());
+                break;
+            case BinaryLogger.ARG_BIG_DECIMAL:
+                result = new BigDecimal(readString());
+                break;
+            default:
+                throw new CheckstyleException("Invalid argument type " + type);
+        }
+        return result;
+    }
+
+    /**
+     * Loads the source of violations with the given name.
+     *
+     * @param name the class name.
+     * @return the class.
+     * @throws CheckstyleException if the class cannot be loaded.
+     */
+    private Class<?> getSourceClass(String name) throws CheckstyleException {
+        Class<?> result = sourceClasses.get(name);
+        if (result == null) {
+            if (name == null) {
+                throw new CheckstyleException("Violation without source in binary report");
+            }
+            try {
+                result = Class.forName(name, false, classLoader);
+            }
+            catch (ClassNotFoundException ex) {
+                throw new CheckstyleException("Unable to load source of violations " + name, ex);
+            }
+            sourceClasses.put(name, result);
+        }
+        return result;
+    }
+
+    /**
+     * Reads a reference to an interned string.
+     *
+     * @return the string, may be {@code null}.
+     * @throws IOException if the report cannot be read.
+     * @throws CheckstyleException if the string is not defined.
+     */
+    private String readStringId() throws IOException, CheckstyleException {
+        final int id = readVarInt();
+        if (id < 0 || id >= strings.size()) {
+            throw new CheckstyleException("Undefined string " + id + " in binary report");
+        }
+        return strings.get(id);
+    }
+
+    /**
+     * Reads a string written as its length in bytes followed by its UTF-8 bytes.
+     *
+     * @return the string.
+     * @throws IOException if the report cannot be read.
+     */
+    private String readString() throws IOException {
+        final byte[] bytes = new byte[readVarInt()];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a variable length integer.
+     *
+     * @return the value.
+     * @throws IOException if the report cannot be read.
+     */
+    private int readVarInt() throws IOException {
+        int result = 0;
+        int shift = 0;
+        int next = input.readUnsignedByte();
+        while ((next & CONTINUATION) != 0) {
+            result |= (next & SEVEN_BITS) << shift;
+            shift += BITS_PER_BYTE;
+            next = input.readUnsignedByte();
+        }
+        return result | next << shift;
+    }
+
+    /**
+     * Exception of a report, printing the stack trace recorded by the logger.
+     */
+    private static final class ReportedException extends RuntimeException {
+
+        /** A unique serial version identifier. */
+        private static final long serialVersionUID = 1L;
+
+        /** The recorded stack trace. */
+        private final String stackTrace;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param stackTrace the recorded stack trace.
+         */
+        private ReportedException(String stackTrace) {
+            this.stackTrace = stackTrace;
+        }
+
+        @Override
+        public void printStackTrace(PrintWriter printWriter) {
+            printWriter.print(stackTrace);
+        }
+
+        @Override
+        public void printStackTrace(PrintStream printStream) {
+            printStream.print(stackTrace);
+        }
+
+    }
+
+}
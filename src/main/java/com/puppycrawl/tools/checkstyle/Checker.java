@@ -32,6 +32,7 @@ import java.util.Locale;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -133,6 +134,30 @@ public class Checker extends AutomaticBean implements MessageDispatcher, RootMod
     /** The tab width for column reporting. */
     private int tabWidth = CommonUtil.DEFAULT_TAB_WIDTH;
 
+    /** Profiler of modules, {@code null} if profiling is disabled. */
+    private AuditProfiler profiler;
+
+    /** Prefilter of the literals required by the regular expressions of the modules. */
+    private final LiteralPrefilter literalPrefilter = new LiteralPrefilter();
+
+    /** Contents of the file being audited, {@code null} between files. */
+    private FileText currentFileText;
+
+    /**
+     * Maximum number of events waiting for listeners notified asynchronously,
+     * zero to notify listeners on the auditing thread.
+     */
+    private int asyncListenerQueueSize;
+
+    /**
+     * Listeners notified during the audit, {@code null} if the audit notifies
+     * all listeners directly.
+     */
+    private List<AuditListener> auditListeners;
+
+    /** Listener notifying other listeners asynchronously during the audit, or {@code null}. */
+    private AsyncAuditListener asyncListener;
+
     /**
      * Creates a new {@code Checker} instance.
      * The instance needs to be contextualized and configured.
@@ -154,6 +179,31 @@ public class Checker extends AutomaticBean implements MessageDispatcher, RootMod
         cacheFile.load();
     }
 
+    /**
+     * Enables profiling of the audit. Time spent in file set checks, filters,
+     * listeners and, for {@link TreeWalker}, in parsing and in every check is
+     * measured and the report is written when the audit is finished.
+     *
+     * @param profiler the profiler or {@code null} to disable profiling
+     */
+    public void setProfiler(AuditProfiler profiler) {
+        this.profiler = profiler;
+        for (final FileSetCheck fsc : fileSetChecks) {
+            setProfiler(fsc);
+        }
+    }
+
+    /**
+     * Passes the profiler to the file set check if it supports profiling of its parts.
+     *
+     * @param fileSetCheck the file set check
+     */
+    private void setProfiler(FileSetCheck fileSetCheck) {
+        if (fileSetCheck instanceof TreeWalker) {
+            ((TreeWalker) fileSetCheck).setProfiler(profiler);
+        }
+    }
+
     /**
      * Removes before execution file filter.
      *
@@ -206,24 +256,96 @@ public class Checker extends AutomaticBean implements MessageDispatcher, RootMod
         this.basedir = basedir;
     }
 
+    /**
+     * Setter to specify the maximum number of audit events waiting for listeners,
+     * which are then notified on a dedicated thread instead of the auditing one.
+     * Events are delivered in the order they are reported and all of them are
+     * delivered when the audit finishes. Zero notifies listeners on the auditing
+     * thread. Listeners are always notified on the auditing thread while profiling,
+     * and so are listeners annotated with {@link SynchronousListener}.
+     *
+     * @param asyncListenerQueueSize the maximum number of waiting events
+     */
+    public void setAsyncListenerQueueSize(int asyncListenerQueueSize) {
+        this.asyncListenerQueueSize = asyncListenerQueueSize;
+    }
+
     @Override
     public int process(List<File> files) throws CheckstyleException {
         if (cacheFile != null) {
             cacheFile.putExternalResources(getExternalResourceLocations());
         }
 
-        // Prepare to start
+        beginAudit();
+        try {
+            final List<File> targetFiles = files.stream()
+                    .filter(file -> CommonUtil.matchesFileExtension(file, fileExtensions))
+                    .collect(Collectors.toList());
+            processFiles(targetFiles);
+            return finishAudit();
+        }
+        finally {
+            stopAsyncListener();
+        }
+    }
+
+    /**
+     * Audits files with the given contents, without reading any file. The path
+     * of every file is taken from its {@link FileText}, so the file does not need
+     * to exist. The contents are passed to all FileSetChecks, and filters reading
+     * the file being audited receive them through {@link AuditEvent#getFileText()}.
+     * The cache file is not used, as it depends on timestamps of files.
+     *
+     * @param fileTexts the contents of the files to audit, consumed one by one
+     * @return the total number of audit events with error severity found
+     * @throws CheckstyleException if error condition within Checkstyle occurs
+     */
+    public int processFileTexts(Iterable<FileText> fileTexts) throws CheckstyleException {
+        beginAudit();
+        try {
+            for (final FileText fileText : fileTexts) {
+                final File file = fileText.getFile();
+                if (CommonUtil.matchesFileExtension(file, fileExtensions)) {
+                    auditFile(file, fileText);
+                }
+            }
+            return finishAudit();
+        }
+        finally {
+            stopAsyncListener();
+        }
+    }
+
+    /** Notifies the listeners and prepares all FileSetChecks for the audit. */
+    private void beginAudit() {
+        if (asyncListenerQueueSize > 0 && profiler == null) {
+            final List<AuditListener> directListeners = new ArrayList<>();
+            final List<AuditListener> asyncListeners = new ArrayList<>();
+            for (final AuditListener listener : listeners) {
+                if (listener == counter
+                        || listener.getClass().isAnnotationPresent(SynchronousListener.class)) {
+                    directListeners.add(listener);
+                }
+                else {
+                    asyncListeners.add(listener);
+                }
+            }
+            asyncListener = new AsyncAuditListener(asyncListeners, asyncListenerQueueSize);
+            directListeners.add(asyncListener);
+            auditListeners = directListeners;
+        }
         fireAuditStarted();
         for (final FileSetCheck fsc : fileSetChecks) {
             fsc.beginProcessing(charset);
         }
+    }
 
-        final List<File> targetFiles = files.stream()
-                .filter(file -> CommonUtil.matchesFileExtension(file, fileExtensions))
-                .collect(Collectors.toList());
-        processFiles(targetFiles);
-
-        // Finish up
+    /**
+     * Finishes the audit with all FileSetChecks and notifies the listeners.
+     *
+     * @return the total number of audit events with error severity found
+     */
+    private int finishAudit() {
         // It may also log!!!
         fileSetChecks.forEach(FileSetCheck::finishProcessing);
 
@@ -235,6 +357,18 @@ public class Checker extends AutomaticBean implements MessageDispatcher, RootMod
         return errorCount;
     }
 
+    /**
+     * Stops the asynchronous notification of listeners, delivering the events
+     * already reported. Does nothing if listeners are notified directly.
+     */
+    private void stopAsyncListener() {
+        if (asyncListener != null) {
+            asyncListener.stop();
+            asyncListener = null;
+            auditListeners = null;
+        }
+    }
+
     /**
      * Returns a set of external configuration resource locations which are used by all file set
      * checks and filters.
@@ -253,16 +387,55 @@ public class Checker extends AutomaticBean implements MessageDispatcher, RootMod
     /** Notify all listeners about the audit start. */
     private void fireAuditStarted() {
         final AuditEvent event = new AuditEvent(this);
-        for (final AuditListener listener : listeners) {
-            listener.auditStarted(event);
+        if (profiler == null) {
+            for (final AuditListener listener : getNotifiedListeners()) {
+                listener.auditStarted(event);
+            }
+        }
+        else {
+            measureListeners(listener -> listener.auditStarted(event));
         }
     }
 
     /** Notify all listeners about the audit end. */
     private void fireAuditFinished() {
         final AuditEvent event = new AuditEvent(this);
-        for (final AuditListener listener : listeners) {
-            listener.auditFinished(event);
+        if (profiler == null) {
+            for (final AuditListener listener : getNotifiedListeners()) {
+                listener.auditFinished(event);
+            }
+        }
+        else {
+            measureListeners(listener -> listener.auditFinished(event));
+        }
+        if (profiler != null) {
+            profiler.writeReport();
+        }
+    }
+
+    /**
+     * Returns the listeners to notify of an audit event.
+     *
+     * @return the listeners notified during the audit, or all listeners
+     */
+    private List<AuditListener> getNotifiedListeners() {
+        List<AuditListener> notified = auditListeners;
+        if (notified == null) {
+            notified = listeners;
+        }
+        return notified;
+    }
+
+    /**
+     * Notifies all listeners and measures the time spent in every listener.
+     * Only used while profiling, otherwise listeners are notified directly.
+     *
+     * @param notification the notification to send to a listener
+     */
+    private void measureListeners(Consumer<AuditListener> notification) {
+        for (final AuditListener listener : getNotifiedListeners()) {
+            profiler.measure(AuditProfiler.LISTENER, listener,
+                () -> notification.accept(listener));
         }
     }
 
@@ -271,76 +444,146 @@ public class Checker extends AutomaticBean implements MessageDispatcher, RootMod
      *
      * @param files a list of files to process.
      * @throws CheckstyleException if error condition within Checkstyle occurs.
+     */
+    private void processFiles(List<File> files) throws CheckstyleException {
+        for (final File file : files) {
+            auditFile(file, null);
+        }
+    }
+
+    /**
+     * Audits a file with all FileSetChecks and notifies the listeners.
+     * The cache file is only used for files which are read.
+     *
+     * @param file the file to audit.
+     * @param suppliedText the contents of the file, or {@code null} to read the file.
+     * @throws CheckstyleException if error condition within Checkstyle occurs.
      * @throws Error wraps any java.lang.Error happened during execution
      * @noinspection ProhibitedExceptionThrown
      * @noinspectionreason ProhibitedExceptionThrown - There is no other way to
      *      deliver filename that was under processing.
      */
     // -@cs[CyclomaticComplexity] no easy way to split this logic of processing the file
-    private void processFiles(List<File> files) throws CheckstyleException {
-        for (final File file : files) {
-            String fileName = null;
-            try {
-                fileName = file.getAbsolutePath();
-                final long timestamp = file.lastModified();
-                if (cacheFile != null && cacheFile.isInCache(fileName, timestamp)
-                        || !acceptFileStarted(fileName)) {
-                    continue;
-                }
-                if (cacheFile != null) {
+    private void auditFile(File file, FileText suppliedText) throws CheckstyleException {
+        String fileName = null;
+        try {
+            fileName = file.getAbsolutePath();
+            long timestamp = 0;
+            if (suppliedText == null) {
+                timestamp = file.lastModified();
+            }
+            final boolean useCache = cacheFile != null && suppliedText == null;
+            if (!(useCache && cacheFile.isInCache(fileName, timestamp))
+                    && acceptFileStarted(fileName)) {
+                if (useCache) {
                     cacheFile.put(fileName, timestamp);
                 }
                 fireFileStarted(fileName);
-                final SortedSet<Violation> fileMessages = processFile(file);
+                final SortedSet<Violation> fileMessages;
+                if (suppliedText == null) {
+                    fileMessages = processFile(file);
+                }
+                else {
+                    fileMessages = processFile(file, suppliedText);
+                }
                 fireErrors(fileName, fileMessages);
                 fireFileFinished(fileName);
             }
-            // -@cs[IllegalCatch] There is no other way to deliver filename that was under
-            // processing. See https://github.com/checkstyle/checkstyle/issues/2285
-            catch (Exception ex) {
-                if (fileName != null && cacheFile != null) {
-                    cacheFile.remove(fileName);
-                }
-
-                // We need to catch all exceptions to put a reason failure (file name) in exception
-                throw new CheckstyleException("Exception was thrown while processing "
-                        + file.getPath(), ex);
+        }
+        // -@cs[IllegalCatch] There is no other way to deliver filename that was under
+        // processing. See https://github.com/checkstyle/checkstyle/issues/2285
+        catch (Exception ex) {
+            if (fileName != null && cacheFile != null) {
+                cacheFile.remove(fileName);
             }
-            catch (Error error) {
-                if (fileName != null && cacheFile != null) {
-                    cacheFile.remove(fileName);
-                }
 
-                // We need to catch all errors to put a reason failure (file name) in error
-                throw new Error("Error was thrown while processing " + file.getPath(), error);
+            // We need to catch all exceptions to put a reason failure (file name) in exception
+            throw new CheckstyleException("Exception was thrown while processing "
+                    + file.getPath(), ex);
+        }
+        catch (Error error) {
+            if (fileName != null && cacheFile != null) {
+                cacheFile.remove(fileName);
             }
+
+            // We need to catch all errors to put a reason failure (file name) in error
+            throw new Error("Error was thrown while processing " + file.getPath(), error);
+        }
+        finally {
+            currentFileText = null;
         }
     }
 
+    /**
+     * Processes a file with a FileSetCheck, measuring the time spent
+     * if profiling is enabled.
+     *
+     * @param fsc the FileSetCheck
+     * @param file the file to process
+     * @param fileText the contents of the file
+     * @return the sorted set of violations found by the FileSetCheck
+     * @throws CheckstyleException if error condition within Checkstyle occurs
+     */
+    private SortedSet<Violation> processWithFileSetCheck(FileSetCheck fsc, File file,
+            FileText fileText) throws CheckstyleException {
+        final SortedSet<Violation> result;
+        if (profiler == null) {
+            result = fsc.process(file, fileText);
+        }
+        else {
+            final long startTime = profiler.getTime();
+            final long startAllocatedBytes = profiler.getAllocatedBytes();
+            result = fsc.process(file, fileText);
+            profiler.finish(AuditProfiler.FILE_SET_CHECK, fsc, startTime, startAllocatedBytes);
+        }
+        return result;
+    }
+
     /**
      * Processes a file with all FileSetChecks.
      *
      * @param file a file to process.
      * @return a sorted set of violations to be logged.
      * @throws CheckstyleException if error condition within Checkstyle occurs.
-     * @noinspection ProhibitedExceptionThrown
-     * @noinspectionreason ProhibitedExceptionThrown - there is no other way to obey
-     *      haltOnException field
      */
     private SortedSet<Violation> processFile(File file) throws CheckstyleException {
-        final SortedSet<Violation> fileMessages = new TreeSet<>();
+        SortedSet<Violation> fileMessages;
         try {
             final FileText theText = new FileText(file.getAbsoluteFile(), charset);
-            for (final FileSetCheck fsc : fileSetChecks) {
-                fileMessages.addAll(fsc.process(file, theText));
-            }
+            fileMessages = processFile(file, theText);
         }
         catch (final IOException ioe) {
             log.debug("IOException occurred.", ioe);
+            fileMessages = new TreeSet<>();
             fileMessages.add(new Violation(1,
                     Definitions.CHECKSTYLE_BUNDLE, EXCEPTION_MSG,
                     new String[] {ioe.getMessage()}, null, getClass(), null));
         }
+        return fileMessages;
+    }
+
+    /**
+     * Processes the contents of a file with all FileSetChecks.
+     *
+     * @param file a file to process.
+     * @param theText the contents of the file.
+     * @return a sorted set of violations to be logged.
+     * @throws CheckstyleException if error condition within Checkstyle occurs.
+     * @noinspection ProhibitedExceptionThrown
+     * @noinspectionreason ProhibitedExceptionThrown - there is no other way to obey
+     *      haltOnException field
+     */
+    private SortedSet<Violation> processFile(File file, FileText theText)
+            throws CheckstyleException {
+        currentFileText = theText;
+        final SortedSet<Violation> fileMessages = new TreeSet<>();
+        try {
+            literalPrefilter.beginFile(theText);
+            ScannedLines.beginFile(theText);
+            for (final FileSetCheck fsc : fileSetChecks) {
+                fileMessages.addAll(processWithFileSetCheck(fsc, file, theText));
+            }
+        }
         // -@cs[IllegalCatch] There is no other way to obey haltOnException field
         catch (Exception ex) {
             if (haltOnException) {
@@ -359,6 +602,10 @@ public class Checker extends AutomaticBean implements MessageDispatcher, RootMod
                     new String[] {sw.getBuffer().toString()},
                     null, getClass(), null));
         }
+        finally {
+            literalPrefilter.finishFile();
+            ScannedLines.finishFile();
+        }
         return fileMessages;
     }
 
@@ -384,8 +631,13 @@ public class Checker extends AutomaticBean implements MessageDispatcher, RootMod
     public void fireFileStarted(String fileName) {
         final String stripped = CommonUtil.relativizeAndNormalizePath(basedir, fileName);
         final AuditEvent event = new AuditEvent(this, stripped);
-        for (final AuditListener listener : listeners) {
-            listener.fileStarted(event);
+        if (profiler == null) {
+            for (final AuditListener listener : getNotifiedListeners()) {
+                listener.fileStarted(event);
+            }
+        }
+        else {
+            measureListeners(listener -> listener.fileStarted(event));
         }
     }
 
@@ -398,13 +650,23 @@ public class Checker extends AutomaticBean implements MessageDispatcher, RootMod
     @Override
     public void fireErrors(String fileName, SortedSet<Violation> errors) {
         final String stripped = CommonUtil.relativizeAndNormalizePath(basedir, fileName);
+        FileText fileText = null;
+        if (currentFileText != null
+                && fileName.equals(currentFileText.getFile().getAbsolutePath())) {
+            fileText = currentFileText;
+        }
         boolean hasNonFilteredViolations = false;
         for (final Violation element : errors) {
-            final AuditEvent event = new AuditEvent(this, stripped, element);
-            if (filters.accept(event)) {
+            final AuditEvent event = new AuditEvent(this, stripped, element, fileText);
+            if (isAccepted(event)) {
                 hasNonFilteredViolations = true;
-                for (final AuditListener listener : listeners) {
-                    listener.addError(event);
+                if (profiler == null) {
+                    for (final AuditListener listener : getNotifiedListeners()) {
+                        listener.addError(event);
+                    }
+                }
+                else {
+                    measureListeners(listener -> listener.addError(event));
                 }
             }
         }
@@ -413,6 +675,33 @@ public class Checker extends AutomaticBean implements MessageDispatcher, RootMod
         }
     }
 
+    /**
+     * Checks whether all filters accept the event, measuring the time spent
+     * in every filter if profiling is enabled.
+     *
+     * @param event the event to filter
+     * @return {@code true} if the event is accepted by all filters
+     */
+    private boolean isAccepted(AuditEvent event) {
+        boolean result = true;
+        if (profiler == null) {
+            result = filters.accept(event);
+        }
+        else {
+            for (Filter filter : filters.getFilters()) {
+                final long startTime = profiler.getTime();
+                final long startAllocatedBytes = profiler.getAllocatedBytes();
+                final boolean accepted = filter.accept(event);
+                profiler.finish(AuditProfiler.FILTER, filter, startTime, startAllocatedBytes);
+                if (!accepted) {
+                    result = false;
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
     /**
      * Notify all listeners about the end of a file audit.
      *
@@ -423,8 +712,13 @@ public class Checker extends AutomaticBean implements MessageDispatcher, RootMod
     public void fireFileFinished(String fileName) {
         final String stripped = CommonUtil.relativizeAndNormalizePath(basedir, fileName);
         final AuditEvent event = new AuditEvent(this, stripped);
-        for (final AuditListener listener : listeners) {
-            listener.fileFinished(event);
+        if (profiler == null) {
+            for (final AuditListener listener : getNotifiedListeners()) {
+                listener.fileFinished(event);
+            }
+        }
+        else {
+            measureListeners(listener -> listener.fileFinished(event));
         }
     }
 
@@ -511,6 +805,10 @@ public class Checker extends AutomaticBean implements MessageDispatcher, RootMod
      */
     public void addFileSetCheck(FileSetCheck fileSetCheck) {
         fileSetCheck.setMessageDispatcher(this);
+        setProfiler(fileSetCheck);
+        if (fileSetCheck instanceof LiteralPrefilterUser) {
+            ((LiteralPrefilterUser) fileSetCheck).useLiteralPrefilter(literalPrefilter);
+        }
         fileSetChecks.add(fileSetCheck);
     }
 
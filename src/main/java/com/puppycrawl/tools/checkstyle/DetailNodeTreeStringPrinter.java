@@ -21,6 +21,8 @@ package com.puppycrawl.tools.checkstyle;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
 
 import com.puppycrawl.tools.checkstyle.JavadocDetailNodeParser.ParseErrorMessage;
@@ -56,6 +58,18 @@ public final class DetailNodeTreeStringPrinter {
         return printTree(parseFile(file), "", "");
     }
 
+    /**
+     * Parse a file and print the parse tree to the writer node by node,
+     * without building the whole tree in String form.
+     *
+     * @param file the file to print.
+     * @param out the writer to print to.
+     * @throws IOException if the file could not be read.
+     */
+    public static void printFileAst(File file, PrintWriter out) throws IOException {
+        printTree(parseFile(file), "", "", out);
+    }
+
     /**
      * Parse block comment DetailAST as Javadoc DetailNode tree.
      *
@@ -107,58 +121,75 @@ public final class DetailNodeTreeStringPrinter {
      * @return string AST.
      */
     public static String printTree(DetailNode ast, String rootPrefix, String prefix) {
-        final StringBuilder messageBuilder = new StringBuilder(1024);
+        final StringWriter writer = new StringWriter(1024);
+        printTree(ast, rootPrefix, prefix, new PrintWriter(writer));
+        return writer.toString();
+    }
+
+    /**
+     * Print AST to the writer node by node.
+     *
+     * @param ast the root AST node.
+     * @param rootPrefix prefix for the root node
+     * @param prefix prefix for other nodes
+     * @param out the writer to print to
+     */
+    /* package */ static void printTree(DetailNode ast, String rootPrefix, String prefix,
+            PrintWriter out) {
+        printTree(ast, rootPrefix, prefix, null, out);
+    }
+
+    /**
+     * Print AST. The indentation of children is built once from the indentation
+     * of their parent, instead of walking up to the root for every node.
+     *
+     * @param ast the first node to print, followed by its siblings
+     * @param rootPrefix prefix for the root node
+     * @param prefix prefix for other nodes
+     * @param indentation indentation of the nodes without their branch,
+     *     {@code null} if the nodes have no parent
+     * @param out the writer to print to
+     */
+    private static void printTree(DetailNode ast, String rootPrefix, String prefix,
+            String indentation, PrintWriter out) {
         DetailNode node = ast;
         while (node != null) {
+            final boolean isLastChild = JavadocUtil.getNextSibling(node) == null;
             if (node.getType() == JavadocTokenTypes.JAVADOC) {
-                messageBuilder.append(rootPrefix);
+                out.print(rootPrefix);
             }
             else {
-                messageBuilder.append(prefix);
+                out.print(prefix);
             }
-            messageBuilder.append(getIndentation(node))
-                    .append(JavadocUtil.getTokenName(node.getType())).append(" -> ")
-                    .append(JavadocUtil.escapeAllControlChars(node.getText())).append(" [")
-                    .append(node.getLineNumber()).append(':').append(node.getColumnNumber())
-                    .append(']').append(LINE_SEPARATOR)
-                    .append(printTree(JavadocUtil.getFirstChild(node), rootPrefix, prefix));
-            node = JavadocUtil.getNextSibling(node);
-        }
-        return messageBuilder.toString();
-    }
-
-    /**
-     * Get indentation for a node.
-     *
-     * @param node the DetailNode to get the indentation for.
-     * @return the indentation in String format.
-     */
-    private static String getIndentation(DetailNode node) {
-        final boolean isLastChild = JavadocUtil.getNextSibling(node) == null;
-        DetailNode currentNode = node;
-        final StringBuilder indentation = new StringBuilder(1024);
-        while (currentNode.getParent() != null) {
-            currentNode = currentNode.getParent();
-            if (currentNode.getParent() == null) {
-                if (isLastChild) {
-                    // only ASCII symbols must be used due to
-                    // problems with running tests on Windows
-                    indentation.append("`--");
-                }
-                else {
-                    indentation.append("|--");
-                }
+            final String childIndentation;
+            if (indentation == null) {
+                childIndentation = "";
             }
             else {
-                if (JavadocUtil.getNextSibling(currentNode) == null) {
-                    indentation.insert(0, "    ");
+                out.print(indentation);
+                // only ASCII symbols must be used due to
+                // problems with running tests on Windows
+                if (isLastChild) {
+                    out.print("`--");
+                    childIndentation = indentation + "    ";
                 }
                 else {
-                    indentation.insert(0, "|   ");
+                    out.print("|--");
+                    childIndentation = indentation + "|   ";
                 }
             }
+            out.print(JavadocUtil.getTokenName(node.getType()));
+            out.print(" -> ");
+            out.print(JavadocUtil.escapeAllControlChars(node.getText()));
+            out.print(" [");
+            out.print(node.getLineNumber());
+            out.print(':');
+            out.print(node.getColumnNumber());
+            out.print(']');
+            out.print(LINE_SEPARATOR);
+            printTree(JavadocUtil.getFirstChild(node), rootPrefix, prefix, childIndentation, out);
+            node = JavadocUtil.getNextSibling(node);
         }
-        return indentation.toString();
     }
 
     /**
@@ -25,6 +25,7 @@ import java.util.List;
 
 import org.antlr.v4.runtime.BaseErrorListener;
 import org.antlr.v4.runtime.BufferedTokenStream;
+import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonToken;
 import org.antlr.v4.runtime.CommonTokenStream;
@@ -34,6 +35,7 @@ import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.RecognitionException;
 import org.antlr.v4.runtime.Recognizer;
 import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.atn.PredictionMode;
 import org.antlr.v4.runtime.misc.Interval;
 import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.antlr.v4.runtime.tree.ParseTree;
@@ -81,11 +83,24 @@ public class JavadocDetailNodeParser {
     /** Symbols with which javadoc starts. */
     private static final String JAVADOC_START = "/**";
 
+    /** Error listener of the first stage of parsing. */
+    private static final CancellingErrorListener CANCELLING_ERROR_LISTENER =
+            new CancellingErrorListener();
+
     /**
      * Line number of the Block comment AST that is being parsed.
      */
     private int blockCommentLineNumber;
 
+    /** Lexer reused for all comments parsed by this instance, created on first use. */
+    private JavadocLexer lexer;
+
+    /** Token stream reused for all comments parsed by this instance. */
+    private CommonTokenStream tokens;
+
+    /** Parser reused for all comments parsed by this instance. */
+    private JavadocParser parser;
+
     /**
      * Parses Javadoc comment as DetailNode tree.
      *
@@ -111,9 +126,7 @@ public class JavadocDetailNodeParser {
         final ParseStatus result = new ParseStatus();
 
         try {
-            final JavadocParser javadocParser = createJavadocParser(javadocComment, errorListener);
-
-            final ParseTree javadocParseTree = javadocParser.javadoc();
+            final ParseTree javadocParseTree = parseJavadoc(javadocComment, errorListener);
 
             final DetailNode tree = convertParseTreeToDetailNode(javadocParseTree);
             // adjust first line to indent of /**
@@ -121,7 +134,7 @@ public class JavadocDetailNodeParser {
                         javadocCommentAst.getColumnNo()
                                 + JAVADOC_START.length());
             result.setTree(tree);
-            result.firstNonTightHtmlTag = getFirstNonTightHtmlTag(javadocParser,
+            result.firstNonTightHtmlTag = getFirstNonTightHtmlTag(parser,
                     errorListener.offset);
         }
         catch (ParseCancellationException | IllegalArgumentException ex) {
@@ -154,32 +167,65 @@ public class JavadocDetailNodeParser {
     }
 
     /**
-     * Parses block comment content as javadoc comment.
+     * Parses block comment content as javadoc comment. The content is parsed
+     * with the faster SLL prediction first. Only if it fails, which happens for
+     * comments with syntax errors and rarely for valid comments, the content is
+     * parsed again with full LL prediction, which reports the errors.
      *
      * @param blockComment
      *        block comment content.
      * @param errorListener custom error listener
      * @return parse tree
      */
-    private static JavadocParser createJavadocParser(String blockComment,
-            DescriptiveErrorListener errorListener) {
-        final JavadocLexer lexer = new JavadocLexer(CharStreams.fromString(blockComment), true);
+    private ParseTree parseJavadoc(String blockComment, DescriptiveErrorListener errorListener) {
+        resetJavadocParser(blockComment);
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        parser.addErrorListener(CANCELLING_ERROR_LISTENER);
 
-        final CommonTokenStream tokens = new CommonTokenStream(lexer);
+        ParseTree result;
+        try {
+            result = parser.javadoc();
+        }
+        catch (ParseCancellationException | IllegalArgumentException ignored) {
+            parser.reset();
+            parser.nonTightTagStartContext = null;
+            parser.removeErrorListeners();
+            parser.addErrorListener(errorListener);
+            parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+            result = parser.javadoc();
+        }
+        return result;
+    }
 
-        final JavadocParser parser = new JavadocParser(tokens);
+    /**
+     * Prepares the lexer and the parser of this instance to parse the block
+     * comment content, creating them on first use.
+     *
+     * @param blockComment
+     *        block comment content.
+     */
+    private void resetJavadocParser(String blockComment) {
+        final CharStream input = CharStreams.fromString(blockComment);
+        if (parser == null) {
+            lexer = new JavadocLexer(input, true);
 
-        // remove default error listeners
-        parser.removeErrorListeners();
+            tokens = new CommonTokenStream(lexer);
 
-        // add custom error listener that logs syntax errors
-        parser.addErrorListener(errorListener);
+            parser = new JavadocParser(tokens);
 
-        // JavadocParserErrorStrategy stops parsing on first parse error encountered unlike the
-        // DefaultErrorStrategy used by ANTLR which rather attempts error recovery.
-        parser.setErrorHandler(new CheckstyleParserErrorStrategy());
+            // JavadocParserErrorStrategy stops parsing on first parse error encountered unlike
+            // the DefaultErrorStrategy used by ANTLR which rather attempts error recovery.
+            parser.setErrorHandler(new CheckstyleParserErrorStrategy());
+        }
+        else {
+            lexer.setInputStream(input);
+            tokens.setTokenSource(lexer);
+            parser.setTokenStream(tokens);
+            parser.nonTightTagStartContext = null;
+        }
 
-        return parser;
+        // remove default and previous error listeners
+        parser.removeErrorListeners();
     }
 
     /**
@@ -555,6 +601,23 @@ public class JavadocDetailNodeParser {
         return result.toString();
     }
 
+    /**
+     * Error listener which cancels the parsing on the first syntax error. Used by
+     * the first stage of parsing, comments failing it are parsed again by the
+     * second stage, which reports the errors.
+     */
+    private static final class CancellingErrorListener extends BaseErrorListener {
+
+        @Override
+        public void syntaxError(
+                Recognizer<?, ?> recognizer, Object offendingSymbol,
+                int line, int charPositionInLine,
+                String msg, RecognitionException ex) {
+            throw new IllegalArgumentException(msg, ex);
+        }
+
+    }
+
     /**
      * Custom error listener for JavadocParser that prints user readable errors.
      */
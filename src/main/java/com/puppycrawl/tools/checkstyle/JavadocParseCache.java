@@ -0,0 +1,180 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2023 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.puppycrawl.tools.checkstyle.JavadocDetailNodeParser.ParseStatus;
+import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.LineColumn;
+import com.puppycrawl.tools.checkstyle.utils.JavadocUtil;
+
+/**
+ * Parses the Javadoc comments of the file walked by a {@link TreeWalker}.
+ * Every comment is parsed at most once per file, however many Javadoc checks
+ * look at it. The tree walker activates the cache for the current thread while
+ * it walks a file, so files processed by several threads do not share per-file
+ * results.
+ * Optionally, parse results are also kept across files, keyed by comment text
+ * and position, so license headers and other boilerplate comments repeated in
+ * many files are parsed once.
+ */
+public final class JavadocParseCache {
+
+    /** Load factor of the parse results kept across files, the default of hash maps. */
+    private static final float LOAD_FACTOR = 0.75f;
+
+    /** Separator of the position and the text of a comment in keys of parse results. */
+    private static final String KEY_SEPARATOR = ":";
+
+    /**
+     * Parser of the current thread. Reusing the parser for all comments avoids
+     * creating a new lexer and parser for every comment.
+     */
+    private static final ThreadLocal<JavadocDetailNodeParser> PARSER =
+            ThreadLocal.withInitial(JavadocDetailNodeParser::new);
+
+    /** Parse results of the file being walked by the current thread. */
+    private static final ThreadLocal<FileResults> CURRENT = new ThreadLocal<>();
+
+    /** Parse results kept across files, {@code null} if disabled. */
+    private final Map<String, ParseStatus> sharedResults;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param sharedSize maximum number of parse results kept across files,
+     *     zero to parse comments of every file again
+     */
+    /* package */ JavadocParseCache(int sharedSize) {
+        if (sharedSize > 0) {
+            sharedResults = new LinkedHashMap<>(sharedSize, LOAD_FACTOR, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, ParseStatus> eldest) {
+                    return size() > sharedSize;
+                }
+            };
+        }
+        else {
+            sharedResults = null;
+        }
+    }
+
+    /**
+     * Parses the Javadoc comment, reusing the result of a previous parse of
+     * the comment if the file is walked by a {@link TreeWalker}.
+     *
+     * @param javadocComment the block comment node of the Javadoc comment
+     * @return the result of parsing the comment
+     */
+    public static ParseStatus parse(DetailAST javadocComment) {
+        final FileResults fileResults = CURRENT.get();
+        final ParseStatus result;
+        if (fileResults == null) {
+            result = PARSER.get().parseJavadocAsDetailNode(javadocComment);
+        }
+        else {
+            result = fileResults.getResult(javadocComment);
+        }
+        return result;
+    }
+
+    /**
+     * Activates the cache for a new file walked by the current thread.
+     */
+    /* package */ void beginFile() {
+        CURRENT.set(new FileResults());
+    }
+
+    /**
+     * Deactivates the cache after the file was walked by the current thread.
+     */
+    /* package */ void finishFile() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Returns the result of parsing the comment kept across files. The parse
+     * result only depends on the text and the position of the comment, so
+     * both are part of the key. Comments are parsed outside of the lock,
+     * a comment parsed concurrently by two threads is kept only once.
+     *
+     * @param javadocComment the block comment node of the Javadoc comment
+     * @param parser the parser of the current thread
+     * @return the result of parsing the comment
+     */
+    private ParseStatus getSharedResult(DetailAST javadocComment,
+            JavadocDetailNodeParser parser) {
+        final String key = javadocComment.getLineNo() + KEY_SEPARATOR
+                + javadocComment.getColumnNo() + KEY_SEPARATOR
+                + JavadocUtil.getJavadocCommentContent(javadocComment);
+        ParseStatus result;
+        synchronized (sharedResults) {
+            result = sharedResults.get(key);
+        }
+        if (result == null) {
+            final ParseStatus parsed = parser.parseJavadocAsDetailNode(javadocComment);
+            synchronized (sharedResults) {
+                result = sharedResults.computeIfAbsent(key, ignored -> parsed);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Parse results of the file walked by a thread.
+     */
+    private final class FileResults {
+
+        /** Parses Javadoc comments as DetailNode trees. */
+        private final JavadocDetailNodeParser parser = PARSER.get();
+
+        /** Parse results of the file, by position of the comment. */
+        private final Map<LineColumn, ParseStatus> results = new HashMap<>();
+
+        /**
+         * Returns the result of parsing the comment, parsing it if it was not
+         * parsed before.
+         *
+         * @param javadocComment the block comment node of the Javadoc comment
+         * @return the result of parsing the comment
+         */
+        private ParseStatus getResult(DetailAST javadocComment) {
+            final LineColumn position =
+                    new LineColumn(javadocComment.getLineNo(), javadocComment.getColumnNo());
+            return results.computeIfAbsent(position, key -> {
+                final ParseStatus result;
+                if (sharedResults == null) {
+                    result = parser.parseJavadocAsDetailNode(javadocComment);
+                }
+                else {
+                    result = getSharedResult(javadocComment, parser);
+                }
+                return result;
+            });
+        }
+
+    }
+
+}
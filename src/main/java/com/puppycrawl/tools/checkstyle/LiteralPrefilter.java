@@ -0,0 +1,424 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2023 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import com.puppycrawl.tools.checkstyle.api.FileText;
+
+/**
+ * Prefilter shared by the regexp detectors of the modules of a {@link Checker}.
+ * Most patterns used by regexp checks can only match a line containing some literal,
+ * like the name of a banned method. Modules register the literals required by their
+ * patterns, and before a file is processed the Checker searches every line of it
+ * for all literals at once with a {@link MultiLiteralMatcher}. A detector runs its
+ * pattern only on lines containing its literal.
+ */
+public final class LiteralPrefilter {
+
+    /** Identifier of patterns without a required literal, matched on every line. */
+    public static final int NO_LITERAL = -1;
+
+    /** Flags of patterns for which a required literal is not looked for. */
+    private static final int UNSUPPORTED_FLAGS =
+            Pattern.CASE_INSENSITIVE | Pattern.COMMENTS | Pattern.CANON_EQ;
+
+    /** Registered literals, in the order of their identifiers. */
+    private final List<String> literals = new ArrayList<>();
+
+    /** Identifiers of registered literals. */
+    private final Map<String, Integer> literalIds = new HashMap<>();
+
+    /** Matcher of the registered literals, {@code null} if not created yet. */
+    private MultiLiteralMatcher matcher;
+
+    /** The text of the file being processed, {@code null} between files. */
+    private FileText currentText;
+
+    /** Literals found in each line of the file being processed, reused for every file. */
+    private BitSet[] lineLiterals = new BitSet[0];
+
+    /** Literals found in any line of the file being processed. */
+    private final BitSet fileLiterals = new BitSet();
+
+    /**
+     * Creates a new instance. The Checker creates a prefilter for its modules.
+     */
+    /* package */ LiteralPrefilter() {
+        // no code
+    }
+
+    /**
+     * Registers the literal required by the pattern to match.
+     *
+     * @param pattern the pattern, may be {@code null}.
+     * @return identifier of the literal, or {@link #NO_LITERAL} if no literal is
+     *     required by the pattern.
+     */
+    public int register(Pattern pattern) {
+        int literalId = NO_LITERAL;
+        if (pattern != null) {
+            final String literal = getRequiredLiteral(pattern);
+            if (literal != null) {
+                literalId = literalIds.computeIfAbsent(literal, key -> {
+                    literals.add(key);
+                    return literals.size() - 1;
+                });
+            }
+        }
+        return literalId;
+    }
+
+    /**
+     * Checks whether a line of the file contains the literal.
+     *
+     * @param fileText the text of the file.
+     * @param lineIndex the index of the line.
+     * @param literalId the identifier of the literal.
+     * @return false if the line does not contain the literal, so a pattern
+     *     requiring the literal can not match it.
+     */
+    public boolean mayMatchLine(FileText fileText, int lineIndex, int literalId) {
+        return !isSearched(fileText, literalId) || lineLiterals[lineIndex].get(literalId);
+    }
+
+    /**
+     * Checks whether the file contains the literal.
+     *
+     * @param fileText the text of the file.
+     * @param literalId the identifier of the literal.
+     * @return false if the file does not contain the literal, so a pattern
+     *     requiring the literal can not match it.
+     */
+    public boolean mayMatchFile(FileText fileText, int literalId) {
+        return !isSearched(fileText, literalId) || fileLiterals.get(literalId);
+    }
+
+    /**
+     * Searches all lines of the file for the registered literals. Called by the
+     * Checker before the file is processed by its modules.
+     *
+     * @param fileText the text of the file.
+     */
+    /* package */ void beginFile(FileText fileText) {
+        if (!literals.isEmpty()) {
+            if (matcher == null || matcher.getLiteralCount() != literals.size()) {
+                matcher = new MultiLiteralMatcher(literals);
+            }
+            currentText = fileText;
+            if (lineLiterals.length < fileText.size()) {
+                final int length = lineLiterals.length;
+                lineLiterals = Arrays.copyOf(lineLiterals, fileText.size());
+                for (int lineIndex = length; lineIndex < lineLiterals.length; lineIndex++) {
+                    lineLiterals[lineIndex] = new BitSet();
+                }
+            }
+            fileLiterals.clear();
+            for (int lineIndex = 0; lineIndex < fileText.size(); lineIndex++) {
+                final BitSet found = lineLiterals[lineIndex];
+                found.clear();
+                matcher.findLiterals(fileText.get(lineIndex), found);
+                fileLiterals.or(found);
+            }
+        }
+    }
+
+    /**
+     * Forgets the file. Called by the Checker after the file is processed by its
+     * modules. The sets of literals are kept to be reused for the next file.
+     */
+    /* package */ void finishFile() {
+        currentText = null;
+    }
+
+    /**
+     * Returns a literal which is contained in every match of the pattern.
+     * Only patterns without top level alternatives and without case insensitive
+     * matching are supported. The longest sequence of literal characters outside
+     * of groups is used.
+     *
+     * @param pattern the pattern.
+     * @return the required literal, or {@code null} if it is unknown.
+     */
+    /* package */ static String getRequiredLiteral(Pattern pattern) {
+        String literal = null;
+        if ((pattern.flags() & UNSUPPORTED_FLAGS) == 0) {
+            if ((pattern.flags() & Pattern.LITERAL) == 0) {
+                literal = new LiteralParser(pattern.pattern()).parse();
+            }
+            else {
+                literal = pattern.pattern();
+            }
+        }
+        if (literal != null && (literal.isEmpty()
+                || literal.indexOf('\n') != -1 || literal.indexOf('\r') != -1)) {
+            literal = null;
+        }
+        return literal;
+    }
+
+    /**
+     * Checks whether the literal was searched in the file. Literals are not searched
+     * when the text is not the one of the file being processed by the Checker, or
+     * when they are registered after the file processing started.
+     *
+     * @param fileText the text of the file.
+     * @param literalId the identifier of the literal.
+     * @return true if the lines containing the literal are known.
+     */
+    private boolean isSearched(FileText fileText, int literalId) {
+        return literalId != NO_LITERAL && fileText == currentText
+                && literalId < matcher.getLiteralCount();
+    }
+
+    /**
+     * Finds the longest sequence of literal characters which is required by
+     * every match of a regular expression. The expression is read by code points,
+     * so a quantifier after a supplementary character applies to the whole
+     * surrogate pair. Gives up on alternatives at the top level, on inline flags
+     * and on escapes which are not fully understood.
+     */
+    private static final class LiteralParser {
+
+        /** Escapes of a single character class or boundary. */
+        private static final String CHARACTER_ESCAPES = "dDsSwWbBAGZzRhHvVXtnrfae";
+
+        /** Characters which may follow {@code (?} without changing the flags. */
+        private static final String GROUP_CONSTRUCTS = ":=!<>";
+
+        /** The regular expression. */
+        private final String regex;
+
+        /** The literal sequence being read. */
+        private final StringBuilder current = new StringBuilder();
+
+        /** The longest literal sequence read. */
+        private String longest = "";
+
+        /** Index of the next character to read. */
+        private int index;
+
+        /** Number of characters of the code point appended last to the sequence. */
+        private int lastLength;
+
+        /** Depth of the groups the next character is in. */
+        private int depth;
+
+        /** Whether the regular expression is supported. */
+        private boolean supported = true;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param regex the regular expression.
+         */
+        private LiteralParser(String regex) {
+            this.regex = regex;
+        }
+
+        /**
+         * Parses the regular expression.
+         *
+         * @return the required literal, or {@code null} if it is unknown.
+         */
+        private String parse() {
+            while (supported && index < regex.length()) {
+                parseCodePoint(nextCodePoint());
+            }
+            endSequence();
+            String result = null;
+            if (supported && !longest.isEmpty()) {
+                result = longest;
+            }
+            return result;
+        }
+
+        /**
+         * Reads the next code point of the regular expression.
+         *
+         * @return the code point.
+         */
+        private int nextCodePoint() {
+            final int codePoint = regex.codePointAt(index);
+            index += Character.charCount(codePoint);
+            return codePoint;
+        }
+
+        /**
+         * Parses a code point of the regular expression.
+         *
+         * @param codePoint the code point.
+         */
+        private void parseCodePoint(int codePoint) {
+            switch (codePoint) {
+                case '\\':
+                    parseEscape();
+                    break;
+                case '[':
+                    skipCharacterClass();
+                    endSequence();
+                    break;
+                case '(':
+                    parseGroupStart();
+                    break;
+                case ')':
+                    depth--;
+                    endSequence();
+                    break;
+                case '|':
+                    supported = depth > 0;
+                    break;
+                case '{':
+                    skipRepetition();
+                    break;
+                case '*':
+                case '+':
+                case '?':
+                    endQuantifiedSequence();
+                    break;
+                case '.':
+                case '^':
+                case '$':
+                    endSequence();
+                    break;
+                default:
+                    appendLiteral(codePoint);
+                    break;
+            }
+        }
+
+        /** Parses an escape sequence, after the backslash. */
+        private void parseEscape() {
+            if (index < regex.length()) {
+                final int codePoint = nextCodePoint();
+                if (codePoint == 'Q') {
+                    parseQuotation();
+                }
+                else if (!Character.isLetterOrDigit(codePoint)) {
+                    appendLiteral(codePoint);
+                }
+                else if (CHARACTER_ESCAPES.indexOf(codePoint) != -1) {
+                    endSequence();
+                }
+                else {
+                    supported = false;
+                }
+            }
+        }
+
+        /** Parses a quotation, after the {@code \Q}. */
+        private void parseQuotation() {
+            int end = regex.indexOf("\\E", index);
+            if (end == -1) {
+                end = regex.length();
+            }
+            while (index < end) {
+                appendLiteral(nextCodePoint());
+            }
+            index = Math.min(end + 2, regex.length());
+        }
+
+        /** Skips a repetition quantifier, after the opening brace. */
+        private void skipRepetition() {
+            final int end = regex.indexOf('}', index);
+            if (end == -1) {
+                supported = false;
+            }
+            else {
+                index = end + 1;
+                endQuantifiedSequence();
+            }
+        }
+
+        /** Parses the start of a group, after the opening parenthesis. */
+        private void parseGroupStart() {
+            if (index + 1 < regex.length() && regex.charAt(index) == '?'
+                    && GROUP_CONSTRUCTS.indexOf(regex.charAt(index + 1)) == -1) {
+                supported = false;
+            }
+            depth++;
+            endSequence();
+        }
+
+        /** Skips a character class, after the opening bracket. */
+        private void skipCharacterClass() {
+            int classDepth = 1;
+            if (index < regex.length() && regex.charAt(index) == '^') {
+                index++;
+            }
+            if (index < regex.length() && regex.charAt(index) == ']') {
+                index++;
+            }
+            while (classDepth > 0 && index < regex.length()) {
+                final char chr = regex.charAt(index);
+                index++;
+                if (chr == '\\') {
+                    index++;
+                }
+                else if (chr == '[') {
+                    classDepth++;
+                }
+                else if (chr == ']') {
+                    classDepth--;
+                }
+            }
+        }
+
+        /**
+         * Appends a literal code point to the current sequence, if it is outside
+         * of groups.
+         *
+         * @param codePoint the code point.
+         */
+        private void appendLiteral(int codePoint) {
+            if (depth == 0) {
+                current.appendCodePoint(codePoint);
+                lastLength = Character.charCount(codePoint);
+            }
+        }
+
+        /**
+         * Ends the current sequence after a quantifier, which makes the last
+         * code point of the sequence optional or repeated.
+         */
+        private void endQuantifiedSequence() {
+            if (depth == 0 && current.length() > 0) {
+                current.setLength(current.length() - lastLength);
+            }
+            endSequence();
+        }
+
+        /** Ends the current sequence, keeping it if it is the longest one. */
+        private void endSequence() {
+            if (depth == 0 && current.length() > longest.length()) {
+                longest = current.toString();
+            }
+            current.setLength(0);
+        }
+
+    }
+
+}
@@ -0,0 +1,41 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2023 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+/**
+ * The following interface should be implemented by each {@link Checker} module
+ * which searches files with regular expressions requiring literals. The Checker
+ * passes the {@link LiteralPrefilter} shared by all its modules, and searches the
+ * lines of each file for the registered literals once before the file is processed.
+ * {@link TreeWalker} passes the prefilter on to its checks implementing the interface.
+ */
+@FunctionalInterface
+public interface LiteralPrefilterUser {
+
+    /**
+     * Called by the Checker when the module is added to it, before processing starts.
+     * Literals are registered in the prefilter when the patterns of the module are
+     * created.
+     *
+     * @param literalPrefilter the prefilter of the Checker.
+     */
+    void useLiteralPrefilter(LiteralPrefilter literalPrefilter);
+
+}
@@ -23,6 +23,9 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -88,6 +91,9 @@ public final class Main {
     /** Exit code returned when execution finishes with {@link CheckstyleException}. */
     private static final int EXIT_WITH_CHECKSTYLE_EXCEPTION_CODE = -2;
 
+    /** Extension of files queried by xpath when several files are given. */
+    private static final String JAVA_FILE_EXTENSION = ".java";
+
     /**
      * Client code should not create instances of this class, but use
      * {@link #main(String[])} method instead.
@@ -287,30 +293,29 @@ public final class Main {
         // create config helper object
         if (options.printAst) {
             // print AST
-            final File file = filesToProcess.get(0);
-            final String stringAst = AstTreeStringPrinter.printFileAst(file,
-                    JavaParser.Options.WITHOUT_COMMENTS);
-            System.out.print(stringAst);
+            final PrintWriter out = createStandardOutputWriter();
+            AstTreeStringPrinter.printFileAst(filesToProcess.get(0),
+                    JavaParser.Options.WITHOUT_COMMENTS, out);
+            out.flush();
         }
         else if (Objects.nonNull(options.xpath)) {
-            final String branch = XpathUtil.printXpathBranch(options.xpath, filesToProcess.get(0));
-            System.out.print(branch);
+            printXpathBranches(options.xpath, filesToProcess);
         }
         else if (options.printAstWithComments) {
-            final File file = filesToProcess.get(0);
-            final String stringAst = AstTreeStringPrinter.printFileAst(file,
-                    JavaParser.Options.WITH_COMMENTS);
-            System.out.print(stringAst);
+            final PrintWriter out = createStandardOutputWriter();
+            AstTreeStringPrinter.printFileAst(filesToProcess.get(0),
+                    JavaParser.Options.WITH_COMMENTS, out);
+            out.flush();
         }
         else if (options.printJavadocTree) {
-            final File file = filesToProcess.get(0);
-            final String stringAst = DetailNodeTreeStringPrinter.printFileAst(file);
-            System.out.print(stringAst);
+            final PrintWriter out = createStandardOutputWriter();
+            DetailNodeTreeStringPrinter.printFileAst(filesToProcess.get(0), out);
+            out.flush();
         }
         else if (options.printTreeWithJavadoc) {
-            final File file = filesToProcess.get(0);
-            final String stringAst = AstTreeStringPrinter.printJavaAndJavadocTree(file);
-            System.out.print(stringAst);
+            final PrintWriter out = createStandardOutputWriter();
+            AstTreeStringPrinter.printJavaAndJavadocTree(filesToProcess.get(0), out);
+            out.flush();
         }
         else if (hasSuppressionLineColumnNumber) {
             final File file = filesToProcess.get(0);
@@ -410,6 +415,9 @@ public final class Main {
             rootModule.setModuleClassLoader(moduleClassLoader);
             rootModule.configure(config);
             rootModule.addListener(listener);
+            if (options.profileFormat != null && rootModule instanceof Checker) {
+                ((Checker) rootModule).setProfiler(createProfiler(options.profileFormat));
+            }
 
             // run RootModule
             errorCounter = rootModule.process(filesToProcess);
@@ -502,6 +510,63 @@ public final class Main {
         return format.createListener(out, closeOutputStreamOption);
     }
 
+    /**
+     * Creates a profiler which writes its report to System.err, so that it does not
+     * interfere with the audit output.
+     *
+     * @param format format of the report
+     * @return a fresh new {@code AuditProfiler}
+     * @noinspection UseOfSystemOutOrSystemErr
+     * @noinspectionreason UseOfSystemOutOrSystemErr - driver class for Checkstyle requires
+     *      usage of System.out and System.err
+     */
+    private static AuditProfiler createProfiler(AuditProfiler.ReportFormat format) {
+        return new AuditProfiler(System.err, AutomaticBean.OutputStreamOptions.NONE, format);
+    }
+
+    /**
+     * Prints the branches of the xpath query matches. A single file is printed as is,
+     * several files are parsed in parallel and only the Java files among them are printed.
+     *
+     * @param xpath the xpath query
+     * @param filesToProcess the list of files to print the branches of
+     * @throws IOException if a file could not be read.
+     * @throws CheckstyleException if a file could not be parsed or the query is invalid.
+     * @noinspection UseOfSystemOutOrSystemErr
+     * @noinspectionreason UseOfSystemOutOrSystemErr - driver class for Checkstyle requires
+     *      usage of System.out and System.err
+     */
+    private static void printXpathBranches(String xpath, List<File> filesToProcess)
+            throws IOException, CheckstyleException {
+        if (filesToProcess.size() == 1) {
+            final String branch = XpathUtil.printXpathBranch(xpath, filesToProcess.get(0));
+            System.out.print(branch);
+        }
+        else {
+            final List<File> javaFiles = filesToProcess.stream()
+                    .filter(file -> CommonUtil.matchesFileExtension(file, JAVA_FILE_EXTENSION))
+                    .collect(Collectors.toList());
+            final PrintWriter out = createStandardOutputWriter();
+            XpathUtil.printXpathBranches(xpath, javaFiles,
+                    Runtime.getRuntime().availableProcessors(), out);
+            out.flush();
+        }
+    }
+
+    /**
+     * Create a writer to System.out for printing trees node by node.
+     * The writer uses the charset of the platform as System.out does, and
+     * it is only flushed by the caller as System.out must stay open.
+     *
+     * @return writer to System.out
+     * @noinspection UseOfSystemOutOrSystemErr
+     * @noinspectionreason UseOfSystemOutOrSystemErr - driver class for Checkstyle requires
+     *      usage of System.out and System.err
+     */
+    private static PrintWriter createStandardOutputWriter() {
+        return new PrintWriter(new OutputStreamWriter(System.out, Charset.defaultCharset()));
+    }
+
     /**
      * Create output stream or return System.out
      *
@@ -553,7 +618,9 @@ public final class Main {
         /** SARIF output format. */
         SARIF,
         /** Plain output format. */
-        PLAIN;
+        PLAIN,
+        /** Binary output format. */
+        BINARY;
 
         /**
          * Returns a new AuditListener for this OutputFormat.
@@ -573,6 +640,9 @@ public final class Main {
             else if (this == SARIF) {
                 result = new SarifLogger(out, options);
             }
+            else if (this == BINARY) {
+                result = new BinaryLogger(out, options);
+            }
             else {
                 result = new DefaultLogger(out, options);
             }
@@ -718,7 +788,8 @@ public final class Main {
         @Option(names = "-f",
                 description = "Specifies the output format. Valid values: "
                 + "${COMPLETION-CANDIDATES} for XMLLogger, SarifLogger, "
-                + "and DefaultLogger respectively. Defaults to ${DEFAULT-VALUE}.")
+                + "DefaultLogger and BinaryLogger respectively. "
+                + "Defaults to ${DEFAULT-VALUE}.")
         private OutputFormat format = DEFAULT_OUTPUT_FORMAT;
 
         /** Option that controls whether to print the AST of the file. */
@@ -789,9 +860,18 @@ public final class Main {
                 description = "Allows ignored modules to be run.")
         private boolean executeIgnoredModules;
 
+        /** Format of the profiling report, {@code null} if profiling is disabled. */
+        @Option(names = {"-P", "--profile"},
+                description = "Measures time and memory spent in every check, filter and "
+                        + "listener and prints a report sorted by time to stderr at the end "
+                        + "of the audit. Valid values: ${COMPLETION-CANDIDATES}.")
+        private AuditProfiler.ReportFormat profileFormat;
+
         /** Show AST branches that match xpath. */
         @Option(names = {"-b", "--branch-matching-xpath"},
-            description = "Shows Abstract Syntax Tree(AST) branches that match given XPath query.")
+            description = "Shows Abstract Syntax Tree(AST) branches that match given XPath query. "
+                    + "Java files of several files or directories are queried in parallel "
+                    + "and every branch is preceded by the path of its file.")
         private String xpath;
 
         /**
@@ -833,7 +913,7 @@ public final class Main {
                         || parseResult.hasMatchedOption(OUTPUT_FORMAT_OPTION)) {
                     result.add("Option '-t' cannot be used with other options.");
                 }
-                else if (filesToProcess.size() > 1) {
+                else if (filesToProcess.size() > 1 && xpath == null) {
                     result.add("Printing AST is allowed for only one file.");
                 }
             }
@@ -0,0 +1,158 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2023 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Finds all occurrences of a set of literals in a text in a single pass,
+ * using the Aho-Corasick automaton.
+ */
+final class MultiLiteralMatcher {
+
+    /** Transitions of each state of the automaton, by character. */
+    private final List<Map<Character, Integer>> transitions = new ArrayList<>();
+
+    /** Identifiers of literals found when each state is reached. */
+    private final List<BitSet> outputs = new ArrayList<>();
+
+    /** Failure transition of each state. */
+    private final int[] failures;
+
+    /** Number of literals of the automaton. */
+    private final int literalCount;
+
+    /**
+     * Creates an automaton for the given literals. Identifier of a literal is
+     * its index in the list.
+     *
+     * @param literals non-empty literals to find.
+     */
+    /* package */ MultiLiteralMatcher(List<String> literals) {
+        literalCount = literals.size();
+        addState();
+        for (int literalId = 0; literalId < literalCount; literalId++) {
+            addLiteral(literals.get(literalId), literalId);
+        }
+        failures = new int[transitions.size()];
+        computeFailures();
+    }
+
+    /**
+     * Returns the number of literals of the automaton.
+     *
+     * @return the number of literals.
+     */
+    public int getLiteralCount() {
+        return literalCount;
+    }
+
+    /**
+     * Finds the literals contained in the text.
+     *
+     * @param text the text to search.
+     * @param found the set to add the identifiers of the literals found to.
+     */
+    public void findLiterals(String text, BitSet found) {
+        int state = 0;
+        for (int index = 0; index < text.length(); index++) {
+            state = nextState(state, text.charAt(index));
+            found.or(outputs.get(state));
+        }
+    }
+
+    /**
+     * Adds a new state without transitions.
+     *
+     * @return the new state.
+     */
+    private int addState() {
+        transitions.add(new HashMap<>());
+        outputs.add(new BitSet());
+        return transitions.size() - 1;
+    }
+
+    /**
+     * Adds a literal to the trie of the automaton.
+     *
+     * @param literal the literal.
+     * @param literalId the identifier of the literal.
+     */
+    private void addLiteral(String literal, int literalId) {
+        int state = 0;
+        for (int index = 0; index < literal.length(); index++) {
+            final Character chr = literal.charAt(index);
+            Integer next = transitions.get(state).get(chr);
+            if (next == null) {
+                next = addState();
+                transitions.get(state).put(chr, next);
+            }
+            state = next;
+        }
+        outputs.get(state).set(literalId);
+    }
+
+    /**
+     * Computes the failure transitions in breadth-first order of the trie and
+     * merges the literals found by the failure state into each state.
+     */
+    private void computeFailures() {
+        final Queue<Integer> queue = new ArrayDeque<>(transitions.get(0).values());
+        while (!queue.isEmpty()) {
+            final int state = queue.remove();
+            for (Map.Entry<Character, Integer> transition : transitions.get(state).entrySet()) {
+                final int child = transition.getValue();
+                if (state != 0) {
+                    failures[child] = nextState(failures[state], transition.getKey());
+                }
+                outputs.get(child).or(outputs.get(failures[child]));
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * Returns the state the automaton moves to on a character.
+     *
+     * @param state the current state.
+     * @param chr the character.
+     * @return the next state.
+     */
+    private int nextState(int state, char chr) {
+        int current = state;
+        Integer next = transitions.get(current).get(chr);
+        while (next == null && current != 0) {
+            current = failures[current];
+            next = transitions.get(current).get(chr);
+        }
+        int result = 0;
+        if (next != null) {
+            result = next;
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,111 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2023 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import com.puppycrawl.tools.checkstyle.utils.CommonUtil;
+
+/**
+ * A line of a file scanned by {@link ScannedLines}. Values derived from the text
+ * of the line, like its length with expanded tabs, are computed on the first
+ * request and shared by all modules processing the line.
+ */
+public final class ScannedLine {
+
+    /** Value of the computed fields before they are computed. */
+    private static final int UNKNOWN = -2;
+
+    /** The line number, starting from 1. */
+    private final int lineNo;
+
+    /** The text of the line without the line terminator. */
+    private final String text;
+
+    /** Index of the first tab character, -1 if there is none. */
+    private int tabIndex = UNKNOWN;
+
+    /** The tab width {@link #expandedLength} was computed with. */
+    private int expandedTabWidth = UNKNOWN;
+
+    /** The length of the line with expanded tabs. */
+    private int expandedLength;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param lineNo the line number, starting from 1
+     * @param text the text of the line without the line terminator
+     */
+    /* package */ ScannedLine(int lineNo, String text) {
+        this.lineNo = lineNo;
+        this.text = text;
+    }
+
+    /**
+     * Returns the line number.
+     *
+     * @return the line number, starting from 1
+     */
+    public int getLineNo() {
+        return lineNo;
+    }
+
+    /**
+     * Returns the text of the line.
+     *
+     * @return the text of the line without the line terminator
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Returns the index of the first tab character of the line.
+     *
+     * @return index of the first tab character, -1 if the line does not contain one
+     */
+    public int getTabIndex() {
+        if (tabIndex == UNKNOWN) {
+            tabIndex = text.indexOf('\t');
+        }
+        return tabIndex;
+    }
+
+    /**
+     * Returns the length of the line in code points, with each tab expanded to
+     * the next tab stop. The length is computed once for a tab width.
+     *
+     * @param tabWidth the distance between tab stops
+     * @return the length of the line with expanded tabs
+     */
+    public int getExpandedLength(int tabWidth) {
+        if (expandedTabWidth != tabWidth) {
+            final int codePoints = text.codePointCount(0, text.length());
+            if (getTabIndex() == -1) {
+                expandedLength = codePoints;
+            }
+            else {
+                expandedLength = CommonUtil.lengthExpandedTabs(text, codePoints, tabWidth);
+            }
+            expandedTabWidth = tabWidth;
+        }
+        return expandedLength;
+    }
+
+}
@@ -0,0 +1,101 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2023 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import com.puppycrawl.tools.checkstyle.api.FileText;
+
+/**
+ * Lines of the file processed by a {@link Checker}. The Checker activates the
+ * lines of a file for the current thread while its modules process the file, so
+ * values derived from a line, like its tab positions, are computed once however
+ * many modules look at the line. Modules still iterate over the lines on their own,
+ * in the order the Checker calls them.
+ */
+public final class ScannedLines {
+
+    /** Lines of the file processed by the current thread. */
+    private static final ThreadLocal<ScannedLines> CURRENT = new ThreadLocal<>();
+
+    /** The text of the file. */
+    private final FileText fileText;
+
+    /** Lines of the file, {@code null} until a module requests them. */
+    private final ScannedLine[] lines;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param fileText the text of the file
+     */
+    private ScannedLines(FileText fileText) {
+        this.fileText = fileText;
+        lines = new ScannedLine[fileText.size()];
+    }
+
+    /**
+     * Returns a line of the file. The line is shared with the other modules
+     * if the file is the one processed by the Checker on the current thread.
+     *
+     * @param fileText the text of the file
+     * @param lineIndex the index of the line, starting from 0
+     * @return the line
+     */
+    public static ScannedLine get(FileText fileText, int lineIndex) {
+        final ScannedLines current = CURRENT.get();
+        final ScannedLine result;
+        if (current == null || current.fileText != fileText) {
+            result = new ScannedLine(lineIndex + 1, fileText.get(lineIndex));
+        }
+        else {
+            result = current.getLine(lineIndex);
+        }
+        return result;
+    }
+
+    /**
+     * Activates the lines of a file processed by the current thread.
+     *
+     * @param fileText the text of the file
+     */
+    /* package */ static void beginFile(FileText fileText) {
+        CURRENT.set(new ScannedLines(fileText));
+    }
+
+    /**
+     * Drops the lines after the file was processed by the current thread.
+     */
+    /* package */ static void finishFile() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Returns a line of the file, scanning it on the first request.
+     *
+     * @param lineIndex the index of the line, starting from 0
+     * @return the line
+     */
+    private ScannedLine getLine(int lineIndex) {
+        if (lines[lineIndex] == null) {
+            lines[lineIndex] = new ScannedLine(lineIndex + 1, fileText.get(lineIndex));
+        }
+        return lines[lineIndex];
+    }
+
+}
@@ -52,7 +52,8 @@ import com.puppycrawl.tools.checkstyle.utils.TokenUtil;
  *
  */
 @FileStatefulCheck
-public final class TreeWalker extends AbstractFileSetCheck implements ExternalResourceHolder {
+public final class TreeWalker extends AbstractFileSetCheck
+    implements ExternalResourceHolder, LiteralPrefilterUser {
 
     /** Maps from token name to ordinary checks. */
     private final Map<Integer, Set<AbstractCheck>> tokenToOrdinaryChecks =
@@ -80,6 +81,18 @@ public final class TreeWalker extends AbstractFileSetCheck implements ExternalRe
     /** A factory for creating submodules (i.e. the Checks) */
     private ModuleFactory moduleFactory;
 
+    /** Profiler of parsing, checks and filters, {@code null} if profiling is disabled. */
+    private AuditProfiler profiler;
+
+    /** Maximum number of parsed Javadoc comments to keep across files. */
+    private int javadocCacheSize;
+
+    /** Parses the Javadoc comments of the walked file for all Javadoc checks. */
+    private JavadocParseCache javadocParseCache;
+
+    /** The prefilter of the Checker, {@code null} if the tree walker is not added to one. */
+    private LiteralPrefilter literalPrefilter;
+
     /**
      * Creates a new {@code TreeWalker} instance.
      */
@@ -96,12 +109,58 @@ public final class TreeWalker extends AbstractFileSetCheck implements ExternalRe
         this.moduleFactory = moduleFactory;
     }
 
+    /**
+     * Sets the profiler to measure parsing, checks and filters with.
+     *
+     * @param profiler the profiler or {@code null} to disable profiling
+     */
+    /* package */ void setProfiler(AuditProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    /**
+     * Setter to specify the maximum number of parsed Javadoc comments to keep
+     * across files. Comments repeated in many files, like license headers, are
+     * then parsed only once. Zero disables keeping parsed comments across files.
+     *
+     * @param javadocCacheSize the maximum number of parsed comments to keep
+     */
+    public void setJavadocCacheSize(int javadocCacheSize) {
+        this.javadocCacheSize = javadocCacheSize;
+    }
+
+    /**
+     * Passes the prefilter of the Checker to the checks searching files with
+     * regular expressions.
+     *
+     * @param prefilter the prefilter of the Checker
+     */
+    @Override
+    public void useLiteralPrefilter(LiteralPrefilter prefilter) {
+        literalPrefilter = prefilter;
+        Stream.concat(ordinaryChecks.stream(), commentChecks.stream())
+            .forEach(this::passLiteralPrefilter);
+    }
+
+    /**
+     * Passes the prefilter of the Checker to the check if it uses one and
+     * the tree walker is added to a Checker.
+     *
+     * @param check the check
+     */
+    private void passLiteralPrefilter(AbstractCheck check) {
+        if (literalPrefilter != null && check instanceof LiteralPrefilterUser) {
+            ((LiteralPrefilterUser) check).useLiteralPrefilter(literalPrefilter);
+        }
+    }
+
     @Override
     public void finishLocalSetup() {
         final DefaultContext checkContext = new DefaultContext();
         checkContext.add("severity", getSeverity());
         checkContext.add("tabWidth", String.valueOf(getTabWidth()));
         childContext = checkContext;
+        javadocParseCache = new JavadocParseCache(javadocCacheSize);
     }
 
     /**
@@ -132,6 +191,7 @@ public final class TreeWalker extends AbstractFileSetCheck implements ExternalRe
             final AbstractCheck check = (AbstractCheck) module;
             check.init();
             registerCheck(check);
+            passLiteralPrefilter(check);
         }
         else if (module instanceof TreeWalkerFilter) {
             final TreeWalkerFilter filter = (TreeWalkerFilter) module;
@@ -150,26 +210,86 @@ public final class TreeWalker extends AbstractFileSetCheck implements ExternalRe
         // check if already checked and passed the file
         if (!ordinaryChecks.isEmpty() || !commentChecks.isEmpty()) {
             final FileContents contents = getFileContents();
-            final DetailAST rootAST = JavaParser.parse(contents);
+            final DetailAST rootAST = parse(contents, file);
             if (!ordinaryChecks.isEmpty()) {
                 walk(rootAST, contents, AstState.ORDINARY);
             }
             if (!commentChecks.isEmpty()) {
-                final DetailAST astWithComments = JavaParser.appendHiddenCommentNodes(rootAST);
-                walk(astWithComments, contents, AstState.WITH_COMMENTS);
+                final DetailAST astWithComments = appendHiddenCommentNodes(rootAST, file);
+                javadocParseCache.beginFile();
+                XpathTreeCache.beginPass();
+                try {
+                    walk(astWithComments, contents, AstState.WITH_COMMENTS);
+                }
+                finally {
+                    XpathTreeCache.finishPass();
+                    javadocParseCache.finishFile();
+                }
             }
             if (filters.isEmpty()) {
                 addViolations(violations);
             }
             else {
-                final SortedSet<Violation> filteredViolations =
-                    getFilteredViolations(file.getAbsolutePath(), contents, rootAST);
+                final SortedSet<Violation> filteredViolations;
+                XpathTreeCache.beginPass();
+                try {
+                    filteredViolations =
+                        getFilteredViolations(file.getAbsolutePath(), contents, rootAST);
+                }
+                finally {
+                    XpathTreeCache.finishPass();
+                }
                 addViolations(filteredViolations);
             }
             violations.clear();
         }
     }
 
+    /**
+     * Parses the file contents, measuring the time spent if profiling is enabled.
+     *
+     * @param contents the contents of the file
+     * @param file the file being parsed
+     * @return the root of the AST
+     * @throws CheckstyleException if the file can not be parsed
+     */
+    private DetailAST parse(FileContents contents, File file) throws CheckstyleException {
+        final DetailAST result;
+        if (profiler == null) {
+            result = JavaParser.parse(contents);
+        }
+        else {
+            final long startTime = profiler.getTime();
+            final long startAllocatedBytes = profiler.getAllocatedBytes();
+            result = JavaParser.parse(contents);
+            profiler.finish(AuditProfiler.PARSE, file.getPath(), startTime,
+                    startAllocatedBytes);
+        }
+        return result;
+    }
+
+    /**
+     * Adds comment nodes to the AST, measuring the time spent if profiling is enabled.
+     *
+     * @param rootAST the root of the AST
+     * @param file the file being parsed
+     * @return the root of the AST with comment nodes
+     */
+    private DetailAST appendHiddenCommentNodes(DetailAST rootAST, File file) {
+        final DetailAST result;
+        if (profiler == null) {
+            result = JavaParser.appendHiddenCommentNodes(rootAST);
+        }
+        else {
+            final long startTime = profiler.getTime();
+            final long startAllocatedBytes = profiler.getAllocatedBytes();
+            result = JavaParser.appendHiddenCommentNodes(rootAST);
+            profiler.finish(AuditProfiler.PARSE, file.getPath(), startTime,
+                    startAllocatedBytes);
+        }
+        return result;
+    }
+
     /**
      * Returns filtered set of {@link Violation}.
      *
@@ -185,7 +305,7 @@ public final class TreeWalker extends AbstractFileSetCheck implements ExternalRe
             final TreeWalkerAuditEvent event =
                     new TreeWalkerAuditEvent(fileContents, fileName, element, rootAST);
             for (TreeWalkerFilter filter : filters) {
-                if (!filter.accept(event)) {
+                if (!isAccepted(filter, event)) {
                     result.remove(element);
                     break;
                 }
@@ -194,6 +314,28 @@ public final class TreeWalker extends AbstractFileSetCheck implements ExternalRe
         return result;
     }
 
+    /**
+     * Checks whether the filter accepts the event, measuring the time spent
+     * if profiling is enabled.
+     *
+     * @param filter the filter
+     * @param event the event to filter
+     * @return {@code true} if the event is accepted
+     */
+    private boolean isAccepted(TreeWalkerFilter filter, TreeWalkerAuditEvent event) {
+        final boolean result;
+        if (profiler == null) {
+            result = filter.accept(event);
+        }
+        else {
+            final long startTime = profiler.getTime();
+            final long startAllocatedBytes = profiler.getAllocatedBytes();
+            result = filter.accept(event);
+            profiler.finish(AuditProfiler.FILTER, filter, startTime, startAllocatedBytes);
+        }
+        return result;
+    }
+
     /**
      * Register a check for a given configuration.
      *
@@ -296,7 +438,12 @@ public final class TreeWalker extends AbstractFileSetCheck implements ExternalRe
         for (AbstractCheck check : checks) {
             check.setFileContents(contents);
             check.clearViolations();
-            check.beginTree(rootAST);
+            if (profiler == null) {
+                check.beginTree(rootAST);
+            }
+            else {
+                profiler.measure(AuditProfiler.CHECK, check, () -> check.beginTree(rootAST));
+            }
         }
     }
 
@@ -317,7 +464,12 @@ public final class TreeWalker extends AbstractFileSetCheck implements ExternalRe
         }
 
         for (AbstractCheck check : checks) {
-            check.finishTree(rootAST);
+            if (profiler == null) {
+                check.finishTree(rootAST);
+            }
+            else {
+                profiler.measure(AuditProfiler.CHECK, check, () -> check.finishTree(rootAST));
+            }
             violations.addAll(check.getViolations());
         }
     }
@@ -333,7 +485,12 @@ public final class TreeWalker extends AbstractFileSetCheck implements ExternalRe
 
         if (visitors != null) {
             for (AbstractCheck check : visitors) {
-                check.visitToken(ast);
+                if (profiler == null) {
+                    check.visitToken(ast);
+                }
+                else {
+                    profiler.measure(AuditProfiler.CHECK, check, () -> check.visitToken(ast));
+                }
             }
         }
     }
@@ -350,7 +507,12 @@ public final class TreeWalker extends AbstractFileSetCheck implements ExternalRe
 
         if (visitors != null) {
             for (AbstractCheck check : visitors) {
-                check.leaveToken(ast);
+                if (profiler == null) {
+                    check.leaveToken(ast);
+                }
+                else {
+                    profiler.measure(AuditProfiler.CHECK, check, () -> check.leaveToken(ast));
+                }
             }
         }
     }
@@ -19,14 +19,17 @@
 
 package com.puppycrawl.tools.checkstyle;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
+import java.io.Reader;
 import java.io.StringWriter;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -41,6 +44,13 @@ import com.puppycrawl.tools.checkstyle.utils.CommonUtil;
  * It outputs everything in UTF-8 (default XML encoding is UTF-8) in case
  * we want to localize error messages or simply that file names are
  * localized and takes care about escaping as well.
+ *
+ * <p>
+ * The section of a file is rendered into a buffer of its own while the file is
+ * processed, so only copying finished sections to the output is serialized
+ * between threads. Buffers growing over the spill threshold are moved to a
+ * temporary file, keeping memory bounded for files with huge violation counts.
+ * </p>
  */
 // -@cs[AbbreviationAsWordInName] We can not change it as,
 // check's name is part of API (used in configurations).
@@ -54,6 +64,12 @@ public class XMLLogger
     /** Hex radix. */
     private static final int BASE_16 = 16;
 
+    /** Default number of buffered characters of a file section before it spills. */
+    private static final int DEFAULT_SPILL_THRESHOLD = 8 * 1024 * 1024;
+
+    /** The line separator of the output. */
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
     /** Some known entities to detect. */
     private static final String[] ENTITIES = {"gt", "amp", "lt", "apos",
                                               "quot", };
@@ -64,8 +80,8 @@ public class XMLLogger
     /** The writer lock object. */
     private final Object writerLock = new Object();
 
-    /** Holds all messages for the given file. */
-    private final Map<String, FileMessages> fileMessages =
+    /** Sections of the files being processed, by file name. */
+    private final Map<String, FileSection> fileSections =
             new ConcurrentHashMap<>();
 
     /**
@@ -73,6 +89,9 @@ public class XMLLogger
      */
     private final PrintWriter writer;
 
+    /** Number of buffered characters of a file section before it spills to disk. */
+    private int spillThreshold = DEFAULT_SPILL_THRESHOLD;
+
     /**
      * Creates a new {@code XMLLogger} instance.
      * Sets the output to a defined stream.
@@ -82,13 +101,24 @@ public class XMLLogger
      * @throws IllegalArgumentException if outputStreamOptions is null.
      */
     public XMLLogger(OutputStream outputStream, OutputStreamOptions outputStreamOptions) {
-        writer = new PrintWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer = new PrintWriter(new BufferedWriter(
+                new OutputStreamWriter(outputStream, StandardCharsets.UTF_8)));
         if (outputStreamOptions == null) {
             throw new IllegalArgumentException("Parameter outputStreamOptions can not be null");
         }
         closeStream = outputStreamOptions == OutputStreamOptions.CLOSE;
     }
 
+    /**
+     * Setter to specify the number of characters buffered for the section of a
+     * file before the section is moved to a temporary file.
+     *
+     * @param spillThreshold the number of characters.
+     */
+    public void setSpillThreshold(int spillThreshold) {
+        this.spillThreshold = spillThreshold;
+    }
+
     @Override
     protected void finishLocalSetup() {
         // No code by default
@@ -105,6 +135,10 @@ public class XMLLogger
 
     @Override
     public void auditFinished(AuditEvent event) {
+        for (FileSection section : fileSections.values()) {
+            section.discard();
+        }
+        fileSections.clear();
         writer.println("</checkstyle>");
         if (closeStream) {
             writer.close();
@@ -116,128 +150,121 @@ public class XMLLogger
 
     @Override
     public void fileStarted(AuditEvent event) {
-        fileMessages.put(event.getFileName(), new FileMessages());
+        final FileSection previous =
+                fileSections.put(event.getFileName(), new FileSection(spillThreshold));
+        if (previous != null) {
+            previous.discard();
+        }
     }
 
     @Override
     public void fileFinished(AuditEvent event) {
         final String fileName = event.getFileName();
-        final FileMessages messages = fileMessages.get(fileName);
+        final FileSection section = fileSections.remove(fileName);
+        final StringBuilder openingTag = new StringBuilder("<file name=\"");
+        encode(fileName, openingTag);
+        openingTag.append("\">").append(LINE_SEPARATOR);
 
         synchronized (writerLock) {
-            writeFileMessages(fileName, messages);
-        }
-
-        fileMessages.remove(fileName);
-    }
-
-    /**
-     * Prints the file section with all file errors and exceptions.
-     *
-     * @param fileName The file name, as should be printed in the opening file tag.
-     * @param messages The file messages.
-     */
-    private void writeFileMessages(String fileName, FileMessages messages) {
-        writeFileOpeningTag(fileName);
-        if (messages != null) {
-            for (AuditEvent errorEvent : messages.getErrors()) {
-                writeFileError(errorEvent);
-            }
-            for (Throwable exception : messages.getExceptions()) {
-                writeException(exception);
+            writer.append(openingTag);
+            if (section != null) {
+                section.writeTo(writer);
             }
+            writer.append("</file>").append(LINE_SEPARATOR);
         }
-        writeFileClosingTag();
-    }
-
-    /**
-     * Prints the "file" opening tag with the given filename.
-     *
-     * @param fileName The filename to output.
-     */
-    private void writeFileOpeningTag(String fileName) {
-        writer.println("<file name=\"" + encode(fileName) + "\">");
-    }
-
-    /**
-     * Prints the "file" closing tag.
-     */
-    private void writeFileClosingTag() {
-        writer.println("</file>");
     }
 
     @Override
     public void addError(AuditEvent event) {
         if (event.getSeverityLevel() != SeverityLevel.IGNORE) {
             final String fileName = event.getFileName();
-            if (fileName == null || !fileMessages.containsKey(fileName)) {
+            final FileSection section = getFileSection(fileName);
+            if (section == null) {
+                final StringBuilder error = new StringBuilder(128);
+                writeFileError(event, error);
                 synchronized (writerLock) {
-                    writeFileError(event);
+                    writer.append(error);
                 }
             }
             else {
-                final FileMessages messages = fileMessages.get(fileName);
-                messages.addError(event);
+                section.addError(event);
             }
         }
     }
 
+    @Override
+    public void addException(AuditEvent event, Throwable throwable) {
+        final String fileName = event.getFileName();
+        final FileSection section = getFileSection(fileName);
+        if (section == null) {
+            final StringBuilder exception = new StringBuilder(256);
+            writeException(throwable, exception);
+            synchronized (writerLock) {
+                writer.append(exception);
+            }
+        }
+        else {
+            section.addException(throwable);
+        }
+    }
+
     /**
-     * Outputs the given event to the writer.
+     * Returns the section of the file being processed.
+     *
+     * @param fileName the file name, may be {@code null}.
+     * @return the section or {@code null} if the file is not being processed.
+     */
+    private FileSection getFileSection(String fileName) {
+        FileSection section = null;
+        if (fileName != null) {
+            section = fileSections.get(fileName);
+        }
+        return section;
+    }
+
+    /**
+     * Renders the given event as an error element.
      *
      * @param event An event to print.
+     * @param out the buffer to render into.
      */
-    private void writeFileError(AuditEvent event) {
-        writer.print("<error" + " line=\"" + event.getLine() + "\"");
+    private static void writeFileError(AuditEvent event, StringBuilder out) {
+        out.append("<error line=\"").append(event.getLine()).append('"');
         if (event.getColumn() > 0) {
-            writer.print(" column=\"" + event.getColumn() + "\"");
+            out.append(" column=\"").append(event.getColumn()).append('"');
         }
-        writer.print(" severity=\""
-                + event.getSeverityLevel().getName()
-                + "\"");
-        writer.print(" message=\""
-                + encode(event.getMessage())
-                + "\"");
-        writer.print(" source=\"");
+        out.append(" severity=\"")
+            .append(event.getSeverityLevel().getName())
+            .append("\" message=\"");
+        encode(event.getMessage(), out);
+        out.append("\" source=\"");
         if (event.getModuleId() == null) {
-            writer.print(encode(event.getSourceName()));
+            encode(event.getSourceName(), out);
         }
         else {
-            writer.print(encode(event.getModuleId()));
-        }
-        writer.println("\"/>");
-    }
-
-    @Override
-    public void addException(AuditEvent event, Throwable throwable) {
-        final String fileName = event.getFileName();
-        if (fileName == null || !fileMessages.containsKey(fileName)) {
-            synchronized (writerLock) {
-                writeException(throwable);
-            }
-        }
-        else {
-            final FileMessages messages = fileMessages.get(fileName);
-            messages.addException(throwable);
+            encode(event.getModuleId(), out);
         }
+        out.append("\"/>").append(LINE_SEPARATOR);
     }
 
     /**
-     * Writes the exception event to the print writer.
+     * Renders the given exception as an exception element.
      *
-     * @param throwable The
+     * @param throwable The exception to print.
+     * @param out the buffer to render into.
      */
-    private void writeException(Throwable throwable) {
-        writer.println("<exception>");
-        writer.println("<![CDATA[");
+    private static void writeException(Throwable throwable, StringBuilder out) {
+        out.append("<exception>").append(LINE_SEPARATOR)
+            .append("<![CDATA[").append(LINE_SEPARATOR);
 
         final StringWriter stringWriter = new StringWriter();
         final PrintWriter printer = new PrintWriter(stringWriter);
         throwable.printStackTrace(printer);
-        writer.println(encode(stringWriter.toString()));
+        encode(stringWriter.toString(), out);
 
-        writer.println("]]>");
-        writer.println("</exception>");
+        out.append(LINE_SEPARATOR)
+            .append("]]>").append(LINE_SEPARATOR)
+            .append("</exception>").append(LINE_SEPARATOR);
     }
 
     /**
@@ -247,45 +274,84 @@ public class XMLLogger
      * @return the escaped value if necessary.
      */
     public static String encode(String value) {
-        final StringBuilder sb = new StringBuilder(256);
-        for (int i = 0; i < value.length(); i++) {
-            final char chr = value.charAt(i);
+        final String result;
+        if (indexOfEscaped(value, 0) < 0) {
+            result = value;
+        }
+        else {
+            final StringBuilder sb = new StringBuilder(value.length() + 16);
+            encode(value, sb);
+            result = sb.toString();
+        }
+        return result;
+    }
+
+    /**
+     * Appends the value to the buffer, escaping &lt;, &gt; &amp; &#39; and &quot;
+     * as their entities. Runs of characters without escapes are appended at once.
+     *
+     * @param value the value to escape.
+     * @param out the buffer to append to.
+     */
+    private static void encode(String value, StringBuilder out) {
+        int start = 0;
+        int index = indexOfEscaped(value, 0);
+        while (index >= 0) {
+            out.append(value, start, index);
+            final char chr = value.charAt(index);
             switch (chr) {
                 case '<':
-                    sb.append("&lt;");
+                    out.append("&lt;");
                     break;
                 case '>':
-                    sb.append("&gt;");
+                    out.append("&gt;");
                     break;
                 case '\'':
-                    sb.append("&apos;");
+                    out.append("&apos;");
                     break;
                 case '\"':
-                    sb.append("&quot;");
+                    out.append("&quot;");
                     break;
                 case '&':
-                    sb.append("&amp;");
+                    out.append("&amp;");
                     break;
                 case '\r':
                     break;
                 case '\n':
-                    sb.append("&#10;");
+                    out.append("&#10;");
                     break;
                 default:
-                    if (Character.isISOControl(chr)) {
-                        // true escape characters need '&' before, but it also requires XML 1.1
-                        // until https://github.com/checkstyle/checkstyle/issues/5168
-                        sb.append("#x");
-                        sb.append(Integer.toHexString(chr));
-                        sb.append(';');
-                    }
-                    else {
-                        sb.append(chr);
-                    }
+                    // true escape characters need '&' before, but it also requires XML 1.1
+                    // until https://github.com/checkstyle/checkstyle/issues/5168
+                    out.append("#x")
+                        .append(Integer.toHexString(chr))
+                        .append(';');
                     break;
             }
+            start = index + 1;
+            index = indexOfEscaped(value, start);
+        }
+        out.append(value, start, value.length());
+    }
+
+    /**
+     * Finds the first character of the value that is escaped by {@link #encode(String)}.
+     *
+     * @param value the value to search.
+     * @param from the index to start from.
+     * @return the index of the character or -1 if there is none.
+     */
+    private static int indexOfEscaped(String value, int from) {
+        int result = -1;
+        for (int index = from; index < value.length(); index++) {
+            final char chr = value.charAt(index);
+            if (chr == '<' || chr == '>' || chr == '\'' || chr == '"' || chr == '&'
+                    || Character.isISOControl(chr)) {
+                result = index;
+                break;
+            }
         }
-        return sb.toString();
+        return result;
     }
 
     /**
@@ -331,50 +397,119 @@ public class XMLLogger
     }
 
     /**
-     * The registered file messages.
+     * The rendered section of a file. Errors are rendered as they are reported,
+     * exceptions are kept apart as they are written after all errors of the file.
+     * When rendered errors exceed the spill threshold, they are moved to a
+     * temporary file that is copied to the output when the file is finished.
      */
-    private static class FileMessages {
+    private static final class FileSection {
+
+        /** Number of buffered characters before errors spill to disk. */
+        private final int spillThreshold;
 
-        /** The file error events. */
-        private final List<AuditEvent> errors = Collections.synchronizedList(new ArrayList<>());
+        /** The rendered errors not spilled yet. */
+        private final StringBuilder errors = new StringBuilder(256);
 
-        /** The file exceptions. */
-        private final List<Throwable> exceptions = Collections.synchronizedList(new ArrayList<>());
+        /** The rendered exceptions. */
+        private final StringBuilder exceptions = new StringBuilder();
+
+        /** The temporary file of spilled errors, or {@code null}. */
+        private Path spillFile;
+
+        /** The writer of the temporary file, or {@code null}. */
+        private Writer spillWriter;
 
         /**
-         * Returns the file error events.
+         * Creates a new instance.
          *
-         * @return the file error events.
+         * @param spillThreshold number of buffered characters before errors spill.
          */
-        public List<AuditEvent> getErrors() {
-            return Collections.unmodifiableList(errors);
+        private FileSection(int spillThreshold) {
+            this.spillThreshold = spillThreshold;
         }
 
         /**
-         * Adds the given error event to the messages.
+         * Renders the given error event.
          *
          * @param event the error event.
          */
-        public void addError(AuditEvent event) {
-            errors.add(event);
+        /* package */ synchronized void addError(AuditEvent event) {
+            writeFileError(event, errors);
+            if (errors.length() >= spillThreshold) {
+                spill();
+            }
         }
 
         /**
-         * Returns the file exceptions.
+         * Renders the given exception.
          *
-         * @return the file exceptions.
+         * @param throwable the file exception
          */
-        public List<Throwable> getExceptions() {
-            return Collections.unmodifiableList(exceptions);
+        /* package */ synchronized void addException(Throwable throwable) {
+            writeException(throwable, exceptions);
         }
 
         /**
-         * Adds the given exception to the messages.
+         * Copies the section to the given writer and releases the temporary file.
          *
-         * @param throwable the file exception
+         * @param out the writer to copy to.
+         * @throws IllegalStateException if spilled errors cannot be read.
+         */
+        /* package */ synchronized void writeTo(PrintWriter out) {
+            if (spillFile != null) {
+                try {
+                    spillWriter.close();
+                    try (Reader reader = Files.newBufferedReader(spillFile,
+                            StandardCharsets.UTF_8)) {
+                        reader.transferTo(out);
+                    }
+                }
+                catch (IOException ex) {
+                    throw new IllegalStateException(
+                        "Unable to read spilled errors from " + spillFile, ex);
+                }
+                finally {
+                    discard();
+                }
+            }
+            out.append(errors);
+            out.append(exceptions);
+        }
+
+        /**
+         * Releases the temporary file of the section, if any.
          */
-        public void addException(Throwable throwable) {
-            exceptions.add(throwable);
+        /* package */ synchronized void discard() {
+            if (spillFile != null) {
+                try {
+                    spillWriter.close();
+                    Files.deleteIfExists(spillFile);
+                }
+                catch (IOException ignored) {
+                    // a leftover temporary file does not affect the output
+                }
+                spillFile = null;
+                spillWriter = null;
+            }
+        }
+
+        /**
+         * Moves the buffered errors to the temporary file.
+         *
+         * @throws IllegalStateException if errors cannot be written.
+         */
+        private void spill() {
+            try {
+                if (spillFile == null) {
+                    spillFile = Files.createTempFile("checkstyle-xml", ".tmp");
+                    spillWriter = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8);
+                }
+                spillWriter.append(errors);
+                errors.setLength(0);
+            }
+            catch (IOException ex) {
+                throw new IllegalStateException("Unable to spill errors to " + spillFile, ex);
+            }
         }
 
     }
@@ -19,19 +19,23 @@
 
 package com.puppycrawl.tools.checkstyle;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 import com.puppycrawl.tools.checkstyle.api.AuditEvent;
 import com.puppycrawl.tools.checkstyle.api.AutomaticBean;
 import com.puppycrawl.tools.checkstyle.api.Violation;
-import com.puppycrawl.tools.checkstyle.xpath.XpathQueryGenerator;
+import com.puppycrawl.tools.checkstyle.xpath.XpathQueryIndex;
 
 /**
  * Catches {@code TreeWalkerAuditEvent} and generates corresponding xpath query.
- * Stores violations and xpath queries map inside static variable
- * for {@code XpathFileGeneratorAuditListener}.
+ * Stores violations and xpath queries map of the file being processed inside static
+ * variable for {@code XpathFileGeneratorAuditListener}, which prints the queries
+ * of a file as soon as its violations are reported. The tree of a file is indexed
+ * once for all its violations.
  * See issue <a href="https://github.com/checkstyle/checkstyle/issues/102">#102</a>
  */
 public class XpathFileGeneratorAstFilter extends AutomaticBean implements TreeWalkerFilter {
@@ -39,12 +43,18 @@ public class XpathFileGeneratorAstFilter extends AutomaticBean implements TreeWa
     /** The delimiter between xpath queries. */
     private static final String DELIMITER = " | \n";
 
-    /** Map from {@code Violation} objects to xpath queries. */
-    private static final Map<Violation, String> MESSAGE_QUERY_MAP = new HashMap<>();
+    /** Map from {@code Violation} objects of the file being processed to xpath queries. */
+    private static final Map<Violation, String> FILE_QUERIES = new ConcurrentHashMap<>();
+
+    /** Name of the file whose queries are kept in {@code FILE_QUERIES}. */
+    private static final AtomicReference<String> QUERIES_FILE_NAME = new AtomicReference<>();
 
     /** The distance between tab stop position. */
     private int tabWidth;
 
+    /** Index of the tree of the file being processed. */
+    private XpathQueryIndex queryIndex;
+
     /**
      * Sets tab width.
      *
@@ -63,23 +73,32 @@ public class XpathFileGeneratorAstFilter extends AutomaticBean implements TreeWa
      * @return returns corresponding xpath query
      */
     public static String findCorrespondingXpathQuery(AuditEvent event) {
-        return MESSAGE_QUERY_MAP.get(event.getViolation());
+        return FILE_QUERIES.get(event.getViolation());
     }
 
     @Override
     protected void finishLocalSetup() {
-        MESSAGE_QUERY_MAP.clear();
+        FILE_QUERIES.clear();
+        QUERIES_FILE_NAME.set(null);
+        queryIndex = null;
     }
 
     @Override
     public boolean accept(TreeWalkerAuditEvent event) {
         if (event.getTokenType() != 0) {
-            final XpathQueryGenerator xpathQueryGenerator =
-                    new XpathQueryGenerator(event, tabWidth);
-            final List<String> xpathQueries = xpathQueryGenerator.generate();
+            final String fileName = event.getFileName();
+            if (!Objects.equals(QUERIES_FILE_NAME.getAndSet(fileName), fileName)) {
+                FILE_QUERIES.clear();
+            }
+            if (queryIndex == null || queryIndex.getRootAst() != event.getRootAst()) {
+                queryIndex = new XpathQueryIndex(event.getRootAst(),
+                        event.getFileContents().getText(), tabWidth);
+            }
+            final List<String> xpathQueries = queryIndex.generate(event.getLine(),
+                    event.getColumn(), event.getTokenType());
             if (!xpathQueries.isEmpty()) {
                 final String query = String.join(DELIMITER, xpathQueries);
-                MESSAGE_QUERY_MAP.put(event.getViolation(), query);
+                FILE_QUERIES.put(event.getViolation(), query);
             }
         }
         return true;
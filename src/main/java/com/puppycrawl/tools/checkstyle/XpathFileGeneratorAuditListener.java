@@ -32,7 +32,11 @@ import com.puppycrawl.tools.checkstyle.api.AutomaticBean;
 /**
  * Generates <b>suppressions.xml</b> file, based on violations occurred.
  * See issue <a href="https://github.com/checkstyle/checkstyle/issues/102">#102</a>
+ *
+ * <p>The listener reads the queries kept by {@link XpathFileGeneratorAstFilter} for
+ * the file being audited, so it is notified on the auditing thread.
  */
+@SynchronousListener
 public class XpathFileGeneratorAuditListener extends AutomaticBean implements AuditListener {
 
     /** The " quote character. */
@@ -0,0 +1,99 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2023 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.xpath.RootNode;
+
+/**
+ * Shares the xpath tree of the file walked by a {@link TreeWalker} between all
+ * xpath checks and filters. Nodes of the tree create their children once, so
+ * every query of a pass reuses the nodes built by the previous ones.
+ * The tree walker activates the cache for the current thread for a single pass
+ * over the file, so the cached tree never outlives the pass and is never reused
+ * after comment nodes are added to the AST.
+ */
+public final class XpathTreeCache {
+
+    /** The pass of the current thread over a file. */
+    private static final ThreadLocal<Pass> CURRENT = new ThreadLocal<>();
+
+    /** Stop instances being created. */
+    private XpathTreeCache() {
+    }
+
+    /**
+     * Returns xpath tree of the given ast, reusing the tree created for the same
+     * ast during the current pass of the tree walker.
+     *
+     * @param rootAst root ast of the file
+     * @return xpath root node of the ast
+     */
+    public static RootNode getRootNode(DetailAST rootAst) {
+        final Pass pass = CURRENT.get();
+        final RootNode result;
+        if (pass == null) {
+            result = new RootNode(rootAst);
+        }
+        else {
+            result = pass.getRootNode(rootAst);
+        }
+        return result;
+    }
+
+    /**
+     * Activates the cache for a new pass of the current thread over a file.
+     */
+    /* package */ static void beginPass() {
+        CURRENT.set(new Pass());
+    }
+
+    /**
+     * Deactivates the cache and drops the cached tree after the pass.
+     */
+    /* package */ static void finishPass() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Xpath tree of a pass over a file.
+     */
+    private static final class Pass {
+
+        /** Xpath tree of the pass, {@code null} until the first query. */
+        private RootNode rootNode;
+
+        /**
+         * Returns xpath tree of the given ast, creating it if the pass has no
+         * tree of the ast yet.
+         *
+         * @param rootAst root ast of the file
+         * @return xpath root node of the ast
+         */
+        private RootNode getRootNode(DetailAST rootAst) {
+            if (rootNode == null || rootNode.getUnderlyingNode() != rootAst) {
+                rootNode = new RootNode(rootAst);
+            }
+            return rootNode;
+        }
+
+    }
+
+}
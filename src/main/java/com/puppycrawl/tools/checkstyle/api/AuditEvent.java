@@ -46,6 +46,8 @@ public final class AuditEvent
     private final String fileName;
     /** Violation associated with the event. **/
     private final Violation violation;
+    /** Contents of the file event associated with, if known. **/
+    private final transient FileText fileText;
 
     /**
      * Creates a new instance.
@@ -74,9 +76,22 @@ public final class AuditEvent
      * @param violation the actual violation
      */
     public AuditEvent(Object src, String fileName, Violation violation) {
+        this(src, fileName, violation, null);
+    }
+
+    /**
+     * Creates a new {@code AuditEvent} instance.
+     *
+     * @param src source of the event
+     * @param fileName file associated with the event
+     * @param violation the actual violation
+     * @param fileText contents of the file associated with the event
+     */
+    public AuditEvent(Object src, String fileName, Violation violation, FileText fileText) {
         super(src);
         this.fileName = fileName;
         this.violation = violation;
+        this.fileText = fileText;
     }
 
     /**
@@ -89,6 +104,17 @@ public final class AuditEvent
         return fileName;
     }
 
+    /**
+     * Returns the contents of the file being audited, as passed to the checks.
+     * Filters should use them instead of reading the file, which may not exist
+     * when contents are audited from memory.
+     *
+     * @return the contents of the file or null if they are not known.
+     */
+    public FileText getFileText() {
+        return fileText;
+    }
+
     /**
      * Return the line number on the source file where the event occurred.
      * This may be 0 if there is no relation to a file content.
@@ -136,6 +136,22 @@ public final class FileText {
         this.lines = lines.toArray(CommonUtil.EMPTY_STRING_ARRAY);
     }
 
+    /**
+     * Creates a new file text representation of contents held in memory.
+     * The file is not read and does not need to exist.
+     *
+     * @param file the name of the file
+     * @param fullText the full text contents of the file, with line terminators
+     * @param charset the encoding the contents were decoded with
+     * @throws NullPointerException if the text is null
+     */
+    public FileText(File file, String fullText, Charset charset) {
+        this.file = file;
+        this.charset = charset;
+        this.fullText = fullText;
+        lines = fullText.lines().toArray(String[]::new);
+    }
+
     /**
      * Creates a new file text representation.
      *
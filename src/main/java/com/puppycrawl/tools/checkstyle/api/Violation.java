@@ -84,6 +84,13 @@ public final class Violation
     /** A custom violation overriding the default violation from the bundle. */
     private final String customMessage;
 
+    /**
+     * The translated violation, formatted on the first request. Violations are
+     * formatted by filters, by sorting of violations on the same position and by
+     * every logger, so the result is kept instead of being formatted again.
+     */
+    private transient String formattedViolation;
+
     /**
      * Creates a new {@code Violation} instance.
      *
@@ -355,6 +362,46 @@ public final class Violation
         return sourceClass.getName();
     }
 
+    /**
+     * Gets the Class that is the source of this Violation.
+     *
+     * @return the source class
+     */
+    public Class<?> getSourceClass() {
+        return sourceClass;
+    }
+
+    /**
+     * Gets the name of the resource bundle to locate the translation in.
+     *
+     * @return the resource bundle name
+     */
+    public String getBundle() {
+        return bundle;
+    }
+
+    /**
+     * Gets the arguments of the translation.
+     *
+     * @return a copy of the arguments or {@code null} if there are none
+     */
+    public Object[] getArgs() {
+        Object[] result = null;
+        if (args != null) {
+            result = Arrays.copyOf(args, args.length);
+        }
+        return result;
+    }
+
+    /**
+     * Gets the custom violation overriding the translation.
+     *
+     * @return the custom violation or {@code null} if it is not set
+     */
+    public String getCustomMessage() {
+        return customMessage;
+    }
+
     /**
      * Indicates whether some other object is "equal to" this one.
      * Suppression on enumeration is needed so code stays consistent.
@@ -426,18 +473,22 @@ public final class Violation
     }
 
     /**
-     * Gets the translated violation.
+     * Gets the translated violation. The violation is formatted only once,
+     * when it is requested for the first time.
      *
      * @return the translated violation
      */
     public String getViolation() {
-        final String violation;
+        String violation = formattedViolation;
 
-        if (customMessage != null) {
-            violation = new MessageFormat(customMessage, Locale.ROOT).format(args);
-        }
-        else {
-            violation = new LocalizedMessage(bundle, sourceClass, key, args).getMessage();
+        if (violation == null) {
+            if (customMessage != null) {
+                violation = new MessageFormat(customMessage, Locale.ROOT).format(args);
+            }
+            else {
+                violation = new LocalizedMessage(bundle, sourceClass, key, args).getMessage();
+            }
+            formattedViolation = violation;
         }
 
         return violation;
@@ -22,6 +22,7 @@ package com.puppycrawl.tools.checkstyle.checks;
 import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
 import java.util.Locale;
 
 import com.puppycrawl.tools.checkstyle.StatelessCheck;
@@ -191,11 +192,16 @@ public class NewlineAtEndOfFileCheck
 
     @Override
     protected void processFiltered(File file, FileText fileText) {
-        try {
-            readAndCheckFile(file);
+        if (fileText.getCharset() == null) {
+            try {
+                readAndCheckFile(file);
+            }
+            catch (final IOException ignored) {
+                log(1, MSG_KEY_UNABLE_OPEN, file.getPath());
+            }
         }
-        catch (final IOException ignored) {
-            log(1, MSG_KEY_UNABLE_OPEN, file.getPath());
+        else {
+            checkText(fileText.getFullText(), file);
         }
     }
 
@@ -212,6 +218,23 @@ public class NewlineAtEndOfFileCheck
                 .toUpperCase(Locale.ENGLISH));
     }
 
+    /**
+     * Checks line separators at the end of the text of the file. Used for text
+     * which keeps its line terminators, so the file does not need to be read.
+     *
+     * @param text the full text of the file
+     * @param file the file being processed
+     */
+    private void checkText(CharSequence text, File file) {
+        if (lineSeparator == LineSeparatorOption.LF
+                && endsWithNewline(text, LineSeparatorOption.CRLF)) {
+            log(1, MSG_KEY_WRONG_ENDING, file.getPath());
+        }
+        else if (!endsWithNewline(text, lineSeparator)) {
+            log(1, MSG_KEY_NO_NEWLINE_EOF, file.getPath());
+        }
+    }
+
     /**
      * Reads the file provided and checks line separators.
      *
@@ -232,6 +255,27 @@ public class NewlineAtEndOfFileCheck
         }
     }
 
+    /**
+     * Checks whether the text ends with the line separator.
+     *
+     * @param text the text to check
+     * @param separator the line separator
+     * @return whether the text ends with the line separator
+     */
+    private static boolean endsWithNewline(CharSequence text, LineSeparatorOption separator) {
+        final boolean result;
+        final int len = separator.length();
+        if (text.length() < len) {
+            result = false;
+        }
+        else {
+            final String lastChars = text.subSequence(text.length() - len, text.length())
+                    .toString();
+            result = separator.matches(lastChars.getBytes(StandardCharsets.ISO_8859_1));
+        }
+        return result;
+    }
+
     /**
      * Checks whether the content provided by the Reader ends with the platform
      * specific line separator.
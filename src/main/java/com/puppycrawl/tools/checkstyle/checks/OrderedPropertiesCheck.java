@@ -20,15 +20,6 @@
 package com.puppycrawl.tools.checkstyle.checks;
 
 import java.io.File;
-import java.io.IOException;
-import java.io.InputStream;
-import java.nio.file.Files;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Enumeration;
-import java.util.Iterator;
-import java.util.List;
-import java.util.Properties;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -119,6 +110,11 @@ public class OrderedPropertiesCheck extends AbstractFileSetCheck {
         setFileExtensions("properties");
     }
 
+    @Override
+    public void finishProcessing() {
+        ParsedProperties.release();
+    }
+
     /**
      * Processes the file and check order.
      *
@@ -127,22 +123,16 @@ public class OrderedPropertiesCheck extends AbstractFileSetCheck {
      */
     @Override
     protected void processFiltered(File file, FileText fileText) {
-        final SequencedProperties properties = new SequencedProperties();
-        try (InputStream inputStream = Files.newInputStream(file.toPath())) {
-            properties.load(inputStream);
-        }
-        catch (IOException | IllegalArgumentException ex) {
-            log(1, MSG_IO_EXCEPTION_KEY, file.getPath(), ex.getLocalizedMessage());
+        final ParsedProperties properties = ParsedProperties.of(fileText);
+        final Exception parseException = properties.getParseException();
+        if (parseException != null) {
+            log(1, MSG_IO_EXCEPTION_KEY, file.getPath(), parseException.getLocalizedMessage());
         }
 
         String previousProp = "";
         int startLineNo = 0;
 
-        final Iterator<Object> propertyIterator = properties.keys().asIterator();
-
-        while (propertyIterator.hasNext()) {
-
-            final String propKey = (String) propertyIterator.next();
+        for (String propKey : properties.getKeys()) {
 
             if (String.CASE_INSENSITIVE_ORDER.compare(previousProp, propKey) > 0) {
 
@@ -209,46 +199,4 @@ public class OrderedPropertiesCheck extends AbstractFileSetCheck {
                 .replaceAll(Matcher.quoteReplacement("\\\\ ")) + "[\\s:=].*";
         return Pattern.compile(keyPatternString);
     }
-
-    /**
-     * Private property implementation that keeps order of properties like in file.
-     *
-     * @noinspection ClassExtendsConcreteCollection
-     * @noinspectionreason ClassExtendsConcreteCollection - we require order from
-     *      file to be maintained by {@code put} method
-     */
-    private static class SequencedProperties extends Properties {
-
-        /** A unique serial version identifier. */
-        private static final long serialVersionUID = 1L;
-
-        /**
-         * Holding the keys in the same order as in the file.
-         */
-        private final List<Object> keyList = new ArrayList<>();
-
-        /**
-         * Returns a copy of the keys.
-         */
-        @Override
-        public Enumeration<Object> keys() {
-            return Collections.enumeration(keyList);
-        }
-
-        /**
-         * Puts the value into list by its key.
-         *
-         * @param key the hashtable key
-         * @param value the value
-         * @return the previous value of the specified key in this hashtable,
-         *      or null if it did not have one
-         * @throws NullPointerException - if the key or value is null
-         */
-        @Override
-        public synchronized Object put(Object key, Object value) {
-            keyList.add(key);
-
-            return super.put(key, value);
-        }
-    }
 }
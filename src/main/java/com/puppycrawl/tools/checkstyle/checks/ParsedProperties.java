@@ -0,0 +1,185 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2023 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle.checks;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+import com.puppycrawl.tools.checkstyle.api.FileText;
+
+/**
+ * Result of parsing a properties file once from its {@link FileText}.
+ * Keeps the keys in the order they appear in the file, the number of
+ * repeated definitions of every duplicated key and the exception raised
+ * while parsing, if any. The parsed model of the file being processed by the
+ * current thread is memoized, so several properties checks that look at the
+ * same file share a single parse instead of each re-reading it from disk.
+ * The checks release the memoized model when the audit finishes.
+ */
+final class ParsedProperties {
+
+    /**
+     * The model of the file most recently parsed by the current thread.
+     * All file set checks of a {@code Checker} receive the same {@link FileText}
+     * instance for a file, so one entry per thread is enough to share the parse.
+     * The entry is removed by {@link #release()} at the end of the audit.
+     */
+    private static final ThreadLocal<ParsedProperties> LAST_PARSED = new ThreadLocal<>();
+
+    /** The text this model was parsed from. */
+    private final FileText fileText;
+
+    /** All keys in the order they are defined, repeated keys included. */
+    private final List<String> keys = new ArrayList<>();
+
+    /** Distinct keys mapped to the count of their repeated definitions. */
+    private final Map<String, Integer> duplicatedKeys = new LinkedHashMap<>();
+
+    /** Distinct keys in the order of their first definition. */
+    private final Set<String> keySet;
+
+    /** Exception raised while parsing the file, or {@code null}. */
+    private Exception parseException;
+
+    /**
+     * Creates a new instance and parses the given text.
+     *
+     * @param fileText the contents of the properties file
+     */
+    private ParsedProperties(FileText fileText) {
+        this.fileText = fileText;
+        final Map<String, Boolean> distinct = new LinkedHashMap<>();
+        final Properties properties = new RecordingProperties(distinct);
+        try (Reader reader = new StringReader(fileText.getFullText().toString())) {
+            properties.load(reader);
+        }
+        catch (IOException | IllegalArgumentException ex) {
+            parseException = ex;
+        }
+        keySet = Collections.unmodifiableSet(distinct.keySet());
+    }
+
+    /**
+     * Returns the parsed model of the given file contents, parsing it only if
+     * the same contents were not parsed by the current thread just before.
+     *
+     * @param fileText the contents of the properties file
+     * @return the parsed model
+     */
+    public static ParsedProperties of(FileText fileText) {
+        ParsedProperties parsed = LAST_PARSED.get();
+        if (parsed == null || parsed.fileText != fileText) {
+            parsed = new ParsedProperties(fileText);
+            LAST_PARSED.set(parsed);
+        }
+        return parsed;
+    }
+
+    /**
+     * Releases the model memoized by the current thread, so the text and the
+     * parse of the last file do not outlive the audit.
+     */
+    public static void release() {
+        LAST_PARSED.remove();
+    }
+
+    /**
+     * Returns all keys in the order they are defined in the file,
+     * including repeated definitions.
+     *
+     * @return unmodifiable list of keys
+     */
+    public List<String> getKeys() {
+        return Collections.unmodifiableList(keys);
+    }
+
+    /**
+     * Returns the distinct keys of the file.
+     *
+     * @return unmodifiable set of keys
+     */
+    public Set<String> getKeySet() {
+        return keySet;
+    }
+
+    /**
+     * Returns keys defined more than once mapped to the count of their
+     * repeated definitions, that is number of occurrences minus one.
+     *
+     * @return unmodifiable map of duplicated keys
+     */
+    public Map<String, Integer> getDuplicatedKeys() {
+        return Collections.unmodifiableMap(duplicatedKeys);
+    }
+
+    /**
+     * Returns the exception raised while parsing. Keys defined before the
+     * malformed part of the file are still available.
+     *
+     * @return parse exception or {@code null} if the file was parsed successfully
+     */
+    public Exception getParseException() {
+        return parseException;
+    }
+
+    /**
+     * Properties implementation that records every key passed to {@code put}
+     * by {@link Properties#load(Reader)} in the enclosing model.
+     *
+     * @noinspection ClassExtendsConcreteCollection
+     * @noinspectionreason ClassExtendsConcreteCollection - we require order and
+     *      repetitions of keys from file to be seen by {@code put} method
+     */
+    private final class RecordingProperties extends Properties {
+
+        /** A unique serial version identifier. */
+        private static final long serialVersionUID = 1L;
+
+        /** Distinct keys seen so far. */
+        private final transient Map<String, Boolean> distinct;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param distinct map to collect distinct keys in
+         */
+        private RecordingProperties(Map<String, Boolean> distinct) {
+            this.distinct = distinct;
+        }
+
+        @Override
+        public synchronized Object put(Object key, Object value) {
+            final String keyString = (String) key;
+            keys.add(keyString);
+            if (distinct.put(keyString, Boolean.TRUE) != null) {
+                duplicatedKeys.merge(keyString, 1, Integer::sum);
+            }
+            return null;
+        }
+    }
+}
@@ -19,13 +19,18 @@
 
 package com.puppycrawl.tools.checkstyle.checks;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.ToLongFunction;
 import java.util.regex.Pattern;
 
 import com.puppycrawl.tools.checkstyle.StatelessCheck;
@@ -160,15 +165,19 @@ public class SuppressWarningsHolder
     /** Special warning id for matching all the warnings. */
     private static final String ALL_WARNING_MATCHING_ID = "all";
 
-    /** A map from check source names to suppression aliases. */
-    private static final Map<String, String> CHECK_ALIAS_MAP = new HashMap<>();
+    /**
+     * A map from check source names to suppression aliases. The map itself is
+     * unmodifiable, registering aliases replaces it with an extended copy.
+     */
+    private static final AtomicReference<Map<String, String>> CHECK_ALIAS_MAP =
+            new AtomicReference<>(Collections.emptyMap());
 
     /**
-     * A thread-local holder for the list of suppression entries for the last
+     * A thread-local holder for the suppression entries for the last
      * file parsed.
      */
-    private static final ThreadLocal<List<Entry>> ENTRIES =
-            ThreadLocal.withInitial(LinkedList::new);
+    private static final ThreadLocal<EntryIndex> ENTRIES =
+            ThreadLocal.withInitial(EntryIndex::new);
 
     /**
      * Compiled pattern used to match whitespace in text block content.
@@ -209,24 +218,13 @@ public class SuppressWarningsHolder
      * @return the current alias for the given check
      */
     public static String getAlias(String sourceName) {
-        String checkAlias = CHECK_ALIAS_MAP.get(sourceName);
+        String checkAlias = CHECK_ALIAS_MAP.get().get(sourceName);
         if (checkAlias == null) {
             checkAlias = getDefaultAlias(sourceName);
         }
         return checkAlias;
     }
 
-    /**
-     * Registers an alias for the source name of a check.
-     *
-     * @param sourceName the source name of the check (generally the class
-     *        name)
-     * @param checkAlias the alias used in {@link SuppressWarnings} annotations
-     */
-    private static void registerAlias(String sourceName, String checkAlias) {
-        CHECK_ALIAS_MAP.put(sourceName, checkAlias);
-    }
-
     /**
      * Setter to specify aliases for check names that can be used in code
      * within {@code SuppressWarnings}.
@@ -235,10 +233,11 @@ public class SuppressWarningsHolder
      * @throws IllegalArgumentException when alias item does not have '='
      */
     public void setAliasList(String... aliasList) {
+        final Map<String, String> aliases = new HashMap<>();
         for (String sourceAlias : aliasList) {
             final int index = sourceAlias.indexOf('=');
             if (index > 0) {
-                registerAlias(sourceAlias.substring(0, index), sourceAlias
+                aliases.put(sourceAlias.substring(0, index), sourceAlias
                     .substring(index + 1));
             }
             else if (!sourceAlias.isEmpty()) {
@@ -246,6 +245,11 @@ public class SuppressWarningsHolder
                     "'=' expected in alias list item: " + sourceAlias);
             }
         }
+        CHECK_ALIAS_MAP.updateAndGet(current -> {
+            final Map<String, String> merged = new HashMap<>(current);
+            merged.putAll(aliases);
+            return Collections.unmodifiableMap(merged);
+        });
     }
 
     /**
@@ -257,59 +261,9 @@ public class SuppressWarningsHolder
      *         source location
      */
     public static boolean isSuppressed(AuditEvent event) {
-        final List<Entry> entries = ENTRIES.get();
-        final String sourceName = event.getSourceName();
-        final String checkAlias = getAlias(sourceName);
-        final int line = event.getLine();
-        final int column = event.getColumn();
-        boolean suppressed = false;
-        for (Entry entry : entries) {
-            final boolean afterStart = isSuppressedAfterEventStart(line, column, entry);
-            final boolean beforeEnd = isSuppressedBeforeEventEnd(line, column, entry);
-            final String checkName = entry.getCheckName();
-            final boolean nameMatches =
-                ALL_WARNING_MATCHING_ID.equals(checkName)
-                    || checkName.equalsIgnoreCase(checkAlias)
-                    || getDefaultAlias(checkName).equalsIgnoreCase(checkAlias);
-            if (afterStart && beforeEnd
-                    && (nameMatches || checkName.equals(event.getModuleId()))) {
-                suppressed = true;
-                break;
-            }
-        }
-        return suppressed;
-    }
-
-    /**
-     * Checks whether suppression entry position is after the audit event occurrence position
-     * in the source file.
-     *
-     * @param line the line number in the source file where the event occurred.
-     * @param column the column number in the source file where the event occurred.
-     * @param entry suppression entry.
-     * @return true if suppression entry position is after the audit event occurrence position
-     *         in the source file.
-     */
-    private static boolean isSuppressedAfterEventStart(int line, int column, Entry entry) {
-        return entry.getFirstLine() < line
-            || entry.getFirstLine() == line
-            && (column == 0 || entry.getFirstColumn() <= column);
-    }
-
-    /**
-     * Checks whether suppression entry position is before the audit event occurrence position
-     * in the source file.
-     *
-     * @param line the line number in the source file where the event occurred.
-     * @param column the column number in the source file where the event occurred.
-     * @param entry suppression entry.
-     * @return true if suppression entry position is before the audit event occurrence position
-     *         in the source file.
-     */
-    private static boolean isSuppressedBeforeEventEnd(int line, int column, Entry entry) {
-        return entry.getLastLine() > line
-            || entry.getLastLine() == line && entry
-                .getLastColumn() >= column;
+        final String checkAlias = getAlias(event.getSourceName());
+        return ENTRIES.get().isSuppressed(checkAlias, event.getModuleId(),
+                event.getLine(), event.getColumn());
     }
 
     @Override
@@ -371,7 +325,7 @@ public class SuppressWarningsHolder
             lastColumn = nextAST.getColumnNo();
         }
 
-        final List<Entry> entries = ENTRIES.get();
+        final EntryIndex entries = ENTRIES.get();
         for (String value : values) {
             // strip off the checkstyle-only prefix if present
             final String checkName = removeCheckstylePrefixIfExists(value);
@@ -594,6 +548,270 @@ public class SuppressWarningsHolder
         ENTRIES.remove();
     }
 
+    /**
+     * Encodes a position in a file so that positions compare as their line
+     * first and column second.
+     *
+     * @param line the line number
+     * @param column the column number
+     * @return the encoded position
+     */
+    private static long toPosition(int line, int column) {
+        return (long) line << Integer.SIZE | Integer.toUnsignedLong(column);
+    }
+
+    /**
+     * Folds the case of a name so that names equal ignoring case, as defined by
+     * {@link String#equalsIgnoreCase(String)}, have the same folded form.
+     *
+     * @param name the name
+     * @return the folded name
+     */
+    private static String foldCase(String name) {
+        final char[] chars = name.toCharArray();
+        for (int index = 0; index < chars.length; index++) {
+            chars[index] = Character.toLowerCase(Character.toUpperCase(chars[index]));
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Suppression entries of a file indexed by the names they match. Instead of
+     * testing every entry against every event, entries are grouped once per file,
+     * after all of them are collected, into regions of the entries suppressing all
+     * checks, regions by check alias and regions by module id. An event is then
+     * looked up in at most three regions, each answering in logarithmic time.
+     */
+    private static final class EntryIndex {
+
+        /** The suppression entries of the file. */
+        private final List<Entry> entries = new ArrayList<>();
+
+        /** Regions of entries suppressing all checks. */
+        private Regions allRegions;
+
+        /** Regions of entries by the folded case alias they match. */
+        private Map<String, Regions> aliasRegions;
+
+        /** Regions of entries by the module id they match. */
+        private Map<String, Regions> moduleIdRegions;
+
+        /** Regions already looked up by the alias of an event. */
+        private Map<String, Regions> aliasLookups;
+
+        /** Whether the regions reflect all collected entries. */
+        private boolean indexed;
+
+        /**
+         * Adds a suppression entry.
+         *
+         * @param entry the entry to add
+         */
+        public void add(Entry entry) {
+            entries.add(entry);
+            indexed = false;
+        }
+
+        /**
+         * Removes all suppression entries.
+         */
+        public void clear() {
+            entries.clear();
+            indexed = false;
+        }
+
+        /**
+         * Checks whether there are no suppression entries.
+         *
+         * @return true if there are no entries
+         */
+        public boolean isEmpty() {
+            return entries.isEmpty();
+        }
+
+        /**
+         * Checks whether an entry matching the check alias or module id suppresses
+         * the given position.
+         *
+         * @param checkAlias the alias of the check
+         * @param moduleId the module id of the check, may be {@code null}
+         * @param line the line of the position
+         * @param column the column of the position, or 0 for a whole line
+         * @return true if the position is suppressed
+         */
+        public boolean isSuppressed(String checkAlias, String moduleId,
+                int line, int column) {
+            boolean result = false;
+            if (!entries.isEmpty()) {
+                if (!indexed) {
+                    index();
+                }
+                final Regions regions = aliasLookups.computeIfAbsent(checkAlias,
+                    alias -> aliasRegions.getOrDefault(foldCase(alias), Regions.EMPTY));
+                result = allRegions.contains(line, column)
+                    || regions.contains(line, column)
+                    || moduleId != null
+                        && moduleIdRegions.getOrDefault(moduleId, Regions.EMPTY)
+                            .contains(line, column);
+            }
+            return result;
+        }
+
+        /**
+         * Groups the collected entries by the names they match.
+         */
+        private void index() {
+            final List<Entry> allEntries = new ArrayList<>();
+            final Map<String, List<Entry>> aliasEntries = new HashMap<>();
+            final Map<String, List<Entry>> moduleIdEntries = new HashMap<>();
+            for (Entry entry : entries) {
+                final String checkName = entry.getCheckName();
+                if (ALL_WARNING_MATCHING_ID.equals(checkName)) {
+                    allEntries.add(entry);
+                }
+                final String alias = foldCase(checkName);
+                final String defaultAlias = foldCase(getDefaultAlias(checkName));
+                aliasEntries.computeIfAbsent(alias, key -> new ArrayList<>()).add(entry);
+                if (!defaultAlias.equals(alias)) {
+                    aliasEntries.computeIfAbsent(defaultAlias, key -> new ArrayList<>())
+                        .add(entry);
+                }
+                moduleIdEntries.computeIfAbsent(checkName, key -> new ArrayList<>()).add(entry);
+            }
+            allRegions = new Regions(allEntries);
+            aliasRegions = toRegions(aliasEntries);
+            moduleIdRegions = toRegions(moduleIdEntries);
+            aliasLookups = new HashMap<>();
+            indexed = true;
+        }
+
+        /**
+         * Creates the regions of every group of entries.
+         *
+         * @param groups the entries by name
+         * @return the regions by name
+         */
+        private static Map<String, Regions> toRegions(Map<String, List<Entry>> groups) {
+            final Map<String, Regions> result = new HashMap<>();
+            groups.forEach((name, group) -> result.put(name, new Regions(group)));
+            return result;
+        }
+
+    }
+
+    /**
+     * Union of the regions of a group of suppression entries. Positions with a
+     * column are looked up in the regions as they are, while whole lines, reported
+     * with column 0, are looked up in the regions extended to the start of their
+     * first line.
+     */
+    private static final class Regions {
+
+        /** Regions suppressing nothing. */
+        private static final Regions EMPTY = new Regions(Collections.emptyList());
+
+        /** The regions from their first column. */
+        private final Intervals fromColumn;
+
+        /** The regions from the start of their first line. */
+        private final Intervals fromLine;
+
+        /**
+         * Creates the union of the regions of the given entries.
+         *
+         * @param entries the entries
+         */
+        private Regions(List<Entry> entries) {
+            fromColumn = new Intervals(entries,
+                entry -> toPosition(entry.getFirstLine(), entry.getFirstColumn()));
+            fromLine = new Intervals(entries, entry -> toPosition(entry.getFirstLine(), 0));
+        }
+
+        /**
+         * Checks whether a position is inside one of the regions.
+         *
+         * @param line the line of the position
+         * @param column the column of the position, or 0 for a whole line
+         * @return true if the position is inside a region
+         */
+        public boolean contains(int line, int column) {
+            final boolean result;
+            if (column == 0) {
+                result = fromLine.contains(toPosition(line, column));
+            }
+            else {
+                result = fromColumn.contains(toPosition(line, column));
+            }
+            return result;
+        }
+
+    }
+
+    /**
+     * Disjoint closed intervals of positions sorted by their start, built by
+     * merging the overlapping regions of suppression entries.
+     */
+    private static final class Intervals {
+
+        /** The starts of the intervals in increasing order. */
+        private final long[] starts;
+
+        /** The ends of the intervals in increasing order. */
+        private final long[] ends;
+
+        /**
+         * Merges the regions of the given entries.
+         *
+         * @param entries the entries
+         * @param startPosition the start position of the region of an entry
+         */
+        private Intervals(List<Entry> entries, ToLongFunction<Entry> startPosition) {
+            final List<Entry> sorted = new ArrayList<>(entries);
+            sorted.sort(Comparator.comparingLong(startPosition));
+            final long[] mergedStarts = new long[sorted.size()];
+            final long[] mergedEnds = new long[sorted.size()];
+            int count = 0;
+            for (Entry entry : sorted) {
+                final long start = startPosition.applyAsLong(entry);
+                final long end = toPosition(entry.getLastLine(), entry.getLastColumn());
+                if (count > 0 && start <= mergedEnds[count - 1]) {
+                    mergedEnds[count - 1] = Math.max(mergedEnds[count - 1], end);
+                }
+                else {
+                    mergedStarts[count] = start;
+                    mergedEnds[count] = end;
+                    count++;
+                }
+            }
+            starts = Arrays.copyOf(mergedStarts, count);
+            ends = Arrays.copyOf(mergedEnds, count);
+        }
+
+        /**
+         * Checks whether a position is inside one of the intervals.
+         *
+         * @param position the encoded position
+         * @return true if the position is inside an interval
+         */
+        public boolean contains(long position) {
+            int low = 0;
+            int high = starts.length - 1;
+            int found = -1;
+            while (low <= high) {
+                final int middle = low + high >>> 1;
+                if (starts[middle] <= position) {
+                    found = middle;
+                    low = middle + 1;
+                }
+                else {
+                    high = middle - 1;
+                }
+            }
+            return found >= 0 && ends[found] >= position;
+        }
+
+    }
+
     /** Records a particular suppression for a region of a file. */
     private static final class Entry {
 
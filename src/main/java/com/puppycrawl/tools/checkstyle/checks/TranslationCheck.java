@@ -20,9 +20,6 @@
 package com.puppycrawl.tools.checkstyle.checks;
 
 import java.io.File;
-import java.io.InputStream;
-import java.nio.file.Files;
-import java.nio.file.NoSuchFileException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -30,7 +27,6 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
-import java.util.Properties;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeMap;
@@ -266,6 +262,12 @@ public class TranslationCheck extends AbstractFileSetCheck {
     /** The files to process. */
     private final Set<File> filesToProcess = ConcurrentHashMap.newKeySet();
 
+    /** Keys of the processed files, parsed once from the contents given to the check. */
+    private final Map<File, Set<String>> parsedKeys = new ConcurrentHashMap<>();
+
+    /** Exceptions raised while parsing the contents given to the check. */
+    private final Map<File, Exception> parseExceptions = new ConcurrentHashMap<>();
+
     /**
      * Specify
      * <a href="https://docs.oracle.com/en/java/javase/11/docs/api/java.base/java/util/ResourceBundle.html">
@@ -347,16 +349,26 @@ public class TranslationCheck extends AbstractFileSetCheck {
     @Override
     public void beginProcessing(String charset) {
         filesToProcess.clear();
+        parsedKeys.clear();
+        parseExceptions.clear();
     }
 
     @Override
     protected void processFiltered(File file, FileText fileText) {
-        // We are just collecting files for processing at finishProcessing()
+        // We are just collecting files and their keys for processing at finishProcessing()
         filesToProcess.add(file);
+        final ParsedProperties properties = ParsedProperties.of(fileText);
+        if (properties.getParseException() == null) {
+            parsedKeys.put(file, properties.getKeySet());
+        }
+        else {
+            parseExceptions.put(file, properties.getParseException());
+        }
     }
 
     @Override
     public void finishProcessing() {
+        ParsedProperties.release();
         final Set<ResourceBundle> bundles = groupFilesIntoBundles(filesToProcess, baseName);
         for (ResourceBundle currentBundle : bundles) {
             checkExistenceOfDefaultTranslation(currentBundle);
@@ -553,7 +565,11 @@ public class TranslationCheck extends AbstractFileSetCheck {
         final Set<String> allTranslationKeys = new HashSet<>();
         final Map<File, Set<String>> filesAssociatedWithKeys = new TreeMap<>();
         for (File currentFile : filesInBundle) {
-            final Set<String> keysInCurrentFile = getTranslationKeys(currentFile);
+            Set<String> keysInCurrentFile = parsedKeys.get(currentFile);
+            if (keysInCurrentFile == null) {
+                logException(parseExceptions.get(currentFile), currentFile);
+                keysInCurrentFile = Collections.emptySet();
+            }
             allTranslationKeys.addAll(keysInCurrentFile);
             filesAssociatedWithKeys.put(currentFile, keysInCurrentFile);
         }
@@ -586,27 +602,6 @@ public class TranslationCheck extends AbstractFileSetCheck {
         }
     }
 
-    /**
-     * Loads the keys from the specified translation file into a set.
-     *
-     * @param file translation file.
-     * @return a Set object which holds the loaded keys.
-     */
-    private Set<String> getTranslationKeys(File file) {
-        Set<String> keys = new HashSet<>();
-        try (InputStream inStream = Files.newInputStream(file.toPath())) {
-            final Properties translations = new Properties();
-            translations.load(inStream);
-            keys = translations.stringPropertyNames();
-        }
-        // -@cs[IllegalCatch] It is better to catch all exceptions since it can throw
-        // a runtime exception.
-        catch (final Exception ex) {
-            logException(ex, file);
-        }
-        return keys;
-    }
-
     /**
      * Helper method to log an exception.
      *
@@ -614,22 +609,12 @@ public class TranslationCheck extends AbstractFileSetCheck {
      * @param file the file that could not be processed
      */
     private void logException(Exception exception, File file) {
-        final String[] args;
-        final String key;
-        if (exception instanceof NoSuchFileException) {
-            args = null;
-            key = "general.fileNotFound";
-        }
-        else {
-            args = new String[] {exception.getMessage()};
-            key = "general.exception";
-        }
         final Violation message =
             new Violation(
                 0,
                 Definitions.CHECKSTYLE_BUNDLE,
-                key,
-                args,
+                "general.exception",
+                new String[] {exception.getMessage()},
                 getId(),
                 getClass(), null);
         final SortedSet<Violation> messages = new TreeSet<>();
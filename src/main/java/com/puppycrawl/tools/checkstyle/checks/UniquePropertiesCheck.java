@@ -20,14 +20,7 @@
 package com.puppycrawl.tools.checkstyle.checks;
 
 import java.io.File;
-import java.io.IOException;
-import java.io.InputStream;
-import java.nio.file.Files;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Properties;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -130,23 +123,26 @@ public class UniquePropertiesCheck extends AbstractFileSetCheck {
         setFileExtensions("properties");
     }
 
+    @Override
+    public void finishProcessing() {
+        ParsedProperties.release();
+    }
+
     @Override
     protected void processFiltered(File file, FileText fileText) {
-        final UniqueProperties properties = new UniqueProperties();
-        try (InputStream inputStream = Files.newInputStream(file.toPath())) {
-            properties.load(inputStream);
-        }
-        catch (IOException ex) {
+        final ParsedProperties properties = ParsedProperties.of(fileText);
+        final Exception parseException = properties.getParseException();
+        if (parseException != null) {
             log(1, MSG_IO_EXCEPTION_KEY, file.getPath(),
-                    ex.getLocalizedMessage());
+                    parseException.getLocalizedMessage());
         }
 
-        for (Entry<String, AtomicInteger> duplication : properties
+        for (Entry<String, Integer> duplication : properties
                 .getDuplicatedKeys().entrySet()) {
             final String keyName = duplication.getKey();
             final int lineNumber = getLineNumber(fileText, keyName);
             // Number of occurrences is number of duplications + 1
-            log(lineNumber, MSG_KEY, keyName, duplication.getValue().get() + 1);
+            log(lineNumber, MSG_KEY, keyName, duplication.getValue() + 1);
         }
     }
 
@@ -194,47 +190,4 @@ public class UniquePropertiesCheck extends AbstractFileSetCheck {
         return Pattern.compile(keyPatternString);
     }
 
-    /**
-     * Properties subclass to store duplicated property keys in a separate map.
-     *
-     * @noinspection ClassExtendsConcreteCollection
-     * @noinspectionreason ClassExtendsConcreteCollection - we require custom
-     *      {@code put} method to find duplicate keys
-     */
-    private static class UniqueProperties extends Properties {
-
-        /** A unique serial version identifier. */
-        private static final long serialVersionUID = 1L;
-        /**
-         * Map, holding duplicated keys and their count. Keys are added here only if they
-         * already exist in Properties' inner map.
-         */
-        private final Map<String, AtomicInteger> duplicatedKeys = new HashMap<>();
-
-        /**
-         * Puts the value into properties by the key specified.
-         */
-        @Override
-        public synchronized Object put(Object key, Object value) {
-            final Object oldValue = super.put(key, value);
-            if (oldValue != null && key instanceof String) {
-                final String keyString = (String) key;
-
-                duplicatedKeys.computeIfAbsent(keyString, empty -> new AtomicInteger(0))
-                        .incrementAndGet();
-            }
-            return oldValue;
-        }
-
-        /**
-         * Retrieves a collections of duplicated properties keys.
-         *
-         * @return A collection of duplicated keys.
-         */
-        public Map<String, AtomicInteger> getDuplicatedKeys() {
-            return new HashMap<>(duplicatedKeys);
-        }
-
-    }
-
 }
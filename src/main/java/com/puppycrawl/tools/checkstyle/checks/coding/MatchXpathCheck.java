@@ -23,15 +23,15 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import com.puppycrawl.tools.checkstyle.StatelessCheck;
+import com.puppycrawl.tools.checkstyle.XpathTreeCache;
 import com.puppycrawl.tools.checkstyle.api.AbstractCheck;
 import com.puppycrawl.tools.checkstyle.api.DetailAST;
 import com.puppycrawl.tools.checkstyle.utils.CommonUtil;
+import com.puppycrawl.tools.checkstyle.utils.XpathUtil;
 import com.puppycrawl.tools.checkstyle.xpath.AbstractNode;
 import com.puppycrawl.tools.checkstyle.xpath.RootNode;
-import net.sf.saxon.Configuration;
 import net.sf.saxon.om.Item;
 import net.sf.saxon.sxpath.XPathDynamicContext;
-import net.sf.saxon.sxpath.XPathEvaluator;
 import net.sf.saxon.sxpath.XPathExpression;
 import net.sf.saxon.trans.XPathException;
 
@@ -238,9 +238,7 @@ public class MatchXpathCheck extends AbstractCheck {
         this.query = query;
         if (!query.isEmpty()) {
             try {
-                final XPathEvaluator xpathEvaluator =
-                        new XPathEvaluator(Configuration.newConfiguration());
-                xpathExpression = xpathEvaluator.createExpression(query);
+                xpathExpression = XpathUtil.compileXpath(query);
             }
             catch (XPathException ex) {
                 throw new IllegalStateException("Creating Xpath expression failed: " + query, ex);
@@ -285,7 +283,7 @@ public class MatchXpathCheck extends AbstractCheck {
      */
     private List<DetailAST> findMatchingNodesByXpathQuery(DetailAST rootAST) {
         try {
-            final RootNode rootNode = new RootNode(rootAST);
+            final RootNode rootNode = XpathTreeCache.getRootNode(rootAST);
             final XPathDynamicContext xpathDynamicContext =
                     xpathExpression.createDynamicContext(rootNode);
             final List<Item> matchingItems = xpathExpression.evaluate(xpathDynamicContext);
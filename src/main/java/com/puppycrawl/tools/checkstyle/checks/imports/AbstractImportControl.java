@@ -21,6 +21,8 @@ package com.puppycrawl.tools.checkstyle.checks.imports;
 
 import java.util.Deque;
 import java.util.LinkedList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Represents a tree of import rules for controlling whether packages or
@@ -29,12 +31,27 @@ import java.util.LinkedList;
  */
 abstract class AbstractImportControl {
 
+    /** Maximum number of access results memoized by a single node. */
+    private static final int MAX_CACHED_RESULTS = 4096;
+
     /** List of {@link AbstractImportRule} objects to check. */
     private final Deque<AbstractImportRule> rules = new LinkedList<>();
     /** The parent. Null indicates we are the root node. */
     private final AbstractImportControl parent;
     /** Strategy in a case if matching allow/disallow rule was not found. */
     private final MismatchStrategy strategyOnMismatch;
+    /**
+     * Results of {@link #checkAccess(String, String, String)} of this node, when it is
+     * the finest node of a file, by import. Only not null after the tree was compiled,
+     * as the tree can't change anymore.
+     */
+    private Map<String, AccessResult> accessCache;
+    /**
+     * This node and its ancestors which have local only rules. Whether these
+     * nodes match a file exactly is part of the memoization key, as it decides
+     * which of their rules apply. Only not null after the tree was compiled.
+     */
+    private AbstractImportControl[] localOnlyNodes;
 
     /**
      * Construct a child node.
@@ -57,6 +74,21 @@ abstract class AbstractImportControl {
      */
     public abstract AbstractImportControl locateFinest(String forPkg, String forFileName);
 
+    /**
+     * Compiles the node for fast lookups, once the tree is completely loaded.
+     * Enables memoization of access checks.
+     */
+    protected void compile() {
+        accessCache = new ConcurrentHashMap<>();
+        final Deque<AbstractImportControl> nodes = new LinkedList<>();
+        for (AbstractImportControl node = this; node != null; node = node.parent) {
+            if (node.rules.stream().anyMatch(AbstractImportRule::isLocalOnly)) {
+                nodes.addLast(node);
+            }
+        }
+        localOnlyNodes = nodes.toArray(new AbstractImportControl[0]);
+    }
+
     /**
      * Check for equality of this with pkg.
      *
@@ -88,6 +120,65 @@ abstract class AbstractImportControl {
      * @return an {@link AccessResult}.
      */
     public AccessResult checkAccess(String inPkg, String inFileName, String forImport) {
+        final AccessResult result;
+        if (accessCache == null) {
+            result = computeAccess(inPkg, inFileName, forImport);
+        }
+        else {
+            final String key = getAccessKey(inPkg, inFileName, forImport);
+            final AccessResult cachedResult = accessCache.get(key);
+            if (cachedResult == null) {
+                result = computeAccess(inPkg, inFileName, forImport);
+                if (accessCache.size() < MAX_CACHED_RESULTS) {
+                    accessCache.put(key, result);
+                }
+            }
+            else {
+                result = cachedResult;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the memoization key of an access check. The file only decides which
+     * local only rules apply, so the key is the import, followed by whether each node
+     * with local only rules matches the file exactly.
+     *
+     * @param inPkg the package doing the import.
+     * @param inFileName the file name doing the import.
+     * @param forImport the import to check on.
+     * @return the key.
+     */
+    private String getAccessKey(String inPkg, String inFileName, String forImport) {
+        final String key;
+        if (localOnlyNodes.length == 0) {
+            key = forImport;
+        }
+        else {
+            final StringBuilder builder = new StringBuilder(forImport).append('/');
+            for (AbstractImportControl node : localOnlyNodes) {
+                if (node.matchesExactly(inPkg, inFileName)) {
+                    builder.append('1');
+                }
+                else {
+                    builder.append('0');
+                }
+            }
+            key = builder.toString();
+        }
+        return key;
+    }
+
+    /**
+     * Computes whether a package or class is allowed to be imported, without memoization.
+     *
+     * @param inPkg the package doing the import.
+     * @param inFileName the file name doing the import.
+     * @param forImport the import to check on.
+     * @return an {@link AccessResult}.
+     */
+    private AccessResult computeAccess(String inPkg, String inFileName, String forImport) {
         final AccessResult result;
         final AccessResult returnValue = localCheckAccess(inPkg, inFileName, forImport);
         if (returnValue != AccessResult.UNKNOWN) {
@@ -109,7 +200,7 @@ abstract class AbstractImportControl {
                 result = AccessResult.DISALLOWED;
             }
             else {
-                result = parent.checkAccess(inPkg, inFileName, forImport);
+                result = parent.computeAccess(inPkg, inFileName, forImport);
             }
         }
         return result;
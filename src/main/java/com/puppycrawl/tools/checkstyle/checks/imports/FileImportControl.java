@@ -76,6 +76,25 @@ class FileImportControl extends AbstractImportControl {
         return Pattern.compile(expression);
     }
 
+    /**
+     * Returns the name of the file, which is a self-contained regular expression
+     * if {@link #isRegex()} is true.
+     *
+     * @return the name of the file.
+     */
+    /* package */ String getName() {
+        return name;
+    }
+
+    /**
+     * Returns whether the file name represents a regular expression.
+     *
+     * @return if the file name represents a regular expression.
+     */
+    /* package */ boolean isRegex() {
+        return regex;
+    }
+
     @Override
     public AbstractImportControl locateFinest(String forPkg, String forFileName) {
         AbstractImportControl finestMatch = null;
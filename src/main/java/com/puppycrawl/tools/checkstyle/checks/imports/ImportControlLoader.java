@@ -268,7 +268,10 @@ public final class ImportControlLoader extends XmlLoader {
         try {
             final ImportControlLoader loader = new ImportControlLoader();
             loader.parseInputSource(source);
-            return loader.getRoot();
+            final PkgImportControl root = loader.getRoot();
+            // the tree is complete, build the lookup indexes once
+            root.compile();
+            return root;
         }
         catch (ParserConfigurationException | SAXException ex) {
             throw new CheckstyleException("unable to parse " + uri
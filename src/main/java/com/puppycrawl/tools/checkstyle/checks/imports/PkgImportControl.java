@@ -20,8 +20,12 @@
 package com.puppycrawl.tools.checkstyle.checks.imports;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 /**
  * Represents a tree of import rules for a specific package.
@@ -38,6 +42,12 @@ class PkgImportControl extends AbstractImportControl {
     /** A pattern matching the package separator: "\." */
     private static final Pattern DOT_REGEX_PATTERN = Pattern.compile(DOT_REGEX);
 
+    /**
+     * A pattern finding back references, which can't be merged into an alternation
+     * as the group numbers change.
+     */
+    private static final Pattern BACK_REFERENCE_PATTERN = Pattern.compile("\\\\(?:[1-9]|k<)");
+
     /** The regex for the escaped package separator: "\\\\.". */
     private static final String DOT_ESCAPED_REGEX = "\\\\.";
 
@@ -55,6 +65,8 @@ class PkgImportControl extends AbstractImportControl {
     private final Pattern patternForExactMatch;
     /** If this package represents a regular expression. */
     private final boolean regex;
+    /** Index of the children for fast lookups, built lazily or by {@link #compile()}. */
+    private ChildIndex childIndex;
 
     /**
      * Construct a root, package node.
@@ -196,13 +208,15 @@ class PkgImportControl extends AbstractImportControl {
         if (matchesAtFront(forPkg)) {
             // If there won't be match, so I am the best there is.
             finestMatch = this;
-            // Check if any of the children match.
-            for (AbstractImportControl child : children) {
-                final AbstractImportControl match = child.locateFinest(forPkg, forFileName);
-                if (match != null) {
-                    finestMatch = match;
-                    break;
-                }
+            // Check if any of the children match, the first one in order wins.
+            ChildIndex index = childIndex;
+            if (index == null) {
+                index = new ChildIndex(children);
+                childIndex = index;
+            }
+            final int childNumber = index.findFirstMatch(forPkg, forFileName);
+            if (childNumber >= 0) {
+                finestMatch = children.get(childNumber).locateFinest(forPkg, forFileName);
             }
         }
         return finestMatch;
@@ -215,6 +229,16 @@ class PkgImportControl extends AbstractImportControl {
      */
     public void addChild(AbstractImportControl importControl) {
         children.add(importControl);
+        childIndex = null;
+    }
+
+    @Override
+    protected void compile() {
+        super.compile();
+        childIndex = new ChildIndex(children);
+        for (AbstractImportControl child : children) {
+            child.compile();
+        }
     }
 
     /**
@@ -258,4 +282,198 @@ class PkgImportControl extends AbstractImportControl {
         }
         return result;
     }
+
+    /**
+     * Index of the children of a package node, which finds the first child in order
+     * that matches a package and a file name without evaluating every child.
+     * Non-regex children are looked up by name, regex children of the same kind are
+     * merged into a single alternation pattern.
+     */
+    private static final class ChildIndex {
+
+        /** Numbers of the first non-regex package children by full package name. */
+        private final Map<String, Integer> packageChildren = new HashMap<>();
+
+        /** Numbers of the first non-regex file children by file name. */
+        private final Map<String, Integer> fileChildren = new HashMap<>();
+
+        /** Regex package children, merged into a single pattern. */
+        private final MergedPatterns packagePatterns = new MergedPatterns();
+
+        /** Regex file children, merged into a single pattern. */
+        private final MergedPatterns filePatterns = new MergedPatterns();
+
+        /**
+         * Builds the index.
+         *
+         * @param children the children of the node, in order.
+         */
+        private ChildIndex(List<AbstractImportControl> children) {
+            for (int number = 0; number < children.size(); number++) {
+                final AbstractImportControl child = children.get(number);
+                if (child instanceof PkgImportControl) {
+                    final PkgImportControl pkgChild = (PkgImportControl) child;
+                    if (pkgChild.regex) {
+                        packagePatterns.add(pkgChild.patternForPartialMatch, number);
+                    }
+                    else {
+                        packageChildren.putIfAbsent(pkgChild.fullPackageName, number);
+                    }
+                }
+                else {
+                    final FileImportControl fileChild = (FileImportControl) child;
+                    if (fileChild.isRegex()) {
+                        filePatterns.add(Pattern.compile(fileChild.getName()), number);
+                    }
+                    else {
+                        fileChildren.putIfAbsent(fileChild.getName(), number);
+                    }
+                }
+            }
+            packagePatterns.compile();
+            filePatterns.compile();
+        }
+
+        /**
+         * Finds the first child in order that matches a package and a file name.
+         *
+         * @param forPkg the package to search for.
+         * @param forFileName the file name to search for.
+         * @return number of the first matching child, or -1 if no child matches.
+         */
+        private int findFirstMatch(String forPkg, String forFileName) {
+            int result = Integer.MAX_VALUE;
+            if (!packageChildren.isEmpty()) {
+                // non-regex children match the package itself or any of its parent packages
+                int end = forPkg.indexOf('.');
+                while (end >= 0) {
+                    result = min(result, packageChildren.get(forPkg.substring(0, end)));
+                    end = forPkg.indexOf('.', end + 1);
+                }
+                result = min(result, packageChildren.get(forPkg));
+            }
+            result = Math.min(result, packagePatterns.findFirstMatch(forPkg, result));
+            if (forFileName != null) {
+                result = min(result, fileChildren.get(forFileName));
+                result = Math.min(result, filePatterns.findFirstMatch(forFileName, result));
+            }
+            if (result == Integer.MAX_VALUE) {
+                result = -1;
+            }
+            return result;
+        }
+
+        /**
+         * Returns the minimum of a child number and a nullable child number.
+         *
+         * @param number the child number.
+         * @param otherNumber the other child number, or null.
+         * @return the minimum of the numbers.
+         */
+        private static int min(int number, Integer otherNumber) {
+            int result = number;
+            if (otherNumber != null && otherNumber < number) {
+                result = otherNumber;
+            }
+            return result;
+        }
+
+    }
+
+    /**
+     * Regular expressions of children merged into a single alternation pattern.
+     * The alternation tries the alternatives in order, so the matching group
+     * identifies the first child in order that matches.
+     */
+    private static final class MergedPatterns {
+
+        /** The patterns of the children, in order. */
+        private final List<Pattern> patterns = new ArrayList<>();
+
+        /** The numbers of the children, in order. */
+        private final List<Integer> childNumbers = new ArrayList<>();
+
+        /** The merged pattern, or null if the patterns can't be merged. */
+        private Pattern mergedPattern;
+
+        /** The capturing group of each alternative in the merged pattern. */
+        private int[] groups;
+
+        /**
+         * Adds the pattern of a child.
+         *
+         * @param pattern the pattern of the child.
+         * @param childNumber the number of the child.
+         */
+        private void add(Pattern pattern, int childNumber) {
+            patterns.add(pattern);
+            childNumbers.add(childNumber);
+        }
+
+        /**
+         * Merges the patterns into a single alternation, unless one of them
+         * uses back references that would be broken by the added groups, or
+         * the alternation is not a valid pattern, like when two patterns
+         * declare the same named group.
+         */
+        private void compile() {
+            if (patterns.size() > 1 && patterns.stream().noneMatch(
+                    pattern -> BACK_REFERENCE_PATTERN.matcher(pattern.pattern()).find())) {
+                final StringBuilder builder = new StringBuilder(128);
+                final int[] alternativeGroups = new int[patterns.size()];
+                int group = 1;
+                for (int index = 0; index < patterns.size(); index++) {
+                    final Pattern pattern = patterns.get(index);
+                    if (index > 0) {
+                        builder.append('|');
+                    }
+                    builder.append('(').append(pattern.pattern()).append(')');
+                    alternativeGroups[index] = group;
+                    group += 1 + pattern.matcher("").groupCount();
+                }
+                try {
+                    mergedPattern = Pattern.compile(builder.toString());
+                    groups = alternativeGroups;
+                }
+                catch (PatternSyntaxException ignored) {
+                    // each pattern is matched separately
+                    mergedPattern = null;
+                }
+            }
+        }
+
+        /**
+         * Finds the first child in order whose pattern matches the input.
+         *
+         * @param input the package or file name.
+         * @param limit children with this number or higher are not of interest.
+         * @return number of the first matching child, or {@link Integer#MAX_VALUE} if none.
+         */
+        private int findFirstMatch(String input, int limit) {
+            int result = Integer.MAX_VALUE;
+            if (mergedPattern == null) {
+                for (int index = 0; index < patterns.size()
+                        && childNumbers.get(index) < limit; index++) {
+                    if (patterns.get(index).matcher(input).matches()) {
+                        result = childNumbers.get(index);
+                        break;
+                    }
+                }
+            }
+            else {
+                final Matcher matcher = mergedPattern.matcher(input);
+                if (matcher.matches()) {
+                    for (int index = 0; index < groups.length; index++) {
+                        if (matcher.start(groups[index]) >= 0) {
+                            result = childNumbers.get(index);
+                            break;
+                        }
+                    }
+                }
+            }
+            return result;
+        }
+
+    }
+
 }
@@ -19,28 +19,38 @@
 
 package com.puppycrawl.tools.checkstyle.checks.indentation;
 
-import java.lang.reflect.Constructor;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.Map;
-import java.util.Set;
 
 import com.puppycrawl.tools.checkstyle.api.DetailAST;
 import com.puppycrawl.tools.checkstyle.api.TokenTypes;
-import com.puppycrawl.tools.checkstyle.utils.CommonUtil;
+import com.puppycrawl.tools.checkstyle.utils.TokenUtil;
 
 /**
- * Factory for handlers. Looks up constructor via reflection.
+ * Factory for handlers. Looks up handler creators in an array indexed by token type.
  *
  */
 public class HandlerFactory {
 
+    /** Size of the creators array, large enough to be indexed by any token type. */
+    private static final int CREATORS_SIZE =
+        Arrays.stream(TokenUtil.getAllTokenIds()).max().orElse(0) + 1;
+
     /**
-     * Registered handlers.
+     * Registered handler creators, indexed by token type.
      */
-    private final Map<Integer, Constructor<?>> typeHandlers = new HashMap<>();
+    private final HandlerCreator[] typeHandlers = new HandlerCreator[CREATORS_SIZE];
+
+    /** Number of registered token types. */
+    private int handledTypesCount;
 
-    /** Cache for created method call handlers. */
-    private final Map<DetailAST, AbstractExpressionHandler> createdHandlers = new HashMap<>();
+    /**
+     * Cache for created method call handlers. AST nodes are unique within a tree,
+     * so they are compared by identity.
+     */
+    private final Map<DetailAST, AbstractExpressionHandler> createdHandlers =
+        new IdentityHashMap<>();
 
     /**
      * Creates a HandlerFactory.
@@ -50,64 +60,59 @@ public class HandlerFactory {
      *      requires this coupling
      */
     public HandlerFactory() {
-        register(TokenTypes.CASE_GROUP, CaseHandler.class);
-        register(TokenTypes.LITERAL_SWITCH, SwitchHandler.class);
-        register(TokenTypes.SLIST, SlistHandler.class);
-        register(TokenTypes.PACKAGE_DEF, PackageDefHandler.class);
-        register(TokenTypes.LITERAL_ELSE, ElseHandler.class);
-        register(TokenTypes.LITERAL_IF, IfHandler.class);
-        register(TokenTypes.LITERAL_TRY, TryHandler.class);
-        register(TokenTypes.LITERAL_CATCH, CatchHandler.class);
-        register(TokenTypes.LITERAL_FINALLY, FinallyHandler.class);
-        register(TokenTypes.LITERAL_DO, DoWhileHandler.class);
-        register(TokenTypes.LITERAL_WHILE, WhileHandler.class);
-        register(TokenTypes.LITERAL_FOR, ForHandler.class);
-        register(TokenTypes.METHOD_DEF, MethodDefHandler.class);
-        register(TokenTypes.CTOR_DEF, MethodDefHandler.class);
-        register(TokenTypes.CLASS_DEF, ClassDefHandler.class);
-        register(TokenTypes.ENUM_DEF, ClassDefHandler.class);
-        register(TokenTypes.OBJBLOCK, ObjectBlockHandler.class);
-        register(TokenTypes.INTERFACE_DEF, ClassDefHandler.class);
-        register(TokenTypes.IMPORT, ImportHandler.class);
-        register(TokenTypes.ARRAY_INIT, ArrayInitHandler.class);
-        register(TokenTypes.ANNOTATION_ARRAY_INIT, AnnotationArrayInitHandler.class);
-        register(TokenTypes.METHOD_CALL, MethodCallHandler.class);
-        register(TokenTypes.CTOR_CALL, MethodCallHandler.class);
-        register(TokenTypes.SUPER_CTOR_CALL, MethodCallHandler.class);
-        register(TokenTypes.LABELED_STAT, LabelHandler.class);
-        register(TokenTypes.STATIC_INIT, StaticInitHandler.class);
-        register(TokenTypes.INSTANCE_INIT, SlistHandler.class);
-        register(TokenTypes.VARIABLE_DEF, MemberDefHandler.class);
-        register(TokenTypes.LITERAL_NEW, NewHandler.class);
-        register(TokenTypes.INDEX_OP, IndexHandler.class);
-        register(TokenTypes.LITERAL_SYNCHRONIZED, SynchronizedHandler.class);
-        register(TokenTypes.LAMBDA, LambdaHandler.class);
-        register(TokenTypes.ANNOTATION_DEF, ClassDefHandler.class);
-        register(TokenTypes.ANNOTATION_FIELD_DEF, MethodDefHandler.class);
-        register(TokenTypes.SWITCH_RULE, SwitchRuleHandler.class);
-        register(TokenTypes.LITERAL_YIELD, YieldHandler.class);
-        register(TokenTypes.RECORD_DEF, ClassDefHandler.class);
-        register(TokenTypes.COMPACT_CTOR_DEF, MethodDefHandler.class);
+        register(TokenTypes.CASE_GROUP, CaseHandler::new);
+        register(TokenTypes.LITERAL_SWITCH, SwitchHandler::new);
+        register(TokenTypes.SLIST, SlistHandler::new);
+        register(TokenTypes.PACKAGE_DEF, PackageDefHandler::new);
+        register(TokenTypes.LITERAL_ELSE, ElseHandler::new);
+        register(TokenTypes.LITERAL_IF, IfHandler::new);
+        register(TokenTypes.LITERAL_TRY, TryHandler::new);
+        register(TokenTypes.LITERAL_CATCH, CatchHandler::new);
+        register(TokenTypes.LITERAL_FINALLY, FinallyHandler::new);
+        register(TokenTypes.LITERAL_DO, DoWhileHandler::new);
+        register(TokenTypes.LITERAL_WHILE, WhileHandler::new);
+        register(TokenTypes.LITERAL_FOR, ForHandler::new);
+        register(TokenTypes.METHOD_DEF, MethodDefHandler::new);
+        register(TokenTypes.CTOR_DEF, MethodDefHandler::new);
+        register(TokenTypes.CLASS_DEF, ClassDefHandler::new);
+        register(TokenTypes.ENUM_DEF, ClassDefHandler::new);
+        register(TokenTypes.OBJBLOCK, ObjectBlockHandler::new);
+        register(TokenTypes.INTERFACE_DEF, ClassDefHandler::new);
+        register(TokenTypes.IMPORT, ImportHandler::new);
+        register(TokenTypes.ARRAY_INIT, ArrayInitHandler::new);
+        register(TokenTypes.ANNOTATION_ARRAY_INIT, AnnotationArrayInitHandler::new);
+        register(TokenTypes.METHOD_CALL, MethodCallHandler::new);
+        register(TokenTypes.CTOR_CALL, MethodCallHandler::new);
+        register(TokenTypes.SUPER_CTOR_CALL, MethodCallHandler::new);
+        register(TokenTypes.LABELED_STAT, LabelHandler::new);
+        register(TokenTypes.STATIC_INIT, StaticInitHandler::new);
+        register(TokenTypes.INSTANCE_INIT, SlistHandler::new);
+        register(TokenTypes.VARIABLE_DEF, MemberDefHandler::new);
+        register(TokenTypes.LITERAL_NEW, NewHandler::new);
+        register(TokenTypes.INDEX_OP, IndexHandler::new);
+        register(TokenTypes.LITERAL_SYNCHRONIZED, SynchronizedHandler::new);
+        register(TokenTypes.LAMBDA, LambdaHandler::new);
+        register(TokenTypes.ANNOTATION_DEF, ClassDefHandler::new);
+        register(TokenTypes.ANNOTATION_FIELD_DEF, MethodDefHandler::new);
+        register(TokenTypes.SWITCH_RULE, SwitchRuleHandler::new);
+        register(TokenTypes.LITERAL_YIELD, YieldHandler::new);
+        register(TokenTypes.RECORD_DEF, ClassDefHandler::new);
+        register(TokenTypes.COMPACT_CTOR_DEF, MethodDefHandler::new);
     }
 
     /**
      * Registers a handler.
      *
-     * @param <T> type of the handler class object.
      * @param type
      *                type from TokenTypes
-     * @param handlerClass
-     *                the handler to register
+     * @param creator
+     *                the creator of the handler to register
      */
-    private <T> void register(int type, Class<T> handlerClass) {
-        final Constructor<T> ctor = CommonUtil.getConstructor(handlerClass,
-                IndentationCheck.class,
-                // current AST
-                DetailAST.class,
-                // parent
-                AbstractExpressionHandler.class
-        );
-        typeHandlers.put(type, ctor);
+    private void register(int type, HandlerCreator creator) {
+        if (typeHandlers[type] == null) {
+            handledTypesCount++;
+        }
+        typeHandlers[type] = creator;
     }
 
     /**
@@ -117,8 +122,7 @@ public class HandlerFactory {
      * @return true if handler is registered, false otherwise
      */
     public boolean isHandledType(int type) {
-        final Set<Integer> typeSet = typeHandlers.keySet();
-        return typeSet.contains(type);
+        return type >= 0 && type < typeHandlers.length && typeHandlers[type] != null;
     }
 
     /**
@@ -127,12 +131,13 @@ public class HandlerFactory {
      * @return int[] of TokenType types
      */
     public int[] getHandledTypes() {
-        final Set<Integer> typeSet = typeHandlers.keySet();
-        final int[] types = new int[typeSet.size()];
+        final int[] types = new int[handledTypesCount];
         int index = 0;
-        for (final Integer val : typeSet) {
-            types[index] = val;
-            index++;
+        for (int type = 0; type < typeHandlers.length; type++) {
+            if (typeHandlers[type] != null) {
+                types[index] = type;
+                index++;
+            }
         }
 
         return types;
@@ -159,9 +164,7 @@ public class HandlerFactory {
             resultHandler = createMethodCallHandler(indentCheck, ast, parent);
         }
         else {
-            final Constructor<?> handlerCtor = typeHandlers.get(ast.getType());
-            resultHandler = (AbstractExpressionHandler) CommonUtil.invokeConstructor(
-                handlerCtor, indentCheck, ast, parent);
+            resultHandler = typeHandlers[ast.getType()].create(indentCheck, ast, parent);
         }
         return resultHandler;
     }
@@ -194,4 +197,23 @@ public class HandlerFactory {
         createdHandlers.clear();
     }
 
+    /**
+     * Creates a handler for an AST. Implemented by the constructors of the handlers.
+     */
+    @FunctionalInterface
+    private interface HandlerCreator {
+
+        /**
+         * Creates a handler.
+         *
+         * @param indentCheck   the indentation check
+         * @param ast           ast to handle
+         * @param parent        the handler parent of this AST
+         * @return the new handler
+         */
+        AbstractExpressionHandler create(IndentationCheck indentCheck,
+            DetailAST ast, AbstractExpressionHandler parent);
+
+    }
+
 }
@@ -20,21 +20,19 @@
 package com.puppycrawl.tools.checkstyle.checks.javadoc;
 
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Locale;
-import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.puppycrawl.tools.checkstyle.JavadocDetailNodeParser;
 import com.puppycrawl.tools.checkstyle.JavadocDetailNodeParser.ParseErrorMessage;
 import com.puppycrawl.tools.checkstyle.JavadocDetailNodeParser.ParseStatus;
+import com.puppycrawl.tools.checkstyle.JavadocParseCache;
 import com.puppycrawl.tools.checkstyle.api.AbstractCheck;
 import com.puppycrawl.tools.checkstyle.api.DetailAST;
 import com.puppycrawl.tools.checkstyle.api.DetailNode;
 import com.puppycrawl.tools.checkstyle.api.JavadocTokenTypes;
-import com.puppycrawl.tools.checkstyle.api.LineColumn;
 import com.puppycrawl.tools.checkstyle.api.TokenTypes;
 import com.puppycrawl.tools.checkstyle.utils.CommonUtil;
 import com.puppycrawl.tools.checkstyle.utils.JavadocUtil;
@@ -71,13 +69,6 @@ public abstract class AbstractJavadocCheck extends AbstractCheck {
     public static final String MSG_JAVADOC_PARSE_RULE_ERROR =
             JavadocDetailNodeParser.MSG_JAVADOC_PARSE_RULE_ERROR;
 
-    /**
-     * Key is "line:column". Value is {@link DetailNode} tree. Map is stored in {@link ThreadLocal}
-     * to guarantee basic thread safety and avoid shared, mutable state when not necessary.
-     */
-    private static final ThreadLocal<Map<LineColumn, ParseStatus>> TREE_CACHE =
-            ThreadLocal.withInitial(HashMap::new);
-
     /**
      * The file context.
      *
@@ -291,7 +282,7 @@ public abstract class AbstractJavadocCheck extends AbstractCheck {
 
     @Override
     public final void beginTree(DetailAST rootAST) {
-        TREE_CACHE.get().clear();
+        // No code, prevent override in subclasses
     }
 
     @Override
@@ -305,12 +296,7 @@ public abstract class AbstractJavadocCheck extends AbstractCheck {
             // store as field, to share with child Checks
             context.get().blockCommentAst = blockCommentNode;
 
-            final LineColumn treeCacheKey = new LineColumn(blockCommentNode.getLineNo(),
-                    blockCommentNode.getColumnNo());
-
-            final ParseStatus result = TREE_CACHE.get().computeIfAbsent(treeCacheKey, key -> {
-                return context.get().parser.parseJavadocAsDetailNode(blockCommentNode);
-            });
+            final ParseStatus result = JavadocParseCache.parse(blockCommentNode);
 
             if (result.getParseErrorMessage() == null) {
                 if (acceptJavadocWithNonTightHtml() || !result.isNonTight()) {
@@ -399,7 +385,6 @@ public abstract class AbstractJavadocCheck extends AbstractCheck {
     public void destroy() {
         super.destroy();
         context.remove();
-        TREE_CACHE.remove();
     }
 
     /**
@@ -407,11 +392,6 @@ public abstract class AbstractJavadocCheck extends AbstractCheck {
      */
     private static class FileContext {
 
-        /**
-         * Parses content of Javadoc comment as DetailNode tree.
-         */
-        private final JavadocDetailNodeParser parser = new JavadocDetailNodeParser();
-
         /**
          * DetailAST node of considered Javadoc comment that is just a block comment
          * in Java language syntax tree.
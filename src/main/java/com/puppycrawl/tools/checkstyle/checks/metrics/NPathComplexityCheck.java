@@ -20,8 +20,7 @@
 package com.puppycrawl.tools.checkstyle.checks.metrics;
 
 import java.math.BigInteger;
-import java.util.ArrayDeque;
-import java.util.Deque;
+import java.util.Arrays;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import com.puppycrawl.tools.checkstyle.FileStatefulCheck;
@@ -246,18 +245,31 @@ public final class NPathComplexityCheck extends AbstractCheck {
     private static final int DEFAULT_MAX = 200;
 
     /** The initial current value. */
-    private static final BigInteger INITIAL_VALUE = BigInteger.ZERO;
+    private static final long INITIAL_VALUE = 0;
+
+    /** Initial capacity of the value stacks. */
+    private static final int INITIAL_STACK_CAPACITY = 16;
 
     /**
-     * Stack of NP values for ranges.
+     * Stack of NP values for ranges. Values are kept in {@code long} while they fit,
+     * values that overflowed are kept in {@link #bigRangeValues} at the same index.
      */
-    private final Deque<BigInteger> rangeValues = new ArrayDeque<>();
+    private long[] rangeValues = new long[INITIAL_STACK_CAPACITY];
+
+    /** Stack of NP values for ranges that overflowed {@code long}, null for others. */
+    private BigInteger[] bigRangeValues = new BigInteger[INITIAL_STACK_CAPACITY];
 
     /** Stack of NP values for expressions. */
-    private final Deque<Integer> expressionValues = new ArrayDeque<>();
+    private int[] expressionValues = new int[INITIAL_STACK_CAPACITY];
+
+    /** Number of values on the range and expression stacks. */
+    private int valuesSize;
 
     /** Stack of belongs to range values for question operator. */
-    private final Deque<Boolean> afterValues = new ArrayDeque<>();
+    private boolean[] afterValues = new boolean[INITIAL_STACK_CAPACITY];
+
+    /** Number of values on the stack of belongs to range values. */
+    private int afterValuesSize;
 
     /**
      * Range of the last processed expression. Used for checking that ternary operation
@@ -265,8 +277,11 @@ public final class NPathComplexityCheck extends AbstractCheck {
      */
     private final TokenEnd processingTokenEnd = new TokenEnd();
 
-    /** NP value for current range. */
-    private BigInteger currentRangeValue;
+    /** NP value for current range, while it fits in {@code long}. */
+    private long currentRangeValue;
+
+    /** NP value for current range once it overflowed {@code long}, null before that. */
+    private BigInteger bigCurrentRangeValue;
 
     /** Specify the maximum threshold allowed. */
     private int max = DEFAULT_MAX;
@@ -319,11 +334,10 @@ public final class NPathComplexityCheck extends AbstractCheck {
 
     @Override
     public void beginTree(DetailAST rootAST) {
-        rangeValues.clear();
-        expressionValues.clear();
-        afterValues.clear();
+        valuesSize = 0;
+        afterValuesSize = 0;
         processingTokenEnd.reset();
-        currentRangeValue = INITIAL_VALUE;
+        resetCurrentRangeValue();
         branchVisited = false;
     }
 
@@ -355,9 +369,7 @@ public final class NPathComplexityCheck extends AbstractCheck {
                 break;
             case TokenTypes.LITERAL_ELSE:
                 branchVisited = true;
-                if (currentRangeValue.equals(BigInteger.ZERO)) {
-                    currentRangeValue = BigInteger.ONE;
-                }
+                replaceZeroCurrentRangeValueWithOne();
                 pushValue(0);
                 break;
             case TokenTypes.LITERAL_TRY:
@@ -446,7 +458,11 @@ public final class NPathComplexityCheck extends AbstractCheck {
      */
     private void visitUnitaryOperator(DetailAST ast, int basicBranchingFactor) {
         final boolean isAfter = processingTokenEnd.isAfter(ast);
-        afterValues.push(isAfter);
+        if (afterValuesSize == afterValues.length) {
+            afterValues = Arrays.copyOf(afterValues, afterValuesSize * 2);
+        }
+        afterValues[afterValuesSize] = isAfter;
+        afterValuesSize++;
         if (!isAfter) {
             processingTokenEnd.setToken(getLastToken(ast));
             final int expressionValue = basicBranchingFactor + countConditionalOperators(ast);
@@ -458,45 +474,31 @@ public final class NPathComplexityCheck extends AbstractCheck {
      * Leaves ternary operator (?:) and return tokens.
      */
     private void leaveUnitaryOperator() {
-        if (Boolean.FALSE.equals(afterValues.pop())) {
-            final Values valuePair = popValue();
-            BigInteger basicRangeValue = valuePair.getRangeValue();
-            BigInteger expressionValue = valuePair.getExpressionValue();
-            if (expressionValue.equals(BigInteger.ZERO)) {
-                expressionValue = BigInteger.ONE;
-            }
-            if (basicRangeValue.equals(BigInteger.ZERO)) {
-                basicRangeValue = BigInteger.ONE;
-            }
-            currentRangeValue = currentRangeValue.add(expressionValue).multiply(basicRangeValue);
+        afterValuesSize--;
+        if (!afterValues[afterValuesSize]) {
+            final int index = popValue();
+            addToCurrentRangeValue(Math.max(expressionValues[index], 1), null);
+            multiplyCurrentRangeValueByRange(index);
         }
     }
 
     /** Leaves while, do, for, if, ternary (?::), return or switch. */
     private void leaveConditional() {
-        final Values valuePair = popValue();
-        final BigInteger expressionValue = valuePair.getExpressionValue();
-        BigInteger basicRangeValue = valuePair.getRangeValue();
-        if (currentRangeValue.equals(BigInteger.ZERO)) {
-            currentRangeValue = BigInteger.ONE;
-        }
-        if (basicRangeValue.equals(BigInteger.ZERO)) {
-            basicRangeValue = BigInteger.ONE;
-        }
-        currentRangeValue = currentRangeValue.add(expressionValue).multiply(basicRangeValue);
+        final int index = popValue();
+        replaceZeroCurrentRangeValueWithOne();
+        addToCurrentRangeValue(expressionValues[index], null);
+        multiplyCurrentRangeValueByRange(index);
     }
 
     /** Leaves else, default or case group tokens. */
     private void leaveBranch() {
-        final Values valuePair = popValue();
-        final BigInteger basicRangeValue = valuePair.getRangeValue();
-        final BigInteger expressionValue = valuePair.getExpressionValue();
-        if (branchVisited && currentRangeValue.equals(BigInteger.ZERO)) {
-            currentRangeValue = BigInteger.ONE;
+        final int index = popValue();
+        if (branchVisited) {
+            replaceZeroCurrentRangeValueWithOne();
         }
-        currentRangeValue = currentRangeValue.subtract(BigInteger.ONE)
-                .add(basicRangeValue)
-                .add(expressionValue);
+        addToCurrentRangeValue(-1, null);
+        addToCurrentRangeValue(rangeValues[index], bigRangeValues[index]);
+        addToCurrentRangeValue(expressionValues[index], null);
     }
 
     /**
@@ -505,17 +507,34 @@ public final class NPathComplexityCheck extends AbstractCheck {
      * @param ast the token type representing the method definition
      */
     private void leaveMethodDef(DetailAST ast) {
-        final BigInteger bigIntegerMax = BigInteger.valueOf(max);
-        if (currentRangeValue.compareTo(bigIntegerMax) > 0) {
-            log(ast, MSG_KEY, currentRangeValue, bigIntegerMax);
+        if (bigCurrentRangeValue != null) {
+            if (bigCurrentRangeValue.compareTo(BigInteger.valueOf(max)) > 0) {
+                log(ast, MSG_KEY, bigCurrentRangeValue, max);
+            }
+        }
+        else if (currentRangeValue > max) {
+            log(ast, MSG_KEY, currentRangeValue, max);
         }
         popValue();
-        currentRangeValue = INITIAL_VALUE;
+        resetCurrentRangeValue();
     }
 
     /** Leaves catch. */
     private void leaveAddingConditional() {
-        currentRangeValue = currentRangeValue.add(popValue().getRangeValue().add(BigInteger.ONE));
+        final int index = popValue();
+        addToCurrentRangeValue(rangeValues[index], bigRangeValues[index]);
+        addToCurrentRangeValue(1, null);
+    }
+
+    /** Leaves try. */
+    private void leaveMultiplyingConditional() {
+        final int index = popValue();
+        // (current + 1) * (range + 1) is computed as (current + 1) * range + (current + 1)
+        addToCurrentRangeValue(1, null);
+        final long incrementedValue = currentRangeValue;
+        final BigInteger bigIncrementedValue = bigCurrentRangeValue;
+        multiplyCurrentRangeValue(rangeValues[index], bigRangeValues[index]);
+        addToCurrentRangeValue(incrementedValue, bigIncrementedValue);
     }
 
     /**
@@ -524,26 +543,122 @@ public final class NPathComplexityCheck extends AbstractCheck {
      *
      * @param expressionValue value of expression calculated for current token.
      */
-    private void pushValue(Integer expressionValue) {
-        rangeValues.push(currentRangeValue);
-        expressionValues.push(expressionValue);
-        currentRangeValue = INITIAL_VALUE;
+    private void pushValue(int expressionValue) {
+        if (valuesSize == rangeValues.length) {
+            final int capacity = valuesSize * 2;
+            rangeValues = Arrays.copyOf(rangeValues, capacity);
+            bigRangeValues = Arrays.copyOf(bigRangeValues, capacity);
+            expressionValues = Arrays.copyOf(expressionValues, capacity);
+        }
+        rangeValues[valuesSize] = currentRangeValue;
+        bigRangeValues[valuesSize] = bigCurrentRangeValue;
+        expressionValues[valuesSize] = expressionValue;
+        valuesSize++;
+        resetCurrentRangeValue();
     }
 
     /**
      * Pops values from both stack of expression values and stack of range values.
+     * The popped values stay readable at the returned index until the next push.
      *
-     * @return pair of head values from both of the stacks.
+     * @return index of the popped values in the stacks.
      */
-    private Values popValue() {
-        final int expressionValue = expressionValues.pop();
-        return new Values(rangeValues.pop(), BigInteger.valueOf(expressionValue));
+    private int popValue() {
+        valuesSize--;
+        return valuesSize;
     }
 
-    /** Leaves try. */
-    private void leaveMultiplyingConditional() {
-        currentRangeValue = currentRangeValue.add(BigInteger.ONE)
-                .multiply(popValue().getRangeValue().add(BigInteger.ONE));
+    /** Resets the NP value for current range to the initial value. */
+    private void resetCurrentRangeValue() {
+        currentRangeValue = INITIAL_VALUE;
+        bigCurrentRangeValue = null;
+    }
+
+    /** Replaces NP value for current range with one, if it is zero. */
+    private void replaceZeroCurrentRangeValueWithOne() {
+        if (bigCurrentRangeValue == null && currentRangeValue == 0) {
+            currentRangeValue = 1;
+        }
+    }
+
+    /**
+     * Multiplies NP value for current range by the popped range value at the given index,
+     * taking zero range value as one.
+     *
+     * @param index index of the popped range value.
+     */
+    private void multiplyCurrentRangeValueByRange(int index) {
+        final BigInteger bigRangeValue = bigRangeValues[index];
+        if (bigRangeValue == null && rangeValues[index] == 0) {
+            multiplyCurrentRangeValue(1, null);
+        }
+        else {
+            multiplyCurrentRangeValue(rangeValues[index], bigRangeValue);
+        }
+    }
+
+    /**
+     * Adds a value to NP value for current range. Arithmetic is done in {@code long}
+     * until it overflows, then the current range value is promoted to {@link BigInteger}.
+     *
+     * @param value the value to add, if it fits in {@code long}.
+     * @param bigValue the value to add, if it overflowed {@code long}, otherwise null.
+     */
+    private void addToCurrentRangeValue(long value, BigInteger bigValue) {
+        if (bigCurrentRangeValue == null && bigValue == null) {
+            try {
+                currentRangeValue = Math.addExact(currentRangeValue, value);
+            }
+            catch (ArithmeticException ignored) {
+                bigCurrentRangeValue = BigInteger.valueOf(currentRangeValue)
+                    .add(BigInteger.valueOf(value));
+            }
+        }
+        else {
+            bigCurrentRangeValue = toBigInteger(currentRangeValue, bigCurrentRangeValue)
+                .add(toBigInteger(value, bigValue));
+        }
+    }
+
+    /**
+     * Multiplies NP value for current range by a value. Arithmetic is done in {@code long}
+     * until it overflows, then the current range value is promoted to {@link BigInteger}.
+     *
+     * @param value the multiplier, if it fits in {@code long}.
+     * @param bigValue the multiplier, if it overflowed {@code long}, otherwise null.
+     */
+    private void multiplyCurrentRangeValue(long value, BigInteger bigValue) {
+        if (bigCurrentRangeValue == null && bigValue == null) {
+            try {
+                currentRangeValue = Math.multiplyExact(currentRangeValue, value);
+            }
+            catch (ArithmeticException ignored) {
+                bigCurrentRangeValue = BigInteger.valueOf(currentRangeValue)
+                    .multiply(BigInteger.valueOf(value));
+            }
+        }
+        else {
+            bigCurrentRangeValue = toBigInteger(currentRangeValue, bigCurrentRangeValue)
+                .multiply(toBigInteger(value, bigValue));
+        }
+    }
+
+    /**
+     * Converts a value kept as a {@code long} or a {@link BigInteger} to {@link BigInteger}.
+     *
+     * @param value the value, if it fits in {@code long}.
+     * @param bigValue the value, if it overflowed {@code long}, otherwise null.
+     * @return the value as {@link BigInteger}.
+     */
+    private static BigInteger toBigInteger(long value, BigInteger bigValue) {
+        final BigInteger result;
+        if (bigValue == null) {
+            result = BigInteger.valueOf(value);
+        }
+        else {
+            result = bigValue;
+        }
+        return result;
     }
 
     /**
@@ -671,46 +786,4 @@ public final class NPathComplexityCheck extends AbstractCheck {
 
     }
 
-    /**
-     * Class that store range value and expression value.
-     */
-    private static final class Values {
-
-        /** NP value for range. */
-        private final BigInteger rangeValue;
-
-        /** NP value for expression. */
-        private final BigInteger expressionValue;
-
-        /**
-         * Constructor that assigns all of class fields.
-         *
-         * @param valueOfRange NP value for range
-         * @param valueOfExpression NP value for expression
-         */
-        private Values(BigInteger valueOfRange, BigInteger valueOfExpression) {
-            rangeValue = valueOfRange;
-            expressionValue = valueOfExpression;
-        }
-
-        /**
-         * Returns NP value for range.
-         *
-         * @return NP value for range
-         */
-        public BigInteger getRangeValue() {
-            return rangeValue;
-        }
-
-        /**
-         * Returns NP value for expression.
-         *
-         * @return NP value for expression
-         */
-        public BigInteger getExpressionValue() {
-            return expressionValue;
-        }
-
-    }
-
 }
@@ -22,6 +22,7 @@ package com.puppycrawl.tools.checkstyle.checks.regexp;
 import java.util.Optional;
 import java.util.regex.Pattern;
 
+import com.puppycrawl.tools.checkstyle.LiteralPrefilter;
 import com.puppycrawl.tools.checkstyle.api.AbstractViolationReporter;
 
 /**
@@ -52,6 +53,8 @@ public final class DetectorOptions {
     private MatchSuppressor suppressor;
     /** Pattern created from format. Lazily initialized. */
     private Pattern pattern;
+    /** Prefilter of lines which can not match the pattern, {@code null} to match all lines. */
+    private LiteralPrefilter literalPrefilter;
 
     /** Default constructor.*/
     private DetectorOptions() {
@@ -129,6 +132,15 @@ public final class DetectorOptions {
         return pattern;
     }
 
+    /**
+     * The prefilter of lines which can not match the pattern.
+     *
+     * @return the prefilter, or {@code null} if the pattern is matched on all lines.
+     */
+    public LiteralPrefilter getLiteralPrefilter() {
+        return literalPrefilter;
+    }
+
     /** Class which implements Builder pattern to build DetectorOptions instance. */
     public final class Builder {
 
@@ -238,6 +250,20 @@ public final class DetectorOptions {
             return this;
         }
 
+        /**
+         * Specifies the prefilter of lines which can not match the pattern and
+         * returns Builder object.
+         *
+         * @param val the prefilter to use, {@code null} to match all lines.
+         * @return Builder object.
+         * @noinspection ReturnOfInnerClass
+         * @noinspectionreason ReturnOfInnerClass - builder is only used in enclosing class
+         */
+        public Builder literalPrefilter(LiteralPrefilter val) {
+            literalPrefilter = val;
+            return this;
+        }
+
         /**
          * Returns new DetectorOptions instance.
          *
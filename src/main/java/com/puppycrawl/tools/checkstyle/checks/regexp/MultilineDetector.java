@@ -21,6 +21,7 @@ package com.puppycrawl.tools.checkstyle.checks.regexp;
 
 import java.util.regex.Matcher;
 
+import com.puppycrawl.tools.checkstyle.LiteralPrefilter;
 import com.puppycrawl.tools.checkstyle.api.FileText;
 import com.puppycrawl.tools.checkstyle.api.LineColumn;
 
@@ -54,6 +55,8 @@ class MultilineDetector {
 
     /** The detection options to use. */
     private final DetectorOptions options;
+    /** Identifier of the literal required by the pattern to match. */
+    private final int literalId;
     /** Tracks the number of matches. */
     private int currentMatches;
     /** The matcher. */
@@ -68,10 +71,17 @@ class MultilineDetector {
      */
     /* package */ MultilineDetector(DetectorOptions options) {
         this.options = options;
+        if (options.getLiteralPrefilter() == null) {
+            literalId = LiteralPrefilter.NO_LITERAL;
+        }
+        else {
+            literalId = options.getLiteralPrefilter().register(options.getPattern());
+        }
     }
 
     /**
-     * Processes an entire text file looking for matches.
+     * Processes an entire text file looking for matches. The pattern is not run
+     * on files which do not contain the literal required by it.
      *
      * @param fileText the text to process
      */
@@ -84,8 +94,11 @@ class MultilineDetector {
             options.getReporter().log(1, MSG_EMPTY);
         }
         else {
-            matcher = options.getPattern().matcher(fileText.getFullText());
-            findMatch();
+            if (literalId == LiteralPrefilter.NO_LITERAL
+                    || options.getLiteralPrefilter().mayMatchFile(fileText, literalId)) {
+                matcher = options.getPattern().matcher(fileText.getFullText());
+                findMatch();
+            }
             finish();
         }
     }
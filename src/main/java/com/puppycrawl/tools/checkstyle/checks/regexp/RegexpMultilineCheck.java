@@ -22,6 +22,8 @@ package com.puppycrawl.tools.checkstyle.checks.regexp;
 import java.io.File;
 import java.util.regex.Pattern;
 
+import com.puppycrawl.tools.checkstyle.LiteralPrefilter;
+import com.puppycrawl.tools.checkstyle.LiteralPrefilterUser;
 import com.puppycrawl.tools.checkstyle.PropertyType;
 import com.puppycrawl.tools.checkstyle.StatelessCheck;
 import com.puppycrawl.tools.checkstyle.XdocsPropertyType;
@@ -249,7 +251,8 @@ import com.puppycrawl.tools.checkstyle.api.FileText;
  * @since 5.0
  */
 @StatelessCheck
-public class RegexpMultilineCheck extends AbstractFileSetCheck {
+public class RegexpMultilineCheck extends AbstractFileSetCheck
+    implements LiteralPrefilterUser {
 
     /** Specify the format of the regular expression to match. */
     @XdocsPropertyType(PropertyType.PATTERN)
@@ -271,6 +274,14 @@ public class RegexpMultilineCheck extends AbstractFileSetCheck {
     /** The detector to use. */
     private MultilineDetector detector;
 
+    /** The prefilter of the Checker, {@code null} if the check is not added to one. */
+    private LiteralPrefilter literalPrefilter;
+
+    @Override
+    public void useLiteralPrefilter(LiteralPrefilter prefilter) {
+        literalPrefilter = prefilter;
+    }
+
     @Override
     public void beginProcessing(String charset) {
         final DetectorOptions options = DetectorOptions.newBuilder()
@@ -281,6 +292,7 @@ public class RegexpMultilineCheck extends AbstractFileSetCheck {
             .minimum(minimum)
             .maximum(maximum)
             .ignoreCase(ignoreCase)
+            .literalPrefilter(literalPrefilter)
             .build();
         detector = new MultilineDetector(options);
     }
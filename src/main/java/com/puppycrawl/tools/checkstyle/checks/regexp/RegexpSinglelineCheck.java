@@ -21,6 +21,8 @@ package com.puppycrawl.tools.checkstyle.checks.regexp;
 
 import java.io.File;
 
+import com.puppycrawl.tools.checkstyle.LiteralPrefilter;
+import com.puppycrawl.tools.checkstyle.LiteralPrefilterUser;
 import com.puppycrawl.tools.checkstyle.PropertyType;
 import com.puppycrawl.tools.checkstyle.StatelessCheck;
 import com.puppycrawl.tools.checkstyle.XdocsPropertyType;
@@ -194,7 +196,7 @@ import com.puppycrawl.tools.checkstyle.api.FileText;
  * @since 5.0
  */
 @StatelessCheck
-public class RegexpSinglelineCheck extends AbstractFileSetCheck {
+public class RegexpSinglelineCheck extends AbstractFileSetCheck implements LiteralPrefilterUser {
 
     /** Specify the format of the regular expression to match. */
     @XdocsPropertyType(PropertyType.PATTERN)
@@ -214,6 +216,14 @@ public class RegexpSinglelineCheck extends AbstractFileSetCheck {
     /** The detector to use. */
     private SinglelineDetector detector;
 
+    /** The prefilter of the Checker, {@code null} if the check is not added to one. */
+    private LiteralPrefilter literalPrefilter;
+
+    @Override
+    public void useLiteralPrefilter(LiteralPrefilter prefilter) {
+        literalPrefilter = prefilter;
+    }
+
     @Override
     public void beginProcessing(String charset) {
         final DetectorOptions options = DetectorOptions.newBuilder()
@@ -224,6 +234,7 @@ public class RegexpSinglelineCheck extends AbstractFileSetCheck {
             .minimum(minimum)
             .maximum(maximum)
             .ignoreCase(ignoreCase)
+            .literalPrefilter(literalPrefilter)
             .build();
         detector = new SinglelineDetector(options);
     }
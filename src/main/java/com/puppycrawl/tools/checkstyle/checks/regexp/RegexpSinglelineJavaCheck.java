@@ -19,6 +19,8 @@
 
 package com.puppycrawl.tools.checkstyle.checks.regexp;
 
+import com.puppycrawl.tools.checkstyle.LiteralPrefilter;
+import com.puppycrawl.tools.checkstyle.LiteralPrefilterUser;
 import com.puppycrawl.tools.checkstyle.PropertyType;
 import com.puppycrawl.tools.checkstyle.StatelessCheck;
 import com.puppycrawl.tools.checkstyle.XdocsPropertyType;
@@ -209,7 +211,7 @@ import com.puppycrawl.tools.checkstyle.utils.CommonUtil;
  * @since 6.0
  */
 @StatelessCheck
-public class RegexpSinglelineJavaCheck extends AbstractCheck {
+public class RegexpSinglelineJavaCheck extends AbstractCheck implements LiteralPrefilterUser {
 
     /** Specify the format of the regular expression to match. */
     @XdocsPropertyType(PropertyType.PATTERN)
@@ -227,6 +229,20 @@ public class RegexpSinglelineJavaCheck extends AbstractCheck {
     private boolean ignoreCase;
     /** Control whether to ignore text in comments when searching. */
     private boolean ignoreComments;
+    /** The prefilter of the Checker, {@code null} if the check is not run by one. */
+    private LiteralPrefilter literalPrefilter;
+
+    /**
+     * Sets the prefilter of the Checker. The pattern is compiled for every file,
+     * so its literal is registered with the first file and searched from the next
+     * file on.
+     *
+     * @param prefilter the prefilter of the Checker.
+     */
+    @Override
+    public void useLiteralPrefilter(LiteralPrefilter prefilter) {
+        literalPrefilter = prefilter;
+    }
 
     @Override
     public int[] getDefaultTokens() {
@@ -261,6 +277,7 @@ public class RegexpSinglelineJavaCheck extends AbstractCheck {
             .minimum(minimum)
             .maximum(maximum)
             .ignoreCase(ignoreCase)
+            .literalPrefilter(literalPrefilter)
             .build();
         final SinglelineDetector detector = new SinglelineDetector(options);
         detector.processLines(getFileContents().getText());
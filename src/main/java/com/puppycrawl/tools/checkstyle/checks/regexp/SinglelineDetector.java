@@ -21,6 +21,7 @@ package com.puppycrawl.tools.checkstyle.checks.regexp;
 
 import java.util.regex.Matcher;
 
+import com.puppycrawl.tools.checkstyle.LiteralPrefilter;
 import com.puppycrawl.tools.checkstyle.api.FileText;
 
 /**
@@ -42,6 +43,8 @@ class SinglelineDetector {
 
     /** The detection options to use. */
     private final DetectorOptions options;
+    /** Identifier of the literal required by the pattern to match. */
+    private final int literalId;
     /** Tracks the number of matches. */
     private int currentMatches;
 
@@ -52,10 +55,17 @@ class SinglelineDetector {
      */
     /* package */ SinglelineDetector(DetectorOptions options) {
         this.options = options;
+        if (options.getLiteralPrefilter() == null) {
+            literalId = LiteralPrefilter.NO_LITERAL;
+        }
+        else {
+            literalId = options.getLiteralPrefilter().register(options.getPattern());
+        }
     }
 
     /**
-     * Processes a set of lines looking for matches.
+     * Processes a set of lines looking for matches. Lines which do not contain
+     * the literal required by the pattern are skipped without running the pattern.
      *
      * @param fileText {@link FileText} object contains the lines to process.
      */
@@ -65,7 +75,10 @@ class SinglelineDetector {
         for (int index = 0; index < fileText.size(); index++) {
             final String line = fileText.get(index);
             lineNo++;
-            checkLine(lineNo, line, options.getPattern().matcher(line), 0);
+            if (literalId == LiteralPrefilter.NO_LITERAL || options.getLiteralPrefilter()
+                    .mayMatchLine(fileText, index, literalId)) {
+                checkLine(lineNo, line, options.getPattern().matcher(line), 0);
+            }
         }
         finish();
     }
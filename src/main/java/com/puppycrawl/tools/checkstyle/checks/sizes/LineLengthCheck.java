@@ -22,10 +22,11 @@ package com.puppycrawl.tools.checkstyle.checks.sizes;
 import java.io.File;
 import java.util.regex.Pattern;
 
+import com.puppycrawl.tools.checkstyle.ScannedLine;
+import com.puppycrawl.tools.checkstyle.ScannedLines;
 import com.puppycrawl.tools.checkstyle.StatelessCheck;
 import com.puppycrawl.tools.checkstyle.api.AbstractFileSetCheck;
 import com.puppycrawl.tools.checkstyle.api.FileText;
-import com.puppycrawl.tools.checkstyle.utils.CommonUtil;
 
 /**
  * <p>
@@ -167,11 +168,10 @@ public class LineLengthCheck extends AbstractFileSetCheck {
     @Override
     protected void processFiltered(File file, FileText fileText) {
         for (int i = 0; i < fileText.size(); i++) {
-            final String line = fileText.get(i);
-            final int realLength = CommonUtil.lengthExpandedTabs(
-                line, line.codePointCount(0, line.length()), getTabWidth());
+            final ScannedLine line = ScannedLines.get(fileText, i);
+            final int realLength = line.getExpandedLength(getTabWidth());
 
-            if (realLength > max && !ignorePattern.matcher(line).find()) {
+            if (realLength > max && !ignorePattern.matcher(line.getText()).find()) {
                 log(i + 1, MSG_KEY, max, realLength);
             }
         }
@@ -21,6 +21,7 @@ package com.puppycrawl.tools.checkstyle.checks.whitespace;
 
 import java.io.File;
 
+import com.puppycrawl.tools.checkstyle.ScannedLines;
 import com.puppycrawl.tools.checkstyle.StatelessCheck;
 import com.puppycrawl.tools.checkstyle.api.AbstractFileSetCheck;
 import com.puppycrawl.tools.checkstyle.api.FileText;
@@ -174,9 +175,8 @@ public class FileTabCharacterCheck extends AbstractFileSetCheck {
     protected void processFiltered(File file, FileText fileText) {
         int lineNum = 0;
         for (int index = 0; index < fileText.size(); index++) {
-            final String line = fileText.get(index);
             lineNum++;
-            final int tabPosition = line.indexOf('\t');
+            final int tabPosition = ScannedLines.get(fileText, index).getTabIndex();
             if (tabPosition != -1) {
                 if (eachLine) {
                     log(lineNum, tabPosition, MSG_CONTAINS_TAB);
@@ -19,8 +19,11 @@
 
 package com.puppycrawl.tools.checkstyle.filters;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.StringTokenizer;
@@ -36,6 +39,12 @@ class CsvFilterElement implements IntFilterElement {
     /** Filter set. */
     private final Set<IntFilterElement> filters = new HashSet<>();
 
+    /** Lower bounds of the disjoint matching intervals, sorted in ascending order. */
+    private final int[] lowerBounds;
+
+    /** Upper bounds of the disjoint matching intervals, in the order of lower bounds. */
+    private final int[] upperBounds;
+
     /**
      * Constructs a {@code CsvFilterElement} from a CSV, Comma-Separated Values,
      * string. Each value is an integer, or a range of integers. A range of
@@ -47,6 +56,7 @@ class CsvFilterElement implements IntFilterElement {
      *     contain a parsable integer.
      */
     /* package */ CsvFilterElement(String pattern) {
+        final List<int[]> intervals = new ArrayList<>();
         final StringTokenizer tokenizer = new StringTokenizer(pattern, ",");
         while (tokenizer.hasMoreTokens()) {
             final String token = tokenizer.nextToken().trim();
@@ -54,6 +64,7 @@ class CsvFilterElement implements IntFilterElement {
             if (index == -1) {
                 final int matchValue = Integer.parseInt(token);
                 addFilter(new IntMatchFilterElement(matchValue));
+                intervals.add(new int[] {matchValue, matchValue});
             }
             else {
                 final int lowerBound =
@@ -61,8 +72,40 @@ class CsvFilterElement implements IntFilterElement {
                 final int upperBound =
                     Integer.parseInt(token.substring(index + 1));
                 addFilter(new IntRangeFilterElement(lowerBound, upperBound));
+                if (lowerBound <= upperBound) {
+                    intervals.add(new int[] {lowerBound, upperBound});
+                }
+            }
+        }
+        final List<int[]> merged = mergeIntervals(intervals);
+        lowerBounds = new int[merged.size()];
+        upperBounds = new int[merged.size()];
+        for (int interval = 0; interval < lowerBounds.length; interval++) {
+            lowerBounds[interval] = merged.get(interval)[0];
+            upperBounds[interval] = merged.get(interval)[1];
+        }
+    }
+
+    /**
+     * Sorts the intervals by their lower bound and joins the overlapping ones,
+     * so a value can be looked up with a binary search.
+     *
+     * @param intervals non-empty intervals as pairs of inclusive bounds.
+     * @return sorted disjoint intervals.
+     */
+    private static List<int[]> mergeIntervals(List<int[]> intervals) {
+        intervals.sort((first, second) -> Integer.compare(first[0], second[0]));
+        final List<int[]> merged = new ArrayList<>();
+        for (int[] interval : intervals) {
+            final int last = merged.size() - 1;
+            if (last >= 0 && interval[0] <= merged.get(last)[1]) {
+                merged.get(last)[1] = Math.max(merged.get(last)[1], interval[1]);
+            }
+            else {
+                merged.add(interval);
             }
         }
+        return merged;
     }
 
     /**
@@ -91,12 +134,14 @@ class CsvFilterElement implements IntFilterElement {
      */
     @Override
     public boolean accept(int intValue) {
-        boolean result = false;
-        for (IntFilterElement filter : getFilters()) {
-            if (filter.accept(intValue)) {
-                result = true;
-                break;
-            }
+        final int index = Arrays.binarySearch(lowerBounds, intValue);
+        final boolean result;
+        if (index >= 0) {
+            result = true;
+        }
+        else {
+            final int preceding = -index - 2;
+            result = preceding >= 0 && intValue <= upperBounds[preceding];
         }
         return result;
     }
@@ -182,8 +182,8 @@ public class SuppressFilterElement
     @Override
     public boolean accept(AuditEvent event) {
         return !isFileNameAndModuleNameMatching(event)
-                || !isMessageNameMatching(event)
-                || !isLineAndColumnMatching(event);
+                || !isLineAndColumnMatching(event)
+                || !isMessageNameMatching(event);
     }
 
     /**
@@ -194,10 +194,43 @@ public class SuppressFilterElement
      */
     private boolean isFileNameAndModuleNameMatching(AuditEvent event) {
         return event.getFileName() != null
-                && (fileRegexp == null || fileRegexp.matcher(event.getFileName()).find())
+                && isFileNameMatching(event.getFileName())
                 && event.getViolation() != null
-                && (moduleId == null || moduleId.equals(event.getModuleId()))
-                && (checkRegexp == null || checkRegexp.matcher(event.getSourceName()).find());
+                && isModuleMatching(event.getSourceName(), event.getModuleId());
+    }
+
+    /**
+     * Is matching by file name.
+     *
+     * @param fileName name of the file, not {@code null}.
+     * @return true if it is matching or not set.
+     */
+    /* package */ boolean isFileNameMatching(String fileName) {
+        return fileRegexp == null || fileRegexp.matcher(fileName).find();
+    }
+
+    /**
+     * Is matching by module id and Check name.
+     *
+     * @param sourceName name of the check class which produced the event.
+     * @param eventModuleId module id of the check, may be {@code null}.
+     * @return true if it is matching or not set.
+     */
+    /* package */ boolean isModuleMatching(String sourceName, String eventModuleId) {
+        return (moduleId == null || moduleId.equals(eventModuleId))
+                && (checkRegexp == null || checkRegexp.matcher(sourceName).find());
+    }
+
+    /**
+     * Is matching by line, column and message. Only meaningful for events
+     * which are already matching by file name and module. The message is
+     * matched last, as it is formatted only when it is needed.
+     *
+     * @param event event
+     * @return true if it is matching or not set.
+     */
+    /* package */ boolean isLocationAndMessageMatching(AuditEvent event) {
+        return isLineAndColumnMatching(event) && isMessageNameMatching(event);
     }
 
     /**
@@ -21,8 +21,12 @@ package com.puppycrawl.tools.checkstyle.filters;
 
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -273,8 +277,11 @@ public class SuppressWithNearbyCommentFilter
     /** Default regex for lines that should be suppressed. */
     private static final String DEFAULT_INFLUENCE_FORMAT = "0";
 
-    /** Tagged comments. */
-    private final List<Tag> tags = new ArrayList<>();
+    /**
+     * Tagged comments of the file being processed, by processing thread.
+     * Files processed concurrently by several threads do not share this state.
+     */
+    private final ThreadLocal<FileTags> fileTags = new ThreadLocal<>();
 
     /** Control whether to check C style comments ({@code &#47;* ... *&#47;}). */
     private boolean checkC = true;
@@ -305,15 +312,6 @@ public class SuppressWithNearbyCommentFilter
      */
     private String influenceFormat = DEFAULT_INFLUENCE_FORMAT;
 
-    /**
-     * References the current FileContents for this filter.
-     * Since this is a weak reference to the FileContents, the FileContents
-     * can be reclaimed as soon as the strong references in TreeWalker
-     * are reassigned to the next FileContents, at which time filtering for
-     * the current FileContents is finished.
-     */
-    private WeakReference<FileContents> fileContentsReference = new WeakReference<>(null);
-
     /**
      * Setter to specify comment pattern to trigger filter to begin suppression.
      *
@@ -329,18 +327,23 @@ public class SuppressWithNearbyCommentFilter
      * @return the FileContents for this filter.
      */
     private FileContents getFileContents() {
-        return fileContentsReference.get();
+        final FileTags tags = fileTags.get();
+        FileContents result = null;
+        if (tags != null) {
+            result = tags.fileContentsReference.get();
+        }
+        return result;
     }
 
     /**
-     * Set the FileContents for this filter.
+     * Set the FileContents for this filter and tags its suppression comments.
      *
      * @param fileContents the FileContents for this filter.
      * @noinspection WeakerAccess
      * @noinspectionreason WeakerAccess - we avoid 'protected' when possible
      */
     public void setFileContents(FileContents fileContents) {
-        fileContentsReference = new WeakReference<>(fileContents);
+        fileTags.set(new FileTags(fileContents, tagSuppressions(fileContents)));
     }
 
     /**
@@ -416,9 +419,9 @@ public class SuppressWithNearbyCommentFilter
 
             if (getFileContents() != currentContents) {
                 setFileContents(currentContents);
-                tagSuppressions();
             }
-            if (matchesTag(event)) {
+            final FileTags tags = fileTags.get();
+            if (tags != null && tags.matchesTag(event)) {
                 accepted = false;
             }
         }
@@ -426,37 +429,24 @@ public class SuppressWithNearbyCommentFilter
     }
 
     /**
-     * Whether current event matches any tag from {@link #tags}.
+     * Collects all the suppression tags for all comments into a list.
      *
-     * @param event TreeWalkerAuditEvent to test match on {@link #tags}.
-     * @return true if event matches any tag from {@link #tags}, false otherwise.
+     * @param contents the contents of the file.
+     * @return list of tags.
      */
-    private boolean matchesTag(TreeWalkerAuditEvent event) {
-        boolean result = false;
-        for (final Tag tag : tags) {
-            if (tag.isMatch(event)) {
-                result = true;
-                break;
-            }
-        }
-        return result;
-    }
-
-    /**
-     * Collects all the suppression tags for all comments into a list and
-     * sorts the list.
-     */
-    private void tagSuppressions() {
-        tags.clear();
-        final FileContents contents = getFileContents();
+    private List<Tag> tagSuppressions(FileContents contents) {
+        final List<Tag> tags = new ArrayList<>();
+        // tags with the same text share the compiled regexps within the file
+        final Map<String, Pattern> tagRegexps = new HashMap<>();
         if (checkCPP) {
-            tagSuppressions(contents.getSingleLineComments().values());
+            tagSuppressions(contents.getSingleLineComments().values(), tags, tagRegexps);
         }
         if (checkC) {
             final Collection<List<TextBlock>> cComments =
                 contents.getBlockComments().values();
-            cComments.forEach(this::tagSuppressions);
+            cComments.forEach(comments -> tagSuppressions(comments, tags, tagRegexps));
         }
+        return tags;
     }
 
     /**
@@ -464,14 +454,17 @@ public class SuppressWithNearbyCommentFilter
      * set of suppression tags.
      *
      * @param comments the set of comments.
+     * @param tags the list to add tags to.
+     * @param tagRegexps the regexps expanded for the tags of the file, by expanded format.
      */
-    private void tagSuppressions(Collection<TextBlock> comments) {
+    private void tagSuppressions(Collection<TextBlock> comments, List<Tag> tags,
+            Map<String, Pattern> tagRegexps) {
         for (final TextBlock comment : comments) {
             final int startLineNo = comment.getStartLineNo();
             final String[] text = comment.getText();
-            tagCommentLine(text[0], startLineNo);
+            tagCommentLine(text[0], startLineNo, tags, tagRegexps);
             for (int i = 1; i < text.length; i++) {
-                tagCommentLine(text[i], startLineNo + i);
+                tagCommentLine(text[i], startLineNo + i, tags, tagRegexps);
             }
         }
     }
@@ -482,25 +475,17 @@ public class SuppressWithNearbyCommentFilter
      *
      * @param text the string to tag.
      * @param line the line number of text.
+     * @param tags the list to add tags to.
+     * @param tagRegexps the regexps expanded for the tags of the file, by expanded format.
      */
-    private void tagCommentLine(String text, int line) {
+    private void tagCommentLine(String text, int line, List<Tag> tags,
+            Map<String, Pattern> tagRegexps) {
         final Matcher matcher = commentFormat.matcher(text);
         if (matcher.find()) {
-            addTag(matcher.group(0), line);
+            tags.add(new Tag(matcher.group(0), line, this, tagRegexps));
         }
     }
 
-    /**
-     * Adds a comment suppression {@code Tag} to the list of all tags.
-     *
-     * @param text the text of the tag.
-     * @param line the line number of the tag.
-     */
-    private void addTag(String text, int line) {
-        final Tag tag = new Tag(text, line, this);
-        tags.add(tag);
-    }
-
     /**
      * A Tag holds a suppression comment and its location.
      */
@@ -530,25 +515,26 @@ public class SuppressWithNearbyCommentFilter
          * @param text the text of the suppression.
          * @param line the line number.
          * @param filter the {@code SuppressWithNearbyCommentFilter} with the context
+         * @param tagRegexps the regexps expanded for the tags of the file, by expanded format.
          * @throws IllegalArgumentException if unable to parse expanded text.
          */
-        private Tag(String text, int line, SuppressWithNearbyCommentFilter filter) {
+        private Tag(String text, int line, SuppressWithNearbyCommentFilter filter,
+                Map<String, Pattern> tagRegexps) {
             this.text = text;
 
             // Expand regexp for check and message
-            // Does not intern Patterns with Utils.getPattern()
             String format = "";
             try {
                 format = CommonUtil.fillTemplateWithStringsByRegexp(
                         filter.checkFormat, text, filter.commentFormat);
-                tagCheckRegexp = Pattern.compile(format);
+                tagCheckRegexp = tagRegexps.computeIfAbsent(format, Pattern::compile);
                 if (filter.messageFormat == null) {
                     tagMessageRegexp = null;
                 }
                 else {
                     format = CommonUtil.fillTemplateWithStringsByRegexp(
                             filter.messageFormat, text, filter.commentFormat);
-                    tagMessageRegexp = Pattern.compile(format);
+                    tagMessageRegexp = tagRegexps.computeIfAbsent(format, Pattern::compile);
                 }
                 if (filter.idFormat == null) {
                     tagIdRegexp = null;
@@ -556,7 +542,7 @@ public class SuppressWithNearbyCommentFilter
                 else {
                     format = CommonUtil.fillTemplateWithStringsByRegexp(
                             filter.idFormat, text, filter.commentFormat);
-                    tagIdRegexp = Pattern.compile(format);
+                    tagIdRegexp = tagRegexps.computeIfAbsent(format, Pattern::compile);
                 }
                 format = CommonUtil.fillTemplateWithStringsByRegexp(
                         filter.influenceFormat, text, filter.commentFormat);
@@ -621,28 +607,14 @@ public class SuppressWithNearbyCommentFilter
         }
 
         /**
-         * Determines whether the source of an audit event
-         * matches the text of this tag.
+         * Determines whether the check and module ID of an audit event
+         * match the text of this tag.
          *
          * @param event the {@code TreeWalkerAuditEvent} to check.
-         * @return true if the source of event matches the text of this tag.
-         */
-        public boolean isMatch(TreeWalkerAuditEvent event) {
-            return isInScopeOfSuppression(event)
-                    && isCheckMatch(event)
-                    && isIdMatch(event)
-                    && isMessageMatch(event);
-        }
-
-        /**
-         * Checks whether the {@link TreeWalkerAuditEvent} is in the scope of the suppression.
-         *
-         * @param event {@link TreeWalkerAuditEvent} instance.
-         * @return true if the {@link TreeWalkerAuditEvent} is in the scope of the suppression.
+         * @return true if the check and module ID of event match the text of this tag.
          */
-        private boolean isInScopeOfSuppression(TreeWalkerAuditEvent event) {
-            final int line = event.getLine();
-            return line >= firstLine && line <= lastLine;
+        public boolean isModuleMatch(TreeWalkerAuditEvent event) {
+            return isCheckMatch(event) && isIdMatch(event);
         }
 
         /**
@@ -682,7 +654,7 @@ public class SuppressWithNearbyCommentFilter
          * @param event {@link TreeWalkerAuditEvent} instance.
          * @return true if the {@link TreeWalkerAuditEvent} message matches the message format.
          */
-        private boolean isMessageMatch(TreeWalkerAuditEvent event) {
+        public boolean isMessageMatch(TreeWalkerAuditEvent event) {
             boolean match = true;
             if (tagMessageRegexp != null) {
                 final Matcher messageMatcher = tagMessageRegexp.matcher(event.getMessage());
@@ -704,4 +676,180 @@ public class SuppressWithNearbyCommentFilter
 
     }
 
+    /**
+     * Tags of a file, with the tags matching a check and module ID
+     * indexed on first use into line intervals.
+     */
+    private static final class FileTags {
+
+        /**
+         * References the FileContents the tags were collected from.
+         * Since this is a weak reference to the FileContents, the FileContents
+         * can be reclaimed as soon as the strong references in TreeWalker
+         * are reassigned to the next FileContents, at which time filtering for
+         * the current FileContents is finished.
+         */
+        private final WeakReference<FileContents> fileContentsReference;
+
+        /** Tagged comments. */
+        private final List<Tag> tags;
+
+        /** Line intervals of tags matching the check and module ID, by module key. */
+        private final Map<String, TagIntervals> moduleIntervals = new HashMap<>();
+
+        /**
+         * Creates a new instance.
+         *
+         * @param fileContents the contents of the file.
+         * @param tags tagged comments.
+         */
+        private FileTags(FileContents fileContents, List<Tag> tags) {
+            fileContentsReference = new WeakReference<>(fileContents);
+            this.tags = tags;
+        }
+
+        /**
+         * Whether current event matches any tag.
+         *
+         * @param event TreeWalkerAuditEvent to test match on tags.
+         * @return true if event matches any tag, false otherwise.
+         */
+        private boolean matchesTag(TreeWalkerAuditEvent event) {
+            final String key;
+            if (event.getModuleId() == null) {
+                key = event.getSourceName();
+            }
+            else {
+                key = event.getSourceName() + '#' + event.getModuleId();
+            }
+            return moduleIntervals.computeIfAbsent(key, ignored -> {
+                final List<Tag> moduleTags = new ArrayList<>();
+                for (Tag tag : tags) {
+                    if (tag.isModuleMatch(event)) {
+                        moduleTags.add(tag);
+                    }
+                }
+                return new TagIntervals(moduleTags);
+            }).matches(event);
+        }
+    }
+
+    /**
+     * Line intervals suppressed by tags of a check and module ID. Intervals of
+     * tags without message regexp are merged into disjoint sorted ranges, so
+     * they are looked up with a binary search. Tags with message regexp are
+     * sorted by first line, along with the maximum last line of all tags up to
+     * each one, so that only tags which may contain the line are matched.
+     */
+    private static final class TagIntervals {
+
+        /** First lines of disjoint ranges suppressed regardless of message. */
+        private final int[] rangeFirstLines;
+
+        /** Last lines of disjoint ranges suppressed regardless of message. */
+        private final int[] rangeLastLines;
+
+        /** Tags with message regexp, sorted by first line. */
+        private final Tag[] messageTags;
+
+        /** First lines of tags with message regexp. */
+        private final int[] messageFirstLines;
+
+        /** Maximum last line of tags with message regexp up to each index. */
+        private final int[] maxLastLines;
+
+        /**
+         * Creates the intervals of the given tags.
+         *
+         * @param tags tags matching a check and module ID.
+         */
+        private TagIntervals(List<Tag> tags) {
+            final List<Tag> rangeTags = new ArrayList<>();
+            final List<Tag> withMessage = new ArrayList<>();
+            for (Tag tag : tags) {
+                if (tag.tagMessageRegexp == null) {
+                    rangeTags.add(tag);
+                }
+                else {
+                    withMessage.add(tag);
+                }
+            }
+            final Comparator<Tag> byFirstLine = Comparator.comparingInt(tag -> tag.firstLine);
+            rangeTags.sort(byFirstLine);
+            final int[] firstLines = new int[rangeTags.size()];
+            final int[] lastLines = new int[rangeTags.size()];
+            int count = 0;
+            for (Tag tag : rangeTags) {
+                if (count > 0 && tag.firstLine <= lastLines[count - 1] + 1) {
+                    lastLines[count - 1] = Math.max(lastLines[count - 1], tag.lastLine);
+                }
+                else {
+                    firstLines[count] = tag.firstLine;
+                    lastLines[count] = tag.lastLine;
+                    count++;
+                }
+            }
+            rangeFirstLines = Arrays.copyOf(firstLines, count);
+            rangeLastLines = Arrays.copyOf(lastLines, count);
+
+            withMessage.sort(byFirstLine);
+            messageTags = withMessage.toArray(new Tag[0]);
+            messageFirstLines = new int[messageTags.length];
+            maxLastLines = new int[messageTags.length];
+            for (int index = 0; index < messageTags.length; index++) {
+                messageFirstLines[index] = messageTags[index].firstLine;
+                maxLastLines[index] = messageTags[index].lastLine;
+                if (index > 0) {
+                    maxLastLines[index] = Math.max(maxLastLines[index], maxLastLines[index - 1]);
+                }
+            }
+        }
+
+        /**
+         * Whether the event is in the scope of a tag which matches its message.
+         *
+         * @param event TreeWalkerAuditEvent to test.
+         * @return true if the event is suppressed.
+         */
+        private boolean matches(TreeWalkerAuditEvent event) {
+            final int line = event.getLine();
+            final int range = lastIndexStartingAtOrBefore(rangeFirstLines, line);
+            boolean result = range >= 0 && rangeLastLines[range] >= line;
+            if (!result) {
+                for (int index = lastIndexStartingAtOrBefore(messageFirstLines, line);
+                        index >= 0 && maxLastLines[index] >= line; index--) {
+                    final Tag tag = messageTags[index];
+                    if (tag.lastLine >= line && tag.isMessageMatch(event)) {
+                        result = true;
+                        break;
+                    }
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Finds the last of the sorted first lines that is not after the line.
+         *
+         * @param firstLines sorted first lines.
+         * @param line the line number.
+         * @return index of the first line, or -1 if all are after the line.
+         */
+        private static int lastIndexStartingAtOrBefore(int[] firstLines, int line) {
+            int low = 0;
+            int high = firstLines.length;
+            while (low < high) {
+                final int middle = low + high >>> 1;
+                if (firstLines[middle] > line) {
+                    high = middle;
+                }
+                else {
+                    low = middle + 1;
+                }
+            }
+            return low - 1;
+        }
+
+    }
+
 }
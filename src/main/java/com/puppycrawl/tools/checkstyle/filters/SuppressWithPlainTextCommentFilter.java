@@ -345,6 +345,12 @@ public class SuppressWithPlainTextCommentFilter extends AutomaticBean implements
     @XdocsPropertyType(PropertyType.PATTERN)
     private String idFormat;
 
+    /** Contents of the file which suppressions were collected last. */
+    private FileText lastFileText;
+
+    /** Suppressions collected last. */
+    private List<Suppression> lastSuppressions;
+
     /**
      * Setter to specify comment pattern to trigger filter to begin suppression.
      *
@@ -394,7 +400,10 @@ public class SuppressWithPlainTextCommentFilter extends AutomaticBean implements
     public boolean accept(AuditEvent event) {
         boolean accepted = true;
         if (event.getViolation() != null) {
-            final FileText fileText = getFileText(event.getFileName());
+            FileText fileText = event.getFileText();
+            if (fileText == null) {
+                fileText = getFileText(event.getFileName());
+            }
             if (fileText != null) {
                 final List<Suppression> suppressions = getSuppressions(fileText);
                 accepted = getNearestSuppression(suppressions, event) == null;
@@ -434,17 +443,22 @@ public class SuppressWithPlainTextCommentFilter extends AutomaticBean implements
 
     /**
      * Returns the list of {@link Suppression} instances retrieved from the given {@link FileText}.
+     * Suppressions are collected once for all events of a file passed with its contents.
      *
      * @param fileText {@link FileText} instance.
      * @return list of {@link Suppression} instances.
      */
     private List<Suppression> getSuppressions(FileText fileText) {
-        final List<Suppression> suppressions = new ArrayList<>();
-        for (int lineNo = 0; lineNo < fileText.size(); lineNo++) {
-            final Optional<Suppression> suppression = getSuppression(fileText, lineNo);
-            suppression.ifPresent(suppressions::add);
+        if (fileText != lastFileText) {
+            final List<Suppression> suppressions = new ArrayList<>();
+            for (int lineNo = 0; lineNo < fileText.size(); lineNo++) {
+                final Optional<Suppression> suppression = getSuppression(fileText, lineNo);
+                suppression.ifPresent(suppressions::add);
+            }
+            lastFileText = fileText;
+            lastSuppressions = suppressions;
         }
-        return suppressions;
+        return lastSuppressions;
     }
 
     /**
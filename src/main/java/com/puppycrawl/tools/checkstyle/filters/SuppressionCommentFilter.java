@@ -23,7 +23,9 @@ import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -357,8 +359,11 @@ public class SuppressionCommentFilter
     /** Control all checks. */
     private static final String DEFAULT_CHECK_FORMAT = ".*";
 
-    /** Tagged comments. */
-    private final List<Tag> tags = new ArrayList<>();
+    /**
+     * Tagged comments of the file being processed, by processing thread.
+     * Files processed concurrently by several threads do not share this state.
+     */
+    private final ThreadLocal<FileTags> fileTags = new ThreadLocal<>();
 
     /** Control whether to check C style comments ({@code &#47;* ... *&#47;}). */
     private boolean checkC = true;
@@ -386,15 +391,6 @@ public class SuppressionCommentFilter
     @XdocsPropertyType(PropertyType.PATTERN)
     private String idFormat;
 
-    /**
-     * References the current FileContents for this filter.
-     * Since this is a weak reference to the FileContents, the FileContents
-     * can be reclaimed as soon as the strong references in TreeWalker
-     * are reassigned to the next FileContents, at which time filtering for
-     * the current FileContents is finished.
-     */
-    private WeakReference<FileContents> fileContentsReference = new WeakReference<>(null);
-
     /**
      * Setter to specify comment pattern to trigger filter to begin suppression.
      *
@@ -419,18 +415,23 @@ public class SuppressionCommentFilter
      * @return the FileContents for this filter.
      */
     private FileContents getFileContents() {
-        return fileContentsReference.get();
+        final FileTags tags = fileTags.get();
+        FileContents result = null;
+        if (tags != null) {
+            result = tags.fileContentsReference.get();
+        }
+        return result;
     }
 
     /**
-     * Set the FileContents for this filter.
+     * Set the FileContents for this filter and tags its suppression comments.
      *
      * @param fileContents the FileContents for this filter.
      * @noinspection WeakerAccess
      * @noinspectionreason WeakerAccess - we avoid 'protected' when possible
      */
     public void setFileContents(FileContents fileContents) {
-        fileContentsReference = new WeakReference<>(fileContents);
+        fileTags.set(new FileTags(fileContents, tagSuppressions(fileContents)));
     }
 
     /**
@@ -496,53 +497,37 @@ public class SuppressionCommentFilter
 
             if (getFileContents() != currentContents) {
                 setFileContents(currentContents);
-                tagSuppressions();
-            }
-            final Tag matchTag = findNearestMatch(event);
-            accepted = matchTag == null || matchTag.getTagType() == TagType.ON;
-        }
-        return accepted;
-    }
-
-    /**
-     * Finds the nearest comment text tag that matches an audit event.
-     * The nearest tag is before the line and column of the event.
-     *
-     * @param event the {@code TreeWalkerAuditEvent} to match.
-     * @return The {@code Tag} nearest event.
-     */
-    private Tag findNearestMatch(TreeWalkerAuditEvent event) {
-        Tag result = null;
-        for (Tag tag : tags) {
-            final int eventLine = event.getLine();
-            if (tag.getLine() > eventLine
-                || tag.getLine() == eventLine
-                    && tag.getColumn() > event.getColumn()) {
-                break;
             }
-            if (tag.isMatch(event)) {
-                result = tag;
+            final FileTags tags = fileTags.get();
+            if (tags != null) {
+                final Tag matchTag = tags.findNearestMatch(event);
+                accepted = matchTag == null || matchTag.getTagType() == TagType.ON;
             }
         }
-        return result;
+        return accepted;
     }
 
     /**
      * Collects all the suppression tags for all comments into a list and
      * sorts the list.
+     *
+     * @param contents the contents of the file.
+     * @return sorted list of tags.
      */
-    private void tagSuppressions() {
-        tags.clear();
-        final FileContents contents = getFileContents();
+    private List<Tag> tagSuppressions(FileContents contents) {
+        final List<Tag> tags = new ArrayList<>();
+        // tags with the same text share the compiled regexps within the file
+        final Map<String, Pattern> tagRegexps = new HashMap<>();
         if (checkCPP) {
-            tagSuppressions(contents.getSingleLineComments().values());
+            tagSuppressions(contents.getSingleLineComments().values(), tags, tagRegexps);
         }
         if (checkC) {
             final Collection<List<TextBlock>> cComments = contents
                     .getBlockComments().values();
-            cComments.forEach(this::tagSuppressions);
+            cComments.forEach(comments -> tagSuppressions(comments, tags, tagRegexps));
         }
         Collections.sort(tags);
+        return tags;
     }
 
     /**
@@ -550,14 +535,17 @@ public class SuppressionCommentFilter
      * set of suppression tags.
      *
      * @param comments the set of comments.
+     * @param tags the list to add tags to.
+     * @param tagRegexps the regexps expanded for the tags of the file, by expanded format.
      */
-    private void tagSuppressions(Collection<TextBlock> comments) {
+    private void tagSuppressions(Collection<TextBlock> comments, List<Tag> tags,
+            Map<String, Pattern> tagRegexps) {
         for (TextBlock comment : comments) {
             final int startLineNo = comment.getStartLineNo();
             final String[] text = comment.getText();
-            tagCommentLine(text[0], startLineNo, comment.getStartColNo());
+            tagCommentLine(text[0], startLineNo, comment.getStartColNo(), tags, tagRegexps);
             for (int i = 1; i < text.length; i++) {
-                tagCommentLine(text[i], startLineNo + i, 0);
+                tagCommentLine(text[i], startLineNo + i, 0, tags, tagRegexps);
             }
         }
     }
@@ -569,33 +557,25 @@ public class SuppressionCommentFilter
      * @param text the string to tag.
      * @param line the line number of text.
      * @param column the column number of text.
+     * @param tags the list to add tags to.
+     * @param tagRegexps the regexps expanded for the tags of the file, by expanded format.
      */
-    private void tagCommentLine(String text, int line, int column) {
+    private void tagCommentLine(String text, int line, int column, List<Tag> tags,
+            Map<String, Pattern> tagRegexps) {
         final Matcher offMatcher = offCommentFormat.matcher(text);
         if (offMatcher.find()) {
-            addTag(offMatcher.group(0), line, column, TagType.OFF);
+            tags.add(new Tag(line, column, offMatcher.group(0), TagType.OFF, this,
+                    tagRegexps));
         }
         else {
             final Matcher onMatcher = onCommentFormat.matcher(text);
             if (onMatcher.find()) {
-                addTag(onMatcher.group(0), line, column, TagType.ON);
+                tags.add(new Tag(line, column, onMatcher.group(0), TagType.ON, this,
+                    tagRegexps));
             }
         }
     }
 
-    /**
-     * Adds a {@code Tag} to the list of all tags.
-     *
-     * @param text the text of the tag.
-     * @param line the line number of the tag.
-     * @param column the column number of the tag.
-     * @param reportingOn {@code true} if the tag turns checkstyle reporting on.
-     */
-    private void addTag(String text, int line, int column, TagType reportingOn) {
-        final Tag tag = new Tag(line, column, text, reportingOn, this);
-        tags.add(tag);
-    }
-
     /**
      * A Tag holds a suppression comment and its location, and determines
      * whether the suppression turns checkstyle reporting on or off.
@@ -632,10 +612,11 @@ public class SuppressionCommentFilter
          * @param text the text of the suppression.
          * @param tagType {@code ON} if the tag turns checkstyle reporting.
          * @param filter the {@code SuppressionCommentFilter} with the context
+         * @param tagRegexps the regexps expanded for the tags of the file, by expanded format.
          * @throws IllegalArgumentException if unable to parse expanded text.
          */
         private Tag(int line, int column, String text, TagType tagType,
-                   SuppressionCommentFilter filter) {
+                   SuppressionCommentFilter filter, Map<String, Pattern> tagRegexps) {
             this.line = line;
             this.column = column;
             this.text = text;
@@ -650,12 +631,11 @@ public class SuppressionCommentFilter
             }
 
             // Expand regexp for check and message
-            // Does not intern Patterns with Utils.getPattern()
             String format = "";
             try {
                 format = CommonUtil.fillTemplateWithStringsByRegexp(
                         filter.checkFormat, text, commentFormat);
-                tagCheckRegexp = Pattern.compile(format);
+                tagCheckRegexp = tagRegexps.computeIfAbsent(format, Pattern::compile);
 
                 if (filter.messageFormat == null) {
                     tagMessageRegexp = null;
@@ -663,7 +643,7 @@ public class SuppressionCommentFilter
                 else {
                     format = CommonUtil.fillTemplateWithStringsByRegexp(
                             filter.messageFormat, text, commentFormat);
-                    tagMessageRegexp = Pattern.compile(format);
+                    tagMessageRegexp = tagRegexps.computeIfAbsent(format, Pattern::compile);
                 }
 
                 if (filter.idFormat == null) {
@@ -672,7 +652,7 @@ public class SuppressionCommentFilter
                 else {
                     format = CommonUtil.fillTemplateWithStringsByRegexp(
                             filter.idFormat, text, commentFormat);
-                    tagIdRegexp = Pattern.compile(format);
+                    tagIdRegexp = tagRegexps.computeIfAbsent(format, Pattern::compile);
                 }
             }
             catch (final PatternSyntaxException ex) {
@@ -765,14 +745,26 @@ public class SuppressionCommentFilter
         }
 
         /**
-         * Determines whether the source of an audit event
-         * matches the text of this tag.
+         * Determines whether the check and module ID of an audit event
+         * match the text of this tag.
          *
          * @param event the {@code TreeWalkerAuditEvent} to check.
-         * @return true if the source of event matches the text of this tag.
+         * @return true if the check and module ID of event match the text of this tag.
+         */
+        public boolean isModuleMatch(TreeWalkerAuditEvent event) {
+            return isCheckMatch(event) && isIdMatch(event);
+        }
+
+        /**
+         * Checks whether the tag is after the given position in the file.
+         *
+         * @param eventLine the line number.
+         * @param eventColumn the column number.
+         * @return true if the tag is after the position.
          */
-        public boolean isMatch(TreeWalkerAuditEvent event) {
-            return isCheckMatch(event) && isIdMatch(event) && isMessageMatch(event);
+        public boolean isAfter(int eventLine, int eventColumn) {
+            return line > eventLine
+                || line == eventLine && column > eventColumn;
         }
 
         /**
@@ -812,7 +804,7 @@ public class SuppressionCommentFilter
          * @param event {@link TreeWalkerAuditEvent} instance.
          * @return true if the {@link TreeWalkerAuditEvent} message matches the message format.
          */
-        private boolean isMessageMatch(TreeWalkerAuditEvent event) {
+        public boolean isMessageMatch(TreeWalkerAuditEvent event) {
             boolean match = true;
             if (tagMessageRegexp != null) {
                 final Matcher messageMatcher = tagMessageRegexp.matcher(event.getMessage());
@@ -834,4 +826,94 @@ public class SuppressionCommentFilter
 
     }
 
+    /**
+     * Tags of a file, with the tags matching a check and module ID
+     * indexed on first use so that finding the nearest tag of an event
+     * is a binary search.
+     */
+    private static final class FileTags {
+
+        /**
+         * References the FileContents the tags were collected from.
+         * Since this is a weak reference to the FileContents, the FileContents
+         * can be reclaimed as soon as the strong references in TreeWalker
+         * are reassigned to the next FileContents, at which time filtering for
+         * the current FileContents is finished.
+         */
+        private final WeakReference<FileContents> fileContentsReference;
+
+        /** Tagged comments, sorted by position. */
+        private final List<Tag> tags;
+
+        /** Sorted tags matching the check and module ID, by module key. */
+        private final Map<String, List<Tag>> moduleTags = new HashMap<>();
+
+        /**
+         * Creates a new instance.
+         *
+         * @param fileContents the contents of the file.
+         * @param tags tagged comments, sorted by position.
+         */
+        private FileTags(FileContents fileContents, List<Tag> tags) {
+            fileContentsReference = new WeakReference<>(fileContents);
+            this.tags = tags;
+        }
+
+        /**
+         * Finds the nearest comment text tag that matches an audit event.
+         * The nearest tag is before the line and column of the event.
+         *
+         * @param event the {@code TreeWalkerAuditEvent} to match.
+         * @return The {@code Tag} nearest event.
+         */
+        private Tag findNearestMatch(TreeWalkerAuditEvent event) {
+            final List<Tag> candidates = getModuleTags(event);
+            int low = 0;
+            int high = candidates.size();
+            while (low < high) {
+                final int middle = low + high >>> 1;
+                if (candidates.get(middle).isAfter(event.getLine(), event.getColumn())) {
+                    high = middle;
+                }
+                else {
+                    low = middle + 1;
+                }
+            }
+            Tag result = null;
+            for (int index = low - 1; index >= 0; index--) {
+                final Tag tag = candidates.get(index);
+                if (tag.isMessageMatch(event)) {
+                    result = tag;
+                    break;
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Returns the tags matching the check and module ID of an audit event.
+         *
+         * @param event the {@code TreeWalkerAuditEvent} to match.
+         * @return sorted tags matching the event module.
+         */
+        private List<Tag> getModuleTags(TreeWalkerAuditEvent event) {
+            final String key;
+            if (event.getModuleId() == null) {
+                key = event.getSourceName();
+            }
+            else {
+                key = event.getSourceName() + '#' + event.getModuleId();
+            }
+            return moduleTags.computeIfAbsent(key, ignored -> {
+                final List<Tag> result = new ArrayList<>();
+                for (Tag tag : tags) {
+                    if (tag.isModuleMatch(event)) {
+                        result.add(tag);
+                    }
+                }
+                return result;
+            });
+        }
+    }
+
 }
@@ -230,8 +230,8 @@ public class SuppressionFilter extends AutomaticBean implements Filter, External
      * the filter accept all audit events.
      */
     private boolean optional;
-    /** Set of individual suppresses. */
-    private FilterSet filters = new FilterSet();
+    /** Index of individual suppresses. */
+    private SuppressionsIndex suppressions = new SuppressionsIndex(new FilterSet());
 
     /**
      * Setter to specify the location of the <em>suppressions XML document</em> file.
@@ -256,7 +256,7 @@ public class SuppressionFilter extends AutomaticBean implements Filter, External
 
     @Override
     public boolean accept(AuditEvent event) {
-        return filters.accept(event);
+        return suppressions.accept(event);
     }
 
     @Override
@@ -264,14 +264,15 @@ public class SuppressionFilter extends AutomaticBean implements Filter, External
         if (file != null) {
             if (optional) {
                 if (FilterUtil.isFileExists(file)) {
-                    filters = SuppressionsLoader.loadSuppressions(file);
+                    suppressions = new SuppressionsIndex(
+                            SuppressionsLoader.loadSuppressions(file));
                 }
                 else {
-                    filters = new FilterSet();
+                    suppressions = new SuppressionsIndex(new FilterSet());
                 }
             }
             else {
-                filters = SuppressionsLoader.loadSuppressions(file);
+                suppressions = new SuppressionsIndex(SuppressionsLoader.loadSuppressions(file));
             }
         }
     }
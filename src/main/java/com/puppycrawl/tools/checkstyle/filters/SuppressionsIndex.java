@@ -0,0 +1,191 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2023 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle.filters;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.puppycrawl.tools.checkstyle.api.AuditEvent;
+import com.puppycrawl.tools.checkstyle.api.Filter;
+import com.puppycrawl.tools.checkstyle.api.FilterSet;
+
+/**
+ * Index of the suppress elements loaded from a suppressions file.
+ * Instead of running the regular expressions of every element against every
+ * audit event, elements are split into candidates by file name and by check name
+ * with module id. Both splits are memoized: the file name split is computed once
+ * per file, as events of a file are reported together, and the check split is
+ * computed once per check class and module id. Only elements present in both
+ * splits are matched against the line, column and message of the event.
+ */
+final class SuppressionsIndex implements Filter {
+
+    /** Suppress elements of the index. */
+    private final SuppressFilterElement[] elements;
+
+    /** Filters that are not suppress elements, applied to every event. */
+    private final List<Filter> otherFilters = new ArrayList<>();
+
+    /** Elements matching a check class name and module id, by module key. */
+    private final Map<String, BitSet> moduleCandidates = new ConcurrentHashMap<>();
+
+    /** Elements matching the file name of the last processed event. */
+    private FileCandidates lastFileCandidates;
+
+    /**
+     * Creates a new index of the given filters.
+     *
+     * @param filters the filters to index.
+     */
+    /* package */ SuppressionsIndex(FilterSet filters) {
+        final List<SuppressFilterElement> suppressElements = new ArrayList<>();
+        for (Filter filter : filters.getFilters()) {
+            if (filter instanceof SuppressFilterElement) {
+                suppressElements.add((SuppressFilterElement) filter);
+            }
+            else {
+                otherFilters.add(filter);
+            }
+        }
+        elements = suppressElements.toArray(new SuppressFilterElement[0]);
+    }
+
+    @Override
+    public boolean accept(AuditEvent event) {
+        boolean result = true;
+        if (elements.length > 0 && event.getFileName() != null
+                && event.getViolation() != null) {
+            final BitSet fileMatches = getFileCandidates(event.getFileName());
+            if (!fileMatches.isEmpty()) {
+                final BitSet moduleMatches =
+                        getModuleCandidates(event.getSourceName(), event.getModuleId());
+                result = !isSuppressed(event, fileMatches, moduleMatches);
+            }
+        }
+        if (result) {
+            for (Filter filter : otherFilters) {
+                if (!filter.accept(event)) {
+                    result = false;
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Checks whether an element matching both the file and the module
+     * of the event suppresses it.
+     *
+     * @param event the event to check.
+     * @param fileMatches elements matching the file name of the event.
+     * @param moduleMatches elements matching the check and module id of the event.
+     * @return true if the event is suppressed.
+     */
+    private boolean isSuppressed(AuditEvent event, BitSet fileMatches, BitSet moduleMatches) {
+        boolean result = false;
+        if (fileMatches.intersects(moduleMatches)) {
+            for (int index = fileMatches.nextSetBit(0); index >= 0;
+                    index = fileMatches.nextSetBit(index + 1)) {
+                if (moduleMatches.get(index)
+                        && elements[index].isLocationAndMessageMatching(event)) {
+                    result = true;
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the elements matching the file name, reusing the result
+     * computed for the previous event if it was reported for the same file.
+     *
+     * @param fileName the file name.
+     * @return indexes of matching elements.
+     */
+    private BitSet getFileCandidates(String fileName) {
+        FileCandidates candidates = lastFileCandidates;
+        if (candidates == null || !candidates.fileName.equals(fileName)) {
+            final BitSet matches = new BitSet(elements.length);
+            for (int index = 0; index < elements.length; index++) {
+                if (elements[index].isFileNameMatching(fileName)) {
+                    matches.set(index);
+                }
+            }
+            candidates = new FileCandidates(fileName, matches);
+            lastFileCandidates = candidates;
+        }
+        return candidates.matches;
+    }
+
+    /**
+     * Returns the elements matching the check class name and module id.
+     *
+     * @param sourceName the check class name.
+     * @param moduleId the module id, may be {@code null}.
+     * @return indexes of matching elements.
+     */
+    private BitSet getModuleCandidates(String sourceName, String moduleId) {
+        final String key;
+        if (moduleId == null) {
+            key = sourceName;
+        }
+        else {
+            key = sourceName + '#' + moduleId;
+        }
+        return moduleCandidates.computeIfAbsent(key, ignored -> {
+            final BitSet matches = new BitSet(elements.length);
+            for (int index = 0; index < elements.length; index++) {
+                if (elements[index].isModuleMatching(sourceName, moduleId)) {
+                    matches.set(index);
+                }
+            }
+            return matches;
+        });
+    }
+
+    /**
+     * Elements matching a file name.
+     */
+    private static final class FileCandidates {
+
+        /** The file name. */
+        private final String fileName;
+
+        /** Indexes of elements matching the file name. */
+        private final BitSet matches;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param fileName the file name.
+         * @param matches indexes of matching elements.
+         */
+        private FileCandidates(String fileName, BitSet matches) {
+            this.fileName = fileName;
+            this.matches = matches;
+        }
+    }
+
+}
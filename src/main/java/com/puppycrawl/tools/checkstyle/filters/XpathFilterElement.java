@@ -27,13 +27,13 @@ import java.util.stream.Collectors;
 
 import com.puppycrawl.tools.checkstyle.TreeWalkerAuditEvent;
 import com.puppycrawl.tools.checkstyle.TreeWalkerFilter;
+import com.puppycrawl.tools.checkstyle.XpathTreeCache;
 import com.puppycrawl.tools.checkstyle.utils.CommonUtil;
+import com.puppycrawl.tools.checkstyle.utils.XpathUtil;
 import com.puppycrawl.tools.checkstyle.xpath.AbstractNode;
 import com.puppycrawl.tools.checkstyle.xpath.RootNode;
-import net.sf.saxon.Configuration;
 import net.sf.saxon.om.Item;
 import net.sf.saxon.sxpath.XPathDynamicContext;
-import net.sf.saxon.sxpath.XPathEvaluator;
 import net.sf.saxon.sxpath.XPathExpression;
 import net.sf.saxon.trans.XPathException;
 
@@ -135,10 +135,8 @@ public class XpathFilterElement implements TreeWalkerFilter {
             xpathExpression = null;
         }
         else {
-            final XPathEvaluator xpathEvaluator = new XPathEvaluator(
-                    Configuration.newConfiguration());
             try {
-                xpathExpression = xpathEvaluator.createExpression(xpathQuery);
+                xpathExpression = XpathUtil.compileXpath(xpathQuery);
             }
             catch (XPathException ex) {
                 throw new IllegalArgumentException("Incorrect xpath query: " + xpathQuery, ex);
@@ -223,7 +221,7 @@ public class XpathFilterElement implements TreeWalkerFilter {
             rootNode = null;
         }
         else {
-            rootNode = new RootNode(event.getRootAst());
+            rootNode = XpathTreeCache.getRootNode(event.getRootAst());
         }
         final List<Item> items;
         try {
@@ -55,7 +55,7 @@ public final class Main {
         final MainFrame mainFrame = new MainFrame();
         if (args.length > 0) {
             final File sourceFile = new File(args[0]);
-            mainFrame.openFile(sourceFile);
+            mainFrame.openFileInBackground(sourceFile);
         }
         mainFrame.setTitle("Checkstyle GUI");
         mainFrame.setDefaultCloseOperation(WindowConstants.EXIT_ON_CLOSE);
@@ -199,16 +199,41 @@ public class MainFrame extends JFrame {
     public void openFile(File sourceFile) {
         try {
             model.openFile(sourceFile);
-            setTitle(model.getTitle());
-            reloadAction.setEnabled(model.isReloadActionEnabled());
-            textArea.setText(model.getText());
-            treeTable.setLinePositionList(model.getLinesToPosition());
+            showOpenedFile();
         }
         catch (final CheckstyleException ex) {
-            JOptionPane.showMessageDialog(this, ex.getMessage());
+            showOpenFailure(ex);
         }
     }
 
+    /**
+     * Open file and load it on a background thread, keeping the frame responsive.
+     *
+     * @param sourceFile the file to open.
+     */
+    public void openFileInBackground(File sourceFile) {
+        model.openFileInBackground(sourceFile, this::showOpenedFile, this::showOpenFailure);
+    }
+
+    /**
+     * Shows the file opened by the model.
+     */
+    private void showOpenedFile() {
+        setTitle(model.getTitle());
+        reloadAction.setEnabled(model.isReloadActionEnabled());
+        textArea.setText(model.getText());
+        treeTable.setLinePositionList(model.getLinesToPosition());
+    }
+
+    /**
+     * Shows the reason the file could not be opened.
+     *
+     * @param exception the exception thrown while opening the file.
+     */
+    private void showOpenFailure(CheckstyleException exception) {
+        JOptionPane.showMessageDialog(this, exception.getMessage());
+    }
+
     /**
      * Handler for file selection action events.
      */
@@ -226,7 +251,7 @@ public class MainFrame extends JFrame {
             final int returnCode = fileChooser.showOpenDialog(MainFrame.this);
             if (returnCode == JFileChooser.APPROVE_OPTION) {
                 final File file = fileChooser.getSelectedFile();
-                openFile(file);
+                openFileInBackground(file);
             }
         }
 
@@ -242,7 +267,7 @@ public class MainFrame extends JFrame {
 
         @Override
         public void actionPerformed(ActionEvent event) {
-            openFile(model.getCurrentFile());
+            openFileInBackground(model.getCurrentFile());
         }
 
     }
@@ -25,6 +25,10 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+
+import javax.swing.SwingWorker;
 
 import com.puppycrawl.tools.checkstyle.JavaParser;
 import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
@@ -95,6 +99,9 @@ public class MainFrameModel {
     /** Whether the reload action is enabled. */
     private boolean reloadActionEnabled;
 
+    /** The loader of the file being opened in background, or {@code null}. */
+    private FileLoader fileLoader;
+
     /** Instantiate the model. */
     public MainFrameModel() {
         parseTreeTableModel = new ParseTreeTableModel(null);
@@ -198,12 +205,97 @@ public class MainFrameModel {
      */
     public void openFile(File file) throws CheckstyleException {
         if (file != null) {
-            try {
-                currentFile = file;
-                title = "Checkstyle GUI : " + file.getName();
-                reloadActionEnabled = true;
-                final DetailAST parseTree;
+            setCurrentFile(file);
+            setLoadedFile(new LoadedFile(file, parseMode));
+        }
+    }
+
+    /**
+     * Open file and load the file on a background thread, so the event dispatch
+     * thread stays responsive while a large file is parsed. The model is updated
+     * on the event dispatch thread once the file is loaded, opening another file
+     * in the meantime discards the file being loaded.
+     *
+     * @param file the file to open.
+     * @param onOpen run on the event dispatch thread when the file is loaded.
+     * @param onFailure run on the event dispatch thread if the file can not be parsed.
+     */
+    public void openFileInBackground(File file, Runnable onOpen,
+            Consumer<CheckstyleException> onFailure) {
+        if (file != null) {
+            final FileLoader previousLoader = fileLoader;
+            setCurrentFile(file);
+            fileLoader = new FileLoader(file, parseMode, onOpen, onFailure);
+            if (previousLoader != null) {
+                previousLoader.cancel(false);
+            }
+            fileLoader.execute();
+        }
+    }
+
+    /**
+     * Sets the file being opened.
+     *
+     * @param file the file being opened.
+     */
+    private void setCurrentFile(File file) {
+        currentFile = file;
+        title = "Checkstyle GUI : " + file.getName();
+        reloadActionEnabled = true;
+    }
+
+    /**
+     * Shows the loaded file.
+     *
+     * @param loadedFile the loaded file.
+     */
+    private void setLoadedFile(LoadedFile loadedFile) {
+        parseTreeTableModel.setParseMode(loadedFile.parseMode);
+        parseTreeTableModel.setParseTree(loadedFile.parseTree);
+        linesToPosition = loadedFile.linesToPosition;
+        text = loadedFile.text;
+    }
+
+    /**
+     * Get FileText from a file.
+     *
+     * @param file the file to get the FileText from.
+     * @return the FileText.
+     * @throws IOException if the file could not be read.
+     */
+    private static FileText getFileText(File file) throws IOException {
+        return new FileText(file.getAbsoluteFile(),
+                System.getProperty("file.encoding", StandardCharsets.UTF_8.name()));
+    }
+
+    /**
+     * Parse tree and text of a file, loaded without changing the model.
+     */
+    private static final class LoadedFile {
+
+        /** The parse mode used to parse the file. */
+        private final ParseMode parseMode;
+
+        /** The parse tree. */
+        private final DetailAST parseTree;
+
+        /** Lines to position map. */
+        private final List<Integer> linesToPosition;
+
+        /** Text for a frame's text area. */
+        private final String text;
 
+        /**
+         * Loads the file.
+         *
+         * @param file the file to load.
+         * @param parseMode the parse mode.
+         * @throws CheckstyleException if the file can not be parsed.
+         * @throws IllegalArgumentException if parseMode is unknown
+         */
+        private LoadedFile(File file, ParseMode parseMode) throws CheckstyleException {
+            this.parseMode = parseMode;
+            try {
                 if (parseMode == ParseMode.PLAIN_JAVA) {
                     parseTree = JavaParser.parseFile(file, JavaParser.Options.WITHOUT_COMMENTS);
                 }
@@ -215,8 +307,6 @@ public class MainFrameModel {
                     throw new IllegalArgumentException("Unknown mode: " + parseMode);
                 }
 
-                parseTreeTableModel.setParseTree(parseTree);
-                parseTreeTableModel.setParseMode(parseMode);
                 final String[] sourceLines = getFileText(file).toLinesArray();
 
                 final List<Integer> linesToPositionTemp = new ArrayList<>(sourceLines.length + 1);
@@ -239,18 +329,69 @@ public class MainFrameModel {
                 throw new CheckstyleException(exceptionMsg, ex);
             }
         }
+
     }
 
     /**
-     * Get FileText from a file.
-     *
-     * @param file the file to get the FileText from.
-     * @return the FileText.
-     * @throws IOException if the file could not be read.
+     * Loads a file on a background thread and shows it on the event dispatch thread.
      */
-    private static FileText getFileText(File file) throws IOException {
-        return new FileText(file.getAbsoluteFile(),
-                System.getProperty("file.encoding", StandardCharsets.UTF_8.name()));
+    private final class FileLoader extends SwingWorker<LoadedFile, Void> {
+
+        /** The file to load. */
+        private final File file;
+
+        /** The parse mode. */
+        private final ParseMode mode;
+
+        /** Run when the file is loaded. */
+        private final Runnable onOpen;
+
+        /** Run if the file can not be parsed. */
+        private final Consumer<CheckstyleException> onFailure;
+
+        /**
+         * Creates a new loader.
+         *
+         * @param file the file to load.
+         * @param mode the parse mode.
+         * @param onOpen run when the file is loaded.
+         * @param onFailure run if the file can not be parsed.
+         */
+        private FileLoader(File file, ParseMode mode, Runnable onOpen,
+                Consumer<CheckstyleException> onFailure) {
+            this.file = file;
+            this.mode = mode;
+            this.onOpen = onOpen;
+            this.onFailure = onFailure;
+        }
+
+        @Override
+        protected LoadedFile doInBackground() throws CheckstyleException {
+            return new LoadedFile(file, mode);
+        }
+
+        @Override
+        protected void done() {
+            if (fileLoader == this) {
+                fileLoader = null;
+                try {
+                    setLoadedFile(get());
+                    onOpen.run();
+                }
+                catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                catch (ExecutionException ex) {
+                    if (ex.getCause() instanceof CheckstyleException) {
+                        onFailure.accept((CheckstyleException) ex.getCause());
+                    }
+                    else {
+                        throw new IllegalStateException(ex.getCause());
+                    }
+                }
+            }
+        }
+
     }
 
 }
@@ -48,8 +48,13 @@ public class ParseTreeTablePresentation {
         "Text",
     };
 
-    /** Cache to store already parsed Javadoc comments. Used for optimisation purposes. */
-    private final Map<DetailAST, DetailNode> blockCommentToJavadocTree = new HashMap<>();
+    /**
+     * Children of nodes by their parent, collected when a child of the node is
+     * first requested, so the tree table gets any row in constant time.
+     * The only child of the content of a Javadoc comment is its Javadoc tree,
+     * which is parsed only when the content node is expanded.
+     */
+    private final Map<DetailAST, Object[]> childrenCache = new HashMap<>();
 
     /** The root node of the tree table model. */
     private DetailAST root;
@@ -73,6 +78,7 @@ public class ParseTreeTablePresentation {
      */
     protected final void setRoot(DetailAST parseTree) {
         root = parseTree;
+        childrenCache.clear();
     }
 
     /**
@@ -82,6 +88,7 @@ public class ParseTreeTablePresentation {
      */
     protected void setParseMode(ParseMode mode) {
         parseMode = mode;
+        childrenCache.clear();
     }
 
     /**
@@ -186,9 +193,7 @@ public class ParseTreeTablePresentation {
             result = ((DetailNode) parent).getChildren().length;
         }
         else {
-            if (parseMode == ParseMode.JAVA_WITH_JAVADOC_AND_COMMENTS
-                    && ((DetailAST) parent).getType() == TokenTypes.COMMENT_CONTENT
-                    && JavadocUtil.isJavadocComment(((DetailAST) parent).getParent())) {
+            if (isJavadocCommentContent((DetailAST) parent)) {
                 // getChildCount return 0 on COMMENT_CONTENT,
                 // but we need to attach javadoc tree, that is separate tree
                 result = 1;
@@ -234,7 +239,8 @@ public class ParseTreeTablePresentation {
      */
     public int getIndexOfChild(Object parent, Object child) {
         int index = -1;
-        for (int i = 0; i < getChildCount(parent); i++) {
+        final int childCount = getChildCount(parent);
+        for (int i = 0; i < childCount; i++) {
             if (getChild(parent, i).equals(child)) {
                 index = i;
                 break;
@@ -260,26 +266,53 @@ public class ParseTreeTablePresentation {
      * @param parent DetailAST node
      * @param index child index
      * @return child DetailsAST or DetailNode if child is Javadoc node
-     *         and parseMode is JAVA_WITH_JAVADOC_AND_COMMENTS.
+     *         and parseMode is JAVA_WITH_JAVADOC_AND_COMMENTS,
+     *         {@code null} if the node has no child at the index.
      */
     private Object getChildAtDetailAst(DetailAST parent, int index) {
-        final Object result;
-        if (parseMode == ParseMode.JAVA_WITH_JAVADOC_AND_COMMENTS
-                && parent.getType() == TokenTypes.COMMENT_CONTENT
-                && JavadocUtil.isJavadocComment(parent.getParent())) {
-            result = getJavadocTree(parent.getParent());
+        final Object[] children = childrenCache.computeIfAbsent(parent, this::collectChildren);
+        Object result = null;
+        if (index < children.length) {
+            result = children[index];
+        }
+        return result;
+    }
+
+    /**
+     * Collects children of DetailAST node.
+     *
+     * @param parent DetailAST node
+     * @return children DetailAST nodes, or root of Javadoc tree if the node is
+     *         the content of a Javadoc comment and parseMode is JAVA_WITH_JAVADOC_AND_COMMENTS.
+     */
+    private Object[] collectChildren(DetailAST parent) {
+        final Object[] children;
+        if (isJavadocCommentContent(parent)) {
+            children = new Object[] {parseJavadocTree(parent.getParent())};
         }
         else {
-            int currentIndex = 0;
-            DetailAST child = parent.getFirstChild();
-            while (currentIndex < index) {
-                child = child.getNextSibling();
-                currentIndex++;
+            children = new Object[parent.getChildCount()];
+            int index = 0;
+            for (DetailAST child = parent.getFirstChild(); child != null;
+                    child = child.getNextSibling()) {
+                children[index] = child;
+                index++;
             }
-            result = child;
         }
+        return children;
+    }
 
-        return result;
+    /**
+     * Checks whether the node is the content of a Javadoc comment,
+     * which gets the Javadoc tree attached in JAVA_WITH_JAVADOC_AND_COMMENTS mode.
+     *
+     * @param ast DetailAST node
+     * @return true if the Javadoc tree is attached to the node
+     */
+    private boolean isJavadocCommentContent(DetailAST ast) {
+        return parseMode == ParseMode.JAVA_WITH_JAVADOC_AND_COMMENTS
+                && ast.getType() == TokenTypes.COMMENT_CONTENT
+                && JavadocUtil.isJavadocComment(ast.getParent());
     }
 
     /**
@@ -350,17 +383,6 @@ public class ParseTreeTablePresentation {
         return value;
     }
 
-    /**
-     * Gets Javadoc (DetailNode) tree of specified block comments.
-     *
-     * @param blockComment Javadoc comment as a block comment
-     * @return root of DetailNode tree
-     */
-    private DetailNode getJavadocTree(DetailAST blockComment) {
-        return blockCommentToJavadocTree.computeIfAbsent(blockComment,
-                ParseTreeTablePresentation::parseJavadocTree);
-    }
-
     /**
      * Parses Javadoc (DetailNode) tree of specified block comments.
      *
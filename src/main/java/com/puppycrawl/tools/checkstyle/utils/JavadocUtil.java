@@ -22,7 +22,6 @@ package com.puppycrawl.tools.checkstyle.utils;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Pattern;
 
 import com.puppycrawl.tools.checkstyle.api.DetailAST;
 import com.puppycrawl.tools.checkstyle.api.DetailNode;
@@ -65,15 +64,6 @@ public final class JavadocUtil {
     private static final String UNKNOWN_JAVADOC_TOKEN_ID_EXCEPTION_MESSAGE = "Unknown javadoc"
             + " token id. Given id: ";
 
-    /** Newline pattern. */
-    private static final Pattern NEWLINE = Pattern.compile("\n");
-
-    /** Return pattern. */
-    private static final Pattern RETURN = Pattern.compile("\r");
-
-    /** Tab pattern. */
-    private static final Pattern TAB = Pattern.compile("\t");
-
     // initialise the constants
     static {
         TOKEN_NAME_TO_VALUE = TokenUtil.nameToValueMapFromPublicIntFields(JavadocTokenTypes.class);
@@ -355,14 +345,55 @@ public final class JavadocUtil {
 
     /**
      * Replace all control chars with escaped symbols.
+     * The text is scanned once and returned as is if it has no control chars.
      *
      * @param text the String to process.
      * @return the processed String with all control chars escaped.
      */
     public static String escapeAllControlChars(String text) {
-        final String textWithoutNewlines = NEWLINE.matcher(text).replaceAll("\\\\n");
-        final String textWithoutReturns = RETURN.matcher(textWithoutNewlines).replaceAll("\\\\r");
-        return TAB.matcher(textWithoutReturns).replaceAll("\\\\t");
+        String result = text;
+        StringBuilder escaped = null;
+        int start = 0;
+        for (int index = 0; index < text.length(); index++) {
+            final char escape = getControlCharEscape(text.charAt(index));
+            if (escape != 0) {
+                if (escaped == null) {
+                    // every char is escaped with at most two chars
+                    escaped = new StringBuilder(text.length() * 2);
+                }
+                escaped.append(text, start, index).append('\\').append(escape);
+                start = index + 1;
+            }
+        }
+        if (escaped != null) {
+            result = escaped.append(text, start, text.length()).toString();
+        }
+        return result;
+    }
+
+    /**
+     * Returns the letter escaping a control char.
+     *
+     * @param character the char to escape.
+     * @return the letter following the backslash, or zero if the char is not escaped.
+     */
+    private static char getControlCharEscape(char character) {
+        final char result;
+        switch (character) {
+            case '\n':
+                result = 'n';
+                break;
+            case '\r':
+                result = 'r';
+                break;
+            case '\t':
+                result = 't';
+                break;
+            default:
+                result = 0;
+                break;
+        }
+        return result;
     }
 
     /**
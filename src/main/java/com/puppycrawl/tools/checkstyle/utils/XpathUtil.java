@@ -21,10 +21,17 @@ package com.puppycrawl.tools.checkstyle.utils;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.PrintWriter;
 import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -34,6 +41,7 @@ import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
 import com.puppycrawl.tools.checkstyle.api.DetailAST;
 import com.puppycrawl.tools.checkstyle.api.TokenTypes;
 import com.puppycrawl.tools.checkstyle.xpath.AbstractNode;
+import com.puppycrawl.tools.checkstyle.xpath.AbstractRootNode;
 import com.puppycrawl.tools.checkstyle.xpath.ElementNode;
 import com.puppycrawl.tools.checkstyle.xpath.RootNode;
 import net.sf.saxon.Configuration;
@@ -42,6 +50,7 @@ import net.sf.saxon.om.NodeInfo;
 import net.sf.saxon.sxpath.XPathDynamicContext;
 import net.sf.saxon.sxpath.XPathEvaluator;
 import net.sf.saxon.sxpath.XPathExpression;
+import net.sf.saxon.trans.UncheckedXPathException;
 import net.sf.saxon.trans.XPathException;
 
 /**
@@ -121,6 +130,21 @@ public final class XpathUtil {
     /** Delimiter to separate xpath results. */
     private static final String DELIMITER = "---------" + System.lineSeparator();
 
+    /** Saxon configuration shared by all compiled expressions and xpath trees. */
+    private static final Configuration CONFIGURATION =
+            AbstractRootNode.getSharedConfiguration();
+
+    /** Maximum number of compiled expressions shared between queries of the same text. */
+    private static final int MAX_COMPILED_EXPRESSIONS = 1024;
+
+    /**
+     * Compiled expressions by query text. Queries come from configuration, so the
+     * cache usually holds one entry per distinct query of the checks and filters in
+     * use. Queries beyond the limit are compiled each time they are requested.
+     */
+    private static final Map<String, XPathExpression> COMPILED_EXPRESSIONS =
+            new ConcurrentHashMap<>();
+
     /** Stop instances being created. **/
     private XpathUtil() {
     }
@@ -184,19 +208,150 @@ public final class XpathUtil {
     public static String printXpathBranch(String xpath, File file) throws CheckstyleException,
             IOException {
         try {
-            final RootNode rootNode = new RootNode(JavaParser.parseFile(file,
-                JavaParser.Options.WITH_COMMENTS));
-            final List<NodeInfo> matchingItems = getXpathItems(xpath, rootNode);
-            return matchingItems.stream()
-                .map(item -> ((ElementNode) item).getUnderlyingNode())
-                .map(AstTreeStringPrinter::printBranch)
-                .collect(Collectors.joining(DELIMITER));
+            return String.join(DELIMITER, getXpathBranches(compileXpath(xpath), file));
+        }
+        catch (XPathException ex) {
+            throw createEvaluationException(xpath, file, ex);
+        }
+    }
+
+    /**
+     * Prints xpath query results on files, evaluating the query on several files at once.
+     * The query is compiled once for all files. Results of a file are printed together,
+     * each preceded by the path of the file, as soon as the file is evaluated, so files
+     * are printed in the order their evaluation finishes. Results are separated by
+     * delimiter.
+     *
+     * @param xpath query to evaluate
+     * @param files files to run on
+     * @param threads maximum number of files evaluated at once
+     * @param out the writer to print to
+     * @throws CheckstyleException if the query is invalid or some parsing error happens
+     * @throws IOException if an error occurs
+     */
+    public static void printXpathBranches(String xpath, List<File> files, int threads,
+            PrintWriter out) throws CheckstyleException, IOException {
+        final XPathExpression xpathExpression;
+        try {
+            xpathExpression = compileXpath(xpath);
         }
         catch (XPathException ex) {
-            final String errMsg = String.format(Locale.ROOT,
-                "Error during evaluation for xpath: %s, file: %s", xpath, file.getCanonicalPath());
-            throw new CheckstyleException(errMsg, ex);
+            throw new CheckstyleException("Error during compilation of xpath: " + xpath, ex);
+        }
+        final BranchPrinter printer = new BranchPrinter(out);
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<?>> results = new ArrayList<>(files.size());
+            for (File file : files) {
+                results.add(executor.submit(() -> {
+                    try {
+                        printer.print(file, getXpathBranches(xpathExpression, file));
+                    }
+                    catch (XPathException ex) {
+                        throw createEvaluationException(xpath, file, ex);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> result : results) {
+                waitFor(result);
+            }
         }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns the branches of the file matching the xpath expression.
+     *
+     * @param xpathExpression compiled xpath expression
+     * @param file file to run on
+     * @return branches of matching nodes
+     * @throws CheckstyleException if some parsing error happens
+     * @throws IOException if an error occurs
+     * @throws XPathException if the expression can not be evaluated
+     */
+    private static List<String> getXpathBranches(XPathExpression xpathExpression, File file)
+            throws CheckstyleException, IOException, XPathException {
+        final RootNode rootNode = new RootNode(JavaParser.parseFile(file,
+            JavaParser.Options.WITH_COMMENTS));
+        final List<NodeInfo> matchingItems;
+        try {
+            matchingItems = getXpathItems(xpathExpression, rootNode);
+        }
+        catch (UncheckedXPathException ex) {
+            throw ex.getXPathException();
+        }
+        return matchingItems.stream()
+            .map(item -> ((ElementNode) item).getUnderlyingNode())
+            .map(AstTreeStringPrinter::printBranch)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Creates the exception reported when xpath can not be evaluated on a file.
+     *
+     * @param xpath the query
+     * @param file the file
+     * @param cause the evaluation error
+     * @return the exception
+     * @throws IOException if the canonical path of the file can not be resolved
+     */
+    private static CheckstyleException createEvaluationException(String xpath, File file,
+            XPathException cause) throws IOException {
+        final String errMsg = String.format(Locale.ROOT,
+            "Error during evaluation for xpath: %s, file: %s", xpath, file.getCanonicalPath());
+        return new CheckstyleException(errMsg, cause);
+    }
+
+    /**
+     * Waits for the evaluation of a file and rethrows its failure.
+     *
+     * @param result the result of the evaluation
+     * @throws CheckstyleException if the evaluation failed or the thread is interrupted
+     * @throws IOException if the file could not be read
+     * @throws IllegalStateException if the evaluation failed with an unexpected exception
+     */
+    private static void waitFor(Future<?> result) throws CheckstyleException, IOException {
+        try {
+            result.get();
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new CheckstyleException("Interrupted while evaluating xpath", ex);
+        }
+        catch (ExecutionException ex) {
+            final Throwable cause = ex.getCause();
+            if (cause instanceof CheckstyleException) {
+                throw (CheckstyleException) cause;
+            }
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * Returns compiled xpath expression, compiling the query only the first time
+     * it is requested while the cache is not full. Compiled expressions are
+     * immutable and can be evaluated by several threads at once.
+     *
+     * @param xpath Xpath expression
+     * @return compiled expression
+     * @throws XPathException if Xpath cannot be parsed
+     */
+    public static XPathExpression compileXpath(String xpath) throws XPathException {
+        XPathExpression expression = COMPILED_EXPRESSIONS.get(xpath);
+        if (expression == null) {
+            final XPathEvaluator xpathEvaluator = new XPathEvaluator(CONFIGURATION);
+            expression = xpathEvaluator.createExpression(xpath);
+            if (COMPILED_EXPRESSIONS.size() < MAX_COMPILED_EXPRESSIONS) {
+                COMPILED_EXPRESSIONS.putIfAbsent(xpath, expression);
+            }
+        }
+        return expression;
     }
 
     /**
@@ -209,8 +364,19 @@ public final class XpathUtil {
      */
     public static List<NodeInfo> getXpathItems(String xpath, AbstractNode rootNode)
             throws XPathException {
-        final XPathEvaluator xpathEvaluator = new XPathEvaluator(Configuration.newConfiguration());
-        final XPathExpression xpathExpression = xpathEvaluator.createExpression(xpath);
+        return getXpathItems(compileXpath(xpath), rootNode);
+    }
+
+    /**
+     * Returns list of nodes matching compiled xpath expression given node context.
+     *
+     * @param xpathExpression compiled xpath expression
+     * @param rootNode {@code NodeInfo} node context
+     * @return list of nodes matching xpath expression given node context
+     * @throws XPathException if Xpath cannot be evaluated
+     */
+    private static List<NodeInfo> getXpathItems(XPathExpression xpathExpression,
+            AbstractNode rootNode) throws XPathException {
         final XPathDynamicContext xpathDynamicContext = xpathExpression
                 .createDynamicContext(rootNode);
         final List<Item> items = xpathExpression.evaluate(xpathDynamicContext);
@@ -218,4 +384,47 @@ public final class XpathUtil {
                 .map(NodeInfo.class::cast)
                 .collect(Collectors.toUnmodifiableList());
     }
+
+    /**
+     * Prints branches of files one file at a time.
+     */
+    private static final class BranchPrinter {
+
+        /** The writer to print to. */
+        private final PrintWriter out;
+
+        /** Whether a branch was printed already. */
+        private boolean printed;
+
+        /**
+         * Creates a new printer.
+         *
+         * @param out the writer to print to
+         */
+        private BranchPrinter(PrintWriter out) {
+            this.out = out;
+        }
+
+        /**
+         * Prints the branches of a file, each preceded by the path of the file,
+         * and flushes them.
+         *
+         * @param file the file
+         * @param branches branches of the file
+         */
+        private synchronized void print(File file, List<String> branches) {
+            for (String branch : branches) {
+                if (printed) {
+                    out.print(DELIMITER);
+                }
+                out.print(file.getAbsolutePath());
+                out.print(System.lineSeparator());
+                out.print(branch);
+                printed = true;
+            }
+            out.flush();
+        }
+
+    }
+
 }
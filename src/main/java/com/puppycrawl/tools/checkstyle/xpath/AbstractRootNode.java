@@ -42,11 +42,24 @@ public abstract class AbstractRootNode extends AbstractNode {
     /** Constant for optimization. */
     private static final AbstractNode[] EMPTY_ABSTRACT_NODE_ARRAY = new AbstractNode[0];
 
+    /** Saxon configuration shared by all xpath trees and compiled expressions. */
+    private static final Configuration SHARED_CONFIGURATION = Configuration.newConfiguration();
+
     /**
      * Creates a new {@code AbstractRootNode} instance.
      */
     protected AbstractRootNode() {
-        super(new GenericTreeInfo(Configuration.newConfiguration()));
+        super(new GenericTreeInfo(SHARED_CONFIGURATION));
+    }
+
+    /**
+     * Returns the Saxon configuration shared by all xpath trees. Expressions
+     * evaluated on the trees have to be compiled with the same configuration.
+     *
+     * @return shared configuration
+     */
+    public static Configuration getSharedConfiguration() {
+        return SHARED_CONFIGURATION;
     }
 
     /**
@@ -152,7 +152,7 @@ public class XpathQueryGenerator {
      * @param root {@code DetailAST} root ast
      * @return child {@code DetailAst} element of the given root
      */
-    private static DetailAST findChildWithTextAttribute(DetailAST root) {
+    /* package */ static DetailAST findChildWithTextAttribute(DetailAST root) {
         return TokenUtil.findFirstTokenByPredicate(root,
                 XpathUtil::supportsTextAttribute).orElse(null);
     }
@@ -164,7 +164,7 @@ public class XpathQueryGenerator {
      * @param root {@code DetailAST} root ast
      * @return child {@code DetailAst} element of the given root
      */
-    private static DetailAST findChildWithTextAttributeRecursively(DetailAST root) {
+    /* package */ static DetailAST findChildWithTextAttributeRecursively(DetailAST root) {
         DetailAST res = findChildWithTextAttribute(root);
         for (DetailAST ast = root.getFirstChild(); ast != null && res == null;
              ast = ast.getNextSibling()) {
@@ -220,9 +220,9 @@ public class XpathQueryGenerator {
      * @return true if ast element will have unique xpath query, false otherwise
      */
     private static boolean isXpathQueryForNodeIsAccurateEnough(DetailAST ast) {
-        return !hasAtLeastOneSiblingWithSameTokenType(ast)
-                || XpathUtil.supportsTextAttribute(ast)
-                || findChildWithTextAttribute(ast) != null;
+        return XpathUtil.supportsTextAttribute(ast)
+                || findChildWithTextAttribute(ast) != null
+                || !hasAtLeastOneSiblingWithSameTokenType(ast);
     }
 
     /**
@@ -255,33 +255,45 @@ public class XpathQueryGenerator {
      * @param ast {@code DetailAST} ast element
      * @return relative xpath query for given ast element from root
      */
-    private static String getXpathQuery(DetailAST root, DetailAST ast) {
+    /* package */ static String getXpathQuery(DetailAST root, DetailAST ast) {
         final StringBuilder resultBuilder = new StringBuilder(1024);
         DetailAST cur = ast;
         while (cur != root) {
-            final StringBuilder curNodeQueryBuilder = new StringBuilder(256);
-            curNodeQueryBuilder.append('/')
-                    .append(TokenUtil.getTokenName(cur.getType()));
-            if (XpathUtil.supportsTextAttribute(cur)) {
-                curNodeQueryBuilder.append("[@text='")
-                        .append(encode(XpathUtil.getTextAttributeValue(cur)))
-                        .append("']");
-            }
-            else {
-                final DetailAST child = findChildWithTextAttribute(cur);
-                if (child != null && child != ast) {
-                    curNodeQueryBuilder.append("[.")
-                            .append(getXpathQuery(cur, child))
-                            .append(']');
-                }
-            }
-
-            resultBuilder.insert(0, curNodeQueryBuilder);
+            resultBuilder.insert(0, getNodeQuery(cur, ast));
             cur = cur.getParent();
         }
         return resultBuilder.toString();
     }
 
+    /**
+     * Returns the step of the xpath query for the given node on the path to the target
+     * element. A node is identified by its own text attribute or by the text attribute
+     * of its first child having one, unless that child is the target element itself.
+     *
+     * @param cur {@code DetailAST} node on the path to the target element
+     * @param ast {@code DetailAST} target element
+     * @return xpath query step of the node
+     */
+    /* package */ static String getNodeQuery(DetailAST cur, DetailAST ast) {
+        final StringBuilder curNodeQueryBuilder = new StringBuilder(256);
+        curNodeQueryBuilder.append('/')
+                .append(TokenUtil.getTokenName(cur.getType()));
+        if (XpathUtil.supportsTextAttribute(cur)) {
+            curNodeQueryBuilder.append("[@text='")
+                    .append(encode(XpathUtil.getTextAttributeValue(cur)))
+                    .append("']");
+        }
+        else {
+            final DetailAST child = findChildWithTextAttribute(cur);
+            if (child != null && child != ast) {
+                curNodeQueryBuilder.append("[.")
+                        .append(getXpathQuery(cur, child))
+                        .append(']');
+            }
+        }
+        return curNodeQueryBuilder.toString();
+    }
+
     /**
      * Checks if the given ast element has unique {@code TokenTypes} among siblings.
      *
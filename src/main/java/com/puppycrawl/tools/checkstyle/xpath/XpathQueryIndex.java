@@ -0,0 +1,282 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2023 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle.xpath;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.FileText;
+import com.puppycrawl.tools.checkstyle.utils.XpathUtil;
+
+/**
+ * Generates the same xpath queries as {@link XpathQueryGenerator} for many
+ * positions of one file. The tree is walked once to index nodes by line, the tab
+ * expanded columns of a line are computed in a single pass over the line, and the
+ * path of every ancestor and the position of every node among its siblings are
+ * memoized, so generating queries for all violations of a file is linear in the
+ * size of the tree plus the number of violations.
+ *
+ * <p>
+ *     Example
+ * </p>
+ * <pre>
+ *     final XpathQueryIndex index = new XpathQueryIndex(rootAst, fileText, tabWidth);
+ *     index.generate(3, 4, TokenTypes.METHOD_DEF);
+ *     index.generate(5, 9, 0);
+ * </pre>
+ */
+public final class XpathQueryIndex {
+
+    /** The root ast. */
+    private final DetailAST rootAst;
+    /** The {@code FileText} object, representing content of the file. */
+    private final FileText fileText;
+    /** The distance between tab stop position. */
+    private final int tabWidth;
+    /** Nodes in traversal order, by line number. */
+    private final Map<Integer, List<DetailAST>> nodesByLine = new HashMap<>();
+    /** Nodes in traversal order, by tab expanded column number, for indexed lines. */
+    private final Map<Integer, Map<Integer, List<DetailAST>>> nodesByLineAndColumn =
+            new HashMap<>();
+    /** Xpath queries of nodes that have been generated. */
+    private final Map<DetailAST, String> queries = new IdentityHashMap<>();
+    /** Paths from the root to ancestors of nodes that have been generated. */
+    private final Map<DetailAST, String> paths = new IdentityHashMap<>();
+    /** Position among siblings of the same type and count of such siblings, by node. */
+    private final Map<DetailAST, int[]> siblingPositions = new IdentityHashMap<>();
+
+    /**
+     * Creates a new {@code XpathQueryIndex} instance.
+     *
+     * @param rootAst root ast
+     * @param fileText the {@code FileText} object
+     * @param tabWidth distance between tab stop position
+     */
+    public XpathQueryIndex(DetailAST rootAst, FileText fileText, int tabWidth) {
+        this.rootAst = rootAst;
+        this.fileText = fileText;
+        this.tabWidth = tabWidth;
+        DetailAST curNode = rootAst;
+        while (curNode != null) {
+            nodesByLine.computeIfAbsent(curNode.getLineNo(), line -> new ArrayList<>())
+                    .add(curNode);
+            DetailAST toVisit = curNode.getFirstChild();
+            while (curNode != null && toVisit == null) {
+                toVisit = curNode.getNextSibling();
+                curNode = curNode.getParent();
+            }
+
+            curNode = toVisit;
+        }
+    }
+
+    /**
+     * Returns the root ast this index was built for.
+     *
+     * @return the root ast
+     */
+    public DetailAST getRootAst() {
+        return rootAst;
+    }
+
+    /**
+     * Returns list of xpath queries of nodes, matching line number, column number and token type.
+     *
+     * @param lineNumber line number of the element for which the query should be generated
+     * @param columnNumber column number of the element for which the query should be generated
+     * @param tokenType token type of the element for which the query should be generated,
+     *        or {@code 0} to match any token type
+     * @return list of xpath queries of nodes, matching line number, column number and token type
+     */
+    public List<String> generate(int lineNumber, int columnNumber, int tokenType) {
+        return getNodesByColumn(lineNumber)
+            .getOrDefault(columnNumber, Collections.emptyList())
+            .stream()
+            .filter(ast -> tokenType == 0 || tokenType == ast.getType())
+            .map(this::getQuery)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns nodes of the given line by tab expanded column number, indexing
+     * the line on first use.
+     *
+     * @param lineNumber line number
+     * @return nodes of the line by column number
+     */
+    private Map<Integer, List<DetailAST>> getNodesByColumn(int lineNumber) {
+        Map<Integer, List<DetailAST>> result = nodesByLineAndColumn.get(lineNumber);
+        if (result == null) {
+            result = new HashMap<>();
+            final List<DetailAST> nodes = nodesByLine.get(lineNumber);
+            if (nodes != null) {
+                final Map<Integer, Integer> expandedColumns =
+                        getExpandedColumns(fileText.get(lineNumber - 1), nodes);
+                for (DetailAST node : nodes) {
+                    result.computeIfAbsent(expandedColumns.get(node.getColumnNo()),
+                            column -> new ArrayList<>()).add(node);
+                }
+            }
+            nodesByLineAndColumn.put(lineNumber, result);
+        }
+        return result;
+    }
+
+    /**
+     * Computes the column numbers with tabs expanded of the given nodes
+     * in a single pass over the line.
+     *
+     * @param line text of the line
+     * @param nodes nodes of the line
+     * @return one based column numbers with tabs expanded, by column number of a node
+     */
+    private Map<Integer, Integer> getExpandedColumns(String line, List<DetailAST> nodes) {
+        final int[] columns = nodes.stream()
+            .mapToInt(DetailAST::getColumnNo)
+            .sorted()
+            .distinct()
+            .toArray();
+        final Map<Integer, Integer> result = new HashMap<>();
+        int idx = 0;
+        int len = 0;
+        for (int column : columns) {
+            while (idx < column) {
+                if (line.codePointAt(idx) == '\t') {
+                    len = (len / tabWidth + 1) * tabWidth;
+                }
+                else {
+                    len++;
+                }
+                idx++;
+            }
+            result.put(column, len + 1);
+        }
+        return result;
+    }
+
+    /**
+     * Returns full xpath query for given ast element, generating it on first use.
+     *
+     * @param ast {@code DetailAST} ast element
+     * @return full xpath query for given ast element
+     */
+    private String getQuery(DetailAST ast) {
+        String query = queries.get(ast);
+        if (query == null) {
+            final StringBuilder xpathQueryBuilder = new StringBuilder(256);
+            final DetailAST parent = ast.getParent();
+            if (parent != null) {
+                xpathQueryBuilder.append(getPath(parent.getParent()))
+                        .append(XpathQueryGenerator.getNodeQuery(parent, ast));
+            }
+            xpathQueryBuilder.append(XpathQueryGenerator.getNodeQuery(ast, ast));
+            if (!isXpathQueryForNodeIsAccurateEnough(ast)) {
+                xpathQueryBuilder.append('[');
+                final DetailAST child =
+                        XpathQueryGenerator.findChildWithTextAttributeRecursively(ast);
+                if (child == null) {
+                    xpathQueryBuilder.append(getSiblingPosition(ast)[0]);
+                }
+                else {
+                    xpathQueryBuilder.append('.')
+                            .append(XpathQueryGenerator.getXpathQuery(ast, child));
+                }
+                xpathQueryBuilder.append(']');
+            }
+            query = xpathQueryBuilder.toString();
+            queries.put(ast, query);
+        }
+        return query;
+    }
+
+    /**
+     * Returns the xpath query of an ancestor of generated elements. Steps of
+     * ancestors do not depend on the element the query is generated for,
+     * except for its parent, so the path of every ancestor is computed once.
+     *
+     * @param ast {@code DetailAST} ancestor, may be {@code null}
+     * @return path from the root to the ancestor, empty for {@code null}
+     */
+    private String getPath(DetailAST ast) {
+        final Deque<DetailAST> uncached = new ArrayDeque<>();
+        DetailAST cur = ast;
+        while (cur != null && !paths.containsKey(cur)) {
+            uncached.push(cur);
+            cur = cur.getParent();
+        }
+        String path = "";
+        if (cur != null) {
+            path = paths.get(cur);
+        }
+        while (!uncached.isEmpty()) {
+            final DetailAST node = uncached.pop();
+            path += XpathQueryGenerator.getNodeQuery(node, node);
+            paths.put(node, path);
+        }
+        return path;
+    }
+
+    /**
+     * Checks if ast element has all requirements to have unique xpath query.
+     *
+     * @param ast {@code DetailAST} ast element
+     * @return true if ast element will have unique xpath query, false otherwise
+     */
+    private boolean isXpathQueryForNodeIsAccurateEnough(DetailAST ast) {
+        return XpathUtil.supportsTextAttribute(ast)
+                || XpathQueryGenerator.findChildWithTextAttribute(ast) != null
+                || getSiblingPosition(ast)[1] == 1;
+    }
+
+    /**
+     * Returns the one based position of the ast element among its siblings of the
+     * same token type and the count of such siblings. All siblings are indexed at once.
+     *
+     * @param ast {@code DetailAST} ast element
+     * @return array of position and count of siblings of the same token type
+     */
+    private int[] getSiblingPosition(DetailAST ast) {
+        int[] result = siblingPositions.get(ast);
+        if (result == null) {
+            DetailAST first = ast;
+            while (first.getPreviousSibling() != null) {
+                first = first.getPreviousSibling();
+            }
+            final Map<Integer, Integer> counts = new HashMap<>();
+            for (DetailAST sibling = first; sibling != null; sibling = sibling.getNextSibling()) {
+                final int position = counts.merge(sibling.getType(), 1, Integer::sum);
+                siblingPositions.put(sibling, new int[] {position, 0});
+            }
+            for (DetailAST sibling = first; sibling != null; sibling = sibling.getNextSibling()) {
+                siblingPositions.get(sibling)[1] = counts.get(sibling.getType());
+            }
+            result = siblingPositions.get(ast);
+        }
+        return result;
+    }
+}
@@ -86,6 +86,25 @@ import com.puppycrawl.tools.checkstyle.grammar.CrAwareLexerSimulator;
             _input.seek(_input.index() - 1);
       }
 
+      /**
+       * Resets the lexer, including the state kept by lexer actions,
+       * so the lexer can be reused for another input.
+       */
+      @Override
+      public void reset() {
+            super.reset();
+            recognizeXmlTags = true;
+            isJavadocTagAvailable = true;
+            insideJavadocInlineTag = 0;
+            insidePreTag = false;
+            referenceCatched = false;
+            insideReferenceArguments = false;
+            htmlTagNameCatched = false;
+            attributeCatched = false;
+            previousTokenType = 0;
+            previousToPreviousTokenType = 0;
+      }
+
     /**
      * We need to create a different constructor in order to use our
      * own implementation of the LexerATNSimulator. This is the
@@ -23,6 +23,8 @@ import static com.google.common.truth.Truth.assertWithMessage;
 import static com.puppycrawl.tools.checkstyle.internal.utils.TestUtil.isUtilsClassHasPrivateConstructor;
 
 import java.io.File;
+import java.io.PrintWriter;
+import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
@@ -159,6 +161,29 @@ public class AstTreeStringPrinterTest extends AbstractTreeTestSupport {
                 JavaParser.Options.WITH_COMMENTS);
     }
 
+    @Test
+    public void testPrintFileAstToWriter() throws Exception {
+        final File file = new File(getPath("InputAstTreeStringPrinterComments.java"));
+        final StringWriter writer = new StringWriter();
+        AstTreeStringPrinter.printFileAst(file, JavaParser.Options.WITH_COMMENTS,
+                new PrintWriter(writer));
+
+        assertWithMessage("Printed tree should match the tree in String form")
+            .that(writer.toString())
+            .isEqualTo(AstTreeStringPrinter.printFileAst(file, JavaParser.Options.WITH_COMMENTS));
+    }
+
+    @Test
+    public void testPrintJavaAndJavadocTreeToWriter() throws Exception {
+        final File file = new File(getPath("InputAstTreeStringPrinterJavaAndJavadoc.java"));
+        final StringWriter writer = new StringWriter();
+        AstTreeStringPrinter.printJavaAndJavadocTree(file, new PrintWriter(writer));
+
+        assertWithMessage("Printed tree should match the pre-defined tree")
+            .that(toLfLineEnding(writer.toString()))
+            .isEqualTo(readFile(getPath("ExpectedAstTreeStringPrinterJavaAndJavadoc.txt")));
+    }
+
     @Test
     public void testTextBlocksEscapesAreOneChar() throws Exception {
         final String inputFilename = "InputAstTreeStringPrinterTextBlocksEscapesAreOneChar.java";
@@ -0,0 +1,199 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2023 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import static com.google.common.truth.Truth.assertWithMessage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.puppycrawl.tools.checkstyle.api.AuditEvent;
+import com.puppycrawl.tools.checkstyle.api.AuditListener;
+
+public class AsyncAuditListenerTest {
+
+    @Test
+    public void testEventsAreDeliveredInOrder() {
+        final RecordingListener recorder = new RecordingListener();
+        final AsyncAuditListener listener = new AsyncAuditListener(List.of(recorder), 1);
+        final AuditEvent event = new AuditEvent(this, "File.java");
+
+        listener.auditStarted(event);
+        for (int index = 0; index < 100; index++) {
+            listener.fileStarted(event);
+            listener.addError(event);
+            listener.addException(event, new IllegalArgumentException());
+            listener.fileFinished(event);
+        }
+        listener.auditFinished(event);
+
+        final List<String> expected = new ArrayList<>();
+        expected.add("auditStarted");
+        for (int index = 0; index < 100; index++) {
+            expected.add("fileStarted");
+            expected.add("addError");
+            expected.add("addException");
+            expected.add("fileFinished");
+        }
+        expected.add("auditFinished");
+        assertWithMessage("All events should be delivered in order when audit finishes")
+            .that(recorder.calls)
+            .containsExactlyElementsIn(expected)
+            .inOrder();
+        assertWithMessage("Events should be delivered on a dedicated thread")
+            .that(recorder.threads)
+            .doesNotContain(Thread.currentThread());
+    }
+
+    @Test
+    public void testQueueIsBounded() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final RecordingListener recorder = new RecordingListener() {
+            @Override
+            public void fileStarted(AuditEvent event) {
+                super.fileStarted(event);
+                awaitQuietly(release);
+            }
+        };
+        final AsyncAuditListener listener = new AsyncAuditListener(List.of(recorder), 1);
+        final AuditEvent event = new AuditEvent(this, "File.java");
+        final CountDownLatch reported = new CountDownLatch(1);
+        final Thread auditor = new Thread(() -> {
+            listener.fileStarted(event);
+            listener.addError(event);
+            listener.addError(event);
+            reported.countDown();
+            listener.auditFinished(event);
+        });
+        auditor.start();
+
+        assertWithMessage("Auditing thread should wait while the queue is full")
+            .that(reported.await(200, TimeUnit.MILLISECONDS))
+            .isFalse();
+        release.countDown();
+        auditor.join();
+        assertWithMessage("All events should be delivered")
+            .that(recorder.calls)
+            .containsExactly("fileStarted", "addError", "addError", "auditFinished")
+            .inOrder();
+    }
+
+    @Test
+    public void testFailureIsRethrown() {
+        final IllegalArgumentException cause = new IllegalArgumentException("test");
+        final RecordingListener recorder = new RecordingListener() {
+            @Override
+            public void addError(AuditEvent event) {
+                throw cause;
+            }
+        };
+        final AsyncAuditListener listener = new AsyncAuditListener(List.of(recorder), 4);
+        final AuditEvent event = new AuditEvent(this, "File.java");
+        listener.addError(event);
+        listener.fileFinished(event);
+
+        try {
+            listener.auditFinished(event);
+            assertWithMessage("Exception is expected").fail();
+        }
+        catch (IllegalStateException ex) {
+            assertWithMessage("Invalid exception message")
+                .that(ex.getMessage())
+                .isEqualTo("Audit listener failed");
+            assertWithMessage("Invalid exception cause")
+                .that(ex.getCause())
+                .isSameInstanceAs(cause);
+        }
+        assertWithMessage("Events after the failure should not be delivered")
+            .that(recorder.calls)
+            .isEmpty();
+    }
+
+    @Test
+    public void testStopIsIdempotent() {
+        final RecordingListener recorder = new RecordingListener();
+        final AsyncAuditListener listener = new AsyncAuditListener(List.of(recorder), 2);
+        listener.fileStarted(new AuditEvent(this, "File.java"));
+        listener.stop();
+        listener.stop();
+
+        assertWithMessage("Events should be delivered when stopped")
+            .that(recorder.calls)
+            .containsExactly("fileStarted");
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class RecordingListener implements AuditListener {
+
+        private final List<String> calls = Collections.synchronizedList(new ArrayList<>());
+
+        private final List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+
+        private void recordCall(String call) {
+            calls.add(call);
+            threads.add(Thread.currentThread());
+        }
+
+        @Override
+        public void auditStarted(AuditEvent event) {
+            recordCall("auditStarted");
+        }
+
+        @Override
+        public void auditFinished(AuditEvent event) {
+            recordCall("auditFinished");
+        }
+
+        @Override
+        public void fileStarted(AuditEvent event) {
+            recordCall("fileStarted");
+        }
+
+        @Override
+        public void fileFinished(AuditEvent event) {
+            recordCall("fileFinished");
+        }
+
+        @Override
+        public void addError(AuditEvent event) {
+            recordCall("addError");
+        }
+
+        @Override
+        public void addException(AuditEvent event, Throwable throwable) {
+            recordCall("addException");
+        }
+
+    }
+
+}
@@ -0,0 +1,122 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2023 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import static com.google.common.truth.Truth.assertWithMessage;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import com.puppycrawl.tools.checkstyle.api.AutomaticBean.OutputStreamOptions;
+import com.puppycrawl.tools.checkstyle.checks.naming.TypeNameCheck;
+import com.puppycrawl.tools.checkstyle.internal.utils.CloseAndFlushTestByteArrayOutputStream;
+
+public class AuditProfilerTest {
+
+    @Test
+    public void testNullOutputStreamOptions() {
+        final IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> {
+            final AuditProfiler profiler = new AuditProfiler(new ByteArrayOutputStream(), null,
+                    AuditProfiler.ReportFormat.TEXT);
+            assertWithMessage("Null instance")
+                .that(profiler)
+                .isNotNull();
+        });
+        assertWithMessage("Invalid error message")
+            .that(ex.getMessage())
+            .isEqualTo("Parameter outputStreamOptions can not be null");
+    }
+
+    @Test
+    public void testJsonReport() {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final AuditProfiler profiler = new AuditProfiler(out, OutputStreamOptions.NONE,
+                AuditProfiler.ReportFormat.JSON);
+        final TypeNameCheck check = new TypeNameCheck();
+        check.setId("typeName");
+        profiler.finish(AuditProfiler.CHECK, check, profiler.getTime() - 2_000_000,
+                profiler.getAllocatedBytes());
+        profiler.measure(AuditProfiler.CHECK, check, () -> {
+            // nothing to measure
+        });
+        profiler.finish(AuditProfiler.PARSE, "C:\\File.java", profiler.getTime(), -1);
+        profiler.writeReport();
+
+        final String[] lines = out.toString(StandardCharsets.UTF_8).split("\\R");
+        assertWithMessage("Invalid number of lines")
+            .that(lines)
+            .hasLength(4);
+        assertWithMessage("Invalid start of report")
+            .that(lines[0])
+            .isEqualTo("{\"measurements\": [");
+        assertWithMessage("Longest measurement should be first")
+            .that(lines[1])
+            .startsWith("  {\"category\": \"check\", \"name\": \"TypeNameCheck[typeName]\","
+                + " \"calls\": 2, \"timeNanos\": ");
+        assertWithMessage("Invalid measurement without allocations")
+            .that(lines[2])
+            .matches("  \\{\"category\": \"parse\", \"name\": \"C:\\\\\\\\File.java\","
+                + " \"calls\": 1, \"timeNanos\": \\d+, \"allocatedBytes\": -1}");
+        assertWithMessage("Invalid end of report")
+            .that(lines[3])
+            .isEqualTo("]}");
+    }
+
+    @Test
+    public void testTextReport() {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final AuditProfiler profiler = new AuditProfiler(out, OutputStreamOptions.NONE,
+                AuditProfiler.ReportFormat.TEXT);
+        profiler.finish(AuditProfiler.LISTENER, new Object(), profiler.getTime(), -1);
+        profiler.writeReport();
+
+        final String[] lines = out.toString(StandardCharsets.UTF_8).split("\\R");
+        assertWithMessage("Invalid report")
+            .that(lines)
+            .asList()
+            .containsExactly(
+                "Category            Calls    Time (ms) Allocated (KB)  Module",
+                "listener                1            0            n/a  Object")
+            .inOrder();
+    }
+
+    @Test
+    public void testCloseStream() {
+        final CloseAndFlushTestByteArrayOutputStream out =
+                new CloseAndFlushTestByteArrayOutputStream();
+        final AuditProfiler profiler = new AuditProfiler(out, OutputStreamOptions.CLOSE,
+                AuditProfiler.ReportFormat.TEXT);
+        profiler.writeReport();
+        assertWithMessage("Stream should be closed")
+            .that(out.getCloseCount())
+            .isEqualTo(1);
+    }
+
+    @Test
+    public void testReportFormatToString() {
+        assertWithMessage("Invalid format name")
+            .that(AuditProfiler.ReportFormat.JSON.toString())
+            .isEqualTo("json");
+    }
+
+}
@@ -0,0 +1,287 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2023 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import static com.google.common.truth.Truth.assertWithMessage;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.puppycrawl.tools.checkstyle.api.AuditEvent;
+import com.puppycrawl.tools.checkstyle.api.AuditListener;
+import com.puppycrawl.tools.checkstyle.api.AutomaticBean.OutputStreamOptions;
+import com.puppycrawl.tools.checkstyle.api.FileText;
+import com.puppycrawl.tools.checkstyle.api.SeverityLevel;
+import com.puppycrawl.tools.checkstyle.api.Violation;
+import com.puppycrawl.tools.checkstyle.checks.coding.MagicNumberCheck;
+import com.puppycrawl.tools.checkstyle.checks.metrics.NPathComplexityCheck;
+import com.puppycrawl.tools.checkstyle.checks.naming.MemberNameCheck;
+import com.puppycrawl.tools.checkstyle.internal.utils.CloseAndFlushTestByteArrayOutputStream;
+
+public class BinaryLoggerTest {
+
+    @Test
+    public void testConvertToXml() throws Exception {
+        final ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        logEvents(new XMLLogger(expected, OutputStreamOptions.CLOSE), true);
+
+        final ByteArrayOutputStream report = new ByteArrayOutputStream();
+        logEvents(new BinaryLogger(report, OutputStreamOptions.CLOSE), true);
+        final ByteArrayOutputStream actual = new ByteArrayOutputStream();
+        BinaryReportConverter.convert(new ByteArrayInputStream(report.toByteArray()),
+            new XMLLogger(actual, OutputStreamOptions.CLOSE));
+
+        assertWithMessage("Converted report should be equal to xml report")
+            .that(actual.toString(StandardCharsets.UTF_8))
+            .isEqualTo(expected.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testConvertToSarif() throws Exception {
+        final ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        logEvents(new SarifLogger(expected, OutputStreamOptions.CLOSE), false);
+
+        final ByteArrayOutputStream report = new ByteArrayOutputStream();
+        logEvents(new BinaryLogger(report, OutputStreamOptions.CLOSE), false);
+        final ByteArrayOutputStream actual = new ByteArrayOutputStream();
+        BinaryReportConverter.convert(new ByteArrayInputStream(report.toByteArray()),
+            new SarifLogger(actual, OutputStreamOptions.CLOSE));
+
+        assertWithMessage("Converted report should be equal to sarif report")
+            .that(actual.toString(StandardCharsets.UTF_8))
+            .isEqualTo(expected.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testConvertBigNumberArguments() throws Exception {
+        final ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        logBigNumbers(new XMLLogger(expected, OutputStreamOptions.CLOSE));
+
+        final ByteArrayOutputStream report = new ByteArrayOutputStream();
+        logBigNumbers(new BinaryLogger(report, OutputStreamOptions.CLOSE));
+        final ByteArrayOutputStream actual = new ByteArrayOutputStream();
+        BinaryReportConverter.convert(new ByteArrayInputStream(report.toByteArray()),
+            new XMLLogger(actual, OutputStreamOptions.CLOSE));
+
+        assertWithMessage("Converted report should be equal to xml report")
+            .that(actual.toString(StandardCharsets.UTF_8))
+            .isEqualTo(expected.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testConvertAuditOfChecker() throws Exception {
+        final DefaultConfiguration treeWalker = new DefaultConfiguration(
+            TreeWalker.class.getName());
+        treeWalker.addChild(new DefaultConfiguration(MemberNameCheck.class.getName()));
+        treeWalker.addChild(new DefaultConfiguration(MagicNumberCheck.class.getName()));
+        final DefaultConfiguration root = new DefaultConfiguration("Checker");
+        root.addChild(treeWalker);
+
+        final ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        final ByteArrayOutputStream report = new ByteArrayOutputStream();
+        final Checker checker = new Checker();
+        checker.setModuleClassLoader(Thread.currentThread().getContextClassLoader());
+        checker.configure(root);
+        checker.addListener(new XMLLogger(expected, OutputStreamOptions.CLOSE));
+        checker.addListener(new BinaryLogger(report, OutputStreamOptions.CLOSE));
+        final List<String> lines = List.of("class Test {", "    int Field = 100;",
+            "    int Other = 200;", "}");
+        checker.processFileTexts(List.of(
+            new FileText(new File("First.java"), lines),
+            new FileText(new File("Second.java"), lines)));
+        checker.destroy();
+
+        final ByteArrayOutputStream actual = new ByteArrayOutputStream();
+        BinaryReportConverter.convert(new ByteArrayInputStream(report.toByteArray()),
+            new XMLLogger(actual, OutputStreamOptions.CLOSE));
+
+        assertWithMessage("Converted report should be equal to xml report")
+            .that(actual.toString(StandardCharsets.UTF_8))
+            .isEqualTo(expected.toString(StandardCharsets.UTF_8));
+        assertWithMessage("Binary report should be smaller than xml report")
+            .that(report.size())
+            .isLessThan(expected.size());
+    }
+
+    @Test
+    public void testCloseStream() {
+        final CloseAndFlushTestByteArrayOutputStream outStream =
+            new CloseAndFlushTestByteArrayOutputStream();
+        final BinaryLogger logger = new BinaryLogger(outStream, OutputStreamOptions.CLOSE);
+        logger.auditStarted(null);
+        logger.auditFinished(null);
+
+        assertWithMessage("Invalid close count")
+            .that(outStream.getCloseCount())
+            .isEqualTo(1);
+    }
+
+    @Test
+    public void testNoCloseStream() {
+        final CloseAndFlushTestByteArrayOutputStream outStream =
+            new CloseAndFlushTestByteArrayOutputStream();
+        final BinaryLogger logger = new BinaryLogger(outStream, OutputStreamOptions.NONE);
+        logger.auditStarted(null);
+        logger.auditFinished(null);
+
+        assertWithMessage("Invalid close count")
+            .that(outStream.getCloseCount())
+            .isEqualTo(0);
+        assertWithMessage("Invalid flush count")
+            .that(outStream.getFlushCount())
+            .isGreaterThan(0);
+    }
+
+    @Test
+    public void testNullOutputStreamOptions() {
+        try {
+            final BinaryLogger logger = new BinaryLogger(new ByteArrayOutputStream(), null);
+            // assert required to calm down eclipse's 'The allocated object is never used' violation
+            assertWithMessage("Null instance")
+                .that(logger)
+                .isNotNull();
+            assertWithMessage("Exception was expected").fail();
+        }
+        catch (IllegalArgumentException exception) {
+            assertWithMessage("Invalid error message")
+                .that(exception.getMessage())
+                .isEqualTo("Parameter outputStreamOptions can not be null");
+        }
+    }
+
+    @Test
+    public void testWriteFailure() {
+        final BinaryLogger logger = new BinaryLogger(new FailingOutputStream(),
+            OutputStreamOptions.NONE);
+        logger.auditStarted(null);
+        try {
+            logger.auditFinished(null);
+            assertWithMessage("Exception was expected").fail();
+        }
+        catch (IllegalStateException exception) {
+            assertWithMessage("Invalid error message")
+                .that(exception.getMessage())
+                .isEqualTo("Unable to write binary report");
+        }
+    }
+
+    @Test
+    public void testFinishLocalSetup() {
+        final BinaryLogger logger = new BinaryLogger(new ByteArrayOutputStream(),
+            OutputStreamOptions.CLOSE);
+        logger.finishLocalSetup();
+        logger.auditStarted(null);
+        logger.auditFinished(null);
+        assertWithMessage("instance should not be null")
+            .that(logger)
+            .isNotNull();
+    }
+
+    /**
+     * Reports the same events to the given listener, covering all kinds of
+     * events and arguments.
+     *
+     * @param listener the listener.
+     * @param withoutFileName whether to report events without file name.
+     */
+    private void logEvents(AuditListener listener, boolean withoutFileName) {
+        listener.auditStarted(null);
+        final AuditEvent fileEvent = new AuditEvent(this, "Test.java");
+        listener.fileStarted(fileEvent);
+        final Object[] args = {1, 2L, (short) 3, 4.5, 5.5f, "<six>", null, 'c'};
+        listener.addError(new AuditEvent(this, "Test.java", new Violation(1, 2,
+            "com.puppycrawl.tools.checkstyle.checks.coding.messages", "magic.number",
+            args, SeverityLevel.WARNING, null, MagicNumberCheck.class, null)));
+        listener.addError(new AuditEvent(this, "Test.java", new Violation(3, 0,
+            "com.puppycrawl.tools.checkstyle.checks.coding.messages", "magic.number",
+            new Object[] {"100"}, SeverityLevel.ERROR, "moduleId", MagicNumberCheck.class,
+            null)));
+        listener.addError(new AuditEvent(this, "Test.java", new Violation(4, 1,
+            "messages.properties", "key", null, SeverityLevel.INFO, "moduleId",
+            getClass(), "custom {0}")));
+        listener.addException(new AuditEvent(this, "Test.java", new Violation(1, 1,
+            "messages.properties", null, null, null, getClass(), null)),
+            new TestException("msg"));
+        listener.fileFinished(fileEvent);
+        if (withoutFileName) {
+            listener.addError(new AuditEvent(this, null, new Violation(1, 1,
+                "messages.properties", "key", null, SeverityLevel.ERROR, null,
+                getClass(), null)));
+            listener.addException(new AuditEvent(this, null), new TestException("msg"));
+        }
+        listener.auditFinished(null);
+    }
+
+    /**
+     * Reports violations with {@link BigInteger} and {@link BigDecimal} arguments
+     * formatted as numbers, like the ones of NPathComplexity.
+     *
+     * @param listener the listener.
+     */
+    private void logBigNumbers(AuditListener listener) {
+        listener.auditStarted(null);
+        final AuditEvent fileEvent = new AuditEvent(this, "Test.java");
+        listener.fileStarted(fileEvent);
+        listener.addError(new AuditEvent(this, "Test.java", new Violation(1, 2,
+            "com.puppycrawl.tools.checkstyle.checks.metrics.messages",
+            NPathComplexityCheck.MSG_KEY,
+            new Object[] {new BigInteger("123456789012345678901234567890"), 200},
+            SeverityLevel.ERROR, null, NPathComplexityCheck.class, null)));
+        listener.addError(new AuditEvent(this, "Test.java", new Violation(2, 0,
+            "messages.properties", "key", new Object[] {new BigDecimal("1234.5")},
+            SeverityLevel.ERROR, null, getClass(), "custom {0,number,#.#}")));
+        listener.fileFinished(fileEvent);
+        listener.auditFinished(null);
+    }
+
+    private static final class TestException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        private TestException(String msg) {
+            super(msg);
+        }
+
+        @Override
+        public void printStackTrace(PrintWriter printWriter) {
+            printWriter.print("stackTrace\r\nexample");
+        }
+
+    }
+
+    private static final class FailingOutputStream extends ByteArrayOutputStream {
+
+        @Override
+        public void flush() throws IOException {
+            throw new IOException("flush failed");
+        }
+
+    }
+
+}
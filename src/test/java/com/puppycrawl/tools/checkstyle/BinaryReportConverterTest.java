@@ -0,0 +1,212 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2023 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import static com.google.common.truth.Truth.assertWithMessage;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.puppycrawl.tools.checkstyle.api.AuditEvent;
+import com.puppycrawl.tools.checkstyle.api.AuditListener;
+import com.puppycrawl.tools.checkstyle.api.AutomaticBean.OutputStreamOptions;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.SeverityLevel;
+import com.puppycrawl.tools.checkstyle.api.Violation;
+
+public class BinaryReportConverterTest {
+
+    @Test
+    public void testInvalidMagic() throws IOException {
+        final ByteArrayOutputStream report = new ByteArrayOutputStream();
+        new DataOutputStream(report).writeInt(0);
+        assertConversionError(report, "Input is not a binary report");
+    }
+
+    @Test
+    public void testUnsupportedVersion() throws IOException {
+        final ByteArrayOutputStream report = new ByteArrayOutputStream();
+        final DataOutputStream output = new DataOutputStream(report);
+        output.writeInt(BinaryLogger.MAGIC);
+        output.writeByte(BinaryLogger.VERSION + 1);
+        assertConversionError(report, "Unsupported binary report version 2");
+    }
+
+    @Test
+    public void testInvalidRecord() throws IOException {
+        final ByteArrayOutputStream report = createHeader();
+        report.write(0);
+        assertConversionError(report, "Invalid binary report record 0");
+    }
+
+    @Test
+    public void testUndefinedString() throws IOException {
+        final ByteArrayOutputStream report = createHeader();
+        report.write(BinaryLogger.TAG_FILE_STARTED);
+        report.write(1);
+        assertConversionError(report, "Undefined string 1 in binary report");
+    }
+
+    @Test
+    public void testInvalidSeverity() throws IOException {
+        final ByteArrayOutputStream report = createHeader();
+        report.write(new byte[] {BinaryLogger.TAG_ERROR, 0, 1, 1, 1, 0, 100});
+        assertConversionError(report, "Invalid severity level 100");
+    }
+
+    @Test
+    public void testViolationWithoutSource() throws IOException {
+        final ByteArrayOutputStream report = createHeader();
+        report.write(new byte[] {BinaryLogger.TAG_ERROR, 0, 1, 1, 1, 0, 0, 0});
+        assertConversionError(report, "Violation without source in binary report");
+    }
+
+    @Test
+    public void testUnknownSource() throws IOException {
+        final ByteArrayOutputStream report = createHeader();
+        final byte[] name = "com.example.UnknownCheck".getBytes(StandardCharsets.UTF_8);
+        report.write(BinaryLogger.TAG_STRING);
+        report.write(name.length);
+        report.write(name);
+        report.write(new byte[] {BinaryLogger.TAG_ERROR, 0, 1, 1, 1, 0, 0, 1});
+        assertConversionError(report, "Unable to load source of violations "
+            + "com.example.UnknownCheck");
+    }
+
+    @Test
+    public void testInvalidArgument() throws IOException {
+        final ByteArrayOutputStream report = createHeader();
+        final byte[] name = getClass().getName().getBytes(StandardCharsets.UTF_8);
+        report.write(BinaryLogger.TAG_STRING);
+        report.write(name.length);
+        report.write(name);
+        report.write(new byte[] {BinaryLogger.TAG_ERROR, 0, 1, 1, 1, 0, 0, 1, 0, 0, 0, 0, 2, 9});
+        assertConversionError(report, "Invalid argument type 9");
+    }
+
+    @Test
+    public void testReplayedEvents() throws Exception {
+        final ByteArrayOutputStream report = new ByteArrayOutputStream();
+        final BinaryLogger logger = new BinaryLogger(report, OutputStreamOptions.CLOSE);
+        logger.auditStarted(null);
+        final Violation violation = new Violation(300, 5000, 4, 7, "bundle", "key",
+            new Object[] {Integer.MIN_VALUE, -1L}, SeverityLevel.WARNING, "id", getClass(),
+            null);
+        logger.addError(new AuditEvent(this, "Test.java", violation));
+        logger.addException(new AuditEvent(this, "Test.java"), new IllegalStateException());
+        logger.auditFinished(null);
+
+        final RecordingListener listener = new RecordingListener();
+        BinaryReportConverter.convert(new ByteArrayInputStream(report.toByteArray()), listener,
+            getClass().getClassLoader());
+
+        assertWithMessage("Invalid replayed violation")
+            .that(listener.errors)
+            .containsExactly(violation);
+        final Violation replayed = listener.errors.get(0);
+        assertWithMessage("Invalid column char index")
+            .that(replayed.getColumnCharIndex())
+            .isEqualTo(4);
+        assertWithMessage("Invalid token type")
+            .that(replayed.getTokenType())
+            .isEqualTo(7);
+        assertWithMessage("Invalid arguments")
+            .that(replayed.getArgs())
+            .asList()
+            .containsExactly(Integer.MIN_VALUE, -1L)
+            .inOrder();
+
+        final ByteArrayOutputStream stackTrace = new ByteArrayOutputStream();
+        listener.exceptions.get(0).printStackTrace(
+            new PrintStream(stackTrace, true, StandardCharsets.UTF_8));
+        assertWithMessage("Stack trace should be replayed as recorded")
+            .that(stackTrace.toString(StandardCharsets.UTF_8))
+            .startsWith(IllegalStateException.class.getName());
+    }
+
+    private static ByteArrayOutputStream createHeader() throws IOException {
+        final ByteArrayOutputStream report = new ByteArrayOutputStream();
+        final DataOutputStream output = new DataOutputStream(report);
+        output.writeInt(BinaryLogger.MAGIC);
+        output.writeByte(BinaryLogger.VERSION);
+        return report;
+    }
+
+    private static void assertConversionError(ByteArrayOutputStream report, String message)
+            throws IOException {
+        try {
+            BinaryReportConverter.convert(new ByteArrayInputStream(report.toByteArray()),
+                new RecordingListener());
+            assertWithMessage("Exception was expected").fail();
+        }
+        catch (CheckstyleException ex) {
+            assertWithMessage("Invalid error message")
+                .that(ex.getMessage())
+                .isEqualTo(message);
+        }
+    }
+
+    private static final class RecordingListener implements AuditListener {
+
+        private final List<Violation> errors = new ArrayList<>();
+
+        private final List<Throwable> exceptions = new ArrayList<>();
+
+        @Override
+        public void auditStarted(AuditEvent event) {
+            // no code
+        }
+
+        @Override
+        public void auditFinished(AuditEvent event) {
+            // no code
+        }
+
+        @Override
+        public void fileStarted(AuditEvent event) {
+            // no code
+        }
+
+        @Override
+        public void fileFinished(AuditEvent event) {
+            // no code
+        }
+
+        @Override
+        public void addError(AuditEvent event) {
+            errors.add(event.getViolation());
+        }
+
+        @Override
+        public void addException(AuditEvent event, Throwable throwable) {
+            exceptions.add(throwable);
+        }
+
+    }
+
+}
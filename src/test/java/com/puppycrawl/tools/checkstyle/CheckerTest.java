@@ -74,7 +74,10 @@ import com.puppycrawl.tools.checkstyle.api.Violation;
 import com.puppycrawl.tools.checkstyle.checks.NewlineAtEndOfFileCheck;
 import com.puppycrawl.tools.checkstyle.checks.TranslationCheck;
 import com.puppycrawl.tools.checkstyle.checks.coding.HiddenFieldCheck;
+import com.puppycrawl.tools.checkstyle.checks.naming.TypeNameCheck;
+import com.puppycrawl.tools.checkstyle.filters.SuppressWithPlainTextCommentFilter;
 import com.puppycrawl.tools.checkstyle.filters.SuppressionFilter;
+import com.puppycrawl.tools.checkstyle.filters.SuppressionXpathSingleFilter;
 import com.puppycrawl.tools.checkstyle.internal.testmodules.DebugAuditAdapter;
 import com.puppycrawl.tools.checkstyle.internal.testmodules.DebugFilter;
 import com.puppycrawl.tools.checkstyle.internal.testmodules.TestBeforeExecutionFileFilter;
@@ -1665,6 +1668,193 @@ public class CheckerTest extends AbstractModuleTestSupport {
         checker.destroy();
     }
 
+    @Test
+    public void testProfiler() throws Exception {
+        final DefaultConfiguration typeNameConfig = createModuleConfig(TypeNameCheck.class);
+        typeNameConfig.addProperty("format", "^$");
+        final DefaultConfiguration xpathFilterConfig =
+            createModuleConfig(SuppressionXpathSingleFilter.class);
+        xpathFilterConfig.addProperty("checks", "NoSuchCheck");
+        final DefaultConfiguration treeWalkerConfig = createModuleConfig(TreeWalker.class);
+        treeWalkerConfig.addChild(typeNameConfig);
+        treeWalkerConfig.addChild(createModuleConfig(CheckWhichRequiresCommentNodes.class));
+        treeWalkerConfig.addChild(xpathFilterConfig);
+        final DefaultConfiguration checkerConfig = createRootConfig(treeWalkerConfig);
+        checkerConfig.addChild(createModuleConfig(NewlineAtEndOfFileCheck.class));
+
+        final Checker checker = new Checker();
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        checker.setProfiler(new AuditProfiler(out, OutputStreamOptions.NONE,
+            AuditProfiler.ReportFormat.TEXT));
+        checker.setModuleClassLoader(Thread.currentThread().getContextClassLoader());
+        checker.configure(checkerConfig);
+        checker.addFilter(new DebugFilter());
+        checker.addListener(new DebugAuditAdapter());
+
+        final String path = getPath("InputChecker.java");
+        checker.process(Collections.singletonList(new File(path)));
+
+        final List<String> report = Arrays.asList(
+            out.toString(StandardCharsets.UTF_8).split(System.lineSeparator()));
+        assertWithMessage("Report should start with a header")
+            .that(report.get(0).split(" +"))
+            .asList()
+            .containsExactly("Category", "Calls", "Time", "(ms)", "Allocated", "(KB)", "Module")
+            .inOrder();
+        final Set<String> measured = report.stream()
+            .skip(1)
+            .map(line -> {
+                final String[] columns = line.split(" +");
+                return columns[0] + " " + columns[columns.length - 1];
+            })
+            .collect(Collectors.toSet());
+        assertWithMessage("Invalid measured modules")
+            .that(measured)
+            .containsExactly(
+                "parse " + path,
+                "check TypeNameCheck",
+                "check CheckWhichRequiresCommentNodes",
+                "filter SuppressionXpathSingleFilter",
+                "filter DebugFilter",
+                "fileSetCheck TreeWalker",
+                "fileSetCheck NewlineAtEndOfFileCheck",
+                "listener DebugAuditAdapter",
+                "listener SeverityLevelCounter");
+    }
+
+    @Test
+    public void testProcessFileTextsWithoutDiskRead() throws Exception {
+        final DefaultConfiguration checkerConfig = createRootConfig(null);
+        checkerConfig.addChild(createModuleConfig(NewlineAtEndOfFileCheck.class));
+        checkerConfig.addChild(createModuleConfig(SuppressWithPlainTextCommentFilter.class));
+        final Checker checker = createChecker(checkerConfig);
+        final DebugAuditAdapter auditAdapter = new DebugAuditAdapter();
+        checker.addListener(auditAdapter);
+
+        final File missing = new File(temporaryFolder, "missing/Test.java");
+        final FileText violated = new FileText(missing, "class Test {}", StandardCharsets.UTF_8);
+        final FileText suppressed = new FileText(new File(temporaryFolder, "missing/Other.java"),
+                "// CHECKSTYLE:OFF\nclass Other {}", StandardCharsets.UTF_8);
+        final FileText clean = new FileText(new File(temporaryFolder, "missing/Clean.java"),
+                "class Clean {}\n", StandardCharsets.UTF_8);
+
+        final int errors = checker.processFileTexts(List.of(violated, suppressed, clean));
+
+        assertWithMessage("Only the unsuppressed missing newline should be reported")
+            .that(errors)
+            .isEqualTo(1);
+        assertWithMessage("All in-memory files should be reported to listeners")
+            .that(auditAdapter.getNumFilesFinished())
+            .isEqualTo(3);
+        assertWithMessage("Files audited from memory should not be created")
+            .that(missing.exists())
+            .isFalse();
+    }
+
+    @Test
+    public void testModulesShareScannedLines() throws Exception {
+        final List<LineRecordingCheck> processed = new ArrayList<>();
+        final LineRecordingCheck first = new LineRecordingCheck(processed);
+        final LineRecordingCheck second = new LineRecordingCheck(processed);
+        final Checker checker = new Checker();
+        checker.addFileSetCheck(first);
+        checker.addFileSetCheck(second);
+
+        final File file = new File(getPath("InputChecker.java"));
+        checker.process(Collections.singletonList(file));
+
+        assertWithMessage("Modules should process the file in their order")
+            .that(processed)
+            .containsExactly(first, second)
+            .inOrder();
+        assertWithMessage("Every line should be scanned")
+            .that(first.lines)
+            .hasSize(new FileText(file, StandardCharsets.UTF_8.name()).size());
+        for (int index = 0; index < first.lines.size(); index++) {
+            assertWithMessage("Modules should share the scanned line")
+                .that(second.lines.get(index))
+                .isSameInstanceAs(first.lines.get(index));
+        }
+        assertWithMessage("Scanned lines should be dropped after the file")
+            .that(ScannedLines.get(first.fileText, 0))
+            .isNotSameInstanceAs(first.lines.get(0));
+    }
+
+    @Test
+    public void testAsyncListenerQueue() throws Exception {
+        final List<FileText> fileTexts = new ArrayList<>();
+        for (int index = 0; index < 20; index++) {
+            fileTexts.add(new FileText(new File(temporaryFolder, "File" + index + ".java"),
+                    "class File" + index + " {}", StandardCharsets.UTF_8));
+        }
+        final List<String> expected = new ArrayList<>();
+        final int expectedCount = runNewlineAudit(fileTexts, 0, expected);
+        final List<String> calls = new ArrayList<>();
+        final int count = runNewlineAudit(fileTexts, 1, calls);
+
+        assertWithMessage("Invalid error count")
+            .that(count)
+            .isEqualTo(expectedCount);
+        assertWithMessage("Listeners should receive the same events in the same order")
+            .that(calls)
+            .containsExactlyElementsIn(expected)
+            .inOrder();
+    }
+
+    @Test
+    public void testAsyncListenerIsStoppedOnException() throws Exception {
+        final Checker checker = new Checker();
+        checker.setAsyncListenerQueueSize(2);
+        checker.addFileSetCheck(new AbstractFileSetCheck() {
+            @Override
+            protected void processFiltered(File file, FileText fileText) {
+                throw new IllegalStateException("test");
+            }
+        });
+        final DebugAuditAdapter auditAdapter = new DebugAuditAdapter();
+        checker.addListener(auditAdapter);
+
+        try {
+            checker.processFileTexts(List.of(new FileText(new File("File.java"), List.of())));
+            assertWithMessage("Exception is expected").fail();
+        }
+        catch (CheckstyleException ex) {
+            assertWithMessage("Invalid exception cause")
+                .that(ex.getCause())
+                .isInstanceOf(IllegalStateException.class);
+        }
+        assertWithMessage("Asynchronous listener should be stopped")
+            .that(TestUtil.<Object>getInternalState(checker, "asyncListener"))
+            .isNull();
+        assertWithMessage("Reported events should be delivered")
+            .that(auditAdapter.wasCalled())
+            .isTrue();
+    }
+
+    @Test
+    public void testSynchronousListenerIsNotifiedOnAuditingThread() throws Exception {
+        final Checker checker = new Checker();
+        checker.setAsyncListenerQueueSize(2);
+        final ThreadRecordingListener listener = new ThreadRecordingListener();
+        checker.addListener(listener);
+
+        checker.processFileTexts(List.of(new FileText(new File("File.java"), List.of())));
+
+        assertWithMessage("Synchronous listener should be notified on the auditing thread")
+            .that(listener.threads)
+            .containsExactly(Thread.currentThread());
+    }
+
+    private int runNewlineAudit(List<FileText> fileTexts, int queueSize, List<String> calls)
+            throws Exception {
+        final DefaultConfiguration checkerConfig = createRootConfig(null);
+        checkerConfig.addProperty("asyncListenerQueueSize", String.valueOf(queueSize));
+        checkerConfig.addChild(createModuleConfig(NewlineAtEndOfFileCheck.class));
+        final Checker checker = createChecker(checkerConfig);
+        checker.addListener(new CallRecordingListener(calls));
+        return checker.processFileTexts(fileTexts);
+    }
+
     public static class DefaultLoggerWithCounter extends DefaultLogger {
 
         private int fileStartedCount;
@@ -1691,6 +1881,29 @@ public class CheckerTest extends AbstractModuleTestSupport {
 
     }
 
+    public static class LineRecordingCheck extends AbstractFileSetCheck {
+
+        private final List<LineRecordingCheck> processed;
+
+        private final List<ScannedLine> lines = new ArrayList<>();
+
+        private FileText fileText;
+
+        public LineRecordingCheck(List<LineRecordingCheck> processed) {
+            this.processed = processed;
+        }
+
+        @Override
+        protected void processFiltered(File file, FileText text) {
+            processed.add(this);
+            fileText = text;
+            for (int index = 0; index < text.size(); index++) {
+                lines.add(ScannedLines.get(text, index));
+            }
+        }
+
+    }
+
     public static class DummyFileSetViolationCheck extends AbstractFileSetCheck
         implements ExternalResourceHolder {
 
@@ -1935,6 +2148,83 @@ public class CheckerTest extends AbstractModuleTestSupport {
 
     }
 
+    @SynchronousListener
+    private static final class ThreadRecordingListener implements AuditListener {
+
+        private final Set<Thread> threads = new HashSet<>();
+
+        @Override
+        public void auditStarted(AuditEvent event) {
+            threads.add(Thread.currentThread());
+        }
+
+        @Override
+        public void auditFinished(AuditEvent event) {
+            threads.add(Thread.currentThread());
+        }
+
+        @Override
+        public void fileStarted(AuditEvent event) {
+            threads.add(Thread.currentThread());
+        }
+
+        @Override
+        public void fileFinished(AuditEvent event) {
+            threads.add(Thread.currentThread());
+        }
+
+        @Override
+        public void addError(AuditEvent event) {
+            threads.add(Thread.currentThread());
+        }
+
+        @Override
+        public void addException(AuditEvent event, Throwable throwable) {
+            threads.add(Thread.currentThread());
+        }
+
+    }
+
+    private static final class CallRecordingListener implements AuditListener {
+
+        private final List<String> calls;
+
+        private CallRecordingListener(List<String> calls) {
+            this.calls = calls;
+        }
+
+        @Override
+        public void auditStarted(AuditEvent event) {
+            calls.add("auditStarted");
+        }
+
+        @Override
+        public void auditFinished(AuditEvent event) {
+            calls.add("auditFinished");
+        }
+
+        @Override
+        public void fileStarted(AuditEvent event) {
+            calls.add("fileStarted " + event.getFileName());
+        }
+
+        @Override
+        public void fileFinished(AuditEvent event) {
+            calls.add("fileFinished " + event.getFileName());
+        }
+
+        @Override
+        public void addError(AuditEvent event) {
+            calls.add("addError " + event.getFileName() + ":" + event.getLine());
+        }
+
+        @Override
+        public void addException(AuditEvent event, Throwable throwable) {
+            calls.add("addException " + event.getFileName());
+        }
+
+    }
+
     public static class VerifyPositionAfterTabFileSet extends AbstractFileSetCheck {
 
         @Override
@@ -26,6 +26,8 @@ import static com.puppycrawl.tools.checkstyle.JavadocDetailNodeParser.MSG_JAVADO
 import static com.puppycrawl.tools.checkstyle.internal.utils.TestUtil.isUtilsClassHasPrivateConstructor;
 
 import java.io.File;
+import java.io.PrintWriter;
+import java.io.StringWriter;
 
 import org.junit.jupiter.api.Test;
 
@@ -52,6 +54,18 @@ public class DetailNodeTreeStringPrinterTest extends AbstractTreeTestSupport {
                 getPath("InputDetailNodeTreeStringPrinterJavadocComment.javadoc"));
     }
 
+    @Test
+    public void testPrintFileAstToWriter() throws Exception {
+        final StringWriter writer = new StringWriter();
+        DetailNodeTreeStringPrinter.printFileAst(
+                new File(getPath("InputDetailNodeTreeStringPrinterJavadocComment.javadoc")),
+                new PrintWriter(writer));
+
+        assertWithMessage("Printed tree should match the pre-defined tree")
+            .that(toLfLineEnding(writer.toString()))
+            .isEqualTo(readFile(getPath("ExpectedDetailNodeTreeStringPrinterJavadocComment.txt")));
+    }
+
     @Test
     public void testParseFileWithError() throws Exception {
         final File file = new File(
@@ -0,0 +1,94 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2023 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import static com.google.common.truth.Truth.assertWithMessage;
+
+import java.io.File;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.puppycrawl.tools.checkstyle.JavadocDetailNodeParser.ParseStatus;
+import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.FileText;
+import com.puppycrawl.tools.checkstyle.api.TokenTypes;
+import com.puppycrawl.tools.checkstyle.internal.utils.TestUtil;
+
+public class JavadocParseCacheTest {
+
+    private static DetailAST parseJavadoc(String... lines) throws Exception {
+        final FileText fileText = new FileText(new File("Test.java"), List.of(lines));
+        final DetailAST root = JavaParser.parseFileText(fileText, JavaParser.Options.WITH_COMMENTS);
+        return TestUtil.findTokenInAstByPredicate(root,
+            ast -> ast.getType() == TokenTypes.BLOCK_COMMENT_BEGIN).orElseThrow();
+    }
+
+    @Test
+    public void testParseWithoutActiveCache() throws Exception {
+        final DetailAST javadoc = parseJavadoc("/** Test. */", "class Test {}");
+
+        assertWithMessage("Comment should be parsed again without active cache")
+            .that(JavadocParseCache.parse(javadoc))
+            .isNotSameInstanceAs(JavadocParseCache.parse(javadoc));
+    }
+
+    @Test
+    public void testParsedOncePerFile() throws Exception {
+        final DetailAST javadoc = parseJavadoc("/** Test. */", "class Test {}");
+        final DetailAST sameJavadoc = parseJavadoc("/** Test. */", "class Test {}");
+        final JavadocParseCache cache = new JavadocParseCache(0);
+
+        cache.beginFile();
+        final ParseStatus status = JavadocParseCache.parse(javadoc);
+        assertWithMessage("Comment should be parsed once per file")
+            .that(JavadocParseCache.parse(javadoc))
+            .isSameInstanceAs(status);
+        cache.finishFile();
+
+        cache.beginFile();
+        assertWithMessage("Comment of another file should be parsed again")
+            .that(JavadocParseCache.parse(sameJavadoc))
+            .isNotSameInstanceAs(status);
+        cache.finishFile();
+    }
+
+    @Test
+    public void testParsedOnceAcrossFiles() throws Exception {
+        final DetailAST javadoc = parseJavadoc("/** Test. */", "class Test {}");
+        final DetailAST sameJavadoc = parseJavadoc("/** Test. */", "class Other {}");
+        final DetailAST movedJavadoc = parseJavadoc("", "/** Test. */", "class Test {}");
+        final JavadocParseCache cache = new JavadocParseCache(10);
+
+        cache.beginFile();
+        final ParseStatus status = JavadocParseCache.parse(javadoc);
+        cache.finishFile();
+
+        cache.beginFile();
+        assertWithMessage("Same comment at same position should be parsed once")
+            .that(JavadocParseCache.parse(sameJavadoc))
+            .isSameInstanceAs(status);
+        assertWithMessage("Same comment at other position should be parsed again")
+            .that(JavadocParseCache.parse(movedJavadoc).getTree().getLineNumber())
+            .isEqualTo(2);
+        cache.finishFile();
+    }
+
+}
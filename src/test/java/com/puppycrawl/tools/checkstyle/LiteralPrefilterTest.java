@@ -0,0 +1,209 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2023 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import static com.google.common.truth.Truth.assertWithMessage;
+
+import java.io.File;
+import java.util.BitSet;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+import com.puppycrawl.tools.checkstyle.api.FileText;
+
+public class LiteralPrefilterTest {
+
+    /** A character outside the basic multilingual plane, written as a surrogate pair. */
+    private static final String SUPPLEMENTARY_CHARACTER = "\uD83D\uDE00";
+
+    @Test
+    public void testRequiredLiteral() {
+        assertWithMessage("Invalid literal of plain text")
+            .that(LiteralPrefilter.getRequiredLiteral(Pattern.compile("System.out.println")))
+            .isEqualTo("println");
+        assertWithMessage("Invalid literal of escaped text")
+            .that(LiteralPrefilter.getRequiredLiteral(Pattern.compile("System\\.out\\.println")))
+            .isEqualTo("System.out.println");
+        assertWithMessage("Invalid literal of quoted text")
+            .that(LiteralPrefilter.getRequiredLiteral(Pattern.compile("a+\\Q.*\\Eb")))
+            .isEqualTo(".*b");
+        assertWithMessage("Invalid literal with quantifiers")
+            .that(LiteralPrefilter.getRequiredLiteral(Pattern.compile("abcd?ef{2,3}\\s+xy")))
+            .isEqualTo("abc");
+        assertWithMessage("Invalid literal with classes and groups")
+            .that(LiteralPrefilter.getRequiredLiteral(
+                Pattern.compile("[a-z\\]]+(foo|bar)?TODO:[^]x]")))
+            .isEqualTo("TODO:");
+        assertWithMessage("Invalid literal of literal pattern")
+            .that(LiteralPrefilter.getRequiredLiteral(Pattern.compile("a|b", Pattern.LITERAL)))
+            .isEqualTo("a|b");
+    }
+
+    @Test
+    public void testRequiredLiteralWithSupplementaryCharacters() {
+        assertWithMessage("Quantifier should apply to the whole surrogate pair")
+            .that(LiteralPrefilter.getRequiredLiteral(Pattern.compile(
+                "ab" + SUPPLEMENTARY_CHARACTER + "?cd")))
+            .isEqualTo("ab");
+        assertWithMessage("Quantifier should apply to the whole quoted surrogate pair")
+            .that(LiteralPrefilter.getRequiredLiteral(
+                Pattern.compile("\\Qab" + SUPPLEMENTARY_CHARACTER + "\\E*cd")))
+            .isEqualTo("ab");
+        assertWithMessage("Escaped surrogate pair should be kept")
+            .that(LiteralPrefilter.getRequiredLiteral(Pattern.compile(
+                "x\\" + SUPPLEMENTARY_CHARACTER + "y")))
+            .isEqualTo("x" + SUPPLEMENTARY_CHARACTER + "y");
+    }
+
+    @Test
+    public void testNoRequiredLiteral() {
+        final List<Pattern> patterns = List.of(
+            Pattern.compile("foo|bar"),
+            Pattern.compile("(?i)foo"),
+            Pattern.compile("foo", Pattern.CASE_INSENSITIVE),
+            Pattern.compile("\\s+$"),
+            Pattern.compile("(a)\\1"),
+            Pattern.compile("a\nb", Pattern.LITERAL),
+            Pattern.compile("x*"));
+        for (Pattern pattern : patterns) {
+            assertWithMessage("No literal expected for " + pattern)
+                .that(LiteralPrefilter.getRequiredLiteral(pattern))
+                .isNull();
+        }
+        final LiteralPrefilter prefilter = new LiteralPrefilter();
+        assertWithMessage("Pattern without literal should not be registered")
+            .that(prefilter.register(Pattern.compile("^$")))
+            .isEqualTo(LiteralPrefilter.NO_LITERAL);
+        assertWithMessage("Missing pattern should not be registered")
+            .that(prefilter.register(null))
+            .isEqualTo(LiteralPrefilter.NO_LITERAL);
+    }
+
+    @Test
+    public void testMayMatch() {
+        final LiteralPrefilter prefilter = new LiteralPrefilter();
+        final int printId = prefilter.register(Pattern.compile("System\\.out\\.print"));
+        final int todoId = prefilter.register(Pattern.compile("TODO:\\s*"));
+        assertWithMessage("Same literal should share identifier")
+            .that(prefilter.register(Pattern.compile("\\w+System\\.out\\.print")))
+            .isEqualTo(printId);
+
+        final FileText fileText = new FileText(new File("Test.java"),
+            List.of("class Test {", "  void m() { System.out.println(); }", "}"));
+        prefilter.beginFile(fileText);
+        assertWithMessage("Line with literal may match")
+            .that(prefilter.mayMatchLine(fileText, 1, printId))
+            .isTrue();
+        assertWithMessage("Line without literal should not match")
+            .that(prefilter.mayMatchLine(fileText, 0, printId))
+            .isFalse();
+        assertWithMessage("Every line may match pattern without literal")
+            .that(prefilter.mayMatchLine(fileText, 0, LiteralPrefilter.NO_LITERAL))
+            .isTrue();
+        assertWithMessage("File with literal may match")
+            .that(prefilter.mayMatchFile(fileText, printId))
+            .isTrue();
+        assertWithMessage("File without literal should not match")
+            .that(prefilter.mayMatchFile(fileText, todoId))
+            .isFalse();
+
+        final int lateId = prefilter.register(Pattern.compile("class Other"));
+        assertWithMessage("Literal registered after search may match every line")
+            .that(prefilter.mayMatchLine(fileText, 0, lateId))
+            .isTrue();
+        final FileText otherText = new FileText(fileText);
+        assertWithMessage("Text of another file may match every line")
+            .that(prefilter.mayMatchLine(otherText, 0, printId))
+            .isTrue();
+
+        prefilter.finishFile();
+        assertWithMessage("Every line may match between files")
+            .that(prefilter.mayMatchFile(fileText, todoId))
+            .isTrue();
+        prefilter.beginFile(fileText);
+        assertWithMessage("Literal registered before next file should be searched")
+            .that(prefilter.mayMatchLine(fileText, 0, lateId))
+            .isFalse();
+    }
+
+    @Test
+    public void testMayMatchWithoutLiterals() {
+        final LiteralPrefilter prefilter = new LiteralPrefilter();
+        final FileText fileText = new FileText(new File("Test.java"), List.of("class Test {"));
+        prefilter.beginFile(fileText);
+        assertWithMessage("Every line may match when no literal is registered")
+            .that(prefilter.mayMatchLine(fileText, 0, 0))
+            .isTrue();
+    }
+
+    @Test
+    public void testNextFileDoesNotSeePreviousLiterals() {
+        final LiteralPrefilter prefilter = new LiteralPrefilter();
+        final int printId = prefilter.register(Pattern.compile("System\\.out\\.print"));
+        final FileText first = new FileText(new File("First.java"),
+            List.of("System.out.print(1);", "System.out.print(2);", "}"));
+        prefilter.beginFile(first);
+        prefilter.finishFile();
+
+        final FileText second = new FileText(new File("Second.java"),
+            List.of("class Second {", "System.out.print(3);"));
+        prefilter.beginFile(second);
+        assertWithMessage("Line without literal should not match in the next file")
+            .that(prefilter.mayMatchLine(second, 0, printId))
+            .isFalse();
+        assertWithMessage("Line with literal may match in the next file")
+            .that(prefilter.mayMatchLine(second, 1, printId))
+            .isTrue();
+        prefilter.finishFile();
+
+        final FileText third = new FileText(new File("Third.java"), List.of("}"));
+        prefilter.beginFile(third);
+        assertWithMessage("File without literal should not match")
+            .that(prefilter.mayMatchFile(third, printId))
+            .isFalse();
+    }
+
+    @Test
+    public void testMultiLiteralMatcher() {
+        final MultiLiteralMatcher matcher =
+            new MultiLiteralMatcher(List.of("he", "she", "his", "hers"));
+        assertWithMessage("Invalid literal count")
+            .that(matcher.getLiteralCount())
+            .isEqualTo(4);
+
+        final BitSet expected = new BitSet();
+        expected.set(0);
+        expected.set(1);
+        expected.set(3);
+        final BitSet found = new BitSet();
+        matcher.findLiterals("ushers", found);
+        assertWithMessage("Overlapping literals should be found")
+            .that(found)
+            .isEqualTo(expected);
+        found.clear();
+        matcher.findLiterals("hi s", found);
+        assertWithMessage("No literal should be found")
+            .that(found)
+            .isEqualTo(new BitSet());
+    }
+
+}
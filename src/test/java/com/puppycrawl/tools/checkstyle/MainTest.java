@@ -77,9 +77,10 @@ public class MainTest {
           "Usage: checkstyle [-dEghjJtTV] [-b=<xpath>] [-c=<configurationFile>] "
                   + "[-f=<format>]%n"
                   + "                  [-o=<outputPath>] [-p=<propertiesFile>] "
-                  + "[-s=<suppressionLineColumnNumber>]%n"
-                  + "                  [-w=<tabWidth>] [-e=<exclude>]... [-x=<excludeRegex>]... "
-                  + "<files>...%n"
+                  + "[-P=<profileFormat>]%n"
+                  + "                  [-s=<suppressionLineColumnNumber>] [-w=<tabWidth>] "
+                  + "[-e=<exclude>]...%n"
+                  + "                  [-x=<excludeRegex>]... <files>...%n"
                   + "Checkstyle verifies that the specified source code files adhere to the"
                   + " specified rules. By default,%n"
                   + "violations are reported to standard out in plain format. Checkstyle requires"
@@ -89,6 +90,10 @@ public class MainTest {
                   + "  -b, --branch-matching-xpath=<xpath>%n"
                   + "                            Shows Abstract Syntax Tree(AST) branches that"
                   + " match given XPath query.%n"
+                  + "                              Java files of several files or directories are"
+                  + " queried in parallel%n"
+                  + "                              and every branch is preceded by the path of its"
+                  + " file.%n"
                   + "  -c=<configurationFile>    Specifies the location of the file that defines"
                   + " the configuration%n"
                   + "                              modules. The location can either be a"
@@ -104,10 +109,10 @@ public class MainTest {
                   + "  -E, --executeIgnoredModules%n"
                   + "                            Allows ignored modules to be run.%n"
                   + "  -f=<format>               Specifies the output format. Valid values: "
-                  + "xml, sarif, plain for%n"
-                  + "                              XMLLogger, SarifLogger, and "
-                  + "DefaultLogger respectively. Defaults to%n"
-                  + "                              plain.%n"
+                  + "xml, sarif, plain, binary%n"
+                  + "                              for XMLLogger, SarifLogger, DefaultLogger and "
+                  + "BinaryLogger%n"
+                  + "                              respectively. Defaults to plain.%n"
                   + "  -g, --generate-xpath-suppression%n"
                   + "                            Generates to output a suppression xml to use"
                   + " to suppress all violations%n"
@@ -139,6 +144,12 @@ public class MainTest {
                   + " run on to be specified.%n"
                   + "  -o=<outputPath>           Sets the output file. Defaults to stdout.%n"
                   + "  -p=<propertiesFile>       Sets the property files to load.%n"
+                  + "  -P, --profile=<profileFormat>%n"
+                  + "                            Measures time and memory spent in every check,"
+                  + " filter and listener and%n"
+                  + "                              prints a report sorted by time to stderr at"
+                  + " the end of the audit.%n"
+                  + "                              Valid values: text, json.%n"
                   + "  -s=<suppressionLineColumnNumber>%n"
                   + "                            Prints xpath suppressions at the file's line and"
                   + " column position.%n"
@@ -370,7 +381,7 @@ public class MainTest {
             .isEqualTo("");
         assertWithMessage("Unexpected system error log")
             .that(systemErr.getCapturedData())
-            .isEqualTo("Invalid value for option '-f': expected one of [XML, SARIF, PLAIN]"
+            .isEqualTo("Invalid value for option '-f': expected one of [XML, SARIF, PLAIN, BINARY]"
                     + " (case-insensitive) but was 'xmlp'" + EOL + SHORT_USAGE);
     }
 
@@ -398,6 +409,29 @@ public class MainTest {
             .isEqualTo("");
     }
 
+    @Test
+    public void testProfileReport(@SysErr Capturable systemErr, @SysOut Capturable systemOut) {
+        assertMainReturnCode(0, "-c", getPath("InputMainConfig-classname.xml"),
+                "--profile", "json", getPath("InputMain.java"));
+        assertWithMessage("Unexpected output log")
+            .that(systemOut.getCapturedData())
+            .isEqualTo(addEndOfLine(auditStartMessage.getMessage(),
+                auditFinishMessage.getMessage()));
+        final String report = systemErr.getCapturedData();
+        assertWithMessage("Profiling report should be printed to error stream")
+            .that(report)
+            .startsWith("{\"measurements\": [");
+        assertWithMessage("Profiling report should contain parse time")
+            .that(report)
+            .contains("{\"category\": \"parse\"");
+        assertWithMessage("Profiling report should contain the check")
+            .that(report)
+            .contains("{\"category\": \"check\", \"name\": \"TypeNameCheck\"");
+        assertWithMessage("Profiling report should contain the listener")
+            .that(report)
+            .contains("{\"category\": \"listener\", \"name\": \"DefaultLogger\"");
+    }
+
     @Test
     public void testExistingTargetFileXmlOutput(@SysErr Capturable systemErr,
             @SysOut Capturable systemOut) throws IOException {
@@ -1097,6 +1131,26 @@ public class MainTest {
             .isEqualTo("");
     }
 
+    @Test
+    public void testPrintXpathSeveralFiles(@SysErr Capturable systemErr,
+            @SysOut Capturable systemOut) throws Exception {
+        final String expected = addEndOfLine(
+            getFilePath("InputMainXPath.java"),
+            "COMPILATION_UNIT -> COMPILATION_UNIT [1:0]",
+            "|--CLASS_DEF -> CLASS_DEF [12:0]",
+            "|   |--IDENT -> Two [12:6]");
+        assertMainReturnCode(0, "-b", "//CLASS_DEF/IDENT[@text='Two']",
+                getFilePath("InputMainXPath.java"),
+                getFilePath("InputMainGenerateXpathSuppressions.java"),
+                getFilePath("InputMainConfig-xpath-suppressions.xml"));
+        assertWithMessage("Unexpected output log")
+            .that(systemOut.getCapturedData())
+            .isEqualTo(expected);
+        assertWithMessage("Unexpected system error log")
+            .that(systemErr.getCapturedData())
+            .isEqualTo("");
+    }
+
     @Test
     public void testPrintXpathInvalidXpath(@SysErr Capturable systemErr) throws Exception {
         final String invalidXpath = "\\/COMPILATION_UNIT/CLASS_DEF[./IDENT[@text='Two']]"
@@ -1842,6 +1896,16 @@ public class MainTest {
                 .isInstanceOf(SarifLogger.class);
     }
 
+    @Test
+    public void testBinaryOutputFormatCreateListener() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final AuditListener listener = Main.OutputFormat.BINARY.createListener(out,
+                AutomaticBean.OutputStreamOptions.CLOSE);
+        assertWithMessage("listener is BinaryLogger")
+                .that(listener)
+                .isInstanceOf(BinaryLogger.class);
+    }
+
     @Test
     public void testPlainOutputFormatCreateListener() throws IOException {
         final ByteArrayOutputStream out = new ByteArrayOutputStream();
@@ -0,0 +1,82 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2023 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import static com.google.common.truth.Truth.assertWithMessage;
+
+import org.junit.jupiter.api.Test;
+
+import com.puppycrawl.tools.checkstyle.utils.CommonUtil;
+
+public class ScannedLineTest {
+
+    @Test
+    public void testLineWithoutTabs() {
+        final ScannedLine line = new ScannedLine(3, "int a = 0;");
+
+        assertWithMessage("Invalid line number")
+            .that(line.getLineNo())
+            .isEqualTo(3);
+        assertWithMessage("Invalid text")
+            .that(line.getText())
+            .isEqualTo("int a = 0;");
+        assertWithMessage("Invalid tab index")
+            .that(line.getTabIndex())
+            .isEqualTo(-1);
+        assertWithMessage("Invalid expanded length")
+            .that(line.getExpandedLength(4))
+            .isEqualTo(10);
+    }
+
+    @Test
+    public void testExpandedLengthMatchesColumnExpansion() {
+        final String emojiTabA = "\uD83D\uDE00\u0009\u0061";
+        final String[] texts = {"\tint a;", "ab\tc\t\td", emojiTabA, "", "\t"};
+        for (String text : texts) {
+            final ScannedLine line = new ScannedLine(1, text);
+            for (int tabWidth = 1; tabWidth <= 8; tabWidth++) {
+                assertWithMessage("Invalid expanded length of '%s' for tab width %s",
+                        text, tabWidth)
+                    .that(line.getExpandedLength(tabWidth))
+                    .isEqualTo(CommonUtil.lengthExpandedTabs(text,
+                        text.codePointCount(0, text.length()), tabWidth));
+            }
+        }
+    }
+
+    @Test
+    public void testTabIndex() {
+        final ScannedLine line = new ScannedLine(1, "ab\tc\t");
+
+        assertWithMessage("Invalid tab index")
+            .that(line.getTabIndex())
+            .isEqualTo(2);
+        assertWithMessage("Invalid expanded length")
+            .that(line.getExpandedLength(4))
+            .isEqualTo(8);
+        assertWithMessage("Expanded length should be kept")
+            .that(line.getExpandedLength(4))
+            .isEqualTo(8);
+        assertWithMessage("Invalid expanded length for another tab width")
+            .that(line.getExpandedLength(2))
+            .isEqualTo(6);
+    }
+
+}
@@ -35,6 +35,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -513,6 +514,26 @@ public class TreeWalkerTest extends AbstractModuleTestSupport {
                 expected);
     }
 
+    @Test
+    public void testJavadocCacheSize() throws Exception {
+        final DefaultConfiguration treeWalkerConfig = createModuleConfig(TreeWalker.class);
+        treeWalkerConfig.addProperty("javadocCacheSize", "10");
+        treeWalkerConfig.addChild(createModuleConfig(JavadocParagraphCheck.class));
+        final File firstFile = new File(temporaryFolder, "First.java");
+        final File secondFile = new File(temporaryFolder, "Second.java");
+        final byte[] contents = Files.readAllBytes(
+                new File(getPath("InputTreeWalkerJavadoc.java")).toPath());
+        Files.write(firstFile.toPath(), contents);
+        Files.write(secondFile.toPath(), contents);
+
+        final List<String> expected = List.of(
+            "3: " + getCheckMessage(JavadocParagraphCheck.class,
+                    JavadocParagraphCheck.MSG_REDUNDANT_PARAGRAPH));
+
+        verify(createChecker(treeWalkerConfig), new File[] {firstFile, secondFile},
+                Map.of(firstFile.getPath(), expected, secondFile.getPath(), expected));
+    }
+
     @Test
     public void testMultiCheckOrder() throws Exception {
         final DefaultConfiguration treeWalkerConfig = createModuleConfig(TreeWalker.class);
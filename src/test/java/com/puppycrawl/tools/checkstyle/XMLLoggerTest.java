@@ -23,6 +23,7 @@ import static com.google.common.truth.Truth.assertWithMessage;
 
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
 
 import org.junit.jupiter.api.Test;
 
@@ -370,6 +371,45 @@ public class XMLLoggerTest extends AbstractXmlTestSupport {
         verifyXml(getPath("ExpectedXMLLoggerError.xml"), outStream, violation.getViolation());
     }
 
+    @Test
+    public void testSpillToDisk() {
+        final CloseAndFlushTestByteArrayOutputStream spilledStream =
+            new CloseAndFlushTestByteArrayOutputStream();
+        final XMLLogger spilling = new XMLLogger(spilledStream, OutputStreamOptions.CLOSE);
+        spilling.setSpillThreshold(1);
+        final XMLLogger buffering = new XMLLogger(outStream, OutputStreamOptions.CLOSE);
+
+        for (XMLLogger logger : new XMLLogger[] {spilling, buffering}) {
+            logger.auditStarted(null);
+            final AuditEvent fileEvent = new AuditEvent(this, "Test.java");
+            logger.fileStarted(fileEvent);
+            for (int line = 1; line <= 3; line++) {
+                final Violation violation = new Violation(line, line,
+                    "messages.properties", "key", null, SeverityLevel.ERROR, null,
+                    getClass(), "<message & more>");
+                logger.addError(new AuditEvent(this, "Test.java", violation));
+            }
+            logger.addException(fileEvent, new TestException("msg", new RuntimeException("msg")));
+            logger.fileFinished(fileEvent);
+            logger.auditFinished(null);
+        }
+
+        assertWithMessage("Spilled section should be written as buffered one")
+            .that(spilledStream.toString(StandardCharsets.UTF_8))
+            .isEqualTo(outStream.toString(StandardCharsets.UTF_8));
+        assertWithMessage("Section should contain all errors")
+            .that(spilledStream.toString(StandardCharsets.UTF_8).split("<error ", -1))
+            .hasLength(4);
+    }
+
+    @Test
+    public void testEncodeWithoutEscapes() {
+        final String value = "no escapes";
+        assertWithMessage("Value without escapes should be returned as is")
+            .that(XMLLogger.encode(value))
+            .isSameInstanceAs(value);
+    }
+
     @Test
     public void testNullOutputStreamOptions() {
         try {
@@ -128,6 +128,40 @@ public class XpathFileGeneratorAstFilterTest {
                         + "/OBJBLOCK/METHOD_DEF[./IDENT[@text='tabMethod']]/SLIST/LITERAL_RETURN");
     }
 
+    @Test
+    public void testQueriesOfPreviousFileAreDropped() throws Exception {
+        final Violation firstViolation = new Violation(3, 47, TokenTypes.LCURLY,
+                "messages.properties", null, null, SeverityLevel.ERROR, null, LeftCurlyCheck.class,
+                null);
+        final Violation secondViolation = new Violation(6, 7, TokenTypes.LITERAL_RETURN,
+                "messages.properties", null, null, SeverityLevel.ERROR, null,
+                XpathFileGeneratorAstFilterTest.class, null);
+        final XpathFileGeneratorAstFilter filter = new XpathFileGeneratorAstFilter();
+        filter.finishLocalSetup();
+        filter.setTabWidth(6);
+
+        filter.accept(createTreeWalkerAuditEvent(
+                "InputXpathFileGeneratorAstFilter.java", firstViolation));
+        final TreeWalkerAuditEvent otherFileEvent = new TreeWalkerAuditEvent(
+                createTreeWalkerAuditEvent("InputXpathFileGeneratorAstFilter.java",
+                        secondViolation).getFileContents(),
+                "Other.java", secondViolation, JavaParser.parseFile(
+                        new File(getPath("InputXpathFileGeneratorAstFilter.java")),
+                        JavaParser.Options.WITHOUT_COMMENTS));
+        filter.accept(otherFileEvent);
+
+        assertWithMessage("queries of previous file should be dropped")
+            .that(XpathFileGeneratorAstFilter.findCorrespondingXpathQuery(
+                    new AuditEvent(this, "Test.java", firstViolation)))
+            .isNull();
+        assertWithMessage("expected xpath")
+            .that(XpathFileGeneratorAstFilter.findCorrespondingXpathQuery(
+                    new AuditEvent(this, "Other.java", secondViolation)))
+            .isEqualTo("/COMPILATION_UNIT"
+                        + "/CLASS_DEF[./IDENT[@text='InputXpathFileGeneratorAstFilter']]"
+                        + "/OBJBLOCK/METHOD_DEF[./IDENT[@text='tabMethod']]/SLIST/LITERAL_RETURN");
+    }
+
     /**
      * We cannot reproduce situation when {@code finishLocalSetup} is called
      * twice. So, we have to use reflection to be sure that even in such
@@ -149,7 +183,7 @@ public class XpathFileGeneratorAstFilterTest {
 
         assertWithMessage("State is not cleared on finishLocalSetup")
                 .that(TestUtil.isStatefulFieldClearedDuringLocalSetup(filter, event,
-                        "MESSAGE_QUERY_MAP",
+                        "FILE_QUERIES",
                         variableStack -> ((Map<Violation, String>) variableStack).isEmpty()))
                 .isTrue();
     }
@@ -0,0 +1,102 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2023 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import static com.google.common.truth.Truth.assertWithMessage;
+
+import java.io.File;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.FileText;
+import com.puppycrawl.tools.checkstyle.utils.XpathUtil;
+import com.puppycrawl.tools.checkstyle.xpath.RootNode;
+
+public class XpathTreeCacheTest {
+
+    private static final String QUERY = "//SINGLE_LINE_COMMENT";
+
+    private static DetailAST parse(String... lines) throws Exception {
+        final FileText fileText = new FileText(new File("Test.java"), List.of(lines));
+        return JavaParser.parseFileText(fileText, JavaParser.Options.WITHOUT_COMMENTS);
+    }
+
+    @Test
+    public void testNewTreeWithoutActiveCache() throws Exception {
+        final DetailAST rootAst = parse("class Test {}");
+
+        assertWithMessage("Xpath tree should be created again without active cache")
+            .that(XpathTreeCache.getRootNode(rootAst))
+            .isNotSameInstanceAs(XpathTreeCache.getRootNode(rootAst));
+    }
+
+    @Test
+    public void testTreeIsSharedWithinPass() throws Exception {
+        final DetailAST rootAst = parse("class Test {}");
+        final DetailAST otherAst = parse("class Other {}");
+
+        XpathTreeCache.beginPass();
+        try {
+            final RootNode rootNode = XpathTreeCache.getRootNode(rootAst);
+            assertWithMessage("Same ast should share the xpath tree within a pass")
+                .that(XpathTreeCache.getRootNode(rootAst))
+                .isSameInstanceAs(rootNode);
+            final RootNode otherNode = XpathTreeCache.getRootNode(otherAst);
+            assertWithMessage("Other ast should get a new xpath tree")
+                .that(otherNode)
+                .isNotSameInstanceAs(rootNode);
+            assertWithMessage("Invalid underlying node")
+                .that(otherNode.getUnderlyingNode())
+                .isSameInstanceAs(otherAst);
+        }
+        finally {
+            XpathTreeCache.finishPass();
+        }
+    }
+
+    @Test
+    public void testTreeIsNotReusedAfterPass() throws Exception {
+        final DetailAST rootAst = parse("class Test {", "    // comment", "}");
+
+        XpathTreeCache.beginPass();
+        try {
+            assertWithMessage("Comment nodes should not be found before they are added")
+                .that(XpathUtil.getXpathItems(QUERY, XpathTreeCache.getRootNode(rootAst)))
+                .isEmpty();
+        }
+        finally {
+            XpathTreeCache.finishPass();
+        }
+
+        JavaParser.appendHiddenCommentNodes(rootAst);
+        XpathTreeCache.beginPass();
+        try {
+            assertWithMessage("Comment nodes added after the pass should be found")
+                .that(XpathUtil.getXpathItems(QUERY, XpathTreeCache.getRootNode(rootAst)))
+                .hasSize(1);
+        }
+        finally {
+            XpathTreeCache.finishPass();
+        }
+    }
+
+}
@@ -21,6 +21,9 @@ package com.puppycrawl.tools.checkstyle.api;
 
 import static com.google.common.truth.Truth.assertWithMessage;
 
+import java.io.File;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 public class AuditEventTest {
@@ -77,4 +80,19 @@ public class AuditEventTest {
                 .that(event.getSourceName())
                 .isEqualTo("com.puppycrawl.tools.checkstyle.api.AuditEventTest");
     }
+
+    @Test
+    public void testFileText() {
+        final Violation message = new Violation(1, 2, 3, "bundle", "key", null,
+                SeverityLevel.ERROR, "moduleId", getClass(), "customMessage");
+        final FileText fileText = new FileText(new File("fileName"), List.of("line"));
+        final AuditEvent event = new AuditEvent(getClass(), "fileName", message, fileText);
+
+        assertWithMessage("invalid file text")
+                .that(event.getFileText())
+                .isSameInstanceAs(fileText);
+        assertWithMessage("file text should be absent")
+                .that(new AuditEvent(getClass(), "fileName", message).getFileText())
+                .isNull();
+    }
 }
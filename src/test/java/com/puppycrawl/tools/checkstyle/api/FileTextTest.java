@@ -154,6 +154,24 @@ public class FileTextTest extends AbstractPathTestSupport {
                 .isEqualTo(new String[] {"abc"});
     }
 
+    @Test
+    public void testInMemoryContents() {
+        final File file = new File("missing/Test.java");
+        final FileText fileText = new FileText(file, "a\r\nb\nc", StandardCharsets.UTF_8);
+        assertWithMessage("Invalid lines")
+                .that(fileText.toLinesArray())
+                .isEqualTo(new String[] {"a", "b", "c"});
+        assertWithMessage("Full text should keep line terminators")
+                .that(fileText.getFullText().toString())
+                .isEqualTo("a\r\nb\nc");
+        assertWithMessage("Invalid charset")
+                .that(fileText.getCharset())
+                .isEqualTo(StandardCharsets.UTF_8);
+        assertWithMessage("Invalid file")
+                .that(fileText.getFile())
+                .isSameInstanceAs(file);
+    }
+
     @Test
     public void testFindLineBreaks() throws Exception {
         final FileText fileText = new FileText(new File("fileName"), Arrays.asList("1", "2"));
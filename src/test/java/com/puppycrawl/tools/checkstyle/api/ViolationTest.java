@@ -66,6 +66,37 @@ public class ViolationTest {
             .isEqualTo("com.puppycrawl.tools.checkstyle.api.Violation");
     }
 
+    @Test
+    public void testGetTranslationFields() {
+        final Object[] args = {"arg"};
+        final Violation violation = new Violation(1, 2, "bundle", "key", args,
+                "module", Violation.class, "custom");
+        args[0] = "changed";
+
+        assertWithMessage("Invalid source class")
+            .that(violation.getSourceClass())
+            .isEqualTo(Violation.class);
+        assertWithMessage("Invalid bundle")
+            .that(violation.getBundle())
+            .isEqualTo("bundle");
+        assertWithMessage("Invalid custom message")
+            .that(violation.getCustomMessage())
+            .isEqualTo("custom");
+        assertWithMessage("Invalid arguments")
+            .that(violation.getArgs())
+            .asList()
+            .containsExactly("arg");
+        violation.getArgs()[0] = "changed";
+        assertWithMessage("Arguments should not be modifiable")
+            .that(violation.getArgs())
+            .asList()
+            .containsExactly("arg");
+        assertWithMessage("Arguments should be null")
+            .that(new Violation(1, "bundle", "key", null, "module", Violation.class, null)
+                .getArgs())
+            .isNull();
+    }
+
     @DefaultLocale("en")
     @Test
     public void testMessageInEnglish() {
@@ -76,6 +107,17 @@ public class ViolationTest {
             .isEqualTo("Empty statement.");
     }
 
+    @DefaultLocale("en")
+    @Test
+    public void testMessageIsFormattedOnce() {
+        final Violation violation = createSampleViolation();
+        final String message = violation.getViolation();
+
+        assertWithMessage("Formatted violation should be reused")
+            .that(violation.getViolation())
+            .isSameInstanceAs(message);
+    }
+
     @DefaultLocale("fr")
     @Test
     public void testGetKey() {
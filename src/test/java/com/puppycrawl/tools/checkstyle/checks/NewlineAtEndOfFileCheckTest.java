@@ -27,6 +27,7 @@ import static com.puppycrawl.tools.checkstyle.checks.NewlineAtEndOfFileCheck.MSG
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
@@ -195,6 +196,29 @@ public class NewlineAtEndOfFileCheckTest
                 .isEqualTo(getCheckMessage(MSG_KEY_UNABLE_OPEN, ""));
     }
 
+    @Test
+    public void testInMemoryContents() throws Exception {
+        final DefaultConfiguration checkConfig = createModuleConfig(NewlineAtEndOfFileCheck.class);
+        checkConfig.addProperty("lineSeparator", LineSeparatorOption.LF.toString());
+        final NewlineAtEndOfFileCheck check = new NewlineAtEndOfFileCheck();
+        check.configure(checkConfig);
+        final File missingFile = new File("missing/Test.java");
+
+        final FileText lfText = new FileText(missingFile, "txt\n", StandardCharsets.UTF_8);
+        assertWithMessage("Text ending with separator should not be reported")
+                .that(check.process(missingFile, lfText))
+                .isEmpty();
+
+        final FileText crlfText = new FileText(missingFile, "txt\r\n", StandardCharsets.UTF_8);
+        final Set<Violation> violations = check.process(missingFile, crlfText);
+        assertWithMessage("Amount of violations is unexpected")
+                .that(violations)
+                .hasSize(1);
+        assertWithMessage("Violation message differs from expected")
+                .that(violations.iterator().next().getViolation())
+                .isEqualTo(getCheckMessage(MSG_KEY_WRONG_ENDING));
+    }
+
     @Test
     public void testWrongSeparatorLength() throws Exception {
         try (RandomAccessFile file =
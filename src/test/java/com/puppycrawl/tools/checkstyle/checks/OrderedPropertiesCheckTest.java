@@ -24,11 +24,7 @@ import static com.puppycrawl.tools.checkstyle.checks.OrderedPropertiesCheck.MSG_
 import static com.puppycrawl.tools.checkstyle.checks.OrderedPropertiesCheck.MSG_KEY;
 
 import java.io.File;
-import java.io.IOException;
-import java.io.InputStream;
-import java.nio.file.Files;
-import java.nio.file.NoSuchFileException;
-import java.util.Collections;
+import java.util.List;
 import java.util.SortedSet;
 
 import org.junit.jupiter.api.Test;
@@ -118,30 +114,31 @@ public class OrderedPropertiesCheckTest extends AbstractModuleTestSupport {
     }
 
     /**
-     * Tests IO exception, that can occur during reading of properties file.
+     * Tests that the contents are taken from the given file text and
+     * a malformed file is reported instead of failing the audit.
      */
     @Test
-    public void testIoException() throws Exception {
+    public void testMalformedContentsFromFileText() throws Exception {
         final DefaultConfiguration checkConfig = createModuleConfig(OrderedPropertiesCheck.class);
         final OrderedPropertiesCheck check = new OrderedPropertiesCheck();
         check.configure(checkConfig);
         final String fileName =
                 getPath("InputOrderedPropertiesCheckNotExisting.properties");
         final File file = new File(fileName);
-        final FileText fileText = new FileText(file, Collections.emptyList());
+        final FileText fileText = new FileText(file, List.of("b=\\uZZZZ"));
         final SortedSet<Violation> violations =
                 check.process(file, fileText);
         assertWithMessage("Wrong violations count")
                 .that(violations)
                 .hasSize(1);
         final Violation violation = violations.iterator().next();
-        final String retrievedMessage = violations.iterator().next().getKey();
         assertWithMessage("violation key is not valid")
-                .that(retrievedMessage)
+                .that(violation.getKey())
                 .isEqualTo("unable.open.cause");
         assertWithMessage("violation is not valid")
-                .that(getCheckMessage(MSG_IO_EXCEPTION_KEY, fileName, getFileNotFoundDetail(file)))
-                .isEqualTo(violation.getViolation());
+                .that(violation.getViolation())
+                .isEqualTo(getCheckMessage(MSG_IO_EXCEPTION_KEY, fileName,
+                        "Malformed \\uxxxx encoding."));
     }
 
     /**
@@ -150,8 +147,8 @@ public class OrderedPropertiesCheckTest extends AbstractModuleTestSupport {
      * (int index = startLineNo; index < fileText.size(); index++)
      * will change to
      * for (int index = startLineNo; true; index++)
-     * By creating a FileText having no lines it makes sure that
-     * fileText.size() returning zero size.
+     * By using a key written with an escape sequence it makes sure that
+     * the key is not found in any of the lines of the file.
      * This will keep the for loop intact.
      */
     @Test
@@ -160,15 +157,16 @@ public class OrderedPropertiesCheckTest extends AbstractModuleTestSupport {
         final DefaultConfiguration checkConfig = createModuleConfig(OrderedPropertiesCheck.class);
         final OrderedPropertiesCheck check = new OrderedPropertiesCheck();
         check.configure(checkConfig);
-        final String fileName =
-                getPath("InputOrderedProperties2EmptyValue.properties");
-        final File file = new File(fileName);
-        final FileText fileText = new FileText(file, Collections.emptyList());
+        final File file = new File(getPath("InputOrderedPropertiesEscapedKey.properties"));
+        final FileText fileText = new FileText(file, List.of("b=1", "a\\u0062=2"));
         final SortedSet<Violation> violations = check.process(file, fileText);
 
         assertWithMessage("Wrong violations count")
                 .that(violations)
                 .hasSize(1);
+        assertWithMessage("Invalid line number")
+                .that(violations.iterator().next().getLineNo())
+                .isEqualTo(1);
     }
 
     @Test
@@ -179,20 +177,4 @@ public class OrderedPropertiesCheckTest extends AbstractModuleTestSupport {
                 .that(".properties")
                 .isEqualTo(check.getFileExtensions()[0]);
     }
-
-    /**
-     * Method generates NoSuchFileException details. It tries to open a file that does not exist.
-     *
-     * @param file to be opened
-     * @return localized detail message of {@link NoSuchFileException}
-     */
-    private static String getFileNotFoundDetail(File file) {
-        // Create exception to know detail message we should wait in LocalisedMessage
-        try (InputStream stream = Files.newInputStream(file.toPath())) {
-            throw new IllegalStateException("File " + file.getPath() + " should not exist");
-        }
-        catch (IOException ex) {
-            return ex.getLocalizedMessage();
-        }
-    }
 }
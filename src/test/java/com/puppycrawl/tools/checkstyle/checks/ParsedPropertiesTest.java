@@ -0,0 +1,96 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2023 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle.checks;
+
+import static com.google.common.truth.Truth.assertWithMessage;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.puppycrawl.tools.checkstyle.api.FileText;
+
+public class ParsedPropertiesTest {
+
+    @Test
+    public void testKeysAndDuplicates() {
+        final FileText fileText = new FileText(new File("some.properties"),
+                List.of("# comment", "b=1", "a = 2", "b:3", "multi\\", "  line=4", "a 5"));
+        final ParsedProperties properties = ParsedProperties.of(fileText);
+
+        assertWithMessage("Keys should be kept in file order")
+            .that(properties.getKeys())
+            .containsExactly("b", "a", "b", "multiline", "a")
+            .inOrder();
+        assertWithMessage("Invalid distinct keys")
+            .that(properties.getKeySet())
+            .containsExactly("b", "a", "multiline")
+            .inOrder();
+        assertWithMessage("Invalid duplicated keys")
+            .that(properties.getDuplicatedKeys())
+            .isEqualTo(Map.of("a", 1, "b", 1));
+        assertWithMessage("File should be parsed without exception")
+            .that(properties.getParseException())
+            .isNull();
+    }
+
+    @Test
+    public void testMalformedContents() {
+        final FileText fileText = new FileText(new File("some.properties"),
+                List.of("a=1", "b=\\uZZZZ", "c=3"));
+        final ParsedProperties properties = ParsedProperties.of(fileText);
+
+        assertWithMessage("Keys before malformed line should be kept")
+            .that(properties.getKeys())
+            .containsExactly("a");
+        assertWithMessage("Parse exception should be kept")
+            .that(properties.getParseException())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testParsedOncePerFileText() {
+        final FileText fileText = new FileText(new File("some.properties"), List.of("a=1"));
+        final ParsedProperties properties = ParsedProperties.of(fileText);
+
+        assertWithMessage("Same file text should share the parsed model")
+            .that(ParsedProperties.of(fileText))
+            .isSameInstanceAs(properties);
+
+        final FileText otherText = new FileText(new File("some.properties"), List.of("a=1"));
+        assertWithMessage("Other file text should be parsed again")
+            .that(ParsedProperties.of(otherText))
+            .isNotSameInstanceAs(properties);
+    }
+
+    @Test
+    public void testReleaseDropsParsedModel() {
+        final FileText fileText = new FileText(new File("some.properties"), List.of("a=1"));
+        final ParsedProperties properties = ParsedProperties.of(fileText);
+        ParsedProperties.release();
+
+        assertWithMessage("Released model should not be shared")
+            .that(ParsedProperties.of(fileText))
+            .isNotSameInstanceAs(properties);
+    }
+
+}
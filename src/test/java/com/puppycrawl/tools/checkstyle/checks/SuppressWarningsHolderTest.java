@@ -24,9 +24,9 @@ import static com.google.common.truth.Truth.assertWithMessage;
 import java.io.File;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
@@ -64,9 +64,9 @@ public class SuppressWarningsHolderTest extends AbstractModuleTestSupport {
 
         new SuppressWarningsHolder().beginTree(null);
 
-        final Map<String, String> map = TestUtil.getInternalStaticState(
+        final AtomicReference<Map<String, String>> map = TestUtil.getInternalStaticState(
                 SuppressWarningsHolder.class, "CHECK_ALIAS_MAP");
-        map.clear();
+        map.set(Map.of());
     }
 
     @Test
@@ -277,6 +277,73 @@ public class SuppressWarningsHolderTest extends AbstractModuleTestSupport {
                 .isTrue();
     }
 
+    @Test
+    public void testIsSuppressedByOverlappingEntries() throws Exception {
+        populateHolder("check", 100, 10, 200, 5);
+        populateHolder("check", 150, 20, 300, 40);
+        populateHolder("check", 120, 1, 130, 1);
+        populateHolder("other", 400, 1, 500, 1);
+
+        assertWithMessage("Event inside merged regions should be suppressed")
+                .that(SuppressWarningsHolder.isSuppressed(createAuditEvent("check", 250, 1)))
+                .isTrue();
+        assertWithMessage("Event at end of merged regions should be suppressed")
+                .that(SuppressWarningsHolder.isSuppressed(createAuditEvent("check", 300, 40)))
+                .isTrue();
+        assertWithMessage("Event after merged regions should not be suppressed")
+                .that(SuppressWarningsHolder.isSuppressed(createAuditEvent("check", 300, 41)))
+                .isFalse();
+        assertWithMessage("Event before merged regions should not be suppressed")
+                .that(SuppressWarningsHolder.isSuppressed(createAuditEvent("check", 100, 9)))
+                .isFalse();
+        assertWithMessage("Whole line event of first line should be suppressed")
+                .that(SuppressWarningsHolder.isSuppressed(createAuditEvent("check", 100, 0)))
+                .isTrue();
+        assertWithMessage("Event of other check region should not be suppressed")
+                .that(SuppressWarningsHolder.isSuppressed(createAuditEvent("check", 450, 1)))
+                .isFalse();
+
+        populateHolder("check", 450, 1, 460, 1);
+        assertWithMessage("Entry added after lookup should be indexed")
+                .that(SuppressWarningsHolder.isSuppressed(createAuditEvent("check", 450, 1)))
+                .isTrue();
+    }
+
+    @Test
+    public void testIsSuppressedByDefaultAliasIgnoringCase() throws Exception {
+        populateHolder("MemberName", 100, 1, 200, 1);
+        final Checker source = new Checker();
+        final Violation violation =
+            new Violation(150, 10, null, null, null, null, MemberNameCheck.class, "msg");
+
+        assertWithMessage("Event should be suppressed by default alias")
+                .that(SuppressWarningsHolder.isSuppressed(
+                        new AuditEvent(source, "fileName", violation)))
+                .isTrue();
+    }
+
+    @Test
+    public void testAliasMapIsUnmodifiable() {
+        final SuppressWarningsHolder holder = new SuppressWarningsHolder();
+        holder.setAliasList("first=one");
+        holder.setAliasList("second=two");
+        final AtomicReference<Map<String, String>> aliases = TestUtil.getInternalStaticState(
+                SuppressWarningsHolder.class, "CHECK_ALIAS_MAP");
+
+        assertWithMessage("Aliases of all calls should be kept")
+            .that(aliases.get())
+            .containsExactly("first", "one", "second", "two");
+        try {
+            aliases.get().put("third", "three");
+            assertWithMessage("Exception expected").fail();
+        }
+        catch (UnsupportedOperationException ex) {
+            assertWithMessage("Alias map should not be modified")
+                .that(SuppressWarningsHolder.getAlias("third"))
+                .isEqualTo("third");
+        }
+    }
+
     @Test
     public void testAnnotationInTry() throws Exception {
         final Configuration checkConfig = createModuleConfig(SuppressWarningsHolder.class);
@@ -450,7 +517,7 @@ public class SuppressWarningsHolderTest extends AbstractModuleTestSupport {
         assertWithMessage("State is not cleared on beginTree")
                 .that(TestUtil.isStatefulFieldClearedDuringBeginTree(check, annotationDef.get(),
                         "ENTRIES",
-                        entries -> ((ThreadLocal<List<Object>>) entries).get().isEmpty()))
+                        entries -> isEmpty(((ThreadLocal<Object>) entries).get())))
                 .isTrue();
     }
 
@@ -466,9 +533,18 @@ public class SuppressWarningsHolderTest extends AbstractModuleTestSupport {
         final Object entryInstance = entryConstr.newInstance(checkName, firstLine,
                 firstColumn, lastLine, lastColumn);
 
-        final ThreadLocal<List<Object>> entries = TestUtil
+        final ThreadLocal<Object> entries = TestUtil
                 .getInternalStaticState(SuppressWarningsHolder.class, "ENTRIES");
-        entries.get().add(entryInstance);
+        TestUtil.invokeMethod(entries.get(), "add", entryInstance);
+    }
+
+    private static boolean isEmpty(Object entries) {
+        try {
+            return TestUtil.invokeMethod(entries, "isEmpty");
+        }
+        catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException(ex);
+        }
     }
 
     private static AuditEvent createAuditEvent(String moduleId, int line, int column) {
@@ -211,34 +211,6 @@ public class TranslationCheckTest extends AbstractXmlTestSupport {
             expected);
     }
 
-    @Test
-    public void testLogIoExceptionFileNotFound() throws Exception {
-        // I can't put wrong file here. Checkstyle fails before check started.
-        // I saw some usage of file or handling of wrong file in Checker, or somewhere
-        // in checks running part. So I had to do it with reflection to improve coverage.
-        final TranslationCheck check = new TranslationCheck();
-        final DefaultConfiguration checkConfig = createModuleConfig(TranslationCheck.class);
-        final TestMessageDispatcher dispatcher = new TestMessageDispatcher();
-        check.configure(checkConfig);
-        check.setMessageDispatcher(dispatcher);
-
-        final Set<String> keys = TestUtil.invokeMethod(check, "getTranslationKeys",
-                new File(".no.such.file"));
-        assertWithMessage("Translation keys should be empty when File is not found")
-                .that(keys)
-                .isEmpty();
-
-        assertWithMessage("expected number of errors to fire")
-            .that(dispatcher.savedErrors)
-            .hasSize(1);
-        final Violation violation = new Violation(0,
-                Definitions.CHECKSTYLE_BUNDLE, "general.fileNotFound",
-                null, null, TranslationCheck.class, null);
-        assertWithMessage("Invalid violation")
-            .that(dispatcher.savedErrors.iterator().next())
-            .isEqualTo(violation);
-    }
-
     @Test
     public void testLogIoException() throws Exception {
         // I can't put wrong file here. Checkstyle fails before check started.
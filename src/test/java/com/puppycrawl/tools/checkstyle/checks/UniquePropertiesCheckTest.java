@@ -24,17 +24,10 @@ import static com.puppycrawl.tools.checkstyle.checks.UniquePropertiesCheck.MSG_I
 import static com.puppycrawl.tools.checkstyle.checks.UniquePropertiesCheck.MSG_KEY;
 
 import java.io.File;
-import java.io.IOException;
-import java.io.InputStream;
-import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
-import java.nio.file.Files;
-import java.nio.file.NoSuchFileException;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.SortedSet;
 
 import org.junit.jupiter.api.Test;
@@ -128,71 +121,36 @@ public class UniquePropertiesCheckTest extends AbstractModuleTestSupport {
     }
 
     /**
-     * Tests IO exception, that can occur during reading of properties file.
+     * Tests that the contents are taken from the given file text and
+     * a malformed file is reported instead of failing the audit.
      */
     @Test
-    public void testIoException() throws Exception {
+    public void testMalformedContentsFromFileText() throws Exception {
         final DefaultConfiguration checkConfig = createModuleConfig(UniquePropertiesCheck.class);
         final UniquePropertiesCheck check = new UniquePropertiesCheck();
         check.configure(checkConfig);
         final String fileName =
                 getPath("InputUniquePropertiesCheckNotExisting.properties");
         final File file = new File(fileName);
-        final FileText fileText = new FileText(file, Collections.emptyList());
+        final FileText fileText = new FileText(file, List.of("a=1", "a=2", "b=\\uZZZZ"));
         final SortedSet<Violation> violations =
                 check.process(file, fileText);
         assertWithMessage("Wrong messages count: " + violations.size())
             .that(violations)
-            .hasSize(1);
-        final Violation violation = violations.iterator().next();
-        final String retrievedMessage = violations.iterator().next().getKey();
-        assertWithMessage("violation key '" + retrievedMessage + "' is not valid")
-            .that(retrievedMessage)
-            .isEqualTo("unable.open.cause");
+            .hasSize(2);
+        final Iterator<Violation> iterator = violations.iterator();
+        final Violation duplicate = iterator.next();
+        assertWithMessage("violation '" + duplicate.getViolation() + "' is not valid")
+            .that(duplicate.getViolation())
+            .isEqualTo(getCheckMessage(MSG_KEY, "a", 2));
+        assertWithMessage("Invalid line number")
+            .that(duplicate.getLineNo())
+            .isEqualTo(1);
+        final Violation violation = iterator.next();
         assertWithMessage("violation '" + violation.getViolation() + "' is not valid")
-            .that(getCheckMessage(MSG_IO_EXCEPTION_KEY, fileName, getFileNotFoundDetail(file)))
-            .isEqualTo(violation.getViolation());
-    }
-
-    @Test
-    public void testWrongKeyTypeInProperties() throws Exception {
-        final Class<?> uniquePropertiesClass = Class
-                .forName("com.puppycrawl.tools.checkstyle.checks."
-                    + "UniquePropertiesCheck$UniqueProperties");
-        final Constructor<?> constructor = uniquePropertiesClass.getDeclaredConstructor();
-        constructor.setAccessible(true);
-        final Object uniqueProperties = constructor.newInstance();
-        final Method method = uniqueProperties.getClass().getDeclaredMethod("put", Object.class,
-                Object.class);
-        final Object result = method.invoke(uniqueProperties, 1, "value");
-        final Map<Object, Object> table = new HashMap<>();
-        final Object expected = table.put(1, "value");
-        assertWithMessage("Invalid result of put method")
-            .that(result)
-            .isEqualTo(expected);
-
-        final Object result2 = method.invoke(uniqueProperties, 1, "value");
-        final Object expected2 = table.put(1, "value");
-        assertWithMessage("Value should be substituted")
-            .that(result2)
-            .isEqualTo(expected2);
-    }
-
-    /**
-     * Method generates NoSuchFileException details. It tries to open a file that does not exist.
-     *
-     * @param file to be opened
-     * @return localized detail message of {@link NoSuchFileException}
-     */
-    private static String getFileNotFoundDetail(File file) {
-        // Create exception to know detail message we should wait in
-        // LocalisedMessage
-        try (InputStream stream = Files.newInputStream(file.toPath())) {
-            throw new IllegalStateException("File " + file.getPath() + " should not exist");
-        }
-        catch (IOException ex) {
-            return ex.getLocalizedMessage();
-        }
+            .that(violation.getViolation())
+            .isEqualTo(getCheckMessage(MSG_IO_EXCEPTION_KEY, fileName,
+                    "Malformed \\uxxxx encoding."));
     }
 
 }
@@ -21,9 +21,13 @@ package com.puppycrawl.tools.checkstyle.checks.imports;
 
 import static com.google.common.truth.Truth.assertWithMessage;
 
+import java.util.Map;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import com.puppycrawl.tools.checkstyle.internal.utils.TestUtil;
+
 public class PkgImportControlTest {
 
     private final PkgImportControl icRoot = new PkgImportControl(
@@ -320,4 +324,144 @@ public class PkgImportControlTest {
             .isNull();
     }
 
+    @Test
+    public void testLocateFinestFirstChildInOrderWins() {
+        final PkgImportControl root = new PkgImportControl(
+            "com.kazgroup", false, MismatchStrategy.DISALLOWED);
+        final PkgImportControl regexChild = new PkgImportControl(root,
+            "(court)(link)", true, MismatchStrategy.DELEGATE_TO_PARENT);
+        final PkgImportControl literalChild = new PkgImportControl(root,
+            "courtlink", false, MismatchStrategy.DELEGATE_TO_PARENT);
+        final PkgImportControl otherRegexChild = new PkgImportControl(root,
+            "court.*", true, MismatchStrategy.DELEGATE_TO_PARENT);
+        final PkgImportControl deepLiteralChild = new PkgImportControl(root,
+            "other.deep", false, MismatchStrategy.DELEGATE_TO_PARENT);
+        final FileImportControl fileChild = new FileImportControl(root, "My.*", true);
+        root.addChild(fileChild);
+        root.addChild(regexChild);
+        root.addChild(literalChild);
+        root.addChild(otherRegexChild);
+        root.addChild(deepLiteralChild);
+        root.compile();
+
+        assertWithMessage("Earlier file child should win")
+            .that(root.locateFinest("com.kazgroup.courtlink", "MyClass"))
+            .isEqualTo(fileChild);
+        assertWithMessage("Earlier regex child should win over literal child")
+            .that(root.locateFinest("com.kazgroup.courtlink.api", "Other"))
+            .isEqualTo(regexChild);
+        assertWithMessage("Later regex child should be found")
+            .that(root.locateFinest("com.kazgroup.courts", "Other"))
+            .isEqualTo(otherRegexChild);
+        assertWithMessage("Literal child with dots should be found")
+            .that(root.locateFinest("com.kazgroup.other.deep.api", null))
+            .isEqualTo(deepLiteralChild);
+        assertWithMessage("Root should be found when no child matches")
+            .that(root.locateFinest("com.kazgroup.other", null))
+            .isEqualTo(root);
+    }
+
+    @Test
+    public void testLocateFinestWithBackReference() {
+        final PkgImportControl root = new PkgImportControl(
+            "com", false, MismatchStrategy.DISALLOWED);
+        final PkgImportControl backReferenceChild = new PkgImportControl(root,
+            "(a)\\1", true, MismatchStrategy.DELEGATE_TO_PARENT);
+        final PkgImportControl otherChild = new PkgImportControl(root,
+            "a.*", true, MismatchStrategy.DELEGATE_TO_PARENT);
+        root.addChild(backReferenceChild);
+        root.addChild(otherChild);
+
+        assertWithMessage("Back reference should be matched")
+            .that(root.locateFinest("com.aa", null))
+            .isEqualTo(backReferenceChild);
+        assertWithMessage("Other child should be matched")
+            .that(root.locateFinest("com.ab", null))
+            .isEqualTo(otherChild);
+    }
+
+    @Test
+    public void testLocateFinestWithDuplicateNamedGroups() {
+        final PkgImportControl root = new PkgImportControl(
+            "com", false, MismatchStrategy.DISALLOWED);
+        final PkgImportControl firstChild = new PkgImportControl(root,
+            "(?<name>a)b", true, MismatchStrategy.DELEGATE_TO_PARENT);
+        final PkgImportControl secondChild = new PkgImportControl(root,
+            "(?<name>c)d", true, MismatchStrategy.DELEGATE_TO_PARENT);
+        final FileImportControl firstFile = new FileImportControl(root, "(?<name>A).*", true);
+        final FileImportControl secondFile = new FileImportControl(root, "(?<name>B).*", true);
+        root.addChild(firstChild);
+        root.addChild(secondChild);
+        root.addChild(firstFile);
+        root.addChild(secondFile);
+        root.compile();
+
+        assertWithMessage("First child should be matched")
+            .that(root.locateFinest("com.ab", null))
+            .isEqualTo(firstChild);
+        assertWithMessage("Second child should be matched")
+            .that(root.locateFinest("com.cd", null))
+            .isEqualTo(secondChild);
+        assertWithMessage("Second file should be matched")
+            .that(root.locateFinest("com", "Bar"))
+            .isEqualTo(secondFile);
+        assertWithMessage("Root should be found when no child matches")
+            .that(root.locateFinest("com.ef", "Other"))
+            .isEqualTo(root);
+    }
+
+    @Test
+    public void testCheckAccessAfterCompile() {
+        icRoot.compile();
+        final AbstractImportControl finest =
+            icRoot.locateFinest("com.kazgroup.courtlink.common", null);
+        for (int attempt = 0; attempt < 2; attempt++) {
+            assertWithMessage("Unexpected access result")
+                .that(finest.checkAccess("com.kazgroup.courtlink.common", null,
+                    "org.hibernate.Session"))
+                .isEqualTo(AccessResult.ALLOWED);
+            assertWithMessage("Unexpected access result")
+                .that(finest.checkAccess("com.kazgroup.courtlink.common", null,
+                    "org.springframework.Bean"))
+                .isEqualTo(AccessResult.DISALLOWED);
+        }
+    }
+
+    @Test
+    public void testCheckAccessAfterCompileWithLocalOnlyRule() {
+        final PkgImportControl root = new PkgImportControl(
+            "com.kazgroup", false, MismatchStrategy.DISALLOWED);
+        root.addImportRule(new PkgImportRule(true, true, "java.io", false, false));
+        root.compile();
+
+        for (int attempt = 0; attempt < 2; attempt++) {
+            assertWithMessage("Local only rule should apply to the package itself")
+                .that(root.checkAccess("com.kazgroup", "MyClass", "java.io.File"))
+                .isEqualTo(AccessResult.ALLOWED);
+            assertWithMessage("Local only rule should not apply to subpackages")
+                .that(root.checkAccess("com.kazgroup.common", "MyClass", "java.io.File"))
+                .isEqualTo(AccessResult.DISALLOWED);
+        }
+        final Map<String, AccessResult> accessCache =
+            TestUtil.getInternalState(root, "accessCache");
+        assertWithMessage("Results should be memoized by import and exact matches")
+            .that(accessCache.keySet())
+            .containsExactly("java.io.File/1", "java.io.File/0");
+    }
+
+    @Test
+    public void testCheckAccessCacheIsBounded() {
+        icRoot.compile();
+        for (int index = 0; index < 5000; index++) {
+            assertWithMessage("Unexpected access result")
+                .that(icRoot.checkAccess("com.kazgroup.courtlink", null, "a.B" + index))
+                .isEqualTo(AccessResult.DISALLOWED);
+        }
+        final Map<String, AccessResult> accessCache =
+            TestUtil.getInternalState(icRoot, "accessCache");
+        assertWithMessage("Memoized results should be bounded")
+            .that(accessCache)
+            .hasSize(4096);
+    }
+
 }
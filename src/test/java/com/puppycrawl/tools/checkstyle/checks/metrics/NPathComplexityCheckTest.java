@@ -24,7 +24,7 @@ import static com.puppycrawl.tools.checkstyle.checks.metrics.NPathComplexityChec
 
 import java.io.File;
 import java.math.BigInteger;
-import java.util.Collection;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.SortedSet;
 
@@ -34,7 +34,6 @@ import org.junit.jupiter.api.Test;
 import com.puppycrawl.tools.checkstyle.AbstractModuleTestSupport;
 import com.puppycrawl.tools.checkstyle.DetailAstImpl;
 import com.puppycrawl.tools.checkstyle.JavaParser;
-import com.puppycrawl.tools.checkstyle.api.Context;
 import com.puppycrawl.tools.checkstyle.api.DetailAST;
 import com.puppycrawl.tools.checkstyle.api.TokenTypes;
 import com.puppycrawl.tools.checkstyle.api.Violation;
@@ -119,19 +118,26 @@ public class NPathComplexityCheckTest extends AbstractModuleTestSupport {
     }
 
     @Test
-    @SuppressWarnings("unchecked")
+    public void testLongOverflow() throws Exception {
+        final BigInteger largerThanMaxLong = BigInteger.ONE.shiftLeft(64);
+
+        final String[] expected = {
+            "16:5: " + getCheckMessage(MSG_KEY, largerThanMaxLong, 0),
+        };
+
+        verifyWithInlineConfigParser(
+                getPath("InputNPathComplexityLongOverflow.java"), expected);
+    }
+
+    @Test
     public void testStatefulFieldsClearedOnBeginTree1() {
         final DetailAstImpl ast = new DetailAstImpl();
         ast.setType(TokenTypes.LITERAL_ELSE);
 
         final NPathComplexityCheck check = new NPathComplexityCheck();
         assertWithMessage("Stateful field is not cleared after beginTree")
-                .that(TestUtil.isStatefulFieldClearedDuringBeginTree(check, ast, "rangeValues",
-                        rangeValues -> ((Collection<Context>) rangeValues).isEmpty()))
-                .isTrue();
-        assertWithMessage("Stateful field is not cleared after beginTree")
-                .that(TestUtil.isStatefulFieldClearedDuringBeginTree(check, ast, "expressionValues",
-                        expressionValues -> ((Collection<Context>) expressionValues).isEmpty()))
+                .that(TestUtil.isStatefulFieldClearedDuringBeginTree(check, ast, "valuesSize",
+                        valuesSize -> (int) valuesSize == 0))
                 .isTrue();
         assertWithMessage("Stateful field is not cleared after beginTree")
                 .that(TestUtil.isStatefulFieldClearedDuringBeginTree(check, ast, "branchVisited",
@@ -140,12 +146,15 @@ public class NPathComplexityCheckTest extends AbstractModuleTestSupport {
         assertWithMessage("Stateful field is not cleared after beginTree")
                 .that(TestUtil.isStatefulFieldClearedDuringBeginTree(check, ast,
                         "currentRangeValue",
-                        currentRangeValue -> currentRangeValue.equals(BigInteger.ZERO)))
+                        currentRangeValue -> (long) currentRangeValue == 0))
+                .isTrue();
+        assertWithMessage("Stateful field is not cleared after beginTree")
+                .that(TestUtil.isStatefulFieldClearedDuringBeginTree(check, ast,
+                        "bigCurrentRangeValue", Objects::isNull))
                 .isTrue();
     }
 
     @Test
-    @SuppressWarnings("unchecked")
     public void testStatefulFieldsClearedOnBeginTree2() {
         final DetailAstImpl ast = new DetailAstImpl();
         ast.setType(TokenTypes.LITERAL_RETURN);
@@ -156,8 +165,8 @@ public class NPathComplexityCheckTest extends AbstractModuleTestSupport {
 
         final NPathComplexityCheck check = new NPathComplexityCheck();
         assertWithMessage("Stateful field is not cleared after beginTree")
-                .that(TestUtil.isStatefulFieldClearedDuringBeginTree(check, ast, "afterValues",
-                        isAfterValues -> ((Collection<Context>) isAfterValues).isEmpty()))
+                .that(TestUtil.isStatefulFieldClearedDuringBeginTree(check, ast, "afterValuesSize",
+                        afterValuesSize -> (int) afterValuesSize == 0))
                 .isTrue();
     }
 
@@ -51,6 +51,16 @@ public class RegexpSinglelineCheckTest extends AbstractModuleTestSupport {
                 getPath("InputRegexpSinglelineSemantic.java"), expected);
     }
 
+    @Test
+    public void testSupplementaryCharacterQuantifier() throws Exception {
+        final String[] expected = {
+            "16: " + getCheckMessage(MSG_REGEXP_EXCEEDED, "\u0078\uD83D\uDE00\u003F\u0079"),
+            "17: " + getCheckMessage(MSG_REGEXP_EXCEEDED, "\u0078\uD83D\uDE00\u003F\u0079"),
+        };
+        verifyWithInlineConfigParser(
+                getPath("InputRegexpSinglelineSupplementaryCharacter.java"), expected);
+    }
+
     @Test
     public void testMessageProperty()
             throws Exception {
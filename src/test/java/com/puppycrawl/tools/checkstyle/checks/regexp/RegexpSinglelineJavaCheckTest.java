@@ -23,9 +23,18 @@ import static com.google.common.truth.Truth.assertWithMessage;
 import static com.puppycrawl.tools.checkstyle.checks.regexp.MultilineDetector.MSG_REGEXP_EXCEEDED;
 import static com.puppycrawl.tools.checkstyle.checks.regexp.MultilineDetector.MSG_REGEXP_MINIMUM;
 
+import java.util.List;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 import com.puppycrawl.tools.checkstyle.AbstractModuleTestSupport;
+import com.puppycrawl.tools.checkstyle.Checker;
+import com.puppycrawl.tools.checkstyle.DefaultConfiguration;
+import com.puppycrawl.tools.checkstyle.LiteralPrefilter;
+import com.puppycrawl.tools.checkstyle.api.AbstractCheck;
+import com.puppycrawl.tools.checkstyle.api.FileSetCheck;
+import com.puppycrawl.tools.checkstyle.internal.utils.TestUtil;
 import com.puppycrawl.tools.checkstyle.utils.CommonUtil;
 
 public class RegexpSinglelineJavaCheckTest extends AbstractModuleTestSupport {
@@ -61,6 +70,29 @@ public class RegexpSinglelineJavaCheckTest extends AbstractModuleTestSupport {
                 getPath("InputRegexpSinglelineJavaSemantic.java"), expected);
     }
 
+    @Test
+    public void testLiteralPrefilterOfChecker() throws Exception {
+        final DefaultConfiguration checkConfig =
+            createModuleConfig(RegexpSinglelineJavaCheck.class);
+        checkConfig.addProperty("format", "System\\.out\\.println");
+        final Checker checker = createChecker(checkConfig);
+
+        final List<FileSetCheck> fileSetChecks =
+            TestUtil.getInternalState(checker, "fileSetChecks");
+        final Set<AbstractCheck> checks =
+            TestUtil.getInternalState(fileSetChecks.get(0), "ordinaryChecks");
+        final LiteralPrefilter literalPrefilter =
+            TestUtil.getInternalState(checks.iterator().next(), "literalPrefilter");
+        assertWithMessage("TreeWalker should pass the prefilter of the Checker to the check")
+            .that(literalPrefilter)
+            .isSameInstanceAs(TestUtil.getInternalState(checker, "literalPrefilter"));
+
+        final String[] expected = {
+            "77: " + getCheckMessage(MSG_REGEXP_EXCEEDED, "System\\.out\\.println"),
+        };
+        verify(checker, getPath("InputRegexpSinglelineJavaSemantic.java"), expected);
+    }
+
     @Test
     public void testMessageProperty()
             throws Exception {
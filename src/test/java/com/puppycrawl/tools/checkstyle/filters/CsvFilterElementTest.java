@@ -122,6 +122,35 @@ public class CsvFilterElementTest {
                 .isTrue();
     }
 
+    @Test
+    public void testDecideOverlappingRanges() {
+        final IntFilterElement filter = new CsvFilterElement("20-30, 5, 1-3, 2-6, 25-26, 10-8");
+        assertWithMessage("less than")
+                .that(filter.accept(0))
+                .isFalse();
+        assertWithMessage("equal 1")
+                .that(filter.accept(1))
+                .isTrue();
+        assertWithMessage("equal 6")
+                .that(filter.accept(6))
+                .isTrue();
+        assertWithMessage("between ranges")
+                .that(filter.accept(7))
+                .isFalse();
+        assertWithMessage("inside empty range")
+                .that(filter.accept(9))
+                .isFalse();
+        assertWithMessage("inside nested range")
+                .that(filter.accept(26))
+                .isTrue();
+        assertWithMessage("equal 30")
+                .that(filter.accept(30))
+                .isTrue();
+        assertWithMessage("greater than")
+                .that(filter.accept(31))
+                .isFalse();
+    }
+
     @Test
     public void testEmptyChain() {
         final CsvFilterElement filter = new CsvFilterElement("");
@@ -133,7 +162,9 @@ public class CsvFilterElementTest {
     @Test
     public void testEqualsAndHashCode() {
         final EqualsVerifierReport ev = EqualsVerifier.forClass(CsvFilterElement.class)
-                .usingGetClass().report();
+                .usingGetClass()
+                .withIgnoredFields("lowerBounds", "upperBounds")
+                .report();
         assertWithMessage("Error: " + ev.getMessage())
                 .that(ev.isSuccessful())
                 .isTrue();
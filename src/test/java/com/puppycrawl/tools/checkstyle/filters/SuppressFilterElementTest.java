@@ -27,6 +27,7 @@ import org.junit.jupiter.api.Test;
 import com.puppycrawl.tools.checkstyle.TreeWalkerTest;
 import com.puppycrawl.tools.checkstyle.api.AuditEvent;
 import com.puppycrawl.tools.checkstyle.api.Violation;
+import com.puppycrawl.tools.checkstyle.internal.utils.TestUtil;
 import nl.jqno.equalsverifier.EqualsVerifier;
 import nl.jqno.equalsverifier.EqualsVerifierReport;
 import nl.jqno.equalsverifier.Warning;
@@ -99,6 +100,23 @@ public class SuppressFilterElementTest {
                 .isFalse();
     }
 
+    @Test
+    public void testMessageIsNotFormattedWhenLineDoesNotMatch() {
+        final Violation violation =
+            new Violation(10, 10, "", "", null, null, getClass(), "Test");
+        final AuditEvent ev = new AuditEvent(this, "ATest.java", violation);
+        final SuppressFilterElement filter1 =
+                new SuppressFilterElement("Test", "Test", "Test", null, "1-9", null);
+        assertWithMessage("Not in 1-9")
+                .that(filter1.accept(ev))
+                .isTrue();
+        final String formattedViolation =
+                TestUtil.getInternalState(violation, "formattedViolation");
+        assertWithMessage("Message should not be formatted")
+                .that(formattedViolation)
+                .isNull();
+    }
+
     @Test
     public void testDecideByColumn() {
         final Violation violation =
@@ -26,6 +26,7 @@ import java.io.File;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.regex.Pattern;
 
 import org.junit.jupiter.api.Test;
 
@@ -760,6 +761,75 @@ public class SuppressWithNearbyCommentFilterTest
             .isEmpty();
     }
 
+    @Test
+    public void testOverlappingInfluences() {
+        final SuppressWithNearbyCommentFilter filter = new SuppressWithNearbyCommentFilter();
+        filter.setInfluenceFormat("3");
+        final FileContents contents = new FileContents(new FileText(new File("filename"),
+                Arrays.asList("//SUPPRESS CHECKSTYLE ignore", "line2",
+                        "//SUPPRESS CHECKSTYLE ignore", "line4", "line5", "line6", "line7")));
+        contents.reportSingleLineComment(1, 0);
+        contents.reportSingleLineComment(3, 0);
+
+        for (int line = 1; line <= 6; line++) {
+            assertWithMessage("Event on line %s should be suppressed", line)
+                .that(filter.accept(createEvent(contents, line, "message")))
+                .isFalse();
+        }
+        assertWithMessage("Event after influence of both comments should be accepted")
+            .that(filter.accept(createEvent(contents, 7, "message")))
+            .isTrue();
+    }
+
+    @Test
+    public void testOverlappingInfluencesWithMessage() {
+        final SuppressWithNearbyCommentFilter filter = new SuppressWithNearbyCommentFilter();
+        filter.setCommentFormat(Pattern.compile("SUPPRESS CHECKSTYLE (\\w+)"));
+        filter.setMessageFormat("$1");
+        filter.setInfluenceFormat("-2");
+        final FileContents contents = new FileContents(new FileText(new File("filename"),
+                Arrays.asList("line1", "line2", "line3", "line4",
+                        "//SUPPRESS CHECKSTYLE first", "//SUPPRESS CHECKSTYLE second")));
+        contents.reportSingleLineComment(5, 0);
+        contents.reportSingleLineComment(6, 0);
+
+        assertWithMessage("Event matching message of wider comment should be suppressed")
+            .that(filter.accept(createEvent(contents, 3, "first")))
+            .isFalse();
+        assertWithMessage("Event matching message of other comment should be suppressed")
+            .that(filter.accept(createEvent(contents, 4, "second")))
+            .isFalse();
+        assertWithMessage("Event out of influence of matching comment should be accepted")
+            .that(filter.accept(createEvent(contents, 3, "second")))
+            .isTrue();
+        assertWithMessage("Event before influence of all comments should be accepted")
+            .that(filter.accept(createEvent(contents, 2, "first")))
+            .isTrue();
+    }
+
+    @Test
+    public void testTagsAreKeptPerThread() throws Exception {
+        final SuppressWithNearbyCommentFilter filter = new SuppressWithNearbyCommentFilter();
+        final List<?> tags = getTagsAfterExecution(filter,
+                "filename1", "//SUPPRESS CHECKSTYLE ignore this");
+        final Thread thread = new Thread(() -> {
+            getTagsAfterExecution(filter, "filename2", "No comments in this file");
+        });
+        thread.start();
+        thread.join();
+
+        final ThreadLocal<?> fileTags = TestUtil.getInternalState(filter, "fileTags");
+        assertWithMessage("Tags of this thread should not be replaced by other thread")
+            .that(TestUtil.<List<?>>getInternalState(fileTags.get(), "tags"))
+            .isSameInstanceAs(tags);
+    }
+
+    private static TreeWalkerAuditEvent createEvent(FileContents contents, int line,
+            String message) {
+        return new TreeWalkerAuditEvent(contents, "filename",
+                new Violation(line, null, null, null, null, Object.class, message), null);
+    }
+
     /**
      * Calls the filter with a minimal set of inputs and returns a list of
      * {@link SuppressWithNearbyCommentFilter} internal type {@code Tag}.
@@ -777,7 +847,8 @@ public class SuppressWithNearbyCommentFilterTest
         final TreeWalkerAuditEvent dummyEvent = new TreeWalkerAuditEvent(contents, filename,
                 new Violation(1, null, null, null, null, Object.class, null), null);
         filter.accept(dummyEvent);
-        return TestUtil.getInternalState(filter, "tags");
+        final ThreadLocal<?> fileTags = TestUtil.getInternalState(filter, "fileTags");
+        return TestUtil.getInternalState(fileTags.get(), "tags");
     }
 
 }
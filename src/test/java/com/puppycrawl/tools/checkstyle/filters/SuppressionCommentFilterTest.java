@@ -25,6 +25,7 @@ import static com.puppycrawl.tools.checkstyle.checks.naming.AbstractNameCheck.MS
 import java.io.File;
 import java.util.Arrays;
 import java.util.List;
+import java.util.regex.Pattern;
 
 import org.junit.jupiter.api.Test;
 
@@ -620,6 +621,75 @@ public class SuppressionCommentFilterTest
             .isEmpty();
     }
 
+    @Test
+    public void testNearestMatchAmongManyTags() {
+        final SuppressionCommentFilter filter = new SuppressionCommentFilter();
+        filter.setCheckFormat("$1");
+        filter.setOffCommentFormat(Pattern.compile("CHECKSTYLE:OFF (\\w+)"));
+        filter.setOnCommentFormat(Pattern.compile("CHECKSTYLE:ON (\\w+)"));
+        final FileContents contents = new FileContents(new FileText(new File("filename"),
+                Arrays.asList("//CHECKSTYLE:OFF Object", "//CHECKSTYLE:OFF String",
+                        "//CHECKSTYLE:ON Object", "line4", "//CHECKSTYLE:OFF Object", "line6")));
+        contents.reportSingleLineComment(1, 0);
+        contents.reportSingleLineComment(2, 0);
+        contents.reportSingleLineComment(3, 0);
+        contents.reportSingleLineComment(5, 0);
+
+        assertWithMessage("Event after off comment should be suppressed")
+            .that(filter.accept(createEvent(contents, 2, Object.class)))
+            .isFalse();
+        assertWithMessage("Event after on comment should be accepted")
+            .that(filter.accept(createEvent(contents, 4, Object.class)))
+            .isTrue();
+        assertWithMessage("Event after second off comment should be suppressed")
+            .that(filter.accept(createEvent(contents, 6, Object.class)))
+            .isFalse();
+        assertWithMessage("Event of other check should be suppressed by its own tag")
+            .that(filter.accept(createEvent(contents, 4, String.class)))
+            .isFalse();
+        assertWithMessage("Event of check without tags should be accepted")
+            .that(filter.accept(createEvent(contents, 6, Integer.class)))
+            .isTrue();
+    }
+
+    @Test
+    public void testTagsAreKeptPerThread() throws Exception {
+        final SuppressionCommentFilter filter = new SuppressionCommentFilter();
+        final List<?> tags = getTagsAfterExecution(filter, "filename1", "//CHECKSTYLE:OFF");
+        final Thread thread = new Thread(() -> {
+            getTagsAfterExecution(filter, "filename2", "No comments in this file");
+        });
+        thread.start();
+        thread.join();
+
+        final ThreadLocal<?> fileTags = TestUtil.getInternalState(filter, "fileTags");
+        assertWithMessage("Tags of this thread should not be replaced by other thread")
+            .that(TestUtil.<List<?>>getInternalState(fileTags.get(), "tags"))
+            .isSameInstanceAs(tags);
+    }
+
+    @Test
+    public void testTagRegexpsAreSharedWithinFile() {
+        final FileContents contents = new FileContents(new FileText(new File("filename"),
+                Arrays.asList("//CHECKSTYLE:OFF", "//CHECKSTYLE:OFF")));
+        contents.reportSingleLineComment(1, 0);
+        contents.reportSingleLineComment(2, 0);
+        final SuppressionCommentFilter filter = new SuppressionCommentFilter();
+        filter.setFileContents(contents);
+
+        final ThreadLocal<?> fileTags = TestUtil.getInternalState(filter, "fileTags");
+        final List<?> tags = TestUtil.getInternalState(fileTags.get(), "tags");
+        assertWithMessage("Tags with the same text should share the expanded regexp")
+            .that(TestUtil.<Pattern>getInternalState(tags.get(1), "tagCheckRegexp"))
+            .isSameInstanceAs(TestUtil.getInternalState(tags.get(0), "tagCheckRegexp"));
+    }
+
+    private static TreeWalkerAuditEvent createEvent(FileContents contents, int line,
+            Class<?> sourceClass) {
+        return new TreeWalkerAuditEvent(contents, "filename",
+                new Violation(line, 0, null, null, null, null, sourceClass, null), null);
+    }
+
     private static List<Comparable<Object>> getTagsAfterExecutionOnDefaultFilter(String... lines) {
         return getTagsAfterExecution(new SuppressionCommentFilter(), "filename", lines);
     }
@@ -646,7 +716,8 @@ public class SuppressionCommentFilterTest
         final TreeWalkerAuditEvent dummyEvent = new TreeWalkerAuditEvent(contents, filename,
                 new Violation(1, null, null, null, null, Object.class, ""), null);
         filter.accept(dummyEvent);
-        return TestUtil.getInternalState(filter, "tags");
+        final ThreadLocal<?> fileTags = TestUtil.getInternalState(filter, "fileTags");
+        return TestUtil.getInternalState(fileTags.get(), "tags");
     }
 
 }
@@ -0,0 +1,127 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2023 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle.filters;
+
+import static com.google.common.truth.Truth.assertWithMessage;
+
+import java.util.BitSet;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.puppycrawl.tools.checkstyle.api.AuditEvent;
+import com.puppycrawl.tools.checkstyle.api.FilterSet;
+import com.puppycrawl.tools.checkstyle.api.SeverityLevel;
+import com.puppycrawl.tools.checkstyle.api.Violation;
+import com.puppycrawl.tools.checkstyle.internal.utils.TestUtil;
+
+public class SuppressionsIndexTest {
+
+    @Test
+    public void testSameDecisionsAsFilterSet() {
+        final FilterSet filters = new FilterSet();
+        filters.addFilter(new SuppressFilterElement("ATest", "SuppressionsIndex", null,
+                null, null, null));
+        filters.addFilter(new SuppressFilterElement("BTest", null, null, "id",
+                "1-5, 10", null));
+        filters.addFilter(new SuppressFilterElement(null, "SuppressionsIndexTest", "bad",
+                null, null, "3"));
+        filters.addFilter(new SuppressFilterElement("CTest", ".*", null, "other",
+                null, null));
+        final SuppressionsIndex index = new SuppressionsIndex(filters);
+
+        final String[] fileNames = {"ATest.java", "BTest.java", "CTest.java", null};
+        final String[] moduleIds = {null, "id", "other"};
+        for (String fileName : fileNames) {
+            for (String moduleId : moduleIds) {
+                assertSameDecisions(filters, index, fileName, moduleId);
+            }
+        }
+    }
+
+    @Test
+    public void testAcceptEventWithoutViolation() {
+        final FilterSet filters = new FilterSet();
+        filters.addFilter(new SuppressFilterElement(null, ".*", null, null, null, null));
+        final SuppressionsIndex index = new SuppressionsIndex(filters);
+
+        assertWithMessage("Event without violation should be accepted")
+                .that(index.accept(new AuditEvent(this, "ATest.java")))
+                .isTrue();
+    }
+
+    @Test
+    public void testOtherFilters() {
+        final FilterSet filters = new FilterSet();
+        final SeverityMatchFilter severityFilter = new SeverityMatchFilter();
+        severityFilter.setSeverity(SeverityLevel.WARNING);
+        filters.addFilter(severityFilter);
+        final SuppressionsIndex index = new SuppressionsIndex(filters);
+
+        final AuditEvent event = new AuditEvent(this, "ATest.java",
+                createViolation(1, 1, null, "msg"));
+        assertWithMessage("Filters other than suppress elements should be applied")
+                .that(index.accept(event))
+                .isFalse();
+    }
+
+    @Test
+    public void testModuleCandidatesAreMemoized() {
+        final FilterSet filters = new FilterSet();
+        filters.addFilter(new SuppressFilterElement("Other", "SuppressionsIndexTest", null,
+                null, null, null));
+        final SuppressionsIndex index = new SuppressionsIndex(filters);
+
+        index.accept(new AuditEvent(this, "ATest.java", createViolation(1, 1, null, "msg")));
+        final Map<String, BitSet> moduleCandidates =
+                TestUtil.getInternalState(index, "moduleCandidates");
+        assertWithMessage("Events of files without candidates should not compute modules")
+                .that(moduleCandidates)
+                .isEmpty();
+
+        index.accept(new AuditEvent(this, "Other.java", createViolation(1, 1, null, "msg")));
+        index.accept(new AuditEvent(this, "Other.java", createViolation(2, 1, "id", "msg")));
+        index.accept(new AuditEvent(this, "Other.java", createViolation(3, 1, "id", "msg")));
+        assertWithMessage("Module candidates should be computed once per module")
+                .that(moduleCandidates.keySet())
+                .containsExactly(getClass().getName(), getClass().getName() + "#id");
+    }
+
+    private void assertSameDecisions(FilterSet filters, SuppressionsIndex index,
+            String fileName, String moduleId) {
+        final String[] messages = {"good", "bad"};
+        for (String message : messages) {
+            for (int line = 1; line <= 11; line += 2) {
+                final AuditEvent event = new AuditEvent(this, fileName,
+                        createViolation(line, 3, moduleId, message));
+                assertWithMessage("Index should decide as filter set for %s %s %s %s",
+                            fileName, moduleId, message, line)
+                        .that(index.accept(event))
+                        .isEqualTo(filters.accept(event));
+            }
+        }
+    }
+
+    private Violation createViolation(int line, int column, String moduleId, String message) {
+        return new Violation(line, column, null, message, null, SeverityLevel.ERROR,
+                moduleId, getClass(), message);
+    }
+
+}
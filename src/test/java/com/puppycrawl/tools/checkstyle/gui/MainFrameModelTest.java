@@ -27,6 +27,11 @@ import static org.mockito.Mockito.when;
 import java.io.File;
 import java.io.IOException;
 import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import javax.swing.SwingUtilities;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -175,6 +180,71 @@ public class MainFrameModelTest extends AbstractModuleTestSupport {
         }
     }
 
+    @Test
+    public void testOpenFileInBackground() throws Exception {
+        final CompletableFuture<Boolean> opened = new CompletableFuture<>();
+        SwingUtilities.invokeAndWait(() -> {
+            model.openFileInBackground(testData,
+                () -> opened.complete(SwingUtilities.isEventDispatchThread()),
+                opened::completeExceptionally);
+        });
+
+        assertWithMessage("Model should be updated on the event dispatch thread")
+            .that(opened.get(1, TimeUnit.MINUTES))
+            .isTrue();
+        verifyCorrectTestDataInFrameModel();
+    }
+
+    @Test
+    public void testOpenFileInBackgroundNonCompilableFile() throws Exception {
+        final File nonCompilableFile = new File(getNonCompilablePath(FILE_NAME_NON_COMPILABLE));
+        final CompletableFuture<Void> opened = new CompletableFuture<>();
+        SwingUtilities.invokeAndWait(() -> {
+            model.openFileInBackground(nonCompilableFile,
+                () -> opened.complete(null), opened::completeExceptionally);
+        });
+
+        final ExecutionException ex = assertThrows(ExecutionException.class, () -> {
+            opened.get(1, TimeUnit.MINUTES);
+        });
+        assertWithMessage("Invalid exception")
+            .that(ex.getCause())
+            .isInstanceOf(CheckstyleException.class);
+        assertWithMessage("Invalid exception message")
+            .that(ex.getCause())
+            .hasMessageThat()
+            .isEqualTo(String.format(Locale.ROOT,
+                    "IllegalStateException occurred while parsing file %s.",
+                    nonCompilableFile.getAbsolutePath()));
+        assertWithMessage("Current file should be set")
+            .that(model.getCurrentFile())
+            .isEqualTo(nonCompilableFile);
+    }
+
+    @Test
+    public void testOpenFileInBackgroundDiscardsPreviousFile() throws Exception {
+        final File nonExistentFile = new File(getPath(FILE_NAME_NON_EXISTENT));
+        final CompletableFuture<Void> discarded = new CompletableFuture<>();
+        final CompletableFuture<Void> opened = new CompletableFuture<>();
+        SwingUtilities.invokeAndWait(() -> {
+            model.openFileInBackground(nonExistentFile,
+                () -> discarded.complete(null), discarded::completeExceptionally);
+            model.openFileInBackground(null,
+                () -> discarded.complete(null), discarded::completeExceptionally);
+            model.openFileInBackground(testData,
+                () -> opened.complete(null), opened::completeExceptionally);
+        });
+
+        opened.get(1, TimeUnit.MINUTES);
+        SwingUtilities.invokeAndWait(() -> {
+            // wait for the events posted by the discarded loader
+        });
+        assertWithMessage("Discarded file should not be shown")
+            .that(discarded.isDone())
+            .isFalse();
+        verifyCorrectTestDataInFrameModel();
+    }
+
     private void verifyCorrectTestDataInFrameModel() throws IOException {
         assertWithMessage("Invalid current file")
             .that(model.getCurrentFile())
@@ -32,6 +32,8 @@ import java.awt.Window;
 import java.io.File;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import javax.swing.JButton;
 import javax.swing.JComboBox;
@@ -117,13 +119,18 @@ public class MainFrameTest extends AbstractGuiTestSupport {
     /**
      * Test for opening a file with the "Open File" button.
      * {@code JFileChooser} is mocked to prevent showing a modal dialog box.
+     * The file is loaded in background, so the test waits for the title of the
+     * frame to be updated once the file is opened.
      *
-     * @throws IOException if I/O exception occurs while forming the path.
+     * @throws Exception if the file is not opened within the timeout.
      */
     @Test
-    public void testOpenFileButton() throws IOException {
+    public void testOpenFileButton() throws Exception {
         final JButton openFileButton = findComponentByName(mainFrame, "openFileButton");
         final File testFile = new File(getPath(TEST_FILE_NAME));
+        final CompletableFuture<Object> titleChanged = new CompletableFuture<>();
+        mainFrame.addPropertyChangeListener("title",
+            event -> titleChanged.complete(event.getNewValue()));
         try (MockedConstruction<JFileChooser> mocked = mockConstruction(
                 JFileChooser.class, (mock, context) -> {
                     when(mock.showOpenDialog(mainFrame)).thenReturn(JFileChooser.APPROVE_OPTION);
@@ -132,7 +139,7 @@ public class MainFrameTest extends AbstractGuiTestSupport {
             openFileButton.doClick();
         }
         assertWithMessage("Unexpected frame title")
-                .that(mainFrame.getTitle())
+                .that(titleChanged.get(1, TimeUnit.MINUTES))
                 .isEqualTo("Checkstyle GUI : " + TEST_FILE_NAME);
     }
 
@@ -22,6 +22,7 @@ package com.puppycrawl.tools.checkstyle.gui;
 import static com.google.common.truth.Truth.assertWithMessage;
 
 import java.io.File;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -34,6 +35,7 @@ import com.puppycrawl.tools.checkstyle.api.DetailNode;
 import com.puppycrawl.tools.checkstyle.api.JavadocTokenTypes;
 import com.puppycrawl.tools.checkstyle.api.TokenTypes;
 import com.puppycrawl.tools.checkstyle.gui.MainFrameModel.ParseMode;
+import com.puppycrawl.tools.checkstyle.internal.utils.TestUtil;
 import com.puppycrawl.tools.checkstyle.utils.TokenUtil;
 
 public class ParseTreeTablePresentationTest extends AbstractPathTestSupport {
@@ -221,6 +223,44 @@ public class ParseTreeTablePresentationTest extends AbstractPathTestSupport {
             .isEqualTo(JavadocTokenTypes.TEXT);
     }
 
+    @Test
+    public void testJavadocTreeIsParsedOnlyWhenExpanded() {
+        final DetailAST commentContentNode = tree.getFirstChild().getNextSibling().getFirstChild();
+        final ParseTreeTablePresentation parseTree = new ParseTreeTablePresentation(null);
+        parseTree.setParseMode(ParseMode.JAVA_WITH_JAVADOC_AND_COMMENTS);
+        parseTree.getChildCount(commentContentNode);
+        final Map<DetailAST, Object[]> childrenCache =
+                TestUtil.getInternalState(parseTree, "childrenCache");
+        assertWithMessage("Javadoc tree should not be parsed to count children")
+            .that(childrenCache)
+            .isEmpty();
+
+        final Object javadoc = parseTree.getChild(commentContentNode, 0);
+        assertWithMessage("Javadoc tree should be kept")
+            .that(parseTree.getChild(commentContentNode, 0))
+            .isSameInstanceAs(javadoc);
+        parseTree.setParseMode(ParseMode.JAVA_WITH_JAVADOC_AND_COMMENTS);
+        assertWithMessage("Javadoc tree should be parsed again for a new mode")
+            .that(parseTree.getChild(commentContentNode, 0))
+            .isNotSameInstanceAs(javadoc);
+    }
+
+    @Test
+    public void testChildrenAreCollectedForNewRoot() {
+        final ParseTreeTablePresentation parseTree = new ParseTreeTablePresentation(tree);
+        final Object child = parseTree.getChild(tree, 4);
+        assertWithMessage("Invalid last child")
+            .that(child)
+            .isSameInstanceAs(tree.getLastChild());
+
+        final DetailAstImpl newChild = new DetailAstImpl();
+        ((DetailAstImpl) tree).addChild(newChild);
+        parseTree.setRoot(tree);
+        assertWithMessage("Children should be collected again for a new root")
+            .that(parseTree.getChild(tree, 5))
+            .isSameInstanceAs(newChild);
+    }
+
     @Test
     public void testGetIndexOfChild() {
         DetailAST ithChild = tree.getFirstChild();
@@ -118,7 +118,9 @@ public class ImmutabilityTest {
      */
     private static final Set<String> SUPPRESSED_FIELDS_IN_UTIL_CLASSES = Set.of(
         "com.puppycrawl.tools.checkstyle.utils.TokenUtil.TOKEN_IDS",
-        "com.puppycrawl.tools.checkstyle.utils.XpathUtil.TOKEN_TYPES_WITH_TEXT_ATTRIBUTE"
+        "com.puppycrawl.tools.checkstyle.utils.XpathUtil.TOKEN_TYPES_WITH_TEXT_ATTRIBUTE",
+        "com.puppycrawl.tools.checkstyle.utils.XpathUtil.CONFIGURATION",
+        "com.puppycrawl.tools.checkstyle.utils.XpathUtil.COMPILED_EXPRESSIONS"
     );
 
     /**
@@ -126,6 +128,7 @@ public class ImmutabilityTest {
      */
     private static final Set<String> SUPPRESSED_FIELDS_IN_MODULES = Set.of(
         "com.puppycrawl.tools.checkstyle.checks.FinalParametersCheck.primitiveDataTypes",
+        "com.puppycrawl.tools.checkstyle.checks.SuppressWarningsHolder.CHECK_ALIAS_MAP",
         "com.puppycrawl.tools.checkstyle.checks.SuppressWarningsHolder.ENTRIES",
         "com.puppycrawl.tools.checkstyle.checks.annotation.MissingDeprecatedCheck.TYPES_HASH_SET",
         "com.puppycrawl.tools.checkstyle.checks.coding.AvoidDoubleBraceInitializationCheck"
@@ -148,7 +151,11 @@ public class ImmutabilityTest {
         "com.puppycrawl.tools.checkstyle.checks.modifier.RedundantModifierCheck"
             + ".TOKENS_FOR_INTERFACE_MODIFIERS",
         "com.puppycrawl.tools.checkstyle.checks.regexp.RegexpMultilineCheck.detector",
+        "com.puppycrawl.tools.checkstyle.checks.regexp.RegexpMultilineCheck.literalPrefilter",
         "com.puppycrawl.tools.checkstyle.checks.regexp.RegexpSinglelineCheck.detector",
+        "com.puppycrawl.tools.checkstyle.checks.regexp.RegexpSinglelineCheck.literalPrefilter",
+        "com.puppycrawl.tools.checkstyle.checks.regexp.RegexpSinglelineJavaCheck"
+            + ".literalPrefilter",
         "com.puppycrawl.tools.checkstyle.checks.coding.IllegalTokenTextCheck.formatString",
         "com.puppycrawl.tools.checkstyle.checks.javadoc.WriteTagCheck.tagRegExp",
         "com.puppycrawl.tools.checkstyle.checks.naming.AbstractNameCheck.format",
@@ -125,6 +125,7 @@ public class XdocsPagesTest {
             "Checker.classloader",
             "Checker.moduleClassLoader",
             "Checker.moduleFactory",
+            "Checker.profiler",
             "TreeWalker.classLoader",
             "TreeWalker.moduleFactory",
             "TreeWalker.cacheFile",
@@ -435,6 +435,13 @@ public class JavadocUtilTest {
         assertWithMessage("invalid result")
             .that(JavadocUtil.escapeAllControlChars("1\\r2\\n3\\t"))
             .isEqualTo("1\\r2\\n3\\t");
+        assertWithMessage("invalid result")
+            .that(JavadocUtil.escapeAllControlChars("\r\n1\t2\n"))
+            .isEqualTo("\\r\\n1\\t2\\n");
+        final String text = "no control chars";
+        assertWithMessage("Text without control chars should not be copied")
+            .that(JavadocUtil.escapeAllControlChars(text))
+            .isSameInstanceAs(text);
     }
 
     private static void assertTag(String message, InvalidJavadocTag expected,
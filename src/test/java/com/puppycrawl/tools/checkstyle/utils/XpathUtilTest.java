@@ -23,12 +23,16 @@ import static com.google.common.truth.Truth.assertWithMessage;
 import static com.puppycrawl.tools.checkstyle.AbstractPathTestSupport.addEndOfLine;
 import static com.puppycrawl.tools.checkstyle.internal.utils.TestUtil.isUtilsClassHasPrivateConstructor;
 import static com.puppycrawl.tools.checkstyle.utils.XpathUtil.getTextAttributeValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -37,8 +41,12 @@ import com.puppycrawl.tools.checkstyle.DetailAstImpl;
 import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
 import com.puppycrawl.tools.checkstyle.api.DetailAST;
 import com.puppycrawl.tools.checkstyle.api.TokenTypes;
+import com.puppycrawl.tools.checkstyle.internal.utils.TestUtil;
 import com.puppycrawl.tools.checkstyle.xpath.AbstractNode;
+import com.puppycrawl.tools.checkstyle.xpath.AbstractRootNode;
 import com.puppycrawl.tools.checkstyle.xpath.RootNode;
+import net.sf.saxon.sxpath.XPathExpression;
+import net.sf.saxon.trans.XPathException;
 
 public class XpathUtilTest {
 
@@ -183,6 +191,80 @@ public class XpathUtilTest {
         }
     }
 
+    @Test
+    public void testPrintXpathBranches() throws Exception {
+        final File first = createJavaFile("class First { void method() {int a = 5;}}");
+        final File second = createJavaFile("class Second { int field; }");
+        final File third = createJavaFile("class Third { void method() {int b = 5;}}");
+        final StringWriter writer = new StringWriter();
+        XpathUtil.printXpathBranches("//METHOD_DEF/IDENT", List.of(first, second, third), 2,
+                new PrintWriter(writer));
+
+        final String firstBranch = addEndOfLine(
+            first.getAbsolutePath(),
+            "COMPILATION_UNIT -> COMPILATION_UNIT [1:0]",
+            "`--CLASS_DEF -> CLASS_DEF [1:0]",
+            "    `--OBJBLOCK -> OBJBLOCK [1:12]",
+            "        |--METHOD_DEF -> METHOD_DEF [1:14]",
+            "        |   |--IDENT -> method [1:19]");
+        final String thirdBranch = addEndOfLine(
+            third.getAbsolutePath(),
+            "COMPILATION_UNIT -> COMPILATION_UNIT [1:0]",
+            "`--CLASS_DEF -> CLASS_DEF [1:0]",
+            "    `--OBJBLOCK -> OBJBLOCK [1:12]",
+            "        |--METHOD_DEF -> METHOD_DEF [1:14]",
+            "        |   |--IDENT -> method [1:19]");
+        assertWithMessage("Every branch should be printed once with its file")
+            .that(writer.toString().split(addEndOfLine("---------")))
+            .asList()
+            .containsExactly(firstBranch, thirdBranch);
+    }
+
+    @Test
+    public void testPrintXpathBranchesInvalidXpath() throws IOException {
+        final File file = createJavaFile("class Test {}");
+        final String invalidXpath = "\\//CLASS_DEF";
+        final CheckstyleException ex = assertThrows(CheckstyleException.class, () -> {
+            XpathUtil.printXpathBranches(invalidXpath, List.of(file), 1,
+                    new PrintWriter(new StringWriter()));
+        });
+        assertWithMessage("Exception message is different")
+            .that(ex.getMessage())
+            .isEqualTo("Error during compilation of xpath: " + invalidXpath);
+    }
+
+    @Test
+    public void testPrintXpathBranchesEvaluationError() throws IOException {
+        final File file = createJavaFile("class Test {}");
+        final String xpath = "//CLASS_DEF[(count(*) idiv 0) = 1]";
+        final CheckstyleException ex = assertThrows(CheckstyleException.class, () -> {
+            XpathUtil.printXpathBranches(xpath, List.of(file), 1,
+                    new PrintWriter(new StringWriter()));
+        });
+        assertWithMessage("Exception message is different")
+            .that(ex.getMessage())
+            .isEqualTo("Error during evaluation for xpath: " + xpath
+                    + ", file: " + file.getCanonicalPath());
+    }
+
+    @Test
+    public void testPrintXpathBranchesMissingFile() {
+        final File file = new File(tempFolder, "Missing.java");
+        assertThrows(IOException.class, () -> {
+            XpathUtil.printXpathBranches("//CLASS_DEF", List.of(file), 1,
+                    new PrintWriter(new StringWriter()));
+        });
+    }
+
+    @Test
+    public void testPrintXpathBranchesParseError() throws IOException {
+        final File file = createJavaFile("class Test {");
+        assertThrows(CheckstyleException.class, () -> {
+            XpathUtil.printXpathBranches("//CLASS_DEF", List.of(file), 1,
+                    new PrintWriter(new StringWriter()));
+        });
+    }
+
     @Test
     public void testCreateChildren() {
         final DetailAstImpl rootAst = new DetailAstImpl();
@@ -200,6 +282,52 @@ public class XpathUtilTest {
                 .isEqualTo(1);
     }
 
+    @Test
+    public void testCompileXpathIsCached() throws Exception {
+        final XPathExpression expression = XpathUtil.compileXpath("//CLASS_DEF/IDENT");
+
+        assertWithMessage("Same query should share the compiled expression")
+                .that(XpathUtil.compileXpath("//CLASS_DEF/IDENT"))
+                .isSameInstanceAs(expression);
+        assertWithMessage("Other query should be compiled separately")
+                .that(XpathUtil.compileXpath("//CLASS_DEF"))
+                .isNotSameInstanceAs(expression);
+    }
+
+    @Test
+    public void testCompileXpathInvalidQuery() {
+        assertThrows(XPathException.class, () -> XpathUtil.compileXpath("!@#$^*"));
+        assertThrows(XPathException.class, () -> XpathUtil.compileXpath("!@#$^*"));
+    }
+
+    @Test
+    public void testCompileXpathCacheIsBounded() throws Exception {
+        final Map<String, XPathExpression> compiledExpressions =
+                TestUtil.getInternalStaticState(XpathUtil.class, "COMPILED_EXPRESSIONS");
+        try {
+            for (int index = compiledExpressions.size(); index < 1024; index++) {
+                XpathUtil.compileXpath("//CLASS_DEF[" + index + "]");
+            }
+            final XPathExpression expression = XpathUtil.compileXpath("//CLASS_DEF[1024]");
+
+            assertWithMessage("Queries beyond the limit should not be cached")
+                    .that(XpathUtil.compileXpath("//CLASS_DEF[1024]"))
+                    .isNotSameInstanceAs(expression);
+        }
+        finally {
+            compiledExpressions.clear();
+        }
+    }
+
+    @Test
+    public void testRootNodeUsesSharedConfiguration() {
+        final RootNode rootNode = new RootNode(createDetailAST(TokenTypes.CLASS_DEF));
+
+        assertWithMessage("Xpath tree should use the shared configuration")
+                .that(rootNode.getTreeInfo().getConfiguration())
+                .isSameInstanceAs(AbstractRootNode.getSharedConfiguration());
+    }
+
     private static DetailAST createDetailAST(int type) {
         final DetailAstImpl detailAST = new DetailAstImpl();
         detailAST.setType(type);
@@ -212,4 +340,11 @@ public class XpathUtilTest {
         detailAST.setText(text);
         return detailAST;
     }
+
+    private File createJavaFile(String content) throws IOException {
+        final File file = File.createTempFile("Input", ".java", tempFolder);
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
 }
@@ -0,0 +1,114 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2023 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle.xpath;
+
+import static com.google.common.truth.Truth.assertWithMessage;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.puppycrawl.tools.checkstyle.AbstractModuleTestSupport;
+import com.puppycrawl.tools.checkstyle.JavaParser;
+import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.FileText;
+import com.puppycrawl.tools.checkstyle.api.TokenTypes;
+import com.puppycrawl.tools.checkstyle.utils.CommonUtil;
+
+public class XpathQueryIndexTest extends AbstractModuleTestSupport {
+
+    @Override
+    protected String getPackageLocation() {
+        return "com/puppycrawl/tools/checkstyle/xpath/xpathquerygenerator";
+    }
+
+    @Test
+    public void testGenerate() throws Exception {
+        final File file = new File(getPath("InputXpathQueryGeneratorTabWidth.java"));
+        final FileText fileText = new FileText(file, StandardCharsets.UTF_8.name());
+        final DetailAST rootAst = JavaParser.parseFile(file, JavaParser.Options.WITHOUT_COMMENTS);
+        final XpathQueryIndex index = new XpathQueryIndex(rootAst, fileText, 8);
+
+        final List<String> expected = Arrays.asList(
+                "/COMPILATION_UNIT/CLASS_DEF"
+                    + "[./IDENT[@text='InputXpathQueryGeneratorTabWidth']]/OBJBLOCK"
+                    + "/METHOD_DEF[./IDENT[@text='getName']]/TYPE",
+                "/COMPILATION_UNIT/CLASS_DEF"
+                    + "[./IDENT[@text='InputXpathQueryGeneratorTabWidth']]/OBJBLOCK"
+                    + "/METHOD_DEF[./IDENT[@text='getName']]/TYPE/LITERAL_VOID");
+        assertWithMessage("Generated queries do not match expected ones")
+            .that(index.generate(8, 41, 0))
+            .isEqualTo(expected);
+        assertWithMessage("Generated queries should be filtered by token type")
+            .that(index.generate(8, 41, TokenTypes.LITERAL_VOID))
+            .containsExactly(expected.get(1));
+        assertWithMessage("No queries expected for position without nodes")
+            .that(index.generate(8, 40, 0))
+            .isEmpty();
+        assertWithMessage("No queries expected for line without nodes")
+            .that(index.generate(1000, 1, 0))
+            .isEmpty();
+        assertWithMessage("Invalid root ast")
+            .that(index.getRootAst())
+            .isSameInstanceAs(rootAst);
+    }
+
+    @Test
+    public void testSameQueriesAsGenerator() throws Exception {
+        for (String fileName : Arrays.asList("InputXpathQueryGenerator.java",
+                "InputXpathQueryGeneratorEscapeCharacters.java",
+                "InputXpathQueryGeneratorTabWidth.java")) {
+            final File file = new File(getPath(fileName));
+            final FileText fileText = new FileText(file, StandardCharsets.UTF_8.name());
+            final DetailAST rootAst =
+                    JavaParser.parseFile(file, JavaParser.Options.WITH_COMMENTS);
+            for (int tabWidth : new int[] {4, 8}) {
+                verifySameQueries(rootAst, fileText, tabWidth);
+            }
+        }
+    }
+
+    private static void verifySameQueries(DetailAST rootAst, FileText fileText, int tabWidth) {
+        final XpathQueryIndex index = new XpathQueryIndex(rootAst, fileText, tabWidth);
+        DetailAST curNode = rootAst;
+        while (curNode != null) {
+            final int line = curNode.getLineNo();
+            final int column = 1 + CommonUtil.lengthExpandedTabs(fileText.get(line - 1),
+                    curNode.getColumnNo(), tabWidth);
+            for (int tokenType : new int[] {0, curNode.getType()}) {
+                final List<String> expected = new XpathQueryGenerator(rootAst, line, column,
+                        tokenType, fileText, tabWidth).generate();
+                assertWithMessage("Queries differ at %s:%s", line, column)
+                    .that(index.generate(line, column, tokenType))
+                    .isEqualTo(expected);
+            }
+            DetailAST toVisit = curNode.getFirstChild();
+            while (curNode != null && toVisit == null) {
+                toVisit = curNode.getNextSibling();
+                curNode = curNode.getParent();
+            }
+            curNode = toVisit;
+        }
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+NPathComplexity
+max = 0
+
+
+*/
+
+package com.puppycrawl.tools.checkstyle.checks.metrics.npathcomplexity;
+
+/**
+ * This class has a method that has an NPath complexity larger than Long.MAX_VALUE.
+ */
+public class InputNPathComplexityLongOverflow {
+
+    /* NP = 2 ^ 64 = 18446744073709551616, 64 sequential if statements */
+    public void provokeNpathLongOverflow() { // violation
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+        if (true) { }
+    }
+}
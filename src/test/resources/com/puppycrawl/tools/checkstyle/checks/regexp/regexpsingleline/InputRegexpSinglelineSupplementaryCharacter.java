@@ -0,0 +1,19 @@
+/*
+RegexpSingleline
+format = x😀?y
+message = (default)
+ignoreCase = (default)false
+minimum = (default)0
+maximum = (default)0
+fileExtensions = (default)all files
+
+
+*/
+
+package com.puppycrawl.tools.checkstyle.checks.regexp.regexpsingleline;
+
+public class InputRegexpSinglelineSupplementaryCharacter {
+    // xy // violation
+    // x😀y // violation
+    // x😀😀y
+}